@@ -0,0 +1,84 @@
+package benchmarks;
+
+import model.DoorController;
+import model.GameSettings;
+import model.Maze;
+import model.Room;
+import model.TriviaQuestion;
+import model.interfaces.QuestionSource;
+import model.interfaces.Tile;
+import model.tiles.TileRegistry;
+
+import java.util.Arrays;
+
+/**
+ * Shared fixtures for the benchmarks, so every benchmark measures
+ * against the same inputs regardless of the questions database.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * Width and height of each room in tiles, matching TriviaMazeMain.
+     */
+    static final int ROOM_SIZE = 5;
+
+    /**
+     * Settings used for benchmarked game states.
+     */
+    static final GameSettings SETTINGS = new GameSettings(3, 10, -5);
+
+    /**
+     * Seed for benchmarks which generate mazes.
+     */
+    static final long SEED = 0x5EEDL;
+
+    /**
+     * Question returned for every door.
+     */
+    private static final TriviaQuestion QUESTION
+            = new TriviaQuestion("Benchmark Question",
+                                 "Benchmark Answer",
+                                 TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BenchmarkFixtures() { }
+
+    /**
+     * Gets a QuestionSource which doesn't touch the database.
+     *
+     * @return QuestionSource always returning the same question.
+     */
+    static QuestionSource questionSource() {
+        return () -> QUESTION;
+    }
+
+    /**
+     * Builds a maze where every tile is empty, so a player can walk
+     * straight across rooms without running into walls or doors.
+     * The player starts in the bottom left room and the exit is
+     * placed in the top right room.
+     *
+     * @param theMazeSize Width and height of the maze in rooms.
+     * @return Open maze of the requested size.
+     */
+    static Maze openMaze(final int theMazeSize) {
+        final Room[][] rooms = new Room[theMazeSize][theMazeSize];
+        for (int roomY = 0; roomY < theMazeSize; roomY++) {
+            for (int roomX = 0; roomX < theMazeSize; roomX++) {
+                final Tile[][] tiles = new Tile[ROOM_SIZE][ROOM_SIZE];
+                for (final Tile[] row : tiles) {
+                    Arrays.fill(row, TileRegistry.getEmpty());
+                }
+                rooms[roomY][roomX] = new Room(Room.RoomType.STANDARD, tiles);
+            }
+        }
+
+        return new Maze(rooms, new DoorController[0],
+                        0, 0, theMazeSize - 1, theMazeSize - 1);
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs every benchmark with a fixed configuration, so numbers taken
+ * before and after a change can be compared directly. Results are
+ * written as JSON to the file named by the first argument, or
+ * bench_results.json by default. A second argument may be given
+ * to only run benchmarks matching that regular expression.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class BenchmarkMain {
+
+    /**
+     * Default file to write results to.
+     */
+    private static final String DEFAULT_RESULT_FILE = "bench_results.json";
+
+    /**
+     * Pattern matching every benchmark in this package.
+     */
+    private static final String ALL_BENCHMARKS = "benchmarks\\..*Benchmark";
+
+    /**
+     * Number of warmup iterations per benchmark.
+     */
+    private static final int WARMUP_ITERATIONS = 3;
+
+    /**
+     * Number of measurement iterations per benchmark.
+     */
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    /**
+     * Length of each iteration in seconds.
+     */
+    private static final int ITERATION_SECONDS = 2;
+
+    /**
+     * Number of forked JVMs per benchmark.
+     */
+    private static final int FORKS = 2;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BenchmarkMain() { }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param theArgs Optional result file, then an optional include pattern.
+     * @throws RunnerException If the benchmarks failed to run.
+     */
+    public static void main(final String[] theArgs) throws RunnerException {
+        final String resultFile = theArgs.length > 0 ? theArgs[0] : DEFAULT_RESULT_FILE;
+        final String include = theArgs.length > 1 ? theArgs[1] : ALL_BENCHMARKS;
+
+        final Options options = new OptionsBuilder()
+                .include(include)
+                .warmupIterations(WARMUP_ITERATIONS)
+                .warmupTime(TimeValue.seconds(ITERATION_SECONDS))
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .measurementTime(TimeValue.seconds(ITERATION_SECONDS))
+                .forks(FORKS)
+                .jvmArgsAppend("-Djava.awt.headless=true")
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+
+        new Runner(options).run();
+    }
+}
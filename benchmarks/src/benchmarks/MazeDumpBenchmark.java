@@ -0,0 +1,150 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import model.AsyncMazeDumpSink;
+import model.Maze;
+import model.RectangleMazeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks generating mazes with each way of dumping them, and writing a
+ * maze out on its own. Generation with dumping off or async shouldn't grow
+ * with the size of the dump, only with the size of the maze.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MazeDumpBenchmark {
+
+    /**
+     * Width and height of the generated maze in rooms.
+     */
+    @Param({"25", "100", "400"})
+    public int myMazeSize;
+
+    /**
+     * How generated mazes are dumped: not at all, on a background
+     * thread, or on the generating thread.
+     */
+    @Param({"OFF", "ASYNC", "SYNC"})
+    public String myDumpMode;
+
+    /**
+     * Generator under test.
+     */
+    private RectangleMazeGenerator myGenerator;
+
+    /**
+     * Async sink for the ASYNC mode, null otherwise.
+     */
+    private AsyncMazeDumpSink myAsyncSink;
+
+    /**
+     * Maze to write out.
+     */
+    private Maze myMaze;
+
+    /**
+     * Prepares the generator and sink for the current parameters.
+     */
+    @Setup
+    public void setUp() {
+        myGenerator = new RectangleMazeGenerator(myMazeSize, myMazeSize,
+                BenchmarkFixtures.ROOM_SIZE, BenchmarkFixtures.ROOM_SIZE,
+                BenchmarkFixtures.questionSource());
+        myMaze = myGenerator.generate(BenchmarkFixtures.SEED);
+
+        switch (myDumpMode) {
+            case "ASYNC":
+                myAsyncSink = new AsyncMazeDumpSink(new DiscardingAppendable());
+                myGenerator.setDumpSink(myAsyncSink);
+                break;
+            case "SYNC":
+                myGenerator.setDumpSink(theMaze -> {
+                    try {
+                        theMaze.writeTo(new DiscardingAppendable());
+                    } catch (final IOException exception) {
+                        throw new IllegalStateException(exception);
+                    }
+                });
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Stops the async sink, if there is one.
+     */
+    @TearDown
+    public void tearDown() {
+        if (myAsyncSink != null) {
+            myAsyncSink.close();
+        }
+    }
+
+    /**
+     * Generates a full maze from a fixed seed, dumping it.
+     *
+     * @return Generated maze, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public Maze generate() {
+        return myGenerator.generate(BenchmarkFixtures.SEED);
+    }
+
+    /**
+     * Writes the whole maze out as text.
+     *
+     * @return Number of characters written, returned so it isn't optimized away.
+     * @throws IOException Never, the output discards everything.
+     */
+    @Benchmark
+    public long writeTo() throws IOException {
+        final DiscardingAppendable out = new DiscardingAppendable();
+        myMaze.writeTo(out);
+        return out.myLength;
+    }
+
+    /**
+     * Appendable which only counts what's written to it.
+     */
+    private static final class DiscardingAppendable implements Appendable {
+
+        /**
+         * Number of characters written.
+         */
+        private long myLength;
+
+        @Override
+        public Appendable append(final CharSequence theSequence) {
+            myLength += theSequence.length();
+            return this;
+        }
+
+        @Override
+        public Appendable append(final CharSequence theSequence,
+                                 final int theStart, final int theEnd) {
+            myLength += theEnd - theStart;
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char theChar) {
+            myLength++;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import model.Maze;
+import model.RectangleMazeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks RectangleMazeGenerator.generate() at several maze sizes.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MazeGenerationBenchmark {
+
+    /**
+     * Width and height of the generated maze in rooms.
+     */
+    @Param({"6", "25", "100"})
+    public int myMazeSize;
+
+    /**
+     * Whether the generator should use packed tile storage.
+     */
+    @Param({"false", "true"})
+    public boolean myPackedStorage;
+
+    /**
+     * Whether the generator should generate bands of rows in parallel.
+     */
+    @Param({"false", "true"})
+    public boolean myParallel;
+
+    /**
+     * Generator under test.
+     */
+    private RectangleMazeGenerator myGenerator;
+
+    /**
+     * Prepares the generator for the current parameters.
+     */
+    @Setup
+    public void setUp() {
+        myGenerator = new RectangleMazeGenerator(myMazeSize, myMazeSize,
+                BenchmarkFixtures.ROOM_SIZE, BenchmarkFixtures.ROOM_SIZE,
+                BenchmarkFixtures.questionSource());
+        myGenerator.setPackedStorage(myPackedStorage);
+        myGenerator.setParallel(myParallel);
+    }
+
+    /**
+     * Generates a full maze from a fixed seed, so every run does the same work.
+     *
+     * @return Generated maze, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public Maze generate() {
+        return myGenerator.generate(BenchmarkFixtures.SEED);
+    }
+}
@@ -0,0 +1,110 @@
+package benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import model.GameModel;
+import model.RectangleMazeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import view.MazeView;
+
+/**
+ * Benchmarks rendering a single frame with MazeView.getPortion()
+ * and MazeView.drawPortion().
+ * <p>
+ * Sprites are loaded from resources/, so the benchmark must be run
+ * from the project directory.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MazeViewBenchmark {
+
+    /**
+     * Width and height of the rendered maze in rooms.
+     */
+    private static final int MAZE_SIZE = 12;
+
+    /**
+     * Width and height of each tile in pixels.
+     */
+    @Param({"16", "48"})
+    public int myTileSize;
+
+    /**
+     * Width of the rendered frame in pixels.
+     */
+    @Param({"800"})
+    public int myFrameWidth;
+
+    /**
+     * Height of the rendered frame in pixels.
+     */
+    @Param({"600"})
+    public int myFrameHeight;
+
+    /**
+     * MazeView under test.
+     */
+    private MazeView myView;
+
+    /**
+     * Reused frame for the drawPortion() benchmark.
+     */
+    private BufferedImage myFrame;
+
+    /**
+     * Prepares a new game and a view of it.
+     */
+    @Setup
+    public void setUp() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(
+                MAZE_SIZE, MAZE_SIZE,
+                BenchmarkFixtures.ROOM_SIZE, BenchmarkFixtures.ROOM_SIZE,
+                BenchmarkFixtures.questionSource());
+        final GameModel model = new GameModel(generator,
+                                              BenchmarkFixtures.questionSource());
+        model.newGame();
+
+        myView = new MazeView(myTileSize, myTileSize, model);
+        myFrame = new BufferedImage(myFrameWidth, myFrameHeight, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Renders one frame centered on the middle of the maze.
+     *
+     * @return Rendered frame, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public Image getPortion() {
+        return myView.getPortion(MAZE_SIZE / 2, MAZE_SIZE / 2,
+                                 myFrameWidth, myFrameHeight);
+    }
+
+    /**
+     * Draws one frame centered on the middle of the maze into a reused image.
+     *
+     * @return Drawn frame, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public Image drawPortion() {
+        final Graphics2D context = myFrame.createGraphics();
+        myView.drawPortion(context, MAZE_SIZE / 2, MAZE_SIZE / 2,
+                           myFrameWidth, myFrameHeight);
+        context.dispose();
+
+        return myFrame;
+    }
+}
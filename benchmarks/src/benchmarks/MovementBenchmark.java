@@ -0,0 +1,157 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import model.Coordinates;
+import model.GameState;
+import model.Maze;
+import model.PackedCoordinates;
+import model.enums.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks Maze.moveCoordinates() and GameState.movePlayer().
+ * <p>
+ * Movement happens along the bottom row of an open maze, walking
+ * right until the edge of the maze and then back, so both moves
+ * inside a room and moves between rooms are measured.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovementBenchmark {
+
+    /**
+     * Width and height of the maze in rooms.
+     */
+    private static final int MAZE_SIZE = 8;
+
+    /**
+     * Number of update listeners attached to the GameState.
+     */
+    @Param({"0", "4"})
+    public int myListenerCount;
+
+    /**
+     * Maze to move through.
+     */
+    private Maze myMaze;
+
+    /**
+     * GameState to move the player through.
+     */
+    private GameState myState;
+
+    /**
+     * Current coordinates for the moveCoordinates() benchmarks.
+     */
+    private Coordinates myCoordinates;
+
+    /**
+     * Current packed coordinates for the packed moveCoordinates() benchmark.
+     */
+    private long myPacked;
+
+    /**
+     * Current direction for the moveCoordinates() benchmarks.
+     */
+    private Direction myDirection;
+
+    /**
+     * Current direction for the movePlayer() benchmark.
+     */
+    private Direction myPlayerDirection;
+
+    /**
+     * Prepares the maze, game state, and listeners.
+     *
+     * @param theBlackhole Blackhole for listeners to consume updates with.
+     */
+    @Setup
+    public void setUp(final Blackhole theBlackhole) {
+        myMaze = BenchmarkFixtures.openMaze(MAZE_SIZE);
+        myState = new GameState(BenchmarkFixtures.SETTINGS, myMaze);
+        for (int i = 0; i < myListenerCount; i++) {
+            myState.addUpdateListener((theType, theState) -> theBlackhole.consume(theType));
+        }
+
+        myCoordinates = new Coordinates(0, 0, 0, 0);
+        myPacked = PackedCoordinates.fromCoordinates(myCoordinates);
+        myDirection = Direction.RIGHT;
+        myPlayerDirection = Direction.RIGHT;
+    }
+
+    /**
+     * Moves a Coordinates object by one tile.
+     *
+     * @return New coordinates, returned so they aren't optimized away.
+     */
+    @Benchmark
+    public Coordinates moveCoordinates() {
+        final Coordinates moved = myMaze.moveCoordinates(myCoordinates, myDirection);
+        if (moved == myCoordinates) {
+            myDirection = reverse(myDirection);
+        }
+        myCoordinates = moved;
+
+        return moved;
+    }
+
+    /**
+     * Moves packed coordinates by one tile.
+     *
+     * @return New packed coordinates, returned so they aren't optimized away.
+     */
+    @Benchmark
+    public long moveCoordinatesPacked() {
+        final long moved = myMaze.moveCoordinates(myPacked, myDirection);
+        if (moved == myPacked) {
+            myDirection = reverse(myDirection);
+        }
+        myPacked = moved;
+
+        return moved;
+    }
+
+    /**
+     * Moves the player by one tile, notifying any listeners.
+     *
+     * @return Player's new position, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public Coordinates movePlayer() {
+        final Coordinates before = myState.getPlayer().getPosition();
+        myState.movePlayer(myPlayerDirection);
+
+        final Coordinates after = myState.getPlayer().getPosition();
+        if (after == before) {
+            myPlayerDirection = reverse(myPlayerDirection);
+        }
+
+        return after;
+    }
+
+    /**
+     * Reverses a horizontal direction.
+     *
+     * @param theDirection Direction to reverse.
+     * @return Opposite direction.
+     */
+    private static Direction reverse(final Direction theDirection) {
+        if (theDirection == Direction.RIGHT) {
+            return Direction.LEFT;
+        }
+        return Direction.RIGHT;
+    }
+}
@@ -0,0 +1,110 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import model.Maze;
+import model.PackedCoordinates;
+import model.RectangleMazeGenerator;
+import model.interfaces.PathFinder;
+import model.pathfinding.AStarPathFinder;
+import model.pathfinding.BidirectionalBfsPathFinder;
+import model.pathfinding.JumpPointPathFinder;
+import model.pathfinding.MazeRouter;
+import model.pathfinding.SearchGrid;
+import model.topologies.KruskalTopology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks each PathFinder routing between opposite corners of a maze
+ * of about ten million tiles, with Kruskal's topology so the route winds
+ * through most of the maze.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PathfindingBenchmark {
+
+    /**
+     * Width and height of the maze in rooms, for 640 * 640 * 5 * 5 tiles.
+     */
+    private static final int MAZE_SIZE = 640;
+
+    /**
+     * Finder under test.
+     */
+    @Param({"A_STAR", "BIDIRECTIONAL_BFS", "JUMP_POINT"})
+    public String myFinderName;
+
+    /**
+     * Finder under test.
+     */
+    private PathFinder myFinder;
+
+    /**
+     * Packed coordinates of the tile to route from.
+     */
+    private long myStart;
+
+    /**
+     * Packed coordinates of the tile to route to.
+     */
+    private long myGoal;
+
+    /**
+     * Generates the maze and prepares the finder for the current parameters.
+     */
+    @Setup
+    public void setUp() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(MAZE_SIZE,
+                MAZE_SIZE, BenchmarkFixtures.ROOM_SIZE, BenchmarkFixtures.ROOM_SIZE,
+                BenchmarkFixtures.questionSource());
+        generator.setTopology(new KruskalTopology());
+        final Maze maze = generator.generate(BenchmarkFixtures.SEED);
+
+        final SearchGrid grid = new SearchGrid(maze, MazeRouter.DEFAULT_DOOR_COST);
+        switch (myFinderName) {
+            case "BIDIRECTIONAL_BFS":
+                myFinder = new BidirectionalBfsPathFinder(grid);
+                break;
+            case "JUMP_POINT":
+                myFinder = new JumpPointPathFinder(grid);
+                break;
+            default:
+                myFinder = new AStarPathFinder(grid);
+                break;
+        }
+
+        final int center = BenchmarkFixtures.ROOM_SIZE / 2;
+        myStart = PackedCoordinates.pack(0, 0, center, center);
+        myGoal = PackedCoordinates.pack(MAZE_SIZE - 1, MAZE_SIZE - 1, center, center);
+    }
+
+    /**
+     * Finds the cost of the route between the corners, which shouldn't allocate.
+     *
+     * @return Cost of the route, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public int findCost() {
+        return myFinder.findCost(myStart, myGoal);
+    }
+
+    /**
+     * Finds the route between the corners.
+     *
+     * @return Route found, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public long[] findPath() {
+        return myFinder.findPath(myStart, myGoal);
+    }
+}
@@ -0,0 +1,137 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import model.QuestionLoader;
+import model.TriviaQuestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sqlite.SQLiteDataSource;
+
+/**
+ * Benchmarks loading a large generated question bank, with QuestionLoader
+ * against the "SELECT *" query with columns looked up by name for every row
+ * which QuestionsFactory used to run.
+ * <p>
+ * The bank is written to a temporary SQLite file with the same schema as
+ * resources/questions.db once per trial, and deleted afterwards.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuestionLoaderBenchmark {
+
+    /**
+     * Number of questions in the generated bank.
+     */
+    @Param({"1000000"})
+    public int myQuestionCount;
+
+    /**
+     * Generated database file.
+     */
+    private Path myFile;
+
+    /**
+     * Data source reading the generated database.
+     */
+    private SQLiteDataSource myDataSource;
+
+    /**
+     * Writes the generated question bank.
+     *
+     * @throws IOException If the file couldn't be made.
+     * @throws SQLException If the bank couldn't be written.
+     */
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        myFile = Files.createTempFile("questions", ".db");
+        myDataSource = new SQLiteDataSource();
+        myDataSource.setUrl("jdbc:sqlite:" + myFile);
+
+        final TriviaQuestion.QuestionType[] types = TriviaQuestion.QuestionType.values();
+        try (Connection connection = myDataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE questions (question_text TEXT, type TEXT, "
+                                  + "answer_text TEXT, PRIMARY KEY(question_text))");
+            }
+
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO questions VALUES (?, ?, ?)")) {
+                for (int index = 0; index < myQuestionCount; index++) {
+                    insert.setString(1, "Benchmark question number " + index + "?");
+                    insert.setString(2, types[index % types.length].name());
+                    insert.setString(3, "Answer " + index);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    /**
+     * Deletes the generated question bank.
+     *
+     * @throws IOException If the file couldn't be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(myFile);
+    }
+
+    /**
+     * Loads the bank with QuestionLoader.
+     *
+     * @return Loaded questions, returned so they aren't optimized away.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    @Benchmark
+    public List<TriviaQuestion> projected() throws SQLException {
+        return new QuestionLoader(myDataSource).loadAll();
+    }
+
+    /**
+     * Loads the bank the way QuestionsFactory used to.
+     *
+     * @return Loaded questions, returned so they aren't optimized away.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    @Benchmark
+    public List<TriviaQuestion> selectAll() throws SQLException {
+        final List<TriviaQuestion> questions = new ArrayList<>();
+        try (Connection connection = myDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet results = statement.executeQuery("SELECT * FROM questions")) {
+
+            while (results.next()) {
+                questions.add(new TriviaQuestion(results.getString("question_text"),
+                        results.getString("answer_text"),
+                        TriviaQuestion.QuestionType.valueOf(results.getString("type"))));
+            }
+        }
+
+        return questions;
+    }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import model.QuestionsFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks starting up a QuestionsFactory, which only opens its paged
+ * source rather than loading every question.
+ * <p>
+ * QuestionsFactory is a singleton, so a fresh instance is made through
+ * its private constructor each time to measure the full start up. The
+ * benchmark must be run from the project directory so the database
+ * can be found at resources/questions.db.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuestionsFactoryBenchmark {
+
+    /**
+     * QuestionsFactory's private constructor.
+     */
+    private Constructor<QuestionsFactory> myConstructor;
+
+    /**
+     * Makes QuestionsFactory's constructor accessible.
+     *
+     * @throws NoSuchMethodException If the constructor couldn't be found.
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        myConstructor = QuestionsFactory.class.getDeclaredConstructor();
+        myConstructor.setAccessible(true);
+    }
+
+    /**
+     * Opens the questions database with a new QuestionsFactory.
+     *
+     * @return Opened QuestionsFactory, returned so it isn't optimized away.
+     * @throws ReflectiveOperationException If the constructor couldn't be called.
+     */
+    @Benchmark
+    public QuestionsFactory load() throws ReflectiveOperationException {
+        return myConstructor.newInstance();
+    }
+}
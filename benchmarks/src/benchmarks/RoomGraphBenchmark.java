@@ -0,0 +1,107 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import model.Maze;
+import model.PackedCoordinates;
+import model.RectangleMazeGenerator;
+import model.RoomGraph;
+import model.interfaces.PathFinder;
+import model.pathfinding.BidirectionalBfsPathFinder;
+import model.pathfinding.SearchGrid;
+import model.topologies.KruskalTopology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks checking whether opposite corners of a maze can reach each
+ * other on the room graph, against a breadth-first search over every tile.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomGraphBenchmark {
+
+    /**
+     * Width and height of the maze in rooms.
+     */
+    private static final int MAZE_SIZE = 200;
+
+    /**
+     * Graph of the maze's rooms.
+     */
+    private RoomGraph myGraph;
+
+    /**
+     * Breadth-first search over the maze's tiles.
+     */
+    private PathFinder myTileFinder;
+
+    /**
+     * Index of the room to start from.
+     */
+    private int myStartRoom;
+
+    /**
+     * Index of the room to reach.
+     */
+    private int myGoalRoom;
+
+    /**
+     * Packed coordinates of the tile to start from.
+     */
+    private long myStartTile;
+
+    /**
+     * Packed coordinates of the tile to reach.
+     */
+    private long myGoalTile;
+
+    /**
+     * Generates the maze and builds both searches.
+     */
+    @Setup
+    public void setUp() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(MAZE_SIZE,
+                MAZE_SIZE, BenchmarkFixtures.ROOM_SIZE, BenchmarkFixtures.ROOM_SIZE,
+                BenchmarkFixtures.questionSource());
+        generator.setTopology(new KruskalTopology());
+        final Maze maze = generator.generate(BenchmarkFixtures.SEED);
+
+        myGraph = maze.getRoomGraph();
+        myTileFinder = new BidirectionalBfsPathFinder(new SearchGrid(maze, SearchGrid.STEP_COST));
+
+        final int center = BenchmarkFixtures.ROOM_SIZE / 2;
+        myStartRoom = myGraph.getRoomIndex(0, 0);
+        myGoalRoom = myGraph.getRoomIndex(MAZE_SIZE - 1, MAZE_SIZE - 1);
+        myStartTile = PackedCoordinates.pack(0, 0, center, center);
+        myGoalTile = PackedCoordinates.pack(MAZE_SIZE - 1, MAZE_SIZE - 1, center, center);
+    }
+
+    /**
+     * Finds the distance between the corners in rooms.
+     *
+     * @return Distance found, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public int roomGraph() {
+        return myGraph.findDistance(myStartRoom, myGoalRoom);
+    }
+
+    /**
+     * Finds the distance between the corners in tiles.
+     *
+     * @return Distance found, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public int tileGrid() {
+        return myTileFinder.findCost(myStartTile, myGoalTile);
+    }
+}
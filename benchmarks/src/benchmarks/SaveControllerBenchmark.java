@@ -0,0 +1,86 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import model.GameState;
+import model.RectangleMazeGenerator;
+import model.SaveController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks saving a GameState with SaveController and loading it back.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SaveControllerBenchmark {
+
+    /**
+     * Width and height of the saved maze in rooms.
+     */
+    @Param({"6", "25"})
+    public int myMazeSize;
+
+    /**
+     * Temporary file to save to.
+     */
+    private File mySaveFile;
+
+    /**
+     * SaveController under test.
+     */
+    private SaveController mySaveController;
+
+    /**
+     * GameState to save.
+     */
+    private GameState myState;
+
+    /**
+     * Prepares the save file and a generated game state.
+     *
+     * @throws IOException If the temporary save file couldn't be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        mySaveFile = File.createTempFile("benchmark", ".ser");
+        mySaveController = new SaveController(mySaveFile.getPath());
+
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(
+                myMazeSize, myMazeSize,
+                BenchmarkFixtures.ROOM_SIZE, BenchmarkFixtures.ROOM_SIZE,
+                BenchmarkFixtures.questionSource());
+        myState = new GameState(BenchmarkFixtures.SETTINGS, generator.generate());
+    }
+
+    /**
+     * Removes the temporary save file.
+     */
+    @TearDown
+    public void tearDown() {
+        mySaveFile.delete();
+    }
+
+    /**
+     * Saves the game state and loads it back.
+     *
+     * @return Loaded game state, returned so it isn't optimized away.
+     */
+    @Benchmark
+    public GameState roundTrip() {
+        mySaveController.saveGame(myState);
+        return mySaveController.loadGame();
+    }
+}
@@ -0,0 +1,122 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import model.Maze;
+import model.RectangleMazeGenerator;
+import model.interfaces.MazeTopology;
+import model.topologies.EllerTopology;
+import model.topologies.GridTopology;
+import model.topologies.KruskalTopology;
+import model.topologies.RecursiveBacktrackerTopology;
+import model.topologies.WilsonTopology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks each MazeTopology in rooms per second, both laying out doors
+ * alone and generating a full maze. The grid topology is the layout
+ * RectangleMazeGenerator has always used, so it's the baseline.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TopologyBenchmark {
+
+    /**
+     * Width and height of the generated maze in rooms.
+     */
+    private static final int MAZE_SIZE = 200;
+
+    /**
+     * Number of rooms in the generated maze, one operation each.
+     */
+    private static final int ROOMS = MAZE_SIZE * MAZE_SIZE;
+
+    /**
+     * Topology under test.
+     */
+    @Param({"GRID", "BACKTRACKER", "KRUSKAL", "WILSON", "ELLER"})
+    public String myTopologyName;
+
+    /**
+     * Topology under test.
+     */
+    private MazeTopology myTopology;
+
+    /**
+     * Generator using the topology under test.
+     */
+    private RectangleMazeGenerator myGenerator;
+
+    /**
+     * Prepares the topology and generator for the current parameters.
+     */
+    @Setup
+    public void setUp() {
+        switch (myTopologyName) {
+            case "BACKTRACKER":
+                myTopology = new RecursiveBacktrackerTopology();
+                break;
+            case "KRUSKAL":
+                myTopology = new KruskalTopology();
+                break;
+            case "WILSON":
+                myTopology = new WilsonTopology();
+                break;
+            case "ELLER":
+                myTopology = new EllerTopology();
+                break;
+            default:
+                myTopology = new GridTopology();
+                break;
+        }
+
+        myGenerator = new RectangleMazeGenerator(MAZE_SIZE, MAZE_SIZE,
+                BenchmarkFixtures.ROOM_SIZE, BenchmarkFixtures.ROOM_SIZE,
+                BenchmarkFixtures.questionSource());
+        myGenerator.setTopology(myTopology);
+    }
+
+    /**
+     * Lays out every door of a maze without building any rooms.
+     *
+     * @param theBlackhole Consumes each row so it isn't optimized away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void carve(final Blackhole theBlackhole) {
+        final MazeTopology.RowCarver carver = myTopology.carve(MAZE_SIZE, MAZE_SIZE,
+                new SplittableRandom(BenchmarkFixtures.SEED));
+
+        final boolean[] rightDoors = new boolean[MAZE_SIZE];
+        final boolean[] topDoors = new boolean[MAZE_SIZE];
+        for (int row = 0; row < MAZE_SIZE; row++) {
+            carver.nextRow(rightDoors, topDoors);
+            theBlackhole.consume(rightDoors);
+            theBlackhole.consume(topDoors);
+        }
+    }
+
+    /**
+     * Generates a full maze with the topology.
+     *
+     * @return Generated maze, returned so it isn't optimized away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public Maze generate() {
+        return myGenerator.generate(BenchmarkFixtures.SEED);
+    }
+}
@@ -0,0 +1,24 @@
+package controller;
+
+import java.util.SplittableRandom;
+import model.GameState;
+import model.enums.Direction;
+
+/**
+ * Simulation agent which moves in a uniformly random direction every step.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class RandomAgent implements SimulationRunner.Agent {
+
+    /**
+     * Every direction the agent can pick from.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @Override
+    public Direction nextMove(final GameState theState, final SplittableRandom theRandom) {
+        return DIRECTIONS[theRandom.nextInt(DIRECTIONS.length)];
+    }
+}
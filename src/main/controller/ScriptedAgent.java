@@ -0,0 +1,56 @@
+package controller;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import model.GameState;
+import model.enums.Direction;
+
+/**
+ * Simulation agent which follows a fixed script of moves,
+ * starting over from the beginning once the script runs out.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class ScriptedAgent implements SimulationRunner.Agent {
+
+    /**
+     * Error message for an empty or missing script.
+     */
+    private static final String EMPTY_SCRIPT_MESSAGE
+            = "ScriptedAgent needs at least one move in its script!";
+
+    /**
+     * Moves to make, in order.
+     */
+    private final Direction[] myScript;
+
+    /**
+     * Index of the next move in the script.
+     */
+    private int myIndex;
+
+    /**
+     * Constructs a ScriptedAgent following the given moves.
+     *
+     * @param theScript Moves to make, in order.
+     * @throws IllegalArgumentException If the script is null or empty.
+     */
+    public ScriptedAgent(final List<Direction> theScript)
+            throws IllegalArgumentException {
+        if (theScript == null || theScript.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_SCRIPT_MESSAGE);
+        }
+
+        myScript = theScript.toArray(new Direction[0]);
+        myIndex = 0;
+    }
+
+    @Override
+    public Direction nextMove(final GameState theState, final SplittableRandom theRandom) {
+        final Direction move = myScript[myIndex];
+        myIndex = (myIndex + 1) % myScript.length;
+
+        return move;
+    }
+}
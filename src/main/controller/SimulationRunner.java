@@ -0,0 +1,534 @@
+package controller;
+
+import java.io.Serial;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import model.GameSettings;
+import model.GameState;
+import model.TriviaQuestion;
+import model.enums.Direction;
+import model.enums.GamePlayPhase;
+import model.interfaces.MazeGenerator;
+
+/**
+ * Runs batches of games without any GUI, driving each GameState with an
+ * Agent for movement and an AnswerPolicy for trivia questions.
+ * <p>
+ * Games are independent of each other and get spread across a ForkJoinPool.
+ * Each game gets its own generator, agent, and random seed, where the seeds
+ * are all drawn up front from the batch seed so a batch's seeds don't
+ * depend on how the games get scheduled. A game's maze is generated from its
+ * seed too, so the same batch seed plays the same games.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class SimulationRunner {
+
+    /**
+     * Error message for an invalid number of games being requested.
+     */
+    private static final String INVALID_GAME_COUNT_MESSAGE
+            = "Number of games to simulate must be positive!";
+
+    /**
+     * Error message for an invalid step limit.
+     */
+    private static final String INVALID_STEP_LIMIT_MESSAGE
+            = "Step limit for each game must be positive!";
+
+    /**
+     * Error message for an invalid parallelism level.
+     */
+    private static final String INVALID_PARALLELISM_MESSAGE
+            = "Parallelism must be positive!";
+
+    /**
+     * Error message for a required argument being null.
+     */
+    private static final String NULL_ARGUMENT_MESSAGE
+            = "SimulationRunner arguments can't be null!";
+
+    /**
+     * Number of games a single task will run before it stops splitting.
+     */
+    private static final int GAMES_PER_TASK = 16;
+
+    /**
+     * Nanoseconds in a second.
+     */
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * Supplies a new maze generator for each game.
+     */
+    private final Supplier<? extends MazeGenerator> myGenerators;
+
+    /**
+     * Supplies a new agent for each game.
+     */
+    private final Supplier<? extends Agent> myAgents;
+
+    /**
+     * Policy for answering trivia questions.
+     */
+    private final AnswerPolicy myAnswerPolicy;
+
+    /**
+     * Settings used for each game.
+     */
+    private final GameSettings mySettings;
+
+    /**
+     * Maximum number of steps before a game is abandoned.
+     */
+    private final int myStepLimit;
+
+    /**
+     * Number of worker threads to run games on.
+     */
+    private final int myParallelism;
+
+    /**
+     * Constructs a SimulationRunner using every available processor.
+     *
+     * @param theGenerators Supplies a new maze generator for each game.
+     * @param theAgents Supplies a new agent for each game.
+     * @param theAnswerPolicy Policy for answering trivia questions.
+     * @param theSettings Settings used for each game.
+     * @param theStepLimit Maximum number of steps before a game is abandoned.
+     * @throws IllegalArgumentException If any argument is null or the step limit
+     *          isn't positive.
+     */
+    public SimulationRunner(final Supplier<? extends MazeGenerator> theGenerators,
+                            final Supplier<? extends Agent> theAgents,
+                            final AnswerPolicy theAnswerPolicy,
+                            final GameSettings theSettings,
+                            final int theStepLimit)
+            throws IllegalArgumentException {
+        this(theGenerators, theAgents, theAnswerPolicy, theSettings, theStepLimit,
+             Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a SimulationRunner with a specific number of worker threads.
+     *
+     * @param theGenerators Supplies a new maze generator for each game.
+     * @param theAgents Supplies a new agent for each game.
+     * @param theAnswerPolicy Policy for answering trivia questions.
+     * @param theSettings Settings used for each game.
+     * @param theStepLimit Maximum number of steps before a game is abandoned.
+     * @param theParallelism Number of worker threads to run games on.
+     * @throws IllegalArgumentException If any argument is null, or the step limit
+     *          or parallelism isn't positive.
+     */
+    public SimulationRunner(final Supplier<? extends MazeGenerator> theGenerators,
+                            final Supplier<? extends Agent> theAgents,
+                            final AnswerPolicy theAnswerPolicy,
+                            final GameSettings theSettings,
+                            final int theStepLimit,
+                            final int theParallelism)
+            throws IllegalArgumentException {
+        if (theGenerators == null || theAgents == null
+            || theAnswerPolicy == null || theSettings == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_MESSAGE);
+        } else if (theStepLimit <= 0) {
+            throw new IllegalArgumentException(INVALID_STEP_LIMIT_MESSAGE);
+        } else if (theParallelism <= 0) {
+            throw new IllegalArgumentException(INVALID_PARALLELISM_MESSAGE);
+        }
+
+        myGenerators = theGenerators;
+        myAgents = theAgents;
+        myAnswerPolicy = theAnswerPolicy;
+        mySettings = theSettings;
+        myStepLimit = theStepLimit;
+        myParallelism = theParallelism;
+    }
+
+    /**
+     * Simulates a batch of games.
+     *
+     * @param theGames Number of games to simulate.
+     * @param theSeed Seed for the whole batch.
+     * @return Report summarizing the results of every game.
+     * @throws IllegalArgumentException If the number of games isn't positive.
+     */
+    public Report run(final int theGames, final long theSeed)
+            throws IllegalArgumentException {
+        if (theGames <= 0) {
+            throw new IllegalArgumentException(INVALID_GAME_COUNT_MESSAGE);
+        }
+
+        // Draw every game's seed before any game starts.
+        final SplittableRandom batchRandom = new SplittableRandom(theSeed);
+        final long[] seeds = new long[theGames];
+        for (int i = 0; i < theGames; i++) {
+            seeds[i] = batchRandom.nextLong();
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(myParallelism);
+        try {
+            final long startTime = System.nanoTime();
+            final Tally tally = pool.invoke(new GamesTask(seeds, 0, theGames));
+            final long elapsed = System.nanoTime() - startTime;
+
+            return new Report(tally, elapsed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays through a single game.
+     *
+     * @param theSeed Seed for this game.
+     * @param theTally Tally to record the game's result into.
+     */
+    private void playGame(final long theSeed, final Tally theTally) {
+        final SplittableRandom random = new SplittableRandom(theSeed);
+        final Agent agent = myAgents.get();
+        final GameState state = new GameState(mySettings, myGenerators.get().generate(theSeed));
+        state.setPhase(GamePlayPhase.IN_PROGRESS);
+
+        int steps = 0;
+        int questions = 0;
+        while (!isFinished(state.getPhase()) && steps < myStepLimit) {
+            if (state.getPhase() == GamePlayPhase.TRIVIA) {
+                questions++;
+                state.answerQuestion(myAnswerPolicy.answer(state.getQuestion(), random));
+            } else {
+                state.movePlayer(agent.nextMove(state, random));
+                steps++;
+            }
+        }
+
+        theTally.myGames++;
+        theTally.mySteps += steps;
+        theTally.myQuestions += questions;
+        switch (state.getPhase()) {
+            case VICTORY:
+                theTally.myWins++;
+                break;
+            case FAILURE:
+            case TRAPPED:
+                theTally.myFailures++;
+                break;
+            default:
+                // Ran out of steps before finishing.
+                break;
+        }
+    }
+
+    /**
+     * Checks if a phase ends the game.
+     *
+     * @param thePhase Phase to check.
+     * @return True if the game is over, false otherwise.
+     */
+    private static boolean isFinished(final GamePlayPhase thePhase) {
+        return thePhase == GamePlayPhase.VICTORY
+               || thePhase == GamePlayPhase.FAILURE
+               || thePhase == GamePlayPhase.TRAPPED;
+    }
+
+    /**
+     * Chooses where to move the player during a simulated game.
+     * A new agent is used for each game, so an agent only ever
+     * gets called from one thread at a time.
+     */
+    public interface Agent {
+        /**
+         * Chooses the next direction to move.
+         *
+         * @param theState Current state of the game.
+         * @param theRandom Random source for this game.
+         * @return Direction to move the player in.
+         */
+        Direction nextMove(GameState theState, SplittableRandom theRandom);
+    }
+
+    /**
+     * Chooses answers to trivia questions during a simulated game.
+     * The same policy is shared between every game, so implementations
+     * must be safe to call from multiple threads.
+     */
+    public interface AnswerPolicy {
+        /**
+         * Chooses an answer to a question.
+         *
+         * @param theQuestion Question being asked.
+         * @param theRandom Random source for this game.
+         * @return Answer to give.
+         */
+        String answer(TriviaQuestion theQuestion, SplittableRandom theRandom);
+
+        /**
+         * Gets a policy which answers correctly with a certain probability.
+         *
+         * @param theAccuracy Probability of answering correctly, from 0 to 1.
+         * @return AnswerPolicy with the given accuracy.
+         */
+        static AnswerPolicy withAccuracy(final double theAccuracy) {
+            return (theQuestion, theRandom) -> {
+                if (theRandom.nextDouble() < theAccuracy) {
+                    return theQuestion.getAnswer();
+                }
+                // The empty string is never a valid answer.
+                return "";
+            };
+        }
+    }
+
+    /**
+     * Summary of a batch of simulated games.
+     */
+    public static final class Report {
+
+        /**
+         * Number of games played.
+         */
+        private final int myGames;
+
+        /**
+         * Number of games won.
+         */
+        private final int myWins;
+
+        /**
+         * Number of games lost.
+         */
+        private final int myFailures;
+
+        /**
+         * Total steps taken across every game.
+         */
+        private final long mySteps;
+
+        /**
+         * Total questions answered across every game.
+         */
+        private final long myQuestions;
+
+        /**
+         * Time taken to play every game, in nanoseconds.
+         */
+        private final long myElapsedNanos;
+
+        /**
+         * Constructs a Report from a finished tally.
+         *
+         * @param theTally Tally of every game.
+         * @param theElapsedNanos Time taken to play every game, in nanoseconds.
+         */
+        private Report(final Tally theTally, final long theElapsedNanos) {
+            myGames = theTally.myGames;
+            myWins = theTally.myWins;
+            myFailures = theTally.myFailures;
+            mySteps = theTally.mySteps;
+            myQuestions = theTally.myQuestions;
+            myElapsedNanos = theElapsedNanos;
+        }
+
+        /**
+         * Gets the number of games played.
+         *
+         * @return Number of games played.
+         */
+        public int getGames() {
+            return myGames;
+        }
+
+        /**
+         * Gets the number of games won.
+         *
+         * @return Number of games won.
+         */
+        public int getWins() {
+            return myWins;
+        }
+
+        /**
+         * Gets the number of games lost by running out of lives.
+         *
+         * @return Number of games lost.
+         */
+        public int getFailures() {
+            return myFailures;
+        }
+
+        /**
+         * Gets the number of games which hit the step limit before finishing.
+         *
+         * @return Number of unfinished games.
+         */
+        public int getUnfinished() {
+            return myGames - myWins - myFailures;
+        }
+
+        /**
+         * Gets the total number of steps taken across every game.
+         *
+         * @return Total number of steps.
+         */
+        public long getTotalSteps() {
+            return mySteps;
+        }
+
+        /**
+         * Gets the total number of questions answered across every game.
+         *
+         * @return Total number of questions.
+         */
+        public long getTotalQuestions() {
+            return myQuestions;
+        }
+
+        /**
+         * Gets the time taken to play every game.
+         *
+         * @return Elapsed time in nanoseconds.
+         */
+        public long getElapsedNanos() {
+            return myElapsedNanos;
+        }
+
+        /**
+         * Gets the fraction of games which were won.
+         *
+         * @return Win rate, from 0 to 1.
+         */
+        public double getWinRate() {
+            return (double) myWins / myGames;
+        }
+
+        /**
+         * Gets the average number of steps taken in each game.
+         *
+         * @return Average steps per game.
+         */
+        public double getAverageSteps() {
+            return (double) mySteps / myGames;
+        }
+
+        /**
+         * Gets the number of games played per second.
+         *
+         * @return Games per second.
+         */
+        public double getGamesPerSecond() {
+            return myGames * NANOS_PER_SECOND / Math.max(1, myElapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d games (%.1f games/sec): %d won, %d lost, %d unfinished,"
+                                 + " win rate %.3f, %.1f average steps",
+                                 myGames, getGamesPerSecond(), myWins, myFailures,
+                                 getUnfinished(), getWinRate(), getAverageSteps());
+        }
+    }
+
+    /**
+     * Running totals for a range of games.
+     */
+    private static final class Tally {
+
+        /**
+         * Number of games played.
+         */
+        private int myGames;
+
+        /**
+         * Number of games won.
+         */
+        private int myWins;
+
+        /**
+         * Number of games lost.
+         */
+        private int myFailures;
+
+        /**
+         * Total steps taken.
+         */
+        private long mySteps;
+
+        /**
+         * Total questions answered.
+         */
+        private long myQuestions;
+
+        /**
+         * Adds another tally's totals into this one.
+         *
+         * @param theOther Tally to add.
+         * @return This tally.
+         */
+        private Tally add(final Tally theOther) {
+            myGames += theOther.myGames;
+            myWins += theOther.myWins;
+            myFailures += theOther.myFailures;
+            mySteps += theOther.mySteps;
+            myQuestions += theOther.myQuestions;
+            return this;
+        }
+    }
+
+    /**
+     * Task which plays a range of games, splitting in half until
+     * the range is small enough to play directly.
+     */
+    private final class GamesTask extends RecursiveTask<Tally> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Seeds for every game in the batch.
+         */
+        private final long[] mySeeds;
+
+        /**
+         * First game in this task's range, inclusive.
+         */
+        private final int myStart;
+
+        /**
+         * Last game in this task's range, exclusive.
+         */
+        private final int myEnd;
+
+        /**
+         * Constructs a task for a range of games.
+         *
+         * @param theSeeds Seeds for every game in the batch.
+         * @param theStart First game in the range, inclusive.
+         * @param theEnd Last game in the range, exclusive.
+         */
+        private GamesTask(final long[] theSeeds, final int theStart, final int theEnd) {
+            mySeeds = theSeeds;
+            myStart = theStart;
+            myEnd = theEnd;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (myEnd - myStart <= GAMES_PER_TASK) {
+                final Tally tally = new Tally();
+                for (int i = myStart; i < myEnd; i++) {
+                    playGame(mySeeds[i], tally);
+                }
+                return tally;
+            }
+
+            final int middle = (myStart + myEnd) >>> 1;
+            final GamesTask left = new GamesTask(mySeeds, myStart, middle);
+            left.fork();
+            final Tally right = new GamesTask(mySeeds, middle, myEnd).compute();
+            return right.add(left.join());
+        }
+    }
+}
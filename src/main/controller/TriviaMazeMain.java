@@ -1,21 +1,37 @@
 package controller;
 
+import model.AsyncMazeDumpSink;
 import model.GameModel;
+import model.PrefetchingQuestionSource;
 import model.QuestionsFactory;
 import model.RectangleMazeGenerator;
 import view.TitleScreen;
 
 public final class TriviaMazeMain {
 
+    /**
+     * System property which, when true, dumps every generated maze to standard out.
+     */
+    private static final String DUMP_MAZES_PROPERTY = "triviamaze.dumpMazes";
+
     /**
      * Private constructor to prevent instantiation.
      */
     private TriviaMazeMain() { }
 
     public static void main(final String[] theArgs) {
+        final PrefetchingQuestionSource questions
+                = new PrefetchingQuestionSource(QuestionsFactory.getInstance());
+        // The game exits through System.exit(), so stop prefetching on the way out.
+        // Closing only waits briefly, so a fetch stuck in the database can't hold up exiting.
+        Runtime.getRuntime().addShutdownHook(new Thread(questions::close));
         final RectangleMazeGenerator rmg = new RectangleMazeGenerator(6, 6,
-                5, 5, QuestionsFactory.getInstance());
-        final GameModel gameModel = new GameModel(rmg, QuestionsFactory.getInstance());
+                5, 5, questions);
+        rmg.setLazyQuestions(true);
+        if (Boolean.getBoolean(DUMP_MAZES_PROPERTY)) {
+            rmg.setDumpSink(new AsyncMazeDumpSink(System.out));
+        }
+        final GameModel gameModel = new GameModel(rmg, questions);
         new TitleScreen(gameModel);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package model;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import model.interfaces.MazeDumpSink;
+
+/**
+ * MazeDumpSink which writes mazes out as text on a background thread,
+ * so generating a maze never waits on its dump.
+ * <p>
+ * Only a few dumps are queued at once, and any more are dropped rather than
+ * slowing down generation. Mazes are written with Maze.writeTo() while the
+ * game may already be changing their doors, so a dump shows the maze as it
+ * was when it was written rather than exactly as generated.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class AsyncMazeDumpSink implements MazeDumpSink, AutoCloseable {
+
+    /**
+     * Most dumps waiting to be written at once.
+     */
+    private static final int QUEUE_CAPACITY = 4;
+
+    /**
+     * Longest time closing waits for queued dumps to be written, in seconds.
+     */
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Line written before each maze.
+     */
+    private static final String HEADER = "Generated Maze:\n";
+
+    /**
+     * Error message for a dump which couldn't be written.
+     */
+    private static final String WRITE_FAILED_MESSAGE = "Failed to dump maze: ";
+
+    /**
+     * Where mazes are written.
+     */
+    private final Appendable myOut;
+
+    /**
+     * Single background thread writing dumps in order.
+     */
+    private final ExecutorService myWriter;
+
+    /**
+     * Constructs a sink writing mazes to some output.
+     *
+     * @param theOut Where to write mazes, only written from the background thread.
+     */
+    public AsyncMazeDumpSink(final Appendable theOut) {
+        myOut = theOut;
+        myWriter = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                theTask -> {
+                    final Thread thread = new Thread(theTask, "maze-dump");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public void dump(final Maze theMaze) {
+        myWriter.execute(() -> write(theMaze));
+    }
+
+    /**
+     * Stops taking dumps, and waits for the queued ones to be written.
+     */
+    @Override
+    public void close() {
+        myWriter.shutdown();
+        try {
+            myWriter.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes a maze to the output, on the background thread.
+     *
+     * @param theMaze Maze to write.
+     */
+    private void write(final Maze theMaze) {
+        try {
+            myOut.append(HEADER);
+            theMaze.writeTo(myOut);
+            if (myOut instanceof Flushable) {
+                ((Flushable) myOut).flush();
+            }
+        } catch (final IOException exception) {
+            // Dumps are only diagnostics, so log it and keep going.
+            System.err.println(WRITE_FAILED_MESSAGE + exception.getMessage());
+        }
+    }
+}
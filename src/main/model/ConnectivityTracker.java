@@ -0,0 +1,293 @@
+package model;
+
+import java.io.Serial;
+import java.util.Arrays;
+import model.enums.Direction;
+import model.interfaces.DoorUpdateListener;
+
+/**
+ * Tracks which rooms of a maze can still reach each other, following every
+ * door as it's answered, so a game can tell as soon as the exit is cut off.
+ * <p>
+ * Rooms are linked through any door which isn't locked, since unanswered
+ * doors can still be opened. Each room is labeled with the connected
+ * component it's in. Doors only ever stop linking rooms when they lock, so
+ * the labels only change then: searches run outward from both rooms the
+ * locked door joined, one room at a time each. If they meet, nothing was
+ * cut off. If one runs out first, it has found everything on its side, and
+ * only that smaller side is relabeled. Locking a door therefore costs about
+ * as much as the shorter way around it, or the smaller piece split off,
+ * and answering a door correctly costs nothing.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class ConnectivityTracker implements DoorUpdateListener {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Largest search generation before the search marks are cleared,
+     * leaving room for both sides' marks.
+     */
+    private static final int MAX_GENERATION = Integer.MAX_VALUE / 2 - 1;
+
+    /**
+     * Which rooms are linked by doors that aren't locked.
+     */
+    private final RoomLinks myLinks;
+
+    /**
+     * Component each room is in.
+     */
+    private final int[] myComponents;
+
+    /**
+     * Label to give the next component split off.
+     */
+    private int myNextComponent;
+
+    /**
+     * Number of components the rooms are split into.
+     */
+    private int myComponentCount;
+
+    /**
+     * Rooms waiting to be expanded by each side's search.
+     * Transient since they're only meaningful during a search.
+     */
+    private transient int[][] myQueues;
+
+    /**
+     * Generation and side of the search which last reached each room.
+     * Transient since they're only meaningful during a search.
+     */
+    private transient int[] myMarks;
+
+    /**
+     * Generation of the current search.
+     */
+    private transient int myGeneration;
+
+    /**
+     * Builds the tracker for a maze, and starts listening to its doors.
+     *
+     * @param theMaze Maze to track.
+     * @param thePassability Passability index of theMaze.
+     * @param theListen True to listen to the maze's doors, false if the
+     *                  caller passes on their updates.
+     */
+    private ConnectivityTracker(final Maze theMaze, final PassabilityIndex thePassability,
+                                final boolean theListen) {
+        myLinks = new RoomLinks(theMaze, thePassability);
+        myComponents = new int[myLinks.getRoomCount()];
+        if (theListen) {
+            for (final DoorController door : theMaze.getDoors()) {
+                door.addUpdateListener(this);
+            }
+        }
+
+        // Label every component from scratch
+        Arrays.fill(myComponents, -1);
+        final int[] queue = new int[myComponents.length];
+        for (int room = 0; room < myComponents.length; room++) {
+            if (myComponents[room] == -1) {
+                label(room, myNextComponent++, queue);
+                myComponentCount++;
+            }
+        }
+    }
+
+    /**
+     * Builds the tracker for a maze, and starts listening to its doors.
+     * The tracker should be built before anything else listening for the
+     * exit being cut off, so it's up to date when they're told.
+     *
+     * @param theMaze Maze to track.
+     * @return Tracker for theMaze, or null if theMaze has no passability index.
+     */
+    public static ConnectivityTracker build(final Maze theMaze) {
+        return build(theMaze, true);
+    }
+
+    /**
+     * Builds the tracker for a maze, optionally without listening to its
+     * doors, in which case every door update must be passed to doUpdate()
+     * by whoever does listen. That keeps the tracker out of the doors'
+     * listeners, so it isn't saved along with them.
+     *
+     * @param theMaze Maze to track.
+     * @param theListen True to listen to the maze's doors.
+     * @return Tracker for theMaze, or null if theMaze has no passability index.
+     */
+    public static ConnectivityTracker build(final Maze theMaze, final boolean theListen) {
+        final PassabilityIndex passability = theMaze.getPassability();
+        if (passability == null) {
+            return null;
+        }
+
+        return new ConnectivityTracker(theMaze, passability, theListen);
+    }
+
+    /**
+     * Checks if one room can reach another, through doors which aren't locked.
+     *
+     * @param theFromX X-coordinate of the first room.
+     * @param theFromY Y-coordinate of the first room.
+     * @param theToX X-coordinate of the second room.
+     * @param theToY Y-coordinate of the second room.
+     * @return True if the rooms are connected, false otherwise.
+     */
+    public boolean isConnected(final int theFromX, final int theFromY,
+                               final int theToX, final int theToY) {
+        return myComponents[myLinks.getRoomIndex(theFromX, theFromY)]
+               == myComponents[myLinks.getRoomIndex(theToX, theToY)];
+    }
+
+    /**
+     * Gets the number of separate groups of rooms, which can't reach each other.
+     *
+     * @return Number of components.
+     */
+    public int getComponentCount() {
+        return myComponentCount;
+    }
+
+    @Override
+    public void doUpdate(final DoorController theController) {
+        final int[] rooms = myLinks.update(theController);
+        if (rooms == null) {
+            // No change in whether the rooms are linked
+            return;
+        }
+
+        if (theController.getState() == DoorController.DoorState.LOCKED) {
+            cut(rooms[0], rooms[1]);
+        } else {
+            join(rooms[0], rooms[1]);
+        }
+    }
+
+    /**
+     * Relabels the rooms on one side of a door which just locked,
+     * if it split them from the other side.
+     *
+     * @param theFirst Room on one side of the door.
+     * @param theSecond Room on the other side of the door.
+     */
+    private void cut(final int theFirst, final int theSecond) {
+        final int[] heads = new int[2];
+        final int[] tails = new int[2];
+        startSearch();
+        mark(theFirst, 0, tails);
+        mark(theSecond, 1, tails);
+
+        while (true) {
+            for (int side = 0; side < 2; side++) {
+                if (heads[side] == tails[side]) {
+                    // Everything this side can reach was found without meeting the other
+                    final int component = myNextComponent++;
+                    for (int index = 0; index < tails[side]; index++) {
+                        myComponents[myQueues[side][index]] = component;
+                    }
+                    myComponentCount++;
+                    return;
+                }
+
+                final int room = myQueues[side][heads[side]++];
+                for (final Direction direction : RoomLinks.DIRECTIONS) {
+                    if (!myLinks.isLinked(room, direction)) {
+                        continue;
+                    }
+
+                    final int next = myLinks.neighbor(room, direction);
+                    if (myMarks[next] == markFor(1 - side)) {
+                        // The searches met, so both rooms are still connected
+                        return;
+                    } else if (myMarks[next] != markFor(side)) {
+                        mark(next, side, tails);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the components of two rooms after a door between them stopped being locked.
+     *
+     * @param theFirst Room on one side of the door.
+     * @param theSecond Room on the other side of the door.
+     */
+    private void join(final int theFirst, final int theSecond) {
+        if (myComponents[theFirst] != myComponents[theSecond]) {
+            label(theSecond, myComponents[theFirst], new int[myComponents.length]);
+            myComponentCount--;
+        }
+    }
+
+    /**
+     * Labels every room reachable from a room.
+     *
+     * @param theRoom Room to start from.
+     * @param theComponent Label to give every reachable room.
+     * @param theQueue Queue with room for every room in the maze.
+     */
+    private void label(final int theRoom, final int theComponent, final int[] theQueue) {
+        int head = 0;
+        int tail = 0;
+        theQueue[tail++] = theRoom;
+        myComponents[theRoom] = theComponent;
+
+        while (head < tail) {
+            final int room = theQueue[head++];
+            for (final Direction direction : RoomLinks.DIRECTIONS) {
+                if (myLinks.isLinked(room, direction)) {
+                    final int next = myLinks.neighbor(room, direction);
+                    if (myComponents[next] != theComponent) {
+                        myComponents[next] = theComponent;
+                        theQueue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a new search, preparing the scratch buffers.
+     */
+    private void startSearch() {
+        if (myMarks == null) {
+            myQueues = new int[2][myComponents.length];
+            myMarks = new int[myComponents.length];
+        }
+
+        myGeneration++;
+        if (myGeneration > MAX_GENERATION) {
+            Arrays.fill(myMarks, 0);
+            myGeneration = 1;
+        }
+    }
+
+    /**
+     * Marks a room as reached by one side's search, and queues it.
+     *
+     * @param theRoom Room reached.
+     * @param theSide Side of the search which reached it, 0 or 1.
+     * @param theTails End of each side's queue.
+     */
+    private void mark(final int theRoom, final int theSide, final int[] theTails) {
+        myMarks[theRoom] = markFor(theSide);
+        myQueues[theSide][theTails[theSide]++] = theRoom;
+    }
+
+    /**
+     * Gets the mark for rooms reached by one side of the current search.
+     *
+     * @param theSide Side of the search, 0 or 1.
+     * @return Mark for theSide.
+     */
+    private int markFor(final int theSide) {
+        return myGeneration * 2 + theSide;
+    }
+}
@@ -0,0 +1,344 @@
+package model;
+
+import java.io.Serial;
+import java.util.Arrays;
+import model.enums.Direction;
+import model.interfaces.DoorUpdateListener;
+
+/**
+ * Number of rooms between every room of a maze and its exit room, kept up
+ * to date as doors are answered, so distances are array lookups instead of
+ * searches.
+ * <p>
+ * Distances are found with a breadth-first search from the exit room
+ * through doors which aren't locked, since unanswered doors can still be
+ * opened. When a door locks, only rooms which relied on it for their
+ * shortest way to the exit are searched again: those with no other
+ * neighbor one room closer, and the rooms beyond them which relied on them.
+ * Their new distances spread in from their neighbors which kept theirs.
+ * When a door stops being locked, shorter distances spread out from it.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class DistanceField implements DoorUpdateListener {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Distance returned for rooms which can't reach the exit.
+     */
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Distance stored for rooms which can't reach the exit, larger than any other.
+     */
+    private static final int NO_DISTANCE = Integer.MAX_VALUE;
+
+    /**
+     * Which rooms are linked by doors that aren't locked.
+     */
+    private final RoomLinks myLinks;
+
+    /**
+     * Distance from each room to the exit, in rooms.
+     */
+    private final int[] myDistances;
+
+    /**
+     * Rooms waiting to be visited during a repair.
+     * Transient since they're only meaningful during a repair.
+     */
+    private transient int[] myQueue;
+
+    /**
+     * Rooms whose distances spread during a repair.
+     * Transient since they're only meaningful during a repair.
+     */
+    private transient int[] mySpreadQueue;
+
+    /**
+     * Rooms being repaired, by their best distance from rooms which weren't.
+     * Transient since they're only meaningful during a repair.
+     */
+    private transient long[] mySorted;
+
+    /**
+     * Generation of the repair which last affected each room.
+     * Transient since they're only meaningful during a repair.
+     */
+    private transient int[] myMarks;
+
+    /**
+     * Generation of the current repair.
+     */
+    private transient int myGeneration;
+
+    /**
+     * Finds every room's distance to the exit, and starts listening to the maze's doors.
+     *
+     * @param theMaze Maze to measure.
+     * @param thePassability Passability index of theMaze.
+     * @param theListen True to listen to the maze's doors, false if the
+     *                  caller passes on their updates.
+     */
+    private DistanceField(final Maze theMaze, final PassabilityIndex thePassability,
+                          final boolean theListen) {
+        myLinks = new RoomLinks(theMaze, thePassability);
+        myDistances = new int[myLinks.getRoomCount()];
+        if (theListen) {
+            for (final DoorController door : theMaze.getDoors()) {
+                door.addUpdateListener(this);
+            }
+        }
+
+        Arrays.fill(myDistances, NO_DISTANCE);
+        final int exit = myLinks.getRoomIndex(theMaze.getExitRoomX(), theMaze.getExitRoomY());
+        myDistances[exit] = 0;
+        prepareScratch();
+        myQueue[0] = exit;
+        spread(myQueue, 1);
+    }
+
+    /**
+     * Finds every room's distance to the exit of a maze, and starts listening to its doors.
+     *
+     * @param theMaze Maze to measure.
+     * @return Distance field for theMaze, or null if theMaze has no passability index.
+     */
+    public static DistanceField build(final Maze theMaze) {
+        return build(theMaze, true);
+    }
+
+    /**
+     * Finds every room's distance to the exit of a maze, optionally without
+     * listening to its doors, in which case every door update must be passed
+     * to doUpdate() by whoever does listen. That keeps the field out of the
+     * doors' listeners, so it isn't saved along with them.
+     *
+     * @param theMaze Maze to measure.
+     * @param theListen True to listen to the maze's doors.
+     * @return Distance field for theMaze, or null if theMaze has no passability index.
+     */
+    public static DistanceField build(final Maze theMaze, final boolean theListen) {
+        final PassabilityIndex passability = theMaze.getPassability();
+        if (passability == null) {
+            return null;
+        }
+
+        return new DistanceField(theMaze, passability, theListen);
+    }
+
+    /**
+     * Gets the number of rooms between a room and the exit room.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Rooms to pass through to reach the exit, counting the exit
+     *          room but not this one, or UNREACHABLE if it can't be reached.
+     */
+    public int getDistance(final int theRoomX, final int theRoomY) {
+        final int distance = myDistances[myLinks.getRoomIndex(theRoomX, theRoomY)];
+        return distance == NO_DISTANCE ? UNREACHABLE : distance;
+    }
+
+    /**
+     * Gets which way to leave a room to get one room closer to the exit.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Direction of a neighbor closer to the exit, or null if
+     *          this is the exit room or the exit can't be reached.
+     */
+    public Direction getStepToExit(final int theRoomX, final int theRoomY) {
+        final int room = myLinks.getRoomIndex(theRoomX, theRoomY);
+        if (myDistances[room] == 0 || myDistances[room] == NO_DISTANCE) {
+            return null;
+        }
+
+        for (final Direction direction : RoomLinks.DIRECTIONS) {
+            if (myLinks.isLinked(room, direction)
+                && myDistances[myLinks.neighbor(room, direction)] == myDistances[room] - 1) {
+                return direction;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void doUpdate(final DoorController theController) {
+        final int[] rooms = myLinks.update(theController);
+        if (rooms == null) {
+            // No change in whether the rooms are linked
+            return;
+        }
+
+        prepareScratch();
+        if (theController.getState() == DoorController.DoorState.LOCKED) {
+            cut(rooms[0], rooms[1]);
+        } else {
+            // Only the farther room can have a shorter way now, through the closer one
+            myQueue[0] = myDistances[rooms[0]] < myDistances[rooms[1]] ? rooms[0] : rooms[1];
+            spread(myQueue, 1);
+        }
+    }
+
+    /**
+     * Repairs distances after the link between two rooms was cut.
+     *
+     * @param theFirst Room on one side of the cut link.
+     * @param theSecond Room on the other side of the cut link.
+     */
+    private void cut(final int theFirst, final int theSecond) {
+        final int farther;
+        if (myDistances[theFirst] == myDistances[theSecond]) {
+            // The link wasn't on either room's shortest way to the exit
+            return;
+        } else if (myDistances[theFirst] > myDistances[theSecond]) {
+            farther = theFirst;
+        } else {
+            farther = theSecond;
+        }
+
+        myGeneration++;
+        if (myGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(myMarks, 0);
+            myGeneration = 1;
+        }
+        if (hasCloserNeighbor(farther)) {
+            return;
+        }
+
+        // Find every room which relied on the link, closest first, so each
+        // room's closer neighbors have all been checked before it is
+        int affected = 0;
+        myMarks[farther] = myGeneration;
+        myQueue[affected++] = farther;
+        for (int head = 0; head < affected; head++) {
+            final int room = myQueue[head];
+            for (final Direction direction : RoomLinks.DIRECTIONS) {
+                if (!myLinks.isLinked(room, direction)) {
+                    continue;
+                }
+
+                final int next = myLinks.neighbor(room, direction);
+                if (myMarks[next] != myGeneration
+                    && myDistances[next] == myDistances[room] + 1
+                    && !hasCloserNeighbor(next)) {
+                    myMarks[next] = myGeneration;
+                    myQueue[affected++] = next;
+                }
+            }
+        }
+
+        // Start each affected room from its best neighbor which wasn't affected
+        for (int index = 0; index < affected; index++) {
+            final int room = myQueue[index];
+            int best = NO_DISTANCE;
+            for (final Direction direction : RoomLinks.DIRECTIONS) {
+                if (myLinks.isLinked(room, direction)) {
+                    final int next = myLinks.neighbor(room, direction);
+                    if (myMarks[next] != myGeneration && myDistances[next] != NO_DISTANCE) {
+                        best = Math.min(best, myDistances[next] + 1);
+                    }
+                }
+            }
+
+            myDistances[room] = best;
+            mySorted[index] = (long) best << Integer.SIZE | room;
+        }
+        Arrays.sort(mySorted, 0, affected);
+
+        // Spread from the affected rooms in order of distance, merging rooms
+        // reached by spreading with the sorted starting rooms
+        int sorted = 0;
+        int head = 0;
+        int tail = 0;
+        while (sorted < affected || head < tail) {
+            final int room;
+            if (head == tail
+                || sorted < affected
+                   && (int) (mySorted[sorted] >>> Integer.SIZE)
+                      <= myDistances[mySpreadQueue[head]]) {
+                room = (int) mySorted[sorted++];
+                if (myDistances[room] == NO_DISTANCE) {
+                    // Every room left can't reach the exit
+                    break;
+                }
+            } else {
+                room = mySpreadQueue[head++];
+            }
+
+            for (final Direction direction : RoomLinks.DIRECTIONS) {
+                if (myLinks.isLinked(room, direction)) {
+                    final int next = myLinks.neighbor(room, direction);
+                    if (myDistances[room] + 1 < myDistances[next]) {
+                        myDistances[next] = myDistances[room] + 1;
+                        mySpreadQueue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Spreads shorter distances breadth-first from some rooms.
+     *
+     * @param theQueue Queue holding the rooms to spread from.
+     * @param theCount Number of rooms in theQueue.
+     */
+    private void spread(final int[] theQueue, final int theCount) {
+        int tail = theCount;
+        for (int head = 0; head < tail; head++) {
+            final int room = theQueue[head];
+            if (myDistances[room] == NO_DISTANCE) {
+                continue;
+            }
+
+            for (final Direction direction : RoomLinks.DIRECTIONS) {
+                if (myLinks.isLinked(room, direction)) {
+                    final int next = myLinks.neighbor(room, direction);
+                    if (myDistances[room] + 1 < myDistances[next]) {
+                        myDistances[next] = myDistances[room] + 1;
+                        theQueue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a room is linked to a neighbor one room closer to the exit,
+     * which isn't affected by the current repair.
+     *
+     * @param theRoom Room to check.
+     * @return True if there's such a neighbor, false otherwise.
+     */
+    private boolean hasCloserNeighbor(final int theRoom) {
+        for (final Direction direction : RoomLinks.DIRECTIONS) {
+            if (myLinks.isLinked(theRoom, direction)) {
+                final int next = myLinks.neighbor(theRoom, direction);
+                if (myMarks[next] != myGeneration
+                    && myDistances[next] == myDistances[theRoom] - 1) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Prepares the scratch buffers, which aren't kept when saved.
+     */
+    private void prepareScratch() {
+        if (myQueue == null) {
+            myQueue = new int[myDistances.length];
+            mySpreadQueue = new int[myDistances.length];
+            mySorted = new long[myDistances.length];
+            myMarks = new int[myDistances.length];
+        }
+    }
+}
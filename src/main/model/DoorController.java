@@ -13,7 +13,7 @@ import model.interfaces.Tile;
  * Controller for a pair of doors in a maze.
  *
  * @author Shane Menzies
- * @version 11/10/24
+ * @version 10/17/26
  */
 public final class DoorController implements Serializable {
     @Serial
@@ -25,15 +25,49 @@ public final class DoorController implements Serializable {
     private static final String INVALID_RESULT_STRING
             = "Invalid Result provided to DoorController!";
 
+    /**
+     * Exception message for an invalid door side.
+     */
+    private static final String INVALID_SIDE_STRING
+            = "Door side must be 0 or 1!";
+
+    /**
+     * Value returned for room coordinates when this controller isn't linked to rooms.
+     */
+    public static final int NO_ROOM = -1;
+
     /**
      * Pair of doors this controller is in charge of.
      */
     private final DoorTile[] myDoors;
 
     /**
-     * Trivia Question this pair of doors is associated with.
+     * Trivia Question this pair of doors is associated with,
+     * or null until it's resolved if made without one.
      */
-    private final TriviaQuestion myQuestion;
+    private TriviaQuestion myQuestion;
+
+    /**
+     * Resolver looking up the question when it's first needed,
+     * or null if this controller was made with its question.
+     */
+    private final QuestionResolver myResolver;
+
+    /**
+     * Key of the question to resolve, if myKeyed.
+     */
+    private final long myQuestionKey;
+
+    /**
+     * True if the question to resolve has a key, false to resolve a new one.
+     */
+    private final boolean myKeyed;
+
+    /**
+     * Coordinates of the rooms each door is in, as {x0, y0, x1, y1},
+     * or null if this controller wasn't linked to any rooms.
+     */
+    private final int[] myRoomCoordinates;
 
     /**
      * All update listeners for this door controller.
@@ -56,8 +90,96 @@ public final class DoorController implements Serializable {
      * @param theQuestion Trivia Question this controller should be associated with.
      */
     public DoorController(final TriviaQuestion theQuestion) {
+        this(theQuestion, null, 0, false, null);
+    }
+
+    /**
+     * Constructs a door controller from the provided question, with 2 new door tiles,
+     * which remembers the rooms each of its doors are placed in.
+     *
+     * @param theQuestion Trivia Question this controller should be associated with.
+     * @param theFirstRoomX X-coordinate of the room holding the first door.
+     * @param theFirstRoomY Y-coordinate of the room holding the first door.
+     * @param theSecondRoomX X-coordinate of the room holding the second door.
+     * @param theSecondRoomY Y-coordinate of the room holding the second door.
+     */
+    public DoorController(final TriviaQuestion theQuestion,
+                          final int theFirstRoomX, final int theFirstRoomY,
+                          final int theSecondRoomX, final int theSecondRoomY) {
+        this(theQuestion, null, 0, false, new int[] {theFirstRoomX, theFirstRoomY,
+                                                     theSecondRoomX, theSecondRoomY});
+    }
+
+    /**
+     * Constructs a door controller whose question is looked up by key the
+     * first time it's needed, with 2 new door tiles, which remembers the
+     * rooms each of its doors are placed in.
+     *
+     * @param theResolver Resolver to look up the question with.
+     * @param theKey Key identifying the question.
+     * @param theFirstRoomX X-coordinate of the room holding the first door.
+     * @param theFirstRoomY Y-coordinate of the room holding the first door.
+     * @param theSecondRoomX X-coordinate of the room holding the second door.
+     * @param theSecondRoomY Y-coordinate of the room holding the second door.
+     */
+    public DoorController(final QuestionResolver theResolver, final long theKey,
+                          final int theFirstRoomX, final int theFirstRoomY,
+                          final int theSecondRoomX, final int theSecondRoomY) {
+        this(null, theResolver, theKey, true, new int[] {theFirstRoomX, theFirstRoomY,
+                                                         theSecondRoomX, theSecondRoomY});
+    }
+
+    /**
+     * Constructs a door controller which gets a new question the first
+     * time it's needed, with 2 new door tiles, which remembers the rooms
+     * each of its doors are placed in.
+     *
+     * @param theResolver Resolver to get the question from.
+     * @param theFirstRoomX X-coordinate of the room holding the first door.
+     * @param theFirstRoomY Y-coordinate of the room holding the first door.
+     * @param theSecondRoomX X-coordinate of the room holding the second door.
+     * @param theSecondRoomY Y-coordinate of the room holding the second door.
+     */
+    public DoorController(final QuestionResolver theResolver,
+                          final int theFirstRoomX, final int theFirstRoomY,
+                          final int theSecondRoomX, final int theSecondRoomY) {
+        this(null, theResolver, 0, false, new int[] {theFirstRoomX, theFirstRoomY,
+                                                     theSecondRoomX, theSecondRoomY});
+    }
+
+    /**
+     * Constructs a fresh door controller with the same question and room
+     * coordinates as an existing one. The new controller starts unanswered,
+     * with new door tiles and no listeners or question handler. If the
+     * existing controller's question hasn't been resolved yet, the new one
+     * resolves it the same way when needed.
+     *
+     * @param theSource DoorController to copy.
+     */
+    public DoorController(final DoorController theSource) {
+        this(theSource.myQuestion, theSource.myQuestion == null ? theSource.myResolver : null,
+             theSource.myQuestionKey, theSource.myKeyed, theSource.myRoomCoordinates);
+    }
+
+    /**
+     * Constructs a door controller with the provided question and room coordinates.
+     *
+     * @param theQuestion Trivia Question this controller should be associated with,
+     *                    or null to resolve it later.
+     * @param theResolver Resolver to look up the question with, or null.
+     * @param theKey Key identifying the question to resolve.
+     * @param theKeyed True if theKey should be used to resolve the question.
+     * @param theRoomCoordinates Room coordinates as {x0, y0, x1, y1}, or null.
+     */
+    private DoorController(final TriviaQuestion theQuestion, final QuestionResolver theResolver,
+                           final long theKey, final boolean theKeyed,
+                           final int[] theRoomCoordinates) {
         myDoors = new DoorTile[2];
         myQuestion = theQuestion;
+        myResolver = theResolver;
+        myQuestionKey = theKey;
+        myKeyed = theKeyed;
+        myRoomCoordinates = theRoomCoordinates;
         myListeners = new ArrayList<>();
         myState = DoorState.UNANSWERED;
 
@@ -76,6 +198,61 @@ public final class DoorController implements Serializable {
         return myDoors;
     }
 
+    /**
+     * Gets the Trivia Question for this pair of doors, resolving it
+     * first if this controller was made without one.
+     *
+     * @return This controller's question.
+     */
+    public TriviaQuestion getQuestion() {
+        if (myQuestion == null && myResolver != null) {
+            myQuestion = myKeyed ? myResolver.resolve(myQuestionKey) : myResolver.resolve();
+        }
+
+        return myQuestion;
+    }
+
+    /**
+     * Checks if this controller has its question yet, rather than
+     * waiting to resolve it when it's first needed.
+     *
+     * @return True if the question is known, false otherwise.
+     */
+    public boolean isQuestionResolved() {
+        return myQuestion != null;
+    }
+
+    /**
+     * Checks if this controller knows which rooms its doors are in.
+     *
+     * @return True if linked to rooms, false otherwise.
+     */
+    public boolean isLinked() {
+        return myRoomCoordinates != null;
+    }
+
+    /**
+     * Gets the X-coordinate of the room holding one of this controller's doors.
+     *
+     * @param theSide Index of the door in getDoors(), either 0 or 1.
+     * @return X-coordinate of the room, or NO_ROOM if not linked to rooms.
+     * @throws IllegalArgumentException If the side isn't 0 or 1.
+     */
+    public int getRoomX(final int theSide) throws IllegalArgumentException {
+        return getRoomCoordinate(theSide, 0);
+    }
+
+    /**
+     * Gets the Y-coordinate of the room holding one of this controller's doors.
+     *
+     * @param theSide Index of the door in getDoors(), either 0 or 1.
+     * @return Y-coordinate of the room, or NO_ROOM if not linked to rooms.
+     * @throws IllegalArgumentException If the side isn't 0 or 1.
+     */
+    public int getRoomY(final int theSide) throws IllegalArgumentException {
+        return getRoomCoordinate(theSide, 1);
+    }
+
     /**
      * Gets this door controller's current state.
      *
@@ -85,6 +262,16 @@ public final class DoorController implements Serializable {
         return myState;
     }
 
+    /**
+     * Restores this controller to a previously saved state,
+     * without notifying any listeners.
+     *
+     * @param theState State to restore.
+     */
+    void restoreState(final DoorState theState) {
+        myState = theState;
+    }
+
     /**
      * Sets the question handler this door should use.
      *
@@ -113,6 +300,26 @@ public final class DoorController implements Serializable {
         return myListeners.remove(theListener);
     }
 
+    /**
+     * Gets one of the stored room coordinates.
+     *
+     * @param theSide Index of the door, either 0 or 1.
+     * @param theAxis 0 for the X-coordinate, 1 for the Y-coordinate.
+     * @return Requested coordinate, or NO_ROOM if not linked to rooms.
+     * @throws IllegalArgumentException If the side isn't 0 or 1.
+     */
+    private int getRoomCoordinate(final int theSide, final int theAxis)
+            throws IllegalArgumentException {
+        if (theSide < 0 || theSide >= myDoors.length) {
+            throw new IllegalArgumentException(INVALID_SIDE_STRING);
+        }
+
+        if (myRoomCoordinates == null) {
+            return NO_ROOM;
+        }
+        return myRoomCoordinates[theSide * 2 + theAxis];
+    }
+
     /**
      * Updates all listeners of this controller.
      */
@@ -153,7 +360,7 @@ public final class DoorController implements Serializable {
      */
     private void triggerQuestion() {
         try {
-            myQuestionHandler.askQuestion(myQuestion, new DoorAnswerCallback());
+            myQuestionHandler.askQuestion(getQuestion(), new DoorAnswerCallback());
         } catch (final QuestionHandler.QuestionRejectedException exception) {
             // Can't currently ask the question, this shouldn't happen so log it and continue.
             System.err.println(exception.getMessage());
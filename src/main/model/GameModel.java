@@ -2,6 +2,8 @@ package model;
 
 import static model.interfaces.GameModelUpdateListener.UpdateType.*;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import model.interfaces.GameModelUpdateListener;
@@ -13,11 +15,14 @@ import model.interfaces.QuestionSource;
  * Represents the core game model that manages the game's state, generation, and progression.
  *
  * @author Arafa Mohamed
- * @version 11/20/24
+ * @version 10/17/26
  */
 public class GameModel {
 
-    /** Maze generator for creating game mazes.*/
+    /** Number of seeded mazes kept around for restarting the same level. */
+    private static final int CACHED_MAZES = 8;
+
+    /** Maze generator for creating game mazes, caching seeded mazes.*/
     private final MazeGenerator myGenerator;
 
     /** Question source for generating trivia questions. */
@@ -67,7 +72,7 @@ public class GameModel {
             final GameSettings theSettings,
             final SaveController theSaveController) {
 
-        myGenerator = theGenerator;
+        myGenerator = new MazeCache(theGenerator, CACHED_MAZES);
         myQuestionDatabase = theQuestionDatabase;
         mySettings = theSettings;
         mySaveController = theSaveController;
@@ -83,13 +88,17 @@ public class GameModel {
      */
     public void newGame() {
         // Generates a new maze
-        Maze newMaze = myGenerator.generate();
-
-        // Creates a new game state with the generated maze and current settings
-        myState = new GameState(mySettings, newMaze);
-        myState.addUpdateListener(this::onGameStateUpdate);
+        startGame(myGenerator.generate());
+    }
 
-        updateListeners(NEW_GAME);
+    /**
+     * Creates a new game on the maze generated from a seed. Starting the same
+     * seed again reuses the maze generated the first time, if it's still cached.
+     *
+     * @param theSeed Seed to generate the maze from.
+     */
+    public void newGame(final long theSeed) {
+        startGame(myGenerator.generate(theSeed));
     }
 
     /**
@@ -107,7 +116,10 @@ public class GameModel {
      * Loads a previously saved game state.
      */
     public void loadGame() {
-        myState = mySaveController.loadGame();
+        // Doors still to be reached look their questions up in this game's source
+        final GameState loaded = mySaveController.loadGame(myQuestionDatabase);
+        closeMaze();
+        myState = loaded;
         myState.addUpdateListener(this::onGameStateUpdate);
 
         updateListeners(LOADED);
@@ -151,6 +163,36 @@ public class GameModel {
         return myListeners.remove(theListener);
     }
 
+    /**
+     * Starts a new game state on the provided maze.
+     *
+     * @param theMaze Freshly generated maze for the new game.
+     */
+    private void startGame(final Maze theMaze) {
+        closeMaze();
+
+        // Creates a new game state with the generated maze and current settings
+        myState = new GameState(mySettings, theMaze);
+        myState.addUpdateListener(this::onGameStateUpdate);
+
+        updateListeners(NEW_GAME);
+    }
+
+    /**
+     * Closes the current game's maze if it holds anything open, like the
+     * file of a PagedMaze, since it won't be played on again.
+     */
+    private void closeMaze() {
+        if (myState != null && myState.getMaze() instanceof Closeable maze) {
+            try {
+                maze.close();
+            } catch (final IOException exception) {
+                // Nothing more to lose, the maze is finished with either way.
+                System.err.println(exception.getMessage());
+            }
+        }
+    }
+
     /**
      * Updates all listeners with a certain update.
      *
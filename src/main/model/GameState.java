@@ -15,7 +15,7 @@ import model.interfaces.QuestionHandler;
  * Represents the entire state of a game being played.
  *
  * @author Shane Menzies
- * @version 11/10/24
+ * @version 10/17/26
  */
 public final class GameState implements Serializable {
     @Serial
@@ -47,6 +47,18 @@ public final class GameState implements Serializable {
      */
     private final QuestionController myQuestionController;
 
+    /**
+     * Tracks which rooms can still reach the exit, or null if the maze can't be tracked.
+     * Transient since it's derived from the maze, and rebuilt when loaded.
+     */
+    private transient ConnectivityTracker myConnectivity;
+
+    /**
+     * Distance from every room to the exit, or null if the maze can't be tracked.
+     * Transient since it's derived from the maze, and rebuilt when loaded.
+     */
+    private transient DistanceField myDistances;
+
     /**
      * Update listeners for the entire game state.
      * Transient to prevent external listeners from getting brought
@@ -55,6 +67,13 @@ public final class GameState implements Serializable {
      */
     private transient List<GameStateUpdateListener> myListeners;
 
+    /**
+     * Door controller which most recently updated, so listeners can tell
+     * which doors a DOORS update was about. Transient since it's only
+     * meaningful while handling an update.
+     */
+    private transient DoorController myLastUpdatedDoor;
+
     /**
      * Current phase of this game.
      */
@@ -80,12 +99,11 @@ public final class GameState implements Serializable {
         // Make and link the question controller.
         myQuestionController = new QuestionController();
         myQuestionController.addListener(this::handleQuestionControllerUpdate);
-        if (myMaze.getDoors() != null) {
-            for (final DoorController nextDoor : myMaze.getDoors()) {
-                nextDoor.setHandler(myQuestionController);
-                nextDoor.addUpdateListener(this::handleDoorUpdate);
-            }
-        }
+
+        // Index doors before the game listens to them, so it's up to date for the game.
+        myMaze.getPassability();
+        buildTrackers();
+        myMaze.bindDoors(myQuestionController, this::handleDoorUpdate);
 
         myListeners = new ArrayList<>();
 
@@ -119,6 +137,60 @@ public final class GameState implements Serializable {
         return myQuestionController.getQuestion();
     }
 
+    /**
+     * Gets the door controller which caused the most recent DOORS update.
+     *
+     * @return Most recently updated door controller, or null if no door
+     *          has updated since this game was created or loaded.
+     */
+    public DoorController getLastUpdatedDoor() {
+        return myLastUpdatedDoor;
+    }
+
+    /**
+     * Checks if the player can still reach the exit room,
+     * going through doors which aren't locked.
+     *
+     * @return True if the exit can be reached, or if the maze can't be tracked.
+     */
+    public boolean isExitReachable() {
+        final Coordinates position = myPlayer.getPosition();
+        return myConnectivity == null
+               || myConnectivity.isConnected(position.getRoomX(), position.getRoomY(),
+                                             myMaze.getExitRoomX(), myMaze.getExitRoomY());
+    }
+
+    /**
+     * Gets the number of rooms between the player and the exit room.
+     *
+     * @return Rooms left to pass through, counting the exit room, or
+     *          DistanceField.UNREACHABLE if the exit can't be reached
+     *          or the maze can't be tracked.
+     */
+    public int getRoomsToExit() {
+        if (myDistances == null) {
+            return DistanceField.UNREACHABLE;
+        }
+
+        final Coordinates position = myPlayer.getPosition();
+        return myDistances.getDistance(position.getRoomX(), position.getRoomY());
+    }
+
+    /**
+     * Gets which way the player could leave their room to get closer to the exit.
+     *
+     * @return Direction to a room closer to the exit, or null if the player is
+     *          in the exit room, the exit can't be reached, or the maze can't be tracked.
+     */
+    public Direction getHintDirection() {
+        if (myDistances == null) {
+            return null;
+        }
+
+        final Coordinates position = myPlayer.getPosition();
+        return myDistances.getStepToExit(position.getRoomX(), position.getRoomY());
+    }
+
     /**
      * Provide an answer to the current question.
      *
@@ -180,17 +252,20 @@ public final class GameState implements Serializable {
             myQuestionController.cancelQuestion();
         }
 
-        final Coordinates oldPos = myPlayer.getPosition();
-        final Coordinates newPos = myMaze.moveCoordinates(oldPos, theDirection);
+        final long oldPos = PackedCoordinates.fromCoordinates(myPlayer.getPosition());
+        final long newPos = myMaze.moveCoordinates(oldPos, theDirection);
 
         // Move the player if they're position has changed
-        if (!newPos.equals(oldPos)) {
-            if (myMaze.getTile(newPos).tryMoveTo()) {
-                myPlayer.setPosition(newPos);
-
-                if (oldPos.getRoomX() != newPos.getRoomX()
-                    || oldPos.getRoomY() != newPos.getRoomY()) {
-                    onRoomChange(newPos.getRoomX(), newPos.getRoomY());
+        if (newPos != oldPos) {
+            // Passable tiles can be moved onto without asking the tile
+            final PassabilityIndex passability = myMaze.getPassability();
+            if ((passability != null && passability.isPassable(newPos))
+                || myMaze.getTile(newPos).tryMoveTo()) {
+                myPlayer.setPosition(PackedCoordinates.toCoordinates(newPos));
+
+                if (!PackedCoordinates.sameRoom(oldPos, newPos)) {
+                    onRoomChange(PackedCoordinates.getRoomX(newPos),
+                                 PackedCoordinates.getRoomY(newPos));
                 }
             }
         }
@@ -244,7 +319,7 @@ public final class GameState implements Serializable {
 
     /**
      * Override of Serialization's default readObject to make
-     * sure that the listeners gets recreated.
+     * sure that the listeners and trackers get recreated.
      *
      * @param theIn ObjectInputStream to read from.
      * @throws IOException See java.io.ObjectInputStream.defaultReadObject()
@@ -256,6 +331,17 @@ public final class GameState implements Serializable {
         theIn.defaultReadObject();
 
         myListeners = new ArrayList<>();
+        buildTrackers();
+    }
+
+    /**
+     * Builds the trackers following the maze's doors. They don't listen to the
+     * doors themselves, since the doors' listeners are saved with them, so
+     * handleDoorUpdate() passes every door update on to them instead.
+     */
+    private void buildTrackers() {
+        myConnectivity = ConnectivityTracker.build(myMaze, false);
+        myDistances = DistanceField.build(myMaze, false);
     }
 
     /**
@@ -282,6 +368,8 @@ public final class GameState implements Serializable {
                 myPlayer.setLives(myPlayer.getLives() - 1);
                 if (myPlayer.getLives() == 0) {
                     setPhase(GamePlayPhase.FAILURE);
+                } else if (!isExitReachable()) {
+                    setPhase(GamePlayPhase.TRAPPED);
                 } else {
                     setPhase(myStoredPhase);
                 }
@@ -302,6 +390,20 @@ public final class GameState implements Serializable {
      * @param theController Door controller which updated.
      */
     private void handleDoorUpdate(final DoorController theController) {
+        // Bring the trackers up to date before anything reacts to the door
+        if (myConnectivity != null) {
+            myConnectivity.doUpdate(theController);
+        }
+        if (myDistances != null) {
+            myDistances.doUpdate(theController);
+        }
+
+        myLastUpdatedDoor = theController;
         updateListeners(GameStateUpdateListener.UpdateType.DOORS);
+
+        // Doors answered during trivia are checked once the question is resolved
+        if (myPlayPhase == GamePlayPhase.IN_PROGRESS && !isExitReachable()) {
+            setPhase(GamePlayPhase.TRAPPED);
+        }
     }
 }
\ No newline at end of file
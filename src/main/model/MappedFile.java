@@ -0,0 +1,335 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A file accessed through memory mappings, which can be larger than a
+ * single mapping allows.
+ * <p>
+ * The file is split into fixed size windows, each mapped the first time
+ * it's touched. Mappings live outside the heap and are paged in and out
+ * by the operating system, so the file can be far larger than the heap.
+ * Ints and longs must be aligned to their size, so they never straddle
+ * two windows.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class MappedFile implements Closeable {
+
+    /**
+     * Log base 2 of the size of each mapped window.
+     */
+    private static final int WINDOW_SHIFT = 26;
+
+    /**
+     * Size of each mapped window in bytes.
+     */
+    private static final long WINDOW_SIZE = 1L << WINDOW_SHIFT;
+
+    /**
+     * Mask for the offset inside a window.
+     */
+    private static final long WINDOW_MASK = WINDOW_SIZE - 1;
+
+    /**
+     * Error message for accessing outside the file.
+     */
+    private static final String OUT_OF_BOUNDS_MESSAGE = "Access outside of mapped file!";
+
+    /**
+     * Channel the file is mapped through.
+     */
+    private final FileChannel myChannel;
+
+    /**
+     * Path of the file.
+     */
+    private final Path myPath;
+
+    /**
+     * True if the file was opened for writing.
+     */
+    private final boolean myWritable;
+
+    /**
+     * Size of the file in bytes.
+     */
+    private final long mySize;
+
+    /**
+     * Each window's mapping, null until first touched.
+     */
+    private final MappedByteBuffer[] myWindows;
+
+    /**
+     * Opens a file for mapping.
+     *
+     * @param thePath Path of the file.
+     * @param theChannel Open channel for the file.
+     * @param theWritable True if the file was opened for writing.
+     * @param theSize Size of the file in bytes.
+     */
+    private MappedFile(final Path thePath, final FileChannel theChannel,
+                       final boolean theWritable, final long theSize) {
+        myPath = thePath;
+        myChannel = theChannel;
+        myWritable = theWritable;
+        mySize = theSize;
+        myWindows = new MappedByteBuffer[(int) ((theSize + WINDOW_SIZE - 1) >>> WINDOW_SHIFT)];
+    }
+
+    /**
+     * Creates a new file of a certain size, replacing any existing file.
+     * The new file reads as all zeroes, and on most file systems takes no
+     * disk space until written to.
+     *
+     * @param thePath Path of the file.
+     * @param theSize Size of the file in bytes.
+     * @return Writable MappedFile for the new file.
+     * @throws IOException If the file couldn't be created.
+     */
+    static MappedFile create(final Path thePath, final long theSize) throws IOException {
+        final FileChannel channel = FileChannel.open(thePath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.SPARSE);
+        try {
+            if (theSize > 0) {
+                // Writing the last byte sets the file's size
+                channel.write(ByteBuffer.allocate(1), theSize - 1);
+            }
+        } catch (final IOException exception) {
+            channel.close();
+            throw exception;
+        }
+
+        return new MappedFile(thePath, channel, true, theSize);
+    }
+
+    /**
+     * Opens an existing file.
+     *
+     * @param thePath Path of the file.
+     * @param theWritable True to allow writing to the file.
+     * @return MappedFile for the existing file.
+     * @throws IOException If the file couldn't be opened.
+     */
+    static MappedFile open(final Path thePath, final boolean theWritable) throws IOException {
+        final FileChannel channel;
+        if (theWritable) {
+            channel = FileChannel.open(thePath,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } else {
+            channel = FileChannel.open(thePath, StandardOpenOption.READ);
+        }
+
+        try {
+            return new MappedFile(thePath, channel, theWritable, channel.size());
+        } catch (final IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Gets the path of this file.
+     *
+     * @return Path of this file.
+     */
+    Path getPath() {
+        return myPath;
+    }
+
+    /**
+     * Gets the size of this file.
+     *
+     * @return Size of this file in bytes.
+     */
+    long getSize() {
+        return mySize;
+    }
+
+    /**
+     * Checks if this file can be written to.
+     *
+     * @return True if writable, false otherwise.
+     */
+    boolean isWritable() {
+        return myWritable;
+    }
+
+    /**
+     * Reads a byte.
+     *
+     * @param theOffset Offset of the byte in the file.
+     * @return Byte at theOffset.
+     */
+    byte getByte(final long theOffset) {
+        return window(theOffset).get((int) (theOffset & WINDOW_MASK));
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param theOffset Offset of the byte in the file.
+     * @param theValue Byte to write.
+     */
+    void putByte(final long theOffset, final byte theValue) {
+        window(theOffset).put((int) (theOffset & WINDOW_MASK), theValue);
+    }
+
+    /**
+     * Reads an aligned int.
+     *
+     * @param theOffset Offset of the int in the file, a multiple of 4.
+     * @return Int at theOffset.
+     */
+    int getInt(final long theOffset) {
+        return window(theOffset).getInt((int) (theOffset & WINDOW_MASK));
+    }
+
+    /**
+     * Writes an aligned int.
+     *
+     * @param theOffset Offset of the int in the file, a multiple of 4.
+     * @param theValue Int to write.
+     */
+    void putInt(final long theOffset, final int theValue) {
+        window(theOffset).putInt((int) (theOffset & WINDOW_MASK), theValue);
+    }
+
+    /**
+     * Reads an aligned long.
+     *
+     * @param theOffset Offset of the long in the file, a multiple of 8.
+     * @return Long at theOffset.
+     */
+    long getLong(final long theOffset) {
+        return window(theOffset).getLong((int) (theOffset & WINDOW_MASK));
+    }
+
+    /**
+     * Writes an aligned long.
+     *
+     * @param theOffset Offset of the long in the file, a multiple of 8.
+     * @param theValue Long to write.
+     */
+    void putLong(final long theOffset, final long theValue) {
+        window(theOffset).putLong((int) (theOffset & WINDOW_MASK), theValue);
+    }
+
+    /**
+     * Reads a run of bytes, which may cross windows.
+     *
+     * @param theOffset Offset of the first byte in the file.
+     * @param theBuffer Array to read into.
+     * @param theStart Index in theBuffer to start reading into.
+     * @param theLength Number of bytes to read.
+     */
+    void getBytes(final long theOffset, final byte[] theBuffer,
+                  final int theStart, final int theLength) {
+        long offset = theOffset;
+        int start = theStart;
+        int remaining = theLength;
+        while (remaining > 0) {
+            final int inWindow = (int) (offset & WINDOW_MASK);
+            final int count = (int) Math.min(remaining, WINDOW_SIZE - inWindow);
+            window(offset).get(inWindow, theBuffer, start, count);
+
+            offset += count;
+            start += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Writes a run of bytes, which may cross windows.
+     *
+     * @param theOffset Offset of the first byte in the file.
+     * @param theBuffer Array to write from.
+     * @param theStart Index in theBuffer to start writing from.
+     * @param theLength Number of bytes to write.
+     */
+    void putBytes(final long theOffset, final byte[] theBuffer,
+                  final int theStart, final int theLength) {
+        long offset = theOffset;
+        int start = theStart;
+        int remaining = theLength;
+        while (remaining > 0) {
+            final int inWindow = (int) (offset & WINDOW_MASK);
+            final int count = (int) Math.min(remaining, WINDOW_SIZE - inWindow);
+            window(offset).put(inWindow, theBuffer, start, count);
+
+            offset += count;
+            start += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Writes any changes made through the mappings out to the file.
+     */
+    void force() {
+        if (myWritable) {
+            for (final MappedByteBuffer window : myWindows) {
+                if (window != null) {
+                    window.force();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes any changes out and closes the file, dropping every mapping
+     * so they can be unmapped without waiting for this object to be collected.
+     *
+     * @throws IOException If the file couldn't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        Arrays.fill(myWindows, null);
+        myChannel.close();
+    }
+
+    /**
+     * Gets the mapping for the window holding an offset, mapping it if needed.
+     *
+     * @param theOffset Offset in the file.
+     * @return Mapping of the window holding theOffset.
+     * @throws IndexOutOfBoundsException If theOffset is outside the file.
+     * @throws UncheckedIOException If the window couldn't be mapped.
+     */
+    private MappedByteBuffer window(final long theOffset) {
+        if (theOffset < 0 || theOffset >= mySize) {
+            throw new IndexOutOfBoundsException(OUT_OF_BOUNDS_MESSAGE);
+        }
+
+        final int index = (int) (theOffset >>> WINDOW_SHIFT);
+        MappedByteBuffer window = myWindows[index];
+        if (window == null) {
+            final long start = (long) index << WINDOW_SHIFT;
+            final long length = Math.min(WINDOW_SIZE, mySize - start);
+            try {
+                window = myChannel.map(myWritable ? FileChannel.MapMode.READ_WRITE
+                                                  : FileChannel.MapMode.READ_ONLY,
+                                       start, length);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            myWindows[index] = window;
+        }
+
+        return window;
+    }
+}
@@ -1,15 +1,23 @@
 package model;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 import model.enums.Direction;
+import model.interfaces.DoorUpdateListener;
+import model.interfaces.QuestionHandler;
 import model.interfaces.Tile;
+import model.tiles.TileRegistry;
 
 /**
  * Represents an entire maze consisting of a 2D array of Rooms.
  *
  * @author Shane Menzies
- * @version 11/2/24
+ * @version 10/17/26
  */
 public class Maze implements Serializable {
     @Serial
@@ -33,6 +41,12 @@ public class Maze implements Serializable {
     private static final String INVALID_ROOMS_NOT_RECTANGLE_MESSAGE
             = "Invalid Rooms Array with non-rectangular shape provided to Maze()!";
 
+    /**
+     * Exception message for copying a maze without its own rooms.
+     */
+    private static final String UNCOPYABLE_MAZE_MESSAGE
+            = "Only mazes holding their own rooms can be copied!";
+
     /**
      * Exception message for an invalid direction.
      */
@@ -43,6 +57,12 @@ public class Maze implements Serializable {
      */
     private final Room[][] myRooms;
 
+    /**
+     * TileGrid holding every tile in this maze,
+     * null if each room has its own tile array.
+     */
+    private final TileGrid myGrid;
+
     /**
      * This maze's door controllers. One for each pair of doors.
      */
@@ -68,6 +88,22 @@ public class Maze implements Serializable {
      */
     private final int myExitRoomY;
 
+    /**
+     * Passability index for this maze, null until first needed.
+     */
+    private PassabilityIndex myPassability;
+
+    /**
+     * True once this maze has tried building its passability index.
+     */
+    private boolean myPassabilityBuilt;
+
+    /**
+     * Graph of this maze's rooms and doors, null until first needed.
+     * Transient since it's rebuilt from the doors.
+     */
+    private transient RoomGraph myRoomGraph;
+
     /**
      * Constructs a Maze using the provided 2D array of Rooms.
      *
@@ -84,6 +120,7 @@ public class Maze implements Serializable {
                 final int theExitX, final int theExitY)
             throws IllegalArgumentException {
         myRooms = theRooms;
+        myGrid = null;
         myDoors = theDoors;
         myStartingRoomX = theStartX;
         myStartingRoomY = theStartY;
@@ -94,20 +131,166 @@ public class Maze implements Serializable {
         verifyRooms();
     }
 
+    /**
+     * Constructs a Maze with all of its tiles stored in a TileGrid.
+     * Room types are determined from the starting and exit coordinates.
+     *
+     * @param theGrid TileGrid holding every tile in the maze.
+     * @param theDoors Array of DoorControllers for the doors in this maze.
+     * @param theStartX X coordinate of the starting room.
+     * @param theStartY Y coordinate of the starting room.
+     * @param theExitX X coordinate of the exit room.
+     * @param theExitY Y coordinate of the exit room.
+     */
+    public Maze(final TileGrid theGrid, final DoorController[] theDoors,
+                final int theStartX, final int theStartY,
+                final int theExitX, final int theExitY) {
+        myRooms = new Room[theGrid.getMazeHeight()][theGrid.getMazeWidth()];
+        myGrid = theGrid;
+        myDoors = theDoors;
+        myStartingRoomX = theStartX;
+        myStartingRoomY = theStartY;
+        myExitRoomX = theExitX;
+        myExitRoomY = theExitY;
+
+        for (int roomY = 0; roomY < myRooms.length; roomY++) {
+            for (int roomX = 0; roomX < myRooms[roomY].length; roomX++) {
+                Room.RoomType type = Room.RoomType.STANDARD;
+                if (roomX == theStartX && roomY == theStartY) {
+                    type = Room.RoomType.START;
+                } else if (roomX == theExitX && roomY == theExitY) {
+                    type = Room.RoomType.EXIT;
+                }
+
+                myRooms[roomY][roomX] = new Room(type, theGrid, roomX, roomY);
+            }
+        }
+    }
+
+    /**
+     * Constructs a Maze for a subclass which provides its own rooms,
+     * by overriding getRoom(), getWidth() and getHeight().
+     *
+     * @param theStartX X coordinate of the starting room.
+     * @param theStartY Y coordinate of the starting room.
+     * @param theExitX X coordinate of the exit room.
+     * @param theExitY Y coordinate of the exit room.
+     */
+    protected Maze(final int theStartX, final int theStartY,
+                   final int theExitX, final int theExitY) {
+        myRooms = null;
+        myGrid = null;
+        myDoors = null;
+        myStartingRoomX = theStartX;
+        myStartingRoomY = theStartY;
+        myExitRoomX = theExitX;
+        myExitRoomY = theExitY;
+    }
+
+    /**
+     * Constructs a fresh copy of an existing Maze, as if it had just been generated.
+     * <p>
+     * Every DoorController is replaced by a new unanswered one for the same
+     * question, and the new doors take the place of the originals' tiles.
+     * Stateless tiles are shared with the original.
+     * </p>
+     *
+     * @param theSource Maze instance to copy.
+     * @throws IllegalArgumentException If theSource doesn't hold its own rooms.
+     */
+    public Maze(final Maze theSource) throws IllegalArgumentException {
+        if (!theSource.isCopyable()) {
+            throw new IllegalArgumentException(UNCOPYABLE_MAZE_MESSAGE);
+        }
+
+        myStartingRoomX = theSource.myStartingRoomX;
+        myStartingRoomY = theSource.myStartingRoomY;
+        myExitRoomX = theSource.myExitRoomX;
+        myExitRoomY = theSource.myExitRoomY;
+
+        // Make new doors, remembering which tile replaces which
+        final Map<DoorController.DoorTile, DoorController.DoorTile> replacements
+                = new IdentityHashMap<>();
+        if (theSource.myDoors != null) {
+            myDoors = new DoorController[theSource.myDoors.length];
+            for (int i = 0; i < myDoors.length; i++) {
+                myDoors[i] = new DoorController(theSource.myDoors[i]);
+                for (int side = 0; side < myDoors[i].getDoors().length; side++) {
+                    replacements.put(theSource.myDoors[i].getDoors()[side],
+                                     myDoors[i].getDoors()[side]);
+                }
+            }
+        } else {
+            myDoors = null;
+        }
+        final UnaryOperator<DoorController.DoorTile> replacer
+                = door -> replacements.getOrDefault(door, door);
+
+        myRooms = new Room[theSource.getHeight()][theSource.getWidth()];
+        if (theSource.myGrid != null) {
+            myGrid = new TileGrid(theSource.myGrid, replacer);
+            for (int roomY = 0; roomY < myRooms.length; roomY++) {
+                for (int roomX = 0; roomX < myRooms[roomY].length; roomX++) {
+                    myRooms[roomY][roomX] = new Room(
+                            theSource.myRooms[roomY][roomX].getType(), myGrid, roomX, roomY);
+                }
+            }
+        } else {
+            myGrid = null;
+            for (int roomY = 0; roomY < myRooms.length; roomY++) {
+                for (int roomX = 0; roomX < myRooms[roomY].length; roomX++) {
+                    final Room source = theSource.myRooms[roomY][roomX];
+                    final Tile[][] tiles = new Tile[source.getHeight()][source.getWidth()];
+                    for (int y = 0; y < tiles.length; y++) {
+                        for (int x = 0; x < tiles[y].length; x++) {
+                            final Tile tile = source.getTile(x, y);
+                            if (tile instanceof DoorController.DoorTile) {
+                                tiles[y][x] = replacer.apply((DoorController.DoorTile) tile);
+                            } else {
+                                tiles[y][x] = TileRegistry.canonical(tile);
+                            }
+                        }
+                    }
+                    myRooms[roomY][roomX] = new Room(source.getType(), tiles);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the TileGrid holding this maze's tiles.
+     *
+     * @return This maze's TileGrid, or null if its rooms each hold their own tiles.
+     */
+    public TileGrid getTileGrid() {
+        return myGrid;
+    }
+
     /**
      * Gets this maze's array of Rooms.
      *
-     * @return This maze's rectangular array of Rooms.
+     * @return This maze's rectangular array of Rooms,
+     *          or null if a subclass provides the rooms.
      */
     public Room[][] getRooms() {
         return myRooms;
     }
 
+    /**
+     * Checks whether this maze holds its own rooms, so it can be copied.
+     *
+     * @return True if Maze(Maze) can copy this maze.
+     */
+    public boolean isCopyable() {
+        return myRooms != null;
+    }
+
     /**
      * Gets this maze's array of DoorControllers.
      * Each one corresponds to a pair of doors in the maze.
      *
-     * @return This maze's array of DoorControllers.
+     * @return This maze's array of DoorControllers,
+     *          or null if a subclass provides the doors.
      */
     public DoorController[] getDoors() {
         return myDoors;
@@ -124,6 +307,52 @@ public class Maze implements Serializable {
         return myRooms[theY][theX];
     }
 
+    /**
+     * Links every door in this maze to a game, so each door asks its
+     * question through theHandler and reports changes to theListener.
+     *
+     * @param theHandler Question handler for every door.
+     * @param theListener Update listener to add to every door.
+     */
+    public void bindDoors(final QuestionHandler theHandler,
+                          final DoorUpdateListener theListener) {
+        if (myDoors != null) {
+            for (final DoorController door : myDoors) {
+                door.setHandler(theHandler);
+                door.addUpdateListener(theListener);
+            }
+        }
+    }
+
+    /**
+     * Gets this maze's passability index, building it the first time it's
+     * needed. The index follows every door's state from then on.
+     *
+     * @return Passability index for this maze, or null if this maze
+     *          can't be indexed. See PassabilityIndex.
+     */
+    public PassabilityIndex getPassability() {
+        if (!myPassabilityBuilt) {
+            myPassability = PassabilityIndex.build(this);
+            myPassabilityBuilt = true;
+        }
+
+        return myPassability;
+    }
+
+    /**
+     * Gets the graph of this maze's rooms and doors, building it the first time it's needed.
+     *
+     * @return Room graph for this maze, or null if it has no door array.
+     */
+    public RoomGraph getRoomGraph() {
+        if (myRoomGraph == null) {
+            myRoomGraph = RoomGraph.build(this);
+        }
+
+        return myRoomGraph;
+    }
+
     /**
      * Gets the tile at a certain set of Coordinates inside this maze.
      *
@@ -131,7 +360,11 @@ public class Maze implements Serializable {
      * @return Tile at specified coordinates.
      */
     public Tile getTile(final Coordinates theCoordinates) {
-        return myRooms[theCoordinates.getRoomY()][theCoordinates.getRoomX()].
+        if (myGrid != null) {
+            return myGrid.getTile(theCoordinates.getRoomX(), theCoordinates.getRoomY(),
+                                  theCoordinates.getX(), theCoordinates.getY());
+        }
+        return getRoom(theCoordinates.getRoomX(), theCoordinates.getRoomY()).
                 getTile(theCoordinates.getX(), theCoordinates.getY());
     }
 
@@ -146,18 +379,22 @@ public class Maze implements Serializable {
      *          false otherwise.
      */
     public boolean hasNeighbor(final int theX, final int theY, final Direction theDirection) {
+        if (myPassability != null) {
+            return myPassability.hasNeighbor(theX, theY, theDirection);
+        }
+
         return switch (theDirection) {
             case UP:
-                yield (theY + 1) < getHeight() && myRooms[theY + 1][theX] != null;
+                yield (theY + 1) < getHeight() && roomExists(theX, theY + 1);
 
             case DOWN:
-                yield (theY - 1) >= 0 && myRooms[theY - 1][theX] != null;
+                yield (theY - 1) >= 0 && roomExists(theX, theY - 1);
 
             case RIGHT:
-                yield (theX + 1) < getWidth() && myRooms[theY][theX + 1] != null;
+                yield (theX + 1) < getWidth() && roomExists(theX + 1, theY);
 
             case LEFT:
-                yield (theX - 1) >= 0 && myRooms[theY][theX - 1] != null;
+                yield (theX - 1) >= 0 && roomExists(theX - 1, theY);
         };
     }
 
@@ -178,19 +415,37 @@ public class Maze implements Serializable {
 
         return switch (theDirection) {
             case UP:
-                yield myRooms[theY + 1][theX];
+                yield getRoom(theX, theY + 1);
 
             case DOWN:
-                yield myRooms[theY - 1][theX];
+                yield getRoom(theX, theY - 1);
 
             case RIGHT:
-                yield myRooms[theY][theX + 1];
+                yield getRoom(theX + 1, theY);
 
             case LEFT:
-                yield myRooms[theY][theX - 1];
+                yield getRoom(theX - 1, theY);
         };
     }
 
+    /**
+     * Gets the tile at a certain set of packed coordinates inside this maze.
+     *
+     * @param thePacked Target coordinates, packed by PackedCoordinates.
+     * @return Tile at specified coordinates.
+     */
+    public Tile getTile(final long thePacked) {
+        final int roomX = PackedCoordinates.getRoomX(thePacked);
+        final int roomY = PackedCoordinates.getRoomY(thePacked);
+        final int x = PackedCoordinates.getX(thePacked);
+        final int y = PackedCoordinates.getY(thePacked);
+
+        if (myGrid != null) {
+            return myGrid.getTile(roomX, roomY, x, y);
+        }
+        return getRoom(roomX, roomY).getTile(x, y);
+    }
+
     /**
      * Moves a set of Coordinates in a certain direction.
      * This method handles both the coordinates inside the room
@@ -202,10 +457,31 @@ public class Maze implements Serializable {
      */
     public Coordinates moveCoordinates(final Coordinates theCoordinates,
                                        final Direction theDirection) {
-        final int roomX = theCoordinates.getRoomX();
-        final int roomY = theCoordinates.getRoomY();
-        int x = theCoordinates.getX();
-        int y = theCoordinates.getY();
+        final long packed = PackedCoordinates.fromCoordinates(theCoordinates);
+        final long moved = moveCoordinates(packed, theDirection);
+
+        // Return moved Coordinates
+        if (moved == packed) {
+            return theCoordinates;
+        }
+        return PackedCoordinates.toCoordinates(moved);
+    }
+
+    /**
+     * Moves a set of packed coordinates in a certain direction.
+     * This method handles both the coordinates inside the room
+     * and moving between rooms, without allocating anything.
+     *
+     * @param thePacked Initial coordinates, packed by PackedCoordinates.
+     * @param theDirection Direction to move coordinates.
+     * @return New packed coordinates moved one tile in provided direction,
+     *          or thePacked if they couldn't move.
+     */
+    public long moveCoordinates(final long thePacked, final Direction theDirection) {
+        final int roomX = PackedCoordinates.getRoomX(thePacked);
+        final int roomY = PackedCoordinates.getRoomY(thePacked);
+        int x = PackedCoordinates.getX(thePacked);
+        int y = PackedCoordinates.getY(thePacked);
 
         // Move x and y coordinates inside room.
         switch (theDirection) {
@@ -228,20 +504,20 @@ public class Maze implements Serializable {
         }
 
         // Check if these coordinates are still inside the current room
-        final Coordinates newCoordinates;
+        final long newCoordinates;
         if (getRoom(roomX, roomY).insideBounds(x, y)) {
-            newCoordinates = new Coordinates(roomX, roomY, x, y);
+            newCoordinates = PackedCoordinates.pack(roomX, roomY, x, y);
         } else {
             if (hasNeighbor(roomX, roomY, theDirection)) {
-                newCoordinates = moveCoordinatesAcrossRooms(
-                        new Coordinates(roomX, roomY, x, y), theDirection);
+                newCoordinates = moveCoordinatesAcrossRooms(roomX, roomY, x, y,
+                                                            theDirection);
             } else {
                 // Can't move this direction.
-                newCoordinates = theCoordinates;
+                newCoordinates = thePacked;
             }
         }
 
-        // Return moved Coordinates
+        // Return moved coordinates
         return newCoordinates;
     }
 
@@ -299,39 +575,57 @@ public class Maze implements Serializable {
         return myRooms[0].length;
     }
 
+    /**
+     * Writes this maze out as text, one row of tiles per line from the top
+     * row down, using each tile's toString(). Rows are written as they're
+     * walked, so nothing is allocated per tile. Assumes every room is the
+     * same size.
+     *
+     * @param theOut Where to write the maze.
+     * @throws IOException If theOut can't be written to.
+     */
+    public void writeTo(final Appendable theOut) throws IOException {
+        final int roomHeight = getRoom(0, 0).getHeight();
+        final int roomWidth = getRoom(0, 0).getWidth();
+
+        for (int roomY = getHeight() - 1; roomY >= 0; roomY--) {
+            for (int y = roomHeight - 1; y >= 0; y--) {
+                for (int roomX = 0; roomX < getWidth(); roomX++) {
+                    for (int x = 0; x < roomWidth; x++) {
+                        theOut.append(getTile(PackedCoordinates.pack(roomX, roomY, x, y))
+                                              .toString());
+                    }
+                }
+                theOut.append('\n');
+            }
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder stringBuilder = new StringBuilder();
-
-        // Assume that each room has identical dimensions
-        final int roomHeight = myRooms[0][0].getHeight();
-        final int roomWidth = myRooms[0][0].getWidth();
-
-        // Need to add each row of tiles starting from the top
-        int y = (getHeight() * roomHeight) - 1;
-        while (y >= 0) {
-            final int roomY = y / roomHeight;
-            final int tileY = y % roomHeight;
-
-            // Print this entire row of tiles
-            for (int x = 0; x < getWidth() * roomWidth; x++) {
-                final int roomX = x / roomWidth;
-                final int tileX = x % roomWidth;
-                stringBuilder.append(
-                    getTile(
-                            new Coordinates(roomX, roomY, tileX, tileY)
-                    ).toString()
-                );
-            }
-
-            // Move to next row
-            stringBuilder.append('\n');
-            y--;
+        try {
+            writeTo(stringBuilder);
+        } catch (final IOException exception) {
+            // StringBuilder never throws
+            throw new UncheckedIOException(exception);
         }
 
         return stringBuilder.toString();
     }
 
+    /**
+     * Checks if a room inside this maze's bounds exists.
+     * Rooms provided by a subclass always exist.
+     *
+     * @param theX X coordinate of the room.
+     * @param theY Y coordinate of the room.
+     * @return True if the room exists, false otherwise.
+     */
+    private boolean roomExists(final int theX, final int theY) {
+        return myRooms == null || myRooms[theY][theX] != null;
+    }
+
     /**
      * Verifies myRooms array is a valid array for a maze.
      *
@@ -356,18 +650,22 @@ public class Maze implements Serializable {
     }
 
     /**
-     * Moves a Coordinate to a neighboring room.
+     * Moves a set of coordinates to a neighboring room.
      *
-     * @param theCoordinate Initial coordinates.
+     * @param theRoomX Initial room X coordinate.
+     * @param theRoomY Initial room Y coordinate.
+     * @param theX Initial X coordinate inside the room.
+     * @param theY Initial Y coordinate inside the room.
      * @param theDirection Direction to move.
-     * @return Coordinates after moving to neighboring room.
+     * @return Packed coordinates after moving to neighboring room.
      */
-    private Coordinates moveCoordinatesAcrossRooms(final Coordinates theCoordinate,
-                                                   final Direction theDirection) {
-        int roomX = theCoordinate.getRoomX();
-        int roomY = theCoordinate.getRoomY();
-        int x = theCoordinate.getX();
-        int y = theCoordinate.getY();
+    private long moveCoordinatesAcrossRooms(final int theRoomX, final int theRoomY,
+                                            final int theX, final int theY,
+                                            final Direction theDirection) {
+        int roomX = theRoomX;
+        int roomY = theRoomY;
+        int x = theX;
+        int y = theY;
 
         // Need to move to neighbor room
         switch (theDirection) {
@@ -396,7 +694,7 @@ public class Maze implements Serializable {
                 throw new IllegalArgumentException(INVALID_DIRECTION_MESSAGE);
         }
 
-        return new Coordinates(roomX, roomY, x, y);
+        return PackedCoordinates.pack(roomX, roomY, x, y);
     }
 
 }
\ No newline at end of file
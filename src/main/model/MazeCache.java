@@ -0,0 +1,109 @@
+package model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import model.interfaces.MazeGenerator;
+
+/**
+ * MazeGenerator which remembers the mazes another generator produced for
+ * recent seeds, so generating the same seed again is just a copy.
+ * <p>
+ * Only seeded generation is cached, generate() without a seed always
+ * goes straight to the wrapped generator. Every maze handed out is a fresh
+ * copy, so games played on it never affect the cached original. Mazes which
+ * can't be copied, like a PagedMaze, are handed out as generated without
+ * being cached, since every game would otherwise share one maze. Since the
+ * wrapped generator's dimensions are fixed, the seed alone identifies a maze,
+ * and its settings shouldn't be changed while it's being cached.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class MazeCache implements MazeGenerator {
+
+    /**
+     * Error message for a null generator being provided.
+     */
+    private static final String NULL_GENERATOR_MESSAGE = "Provided MazeGenerator was null!";
+
+    /**
+     * Error message for an invalid capacity being provided.
+     */
+    private static final String ILLEGAL_CAPACITY_MESSAGE = "Cache capacity must be positive!";
+
+    /**
+     * Generator producing the mazes being cached.
+     */
+    private final MazeGenerator myGenerator;
+
+    /**
+     * Maximum number of mazes kept at once.
+     */
+    private final int myCapacity;
+
+    /**
+     * Cached mazes by seed, in least recently used order.
+     */
+    private final Map<Long, Maze> myMazes;
+
+    /**
+     * Constructs a MazeCache around another generator.
+     *
+     * @param theGenerator Generator producing the mazes to cache.
+     * @param theCapacity Maximum number of mazes kept at once.
+     * @throws IllegalArgumentException If the generator is null or the capacity isn't positive.
+     */
+    public MazeCache(final MazeGenerator theGenerator, final int theCapacity)
+            throws IllegalArgumentException {
+        if (theGenerator == null) {
+            throw new IllegalArgumentException(NULL_GENERATOR_MESSAGE);
+        } else if (theCapacity <= 0) {
+            throw new IllegalArgumentException(ILLEGAL_CAPACITY_MESSAGE);
+        }
+
+        myGenerator = theGenerator;
+        myCapacity = theCapacity;
+        myMazes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Maze> theEldest) {
+                return size() > myCapacity;
+            }
+        };
+    }
+
+    @Override
+    public Maze generate() {
+        return myGenerator.generate();
+    }
+
+    @Override
+    public synchronized Maze generate(final long theSeed) {
+        Maze cached = myMazes.get(theSeed);
+        if (cached == null) {
+            cached = myGenerator.generate(theSeed);
+            if (!cached.isCopyable()) {
+                return cached;
+            }
+            myMazes.put(theSeed, cached);
+        }
+
+        return new Maze(cached);
+    }
+
+    /**
+     * Gets the number of mazes currently cached.
+     *
+     * @return Number of cached mazes.
+     */
+    public synchronized int size() {
+        return myMazes.size();
+    }
+
+    /**
+     * Forgets every cached maze.
+     */
+    public synchronized void clear() {
+        myMazes.clear();
+    }
+}
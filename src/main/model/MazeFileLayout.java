@@ -0,0 +1,422 @@
+package model;
+
+import java.io.IOException;
+
+/**
+ * Where everything lives in a file holding a paged maze.
+ * <p>
+ * The file starts with a fixed size header describing the maze: a magic
+ * number and format version, the maze's dimensions, its starting and exit
+ * rooms, and the number of door records made room for. Since everything
+ * else is at a fixed offset from these, opening a file only needs to read
+ * its header, however big the maze is.
+ * </p>
+ * <p>
+ * After the header comes every tile, one byte each, using TileGrid's codes
+ * and layout. Each row of rooms takes the same number of bytes, so any
+ * row can be found without reading the rest. Next comes the door table,
+ * a fixed size record for each door, ordered by the lower of the two
+ * rows its rooms are in. Last is the row index, giving the first door
+ * record of each row of rooms, with one extra entry holding the door count.
+ * </p>
+ * <p>
+ * Each door record holds, as longs, the PackedCoordinates of both of its
+ * door tiles, the key of its question, and its DoorState ordinal.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class MazeFileLayout {
+
+    /**
+     * Size of the header in bytes.
+     */
+    static final int HEADER_SIZE = 64;
+
+    /**
+     * Offset inside the header of the starting room's x-coordinate.
+     */
+    static final int HEADER_START_X = 24;
+
+    /**
+     * Offset inside the header of the starting room's y-coordinate.
+     */
+    static final int HEADER_START_Y = 28;
+
+    /**
+     * Offset inside the header of the exit room's x-coordinate.
+     */
+    static final int HEADER_EXIT_X = 32;
+
+    /**
+     * Offset inside the header of the exit room's y-coordinate.
+     */
+    static final int HEADER_EXIT_Y = 36;
+
+    /**
+     * Size of each door record in bytes.
+     */
+    static final int DOOR_RECORD_SIZE = 32;
+
+    /**
+     * Offset inside a door record of the first door tile's packed coordinates.
+     */
+    static final int DOOR_FIRST_SIDE = 0;
+
+    /**
+     * Offset inside a door record of the second door tile's packed coordinates.
+     */
+    static final int DOOR_SECOND_SIDE = 8;
+
+    /**
+     * Offset inside a door record of the question key.
+     */
+    static final int DOOR_QUESTION_KEY = 16;
+
+    /**
+     * Offset inside a door record of the door's state.
+     */
+    static final int DOOR_STATE = 24;
+
+    /**
+     * Magic number at the start of every maze file, "MAZE" in ASCII.
+     */
+    private static final int MAGIC = 0x4D415A45;
+
+    /**
+     * Version of the file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Offset inside the header of the magic number.
+     */
+    private static final int HEADER_MAGIC = 0;
+
+    /**
+     * Offset inside the header of the format version.
+     */
+    private static final int HEADER_VERSION = 4;
+
+    /**
+     * Offset inside the header of the maze width.
+     */
+    private static final int HEADER_MAZE_WIDTH = 8;
+
+    /**
+     * Offset inside the header of the maze height.
+     */
+    private static final int HEADER_MAZE_HEIGHT = 12;
+
+    /**
+     * Offset inside the header of the room width.
+     */
+    private static final int HEADER_ROOM_WIDTH = 16;
+
+    /**
+     * Offset inside the header of the room height.
+     */
+    private static final int HEADER_ROOM_HEIGHT = 20;
+
+    /**
+     * Offset inside the header of the door capacity.
+     */
+    private static final int HEADER_DOOR_CAPACITY = 40;
+
+    /**
+     * Error message for a file which isn't a maze file.
+     */
+    private static final String NOT_A_MAZE_MESSAGE = "File is not a maze file!";
+
+    /**
+     * Error message for a maze file of an unsupported version.
+     */
+    private static final String UNSUPPORTED_VERSION_MESSAGE = "Unsupported maze file version!";
+
+    /**
+     * Error message for a maze file cut short.
+     */
+    private static final String TRUNCATED_MESSAGE = "Maze file is truncated!";
+
+    /**
+     * Size of each row index entry in bytes.
+     */
+    private static final int ROW_INDEX_ENTRY_SIZE = 8;
+
+    /**
+     * Error message for invalid maze dimensions.
+     */
+    private static final String ILLEGAL_DIMENSIONS_MESSAGE
+            = "Paged maze dimensions must be between 1 and 65536!";
+
+    /**
+     * Error message for a row of rooms with more tiles than fit in one array.
+     */
+    private static final String ROW_TOO_LARGE_MESSAGE
+            = "A row of rooms has more tiles than fit in one array!";
+
+    /**
+     * Largest allowed dimension, limited by PackedCoordinates.
+     */
+    private static final int MAX_DIMENSION = 1 << 16;
+
+    /**
+     * Width of the maze in rooms.
+     */
+    private final int myMazeWidth;
+
+    /**
+     * Height of the maze in rooms.
+     */
+    private final int myMazeHeight;
+
+    /**
+     * Width of each room in tiles.
+     */
+    private final int myRoomWidth;
+
+    /**
+     * Height of each room in tiles.
+     */
+    private final int myRoomHeight;
+
+    /**
+     * Number of door records made room for.
+     */
+    private final long myDoorCapacity;
+
+    /**
+     * Offset of the first door record.
+     */
+    private final long myDoorsOffset;
+
+    /**
+     * Offset of the row index.
+     */
+    private final long myRowIndexOffset;
+
+    /**
+     * Total size of the file in bytes.
+     */
+    private final long mySize;
+
+    /**
+     * Lays out a file for a maze.
+     *
+     * @param theMazeWidth Width of the maze in rooms.
+     * @param theMazeHeight Height of the maze in rooms.
+     * @param theRoomWidth Width of each room in tiles.
+     * @param theRoomHeight Height of each room in tiles.
+     * @param theDoorCapacity Number of door records to make room for.
+     * @throws IllegalArgumentException If any dimension is out of range.
+     */
+    MazeFileLayout(final int theMazeWidth, final int theMazeHeight,
+                   final int theRoomWidth, final int theRoomHeight,
+                   final long theDoorCapacity) throws IllegalArgumentException {
+        if (outOfRange(theMazeWidth) || outOfRange(theMazeHeight)
+            || outOfRange(theRoomWidth) || outOfRange(theRoomHeight)) {
+            throw new IllegalArgumentException(ILLEGAL_DIMENSIONS_MESSAGE);
+        } else if ((long) theMazeWidth * theRoomWidth * theRoomHeight > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(ROW_TOO_LARGE_MESSAGE);
+        }
+
+        myMazeWidth = theMazeWidth;
+        myMazeHeight = theMazeHeight;
+        myRoomWidth = theRoomWidth;
+        myRoomHeight = theRoomHeight;
+
+        myDoorCapacity = theDoorCapacity;
+        myDoorsOffset = align(HEADER_SIZE + (long) getRowStride() * theMazeHeight);
+        myRowIndexOffset = myDoorsOffset + theDoorCapacity * DOOR_RECORD_SIZE;
+        mySize = myRowIndexOffset + (long) (theMazeHeight + 1) * ROW_INDEX_ENTRY_SIZE;
+    }
+
+    /**
+     * Reads the layout of an existing maze file from its header.
+     *
+     * @param theFile Maze file to read.
+     * @return Layout of theFile.
+     * @throws IOException If theFile isn't a valid maze file.
+     */
+    static MazeFileLayout read(final MappedFile theFile) throws IOException {
+        if (theFile.getSize() < HEADER_SIZE
+            || theFile.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IOException(NOT_A_MAZE_MESSAGE);
+        } else if (theFile.getInt(HEADER_VERSION) != VERSION) {
+            throw new IOException(UNSUPPORTED_VERSION_MESSAGE);
+        }
+
+        final MazeFileLayout layout;
+        try {
+            layout = new MazeFileLayout(theFile.getInt(HEADER_MAZE_WIDTH),
+                                        theFile.getInt(HEADER_MAZE_HEIGHT),
+                                        theFile.getInt(HEADER_ROOM_WIDTH),
+                                        theFile.getInt(HEADER_ROOM_HEIGHT),
+                                        theFile.getLong(HEADER_DOOR_CAPACITY));
+        } catch (final IllegalArgumentException exception) {
+            throw new IOException(exception.getMessage(), exception);
+        }
+
+        if (layout.myDoorCapacity < 0 || theFile.getSize() < layout.getSize()) {
+            throw new IOException(TRUNCATED_MESSAGE);
+        }
+        return layout;
+    }
+
+    /**
+     * Writes the header for this layout into a file.
+     *
+     * @param theFile File to write to.
+     * @param theStartX X-coordinate of the starting room.
+     * @param theStartY Y-coordinate of the starting room.
+     * @param theExitX X-coordinate of the exit room.
+     * @param theExitY Y-coordinate of the exit room.
+     */
+    void writeHeader(final MappedFile theFile,
+                     final int theStartX, final int theStartY,
+                     final int theExitX, final int theExitY) {
+        theFile.putInt(HEADER_MAGIC, MAGIC);
+        theFile.putInt(HEADER_VERSION, VERSION);
+        theFile.putInt(HEADER_MAZE_WIDTH, myMazeWidth);
+        theFile.putInt(HEADER_MAZE_HEIGHT, myMazeHeight);
+        theFile.putInt(HEADER_ROOM_WIDTH, myRoomWidth);
+        theFile.putInt(HEADER_ROOM_HEIGHT, myRoomHeight);
+        theFile.putInt(HEADER_START_X, theStartX);
+        theFile.putInt(HEADER_START_Y, theStartY);
+        theFile.putInt(HEADER_EXIT_X, theExitX);
+        theFile.putInt(HEADER_EXIT_Y, theExitY);
+        theFile.putLong(HEADER_DOOR_CAPACITY, myDoorCapacity);
+    }
+
+    /**
+     * Gets the largest number of doors a maze of certain dimensions can
+     * have, with a door in every wall between rooms.
+     *
+     * @param theMazeWidth Width of the maze in rooms.
+     * @param theMazeHeight Height of the maze in rooms.
+     * @return Largest possible number of doors.
+     */
+    static long maxDoors(final int theMazeWidth, final int theMazeHeight) {
+        return (long) (theMazeWidth - 1) * theMazeHeight
+               + (long) theMazeWidth * (theMazeHeight - 1);
+    }
+
+    /**
+     * Gets the width of the maze in rooms.
+     *
+     * @return Width of the maze in rooms.
+     */
+    int getMazeWidth() {
+        return myMazeWidth;
+    }
+
+    /**
+     * Gets the height of the maze in rooms.
+     *
+     * @return Height of the maze in rooms.
+     */
+    int getMazeHeight() {
+        return myMazeHeight;
+    }
+
+    /**
+     * Gets the width of each room in tiles.
+     *
+     * @return Width of each room in tiles.
+     */
+    int getRoomWidth() {
+        return myRoomWidth;
+    }
+
+    /**
+     * Gets the height of each room in tiles.
+     *
+     * @return Height of each room in tiles.
+     */
+    int getRoomHeight() {
+        return myRoomHeight;
+    }
+
+    /**
+     * Gets the number of bytes taken by each row of rooms.
+     *
+     * @return Bytes per row of rooms.
+     */
+    int getRowStride() {
+        return myMazeWidth * myRoomWidth * myRoomHeight;
+    }
+
+    /**
+     * Gets the offset of the first tile of a row of rooms.
+     *
+     * @param theRoomY Y-coordinate of the row.
+     * @return Offset of the row's tiles.
+     */
+    long rowOffset(final int theRoomY) {
+        return HEADER_SIZE + (long) theRoomY * getRowStride();
+    }
+
+    /**
+     * Gets the offset of a single tile.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theX X-coordinate of the tile inside the room.
+     * @param theY Y-coordinate of the tile inside the room.
+     * @return Offset of the tile.
+     */
+    long tileOffset(final int theRoomX, final int theRoomY, final int theX, final int theY) {
+        return rowOffset(theRoomY) + (long) theY * myMazeWidth * myRoomWidth
+               + (long) theRoomX * myRoomWidth + theX;
+    }
+
+    /**
+     * Gets the offset of a door record.
+     *
+     * @param theDoor Index of the door.
+     * @return Offset of the door's record.
+     */
+    long doorOffset(final long theDoor) {
+        return myDoorsOffset + theDoor * DOOR_RECORD_SIZE;
+    }
+
+    /**
+     * Gets the offset of a row's entry in the row index.
+     *
+     * @param theRoomY Y-coordinate of the row, or the height for the door count.
+     * @return Offset of the row's index entry.
+     */
+    long rowIndexOffset(final int theRoomY) {
+        return myRowIndexOffset + (long) theRoomY * ROW_INDEX_ENTRY_SIZE;
+    }
+
+    /**
+     * Gets the total size of the file.
+     *
+     * @return Size of the file in bytes.
+     */
+    long getSize() {
+        return mySize;
+    }
+
+    /**
+     * Checks if a dimension is out of range.
+     *
+     * @param theDimension Dimension to check.
+     * @return True if out of range, false otherwise.
+     */
+    private static boolean outOfRange(final int theDimension) {
+        return theDimension <= 0 || theDimension > MAX_DIMENSION;
+    }
+
+    /**
+     * Rounds an offset up to a multiple of 8.
+     *
+     * @param theOffset Offset to round.
+     * @return Rounded offset.
+     */
+    private static long align(final long theOffset) {
+        return (theOffset + 7) & ~7L;
+    }
+}
@@ -0,0 +1,161 @@
+package model;
+
+/**
+ * Static helpers for coordinates packed into a single long.
+ * <p>
+ * Each of the room X, room Y, tile X and tile Y values gets its own
+ * unsigned 16-bit lane, from the highest bits down to the lowest, so
+ * a full set of coordinates can be passed around and compared without
+ * allocating a Coordinates object. Each value must be between 0 and 65535.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class PackedCoordinates {
+
+    /**
+     * Mask for a single lane.
+     */
+    private static final int LANE_MASK = 0xFFFF;
+
+    /**
+     * Exception message for a value which doesn't fit into a lane.
+     */
+    private static final String OUT_OF_RANGE_MESSAGE
+            = "Coordinate values must be between 0 and " + LANE_MASK + '!';
+
+    /**
+     * Shift for the room X lane.
+     */
+    private static final int ROOM_X_SHIFT = 48;
+
+    /**
+     * Shift for the room Y lane.
+     */
+    private static final int ROOM_Y_SHIFT = 32;
+
+    /**
+     * Shift for the tile X lane.
+     */
+    private static final int X_SHIFT = 16;
+
+    /**
+     * Mask covering both room lanes.
+     */
+    private static final long ROOM_MASK = 0xFFFFFFFF00000000L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PackedCoordinates() { }
+
+    /**
+     * Packs a set of coordinates into a long.
+     *
+     * @param theRoomX X coordinate of the room.
+     * @param theRoomY Y coordinate of the room.
+     * @param theX X coordinate inside the room.
+     * @param theY Y coordinate inside the room.
+     * @return Packed coordinates.
+     * @throws IllegalArgumentException If any value doesn't fit in 16 unsigned bits.
+     */
+    public static long pack(final int theRoomX, final int theRoomY,
+                            final int theX, final int theY)
+            throws IllegalArgumentException {
+        if (((theRoomX | theRoomY | theX | theY) & ~LANE_MASK) != 0) {
+            throw new IllegalArgumentException(OUT_OF_RANGE_MESSAGE);
+        }
+
+        return ((long) theRoomX << ROOM_X_SHIFT)
+                | ((long) theRoomY << ROOM_Y_SHIFT)
+                | ((long) theX << X_SHIFT)
+                | theY;
+    }
+
+    /**
+     * Packs a Coordinates object into a long.
+     *
+     * @param theCoordinates Coordinates to pack.
+     * @return Packed coordinates.
+     * @throws IllegalArgumentException If any value doesn't fit in 16 unsigned bits.
+     */
+    public static long fromCoordinates(final Coordinates theCoordinates)
+            throws IllegalArgumentException {
+        return pack(theCoordinates.getRoomX(), theCoordinates.getRoomY(),
+                    theCoordinates.getX(), theCoordinates.getY());
+    }
+
+    /**
+     * Unpacks packed coordinates into a new Coordinates object.
+     *
+     * @param thePacked Packed coordinates.
+     * @return New Coordinates with the same values.
+     */
+    public static Coordinates toCoordinates(final long thePacked) {
+        return new Coordinates(getRoomX(thePacked), getRoomY(thePacked),
+                               getX(thePacked), getY(thePacked));
+    }
+
+    /**
+     * Gets the room X coordinate.
+     *
+     * @param thePacked Packed coordinates.
+     * @return X coordinate of the room.
+     */
+    public static int getRoomX(final long thePacked) {
+        return (int) (thePacked >>> ROOM_X_SHIFT) & LANE_MASK;
+    }
+
+    /**
+     * Gets the room Y coordinate.
+     *
+     * @param thePacked Packed coordinates.
+     * @return Y coordinate of the room.
+     */
+    public static int getRoomY(final long thePacked) {
+        return (int) (thePacked >>> ROOM_Y_SHIFT) & LANE_MASK;
+    }
+
+    /**
+     * Gets the X coordinate inside the room.
+     *
+     * @param thePacked Packed coordinates.
+     * @return X coordinate inside the room.
+     */
+    public static int getX(final long thePacked) {
+        return (int) (thePacked >>> X_SHIFT) & LANE_MASK;
+    }
+
+    /**
+     * Gets the Y coordinate inside the room.
+     *
+     * @param thePacked Packed coordinates.
+     * @return Y coordinate inside the room.
+     */
+    public static int getY(final long thePacked) {
+        return (int) thePacked & LANE_MASK;
+    }
+
+    /**
+     * Checks if two packed coordinates are inside the same room.
+     *
+     * @param theFirst First packed coordinates.
+     * @param theSecond Second packed coordinates.
+     * @return True if both are in the same room, false otherwise.
+     */
+    public static boolean sameRoom(final long theFirst, final long theSecond) {
+        return ((theFirst ^ theSecond) & ROOM_MASK) == 0;
+    }
+
+    /**
+     * Gets a string representation of packed coordinates,
+     * matching Coordinates.toString().
+     *
+     * @param thePacked Packed coordinates.
+     * @return String representation of the coordinates.
+     */
+    public static String toString(final long thePacked) {
+        return toCoordinates(thePacked).toString();
+    }
+}
@@ -0,0 +1,698 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import model.enums.TileID;
+import model.interfaces.DoorUpdateListener;
+import model.interfaces.QuestionHandler;
+import model.interfaces.QuestionSource;
+import model.interfaces.Tile;
+
+/**
+ * Maze whose tiles and doors live in a memory-mapped maze file, laid out
+ * by MazeFileLayout, instead of on the heap. Opening a maze file only reads
+ * its header, so it takes the same time however big the maze is.
+ * <p>
+ * Rows of rooms are paged in the first time one of their rooms is needed,
+ * and the least recently used rows are dropped once too many are held.
+ * Doors are only made while a row holding one of their tiles is paged in,
+ * with their questions looked up by key. Door states are written back into
+ * the file as they change, so nothing is lost when a row is dropped.
+ * </p>
+ * <p>
+ * Saving a game with a PagedMaze only saves where the file is, so the file
+ * must still exist to load it again. Mazes in temporary files, which are
+ * deleted when the maze is closed, can't be saved at all.
+ * </p>
+ * <p>
+ * A PagedMaze holds its file open and mapped until it's closed, so it
+ * should be closed once it's no longer played on.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class PagedMaze extends Maze implements Closeable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of rows of rooms kept paged in at once.
+     */
+    private static final int MAX_PAGED_ROWS = 64;
+
+    /**
+     * Error message for writing a maze without a door array.
+     */
+    private static final String UNWRITABLE_MAZE_MESSAGE
+            = "Only mazes with a door array can be written to a maze file!";
+
+    /**
+     * Error message for writing a maze with rooms of different sizes.
+     */
+    private static final String MISMATCHED_ROOMS_MESSAGE
+            = "Every room must be the same size to write a maze file!";
+
+    /**
+     * Error message for a maze file whose starting or exit room is outside the maze.
+     */
+    private static final String INVALID_ROOM_MESSAGE
+            = "Maze file's starting or exit room is outside the maze!";
+
+    /**
+     * Error message for saving a maze in a temporary file.
+     */
+    private static final String TEMPORARY_MAZE_MESSAGE
+            = "Mazes in temporary files can't be saved, since the file won't outlive the maze!";
+
+    /**
+     * Code for door tiles.
+     */
+    private static final byte DOOR_CODE = TileGrid.codeFor(TileID.DOOR_UNANSWERED);
+
+    /**
+     * Every DoorState, indexed by ordinal.
+     */
+    private static final DoorController.DoorState[] DOOR_STATES
+            = DoorController.DoorState.values();
+
+    /**
+     * Path of the maze's file.
+     */
+    private final String myPath;
+
+    /**
+     * True if the file is temporary and is deleted when this maze is closed.
+     * Transient since mazes in temporary files are never saved.
+     */
+    private transient boolean myTemporary;
+
+    /**
+     * Question handler doors are linked to, null until bound.
+     */
+    private QuestionHandler myQuestionHandler;
+
+    /**
+     * Update listener doors are linked to, null until bound.
+     */
+    private DoorUpdateListener myDoorListener;
+
+    /**
+     * Source of each door's question. Transient since it's only saved
+     * if it can be, see writeObject().
+     */
+    private transient QuestionSource myQuestionSource;
+
+    /**
+     * Resolver doors look their questions up with when first reached.
+     */
+    private transient QuestionResolver myResolver;
+
+    /**
+     * Where everything is in the file.
+     */
+    private transient MazeFileLayout myLayout;
+
+    /**
+     * The maze's file.
+     */
+    private transient MappedFile myFile;
+
+    /**
+     * Rooms of each paged in row, in least recently used order.
+     */
+    private transient Map<Integer, Room[]> myPages;
+
+    /**
+     * Doors with a tile in a paged in row, by door index.
+     */
+    private transient Map<Long, DoorController> myLiveDoors;
+
+    /**
+     * Constructs a PagedMaze over an already written file.
+     *
+     * @param theFile The maze's file, which this maze takes ownership of.
+     * @param theLayout Layout of the file, matching its header.
+     * @param theQuestionSource Source to look up each door's question in by key.
+     * @param theTemporary True if the file should be deleted when this maze is closed.
+     */
+    PagedMaze(final MappedFile theFile, final MazeFileLayout theLayout,
+              final QuestionSource theQuestionSource, final boolean theTemporary) {
+        super(theFile.getInt(MazeFileLayout.HEADER_START_X),
+              theFile.getInt(MazeFileLayout.HEADER_START_Y),
+              theFile.getInt(MazeFileLayout.HEADER_EXIT_X),
+              theFile.getInt(MazeFileLayout.HEADER_EXIT_Y));
+
+        myPath = theFile.getPath().toString();
+        myTemporary = theTemporary;
+        myQuestionSource = theQuestionSource;
+        myResolver = new QuestionResolver(myQuestionSource);
+
+        myLayout = theLayout;
+        myFile = theFile;
+        preparePages();
+    }
+
+    /**
+     * Opens a maze file for playing, only reading its header up front.
+     * Changes to door states are written back into the file.
+     *
+     * @param thePath Path of the maze file.
+     * @param theQuestionSource Source to look up each door's question in by key.
+     * @return PagedMaze over the file.
+     * @throws IOException If the file couldn't be opened or isn't a valid maze file.
+     */
+    public static PagedMaze open(final Path thePath, final QuestionSource theQuestionSource)
+            throws IOException {
+        final MappedFile file = MappedFile.open(thePath, true);
+        try {
+            final MazeFileLayout layout = MazeFileLayout.read(file);
+            verifyRoom(layout, file.getInt(MazeFileLayout.HEADER_START_X),
+                       file.getInt(MazeFileLayout.HEADER_START_Y));
+            verifyRoom(layout, file.getInt(MazeFileLayout.HEADER_EXIT_X),
+                       file.getInt(MazeFileLayout.HEADER_EXIT_Y));
+
+            return new PagedMaze(file, layout, theQuestionSource, false);
+        } catch (final IOException exception) {
+            file.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Writes a maze out to a maze file, replacing anything in it.
+     * <p>
+     * Door states are kept, but questions aren't: each door's question key
+     * is its index in the maze's door array, so opening the file gives each
+     * door whichever question its QuestionSource has for that key. A PagedMaze
+     * is written by copying its file.
+     * </p>
+     *
+     * @param theMaze Maze to write, with rooms which are all the same size.
+     * @param thePath Path of the file to write.
+     * @throws IOException If the file couldn't be written.
+     * @throws IllegalArgumentException If theMaze can't be written to a maze file.
+     */
+    public static void write(final Maze theMaze, final Path thePath)
+            throws IOException, IllegalArgumentException {
+        if (theMaze instanceof PagedMaze paged) {
+            paged.myFile.force();
+            Files.copy(paged.getPath(), thePath, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        } else if (theMaze.getDoors() == null) {
+            throw new IllegalArgumentException(UNWRITABLE_MAZE_MESSAGE);
+        }
+
+        final Room firstRoom = theMaze.getRoom(0, 0);
+        final DoorController[] doors = theMaze.getDoors();
+        final MazeFileLayout layout = new MazeFileLayout(
+                theMaze.getWidth(), theMaze.getHeight(),
+                firstRoom.getWidth(), firstRoom.getHeight(), doors.length);
+
+        try (MappedFile file = MappedFile.create(thePath, layout.getSize())) {
+            layout.writeHeader(file, theMaze.getStartingRoomX(), theMaze.getStartingRoomY(),
+                               theMaze.getExitRoomX(), theMaze.getExitRoomY());
+            final Map<Tile, Long> doorTiles = writeTiles(theMaze, layout, file);
+            writeDoors(doors, doorTiles, layout, file);
+        }
+    }
+
+    /**
+     * Gets the path of this maze's file.
+     *
+     * @return Path of the file.
+     */
+    public Path getPath() {
+        return myFile.getPath();
+    }
+
+    /**
+     * Gets the number of doors in this maze.
+     *
+     * @return Number of doors.
+     */
+    public long getDoorCount() {
+        return myFile.getLong(myLayout.rowIndexOffset(myLayout.getMazeHeight()));
+    }
+
+    /**
+     * Gets the number of rows of rooms currently paged in.
+     *
+     * @return Number of paged in rows.
+     */
+    public int getPagedRowCount() {
+        return myPages.size();
+    }
+
+    @Override
+    public Room getRoom(final int theX, final int theY) {
+        Room[] page = myPages.get(theY);
+        if (page == null) {
+            page = pageIn(theY);
+            myPages.put(theY, page);
+        }
+
+        return page[theX];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only door tiles need their row paged in, every other tile is read
+     * straight from the file.
+     * </p>
+     */
+    @Override
+    public Tile getTile(final Coordinates theCoordinates) {
+        return getTile(theCoordinates.getRoomX(), theCoordinates.getRoomY(),
+                       theCoordinates.getX(), theCoordinates.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only door tiles need their row paged in, every other tile is read
+     * straight from the file.
+     * </p>
+     */
+    @Override
+    public Tile getTile(final long thePacked) {
+        return getTile(PackedCoordinates.getRoomX(thePacked),
+                       PackedCoordinates.getRoomY(thePacked),
+                       PackedCoordinates.getX(thePacked),
+                       PackedCoordinates.getY(thePacked));
+    }
+
+    @Override
+    public void bindDoors(final QuestionHandler theHandler,
+                          final DoorUpdateListener theListener) {
+        myQuestionHandler = theHandler;
+        myDoorListener = theListener;
+
+        for (final DoorController door : myLiveDoors.values()) {
+            door.setHandler(theHandler);
+            door.addUpdateListener(theListener);
+        }
+    }
+
+    @Override
+    public int getHeight() {
+        return myLayout.getMazeHeight();
+    }
+
+    @Override
+    public int getWidth() {
+        return myLayout.getMazeWidth();
+    }
+
+    /**
+     * Gets whether this maze's file is temporary, and deleted when it's closed.
+     *
+     * @return True if the file is temporary.
+     */
+    public boolean isTemporary() {
+        return myTemporary;
+    }
+
+    /**
+     * Writes every change to door states out to the file and closes it,
+     * deleting it if it's temporary. This maze can't be used afterward.
+     *
+     * @throws IOException If the file couldn't be closed or deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        myFile.close();
+        if (myTemporary) {
+            Files.deleteIfExists(myFile.getPath());
+        }
+    }
+
+    /**
+     * Gets a tile, reading it from the file unless it's a door.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theX X-coordinate of the tile inside the room.
+     * @param theY Y-coordinate of the tile inside the room.
+     * @return Tile at the provided position, or null if there is none.
+     */
+    private Tile getTile(final int theRoomX, final int theRoomY,
+                         final int theX, final int theY) {
+        final byte code = myFile.getByte(myLayout.tileOffset(theRoomX, theRoomY, theX, theY));
+        if (code == DOOR_CODE) {
+            return getRoom(theRoomX, theRoomY).getTile(theX, theY);
+        }
+        return TileGrid.sharedTileFor(code);
+    }
+
+    /**
+     * Checks that a room from a maze file's header is inside the maze.
+     *
+     * @param theLayout Layout read from the header.
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @throws IOException If the room is outside the maze.
+     */
+    private static void verifyRoom(final MazeFileLayout theLayout,
+                                   final int theRoomX, final int theRoomY) throws IOException {
+        if (theRoomX < 0 || theRoomX >= theLayout.getMazeWidth()
+            || theRoomY < 0 || theRoomY >= theLayout.getMazeHeight()) {
+            throw new IOException(INVALID_ROOM_MESSAGE);
+        }
+    }
+
+    /**
+     * Writes every tile of a maze into a maze file, a row of rooms at a time.
+     *
+     * @param theMaze Maze to write.
+     * @param theLayout Layout of the file.
+     * @param theFile File to write to.
+     * @return Packed coordinates of every door tile written.
+     * @throws IllegalArgumentException If theMaze's rooms aren't all the same size.
+     */
+    private static Map<Tile, Long> writeTiles(final Maze theMaze, final MazeFileLayout theLayout,
+                                              final MappedFile theFile)
+            throws IllegalArgumentException {
+        final int roomWidth = theLayout.getRoomWidth();
+        final int roomHeight = theLayout.getRoomHeight();
+        final int rowLength = theLayout.getMazeWidth() * roomWidth;
+        final byte[] codes = new byte[theLayout.getRowStride()];
+        final Map<Tile, Long> doorTiles = new IdentityHashMap<>();
+
+        for (int roomY = 0; roomY < theLayout.getMazeHeight(); roomY++) {
+            for (int roomX = 0; roomX < theLayout.getMazeWidth(); roomX++) {
+                final Room room = theMaze.getRoom(roomX, roomY);
+                if (room.getWidth() != roomWidth || room.getHeight() != roomHeight) {
+                    throw new IllegalArgumentException(MISMATCHED_ROOMS_MESSAGE);
+                }
+
+                for (int y = 0; y < roomHeight; y++) {
+                    for (int x = 0; x < roomWidth; x++) {
+                        final Tile tile = room.getTile(x, y);
+                        final byte code;
+                        if (tile == null) {
+                            code = 0;
+                        } else if (tile instanceof DoorController.DoorTile) {
+                            // Door states are kept in the door table
+                            code = DOOR_CODE;
+                            doorTiles.put(tile, PackedCoordinates.pack(roomX, roomY, x, y));
+                        } else {
+                            code = TileGrid.codeFor(tile.getTileID());
+                        }
+                        codes[y * rowLength + roomX * roomWidth + x] = code;
+                    }
+                }
+            }
+
+            theFile.putBytes(theLayout.rowOffset(roomY), codes, 0, codes.length);
+        }
+
+        return doorTiles;
+    }
+
+    /**
+     * Writes the door table and row index of a maze file, ordering doors by
+     * the lower of their two rows.
+     *
+     * @param theDoors Every door in the maze.
+     * @param theDoorTiles Packed coordinates of every door tile in the maze.
+     * @param theLayout Layout of the file.
+     * @param theFile File to write to.
+     */
+    private static void writeDoors(final DoorController[] theDoors,
+                                   final Map<Tile, Long> theDoorTiles,
+                                   final MazeFileLayout theLayout, final MappedFile theFile) {
+        final List<Integer> placed = new ArrayList<>(theDoors.length);
+        for (int index = 0; index < theDoors.length; index++) {
+            final DoorController.DoorTile[] sides = theDoors[index].getDoors();
+            if (theDoorTiles.containsKey(sides[0]) && theDoorTiles.containsKey(sides[1])) {
+                placed.add(index);
+            }
+        }
+        placed.sort(Comparator.comparingInt(index -> lowerRow(theDoors[index], theDoorTiles)));
+
+        long record = 0;
+        int roomY = 0;
+        for (final int index : placed) {
+            final DoorController door = theDoors[index];
+
+            // Every row up to this door's lower row starts here
+            final int lowerRow = lowerRow(door, theDoorTiles);
+            while (roomY <= lowerRow) {
+                theFile.putLong(theLayout.rowIndexOffset(roomY++), record);
+            }
+
+            final long offset = theLayout.doorOffset(record++);
+            theFile.putLong(offset + MazeFileLayout.DOOR_FIRST_SIDE,
+                            theDoorTiles.get(door.getDoors()[0]));
+            theFile.putLong(offset + MazeFileLayout.DOOR_SECOND_SIDE,
+                            theDoorTiles.get(door.getDoors()[1]));
+            theFile.putLong(offset + MazeFileLayout.DOOR_QUESTION_KEY, index);
+            theFile.putLong(offset + MazeFileLayout.DOOR_STATE, door.getState().ordinal());
+        }
+
+        while (roomY <= theLayout.getMazeHeight()) {
+            theFile.putLong(theLayout.rowIndexOffset(roomY++), record);
+        }
+    }
+
+    /**
+     * Gets the lower of the two rows a door's tiles are in.
+     *
+     * @param theDoor Door to check.
+     * @param theDoorTiles Packed coordinates of every door tile in the maze.
+     * @return Lower row of the door.
+     */
+    private static int lowerRow(final DoorController theDoor,
+                                final Map<Tile, Long> theDoorTiles) {
+        return Math.min(PackedCoordinates.getRoomY(theDoorTiles.get(theDoor.getDoors()[0])),
+                        PackedCoordinates.getRoomY(theDoorTiles.get(theDoor.getDoors()[1])));
+    }
+
+    /**
+     * Sets up empty page caches.
+     */
+    private void preparePages() {
+        myLiveDoors = new HashMap<>();
+        myPages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, Room[]> theEldest) {
+                if (size() > MAX_PAGED_ROWS) {
+                    remove(theEldest.getKey());
+                    releaseDoors(theEldest.getKey());
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Reads a row of rooms from the file, making any doors it needs.
+     *
+     * @param theRoomY Y-coordinate of the row.
+     * @return Rooms of the row.
+     */
+    private Room[] pageIn(final int theRoomY) {
+        final byte[] codes = new byte[myLayout.getRowStride()];
+        myFile.getBytes(myLayout.rowOffset(theRoomY), codes, 0, codes.length);
+        final TileGrid grid = new TileGrid(myLayout.getMazeWidth(), 1,
+                myLayout.getRoomWidth(), myLayout.getRoomHeight(), codes);
+
+        // Doors into this row are listed under this row or the one below it
+        final long firstDoor = firstDoorOfRow(Math.max(0, theRoomY - 1));
+        final long lastDoor = firstDoorOfRow(theRoomY + 1);
+        for (long index = firstDoor; index < lastDoor; index++) {
+            final long offset = myLayout.doorOffset(index);
+            for (int side = 0; side < 2; side++) {
+                final long tile = myFile.getLong(offset + (side == 0
+                        ? MazeFileLayout.DOOR_FIRST_SIDE : MazeFileLayout.DOOR_SECOND_SIDE));
+
+                if (PackedCoordinates.getRoomY(tile) == theRoomY) {
+                    grid.setTile(PackedCoordinates.getRoomX(tile), 0,
+                                 PackedCoordinates.getX(tile), PackedCoordinates.getY(tile),
+                                 getDoor(index).getDoors()[side]);
+                }
+            }
+        }
+
+        final Room[] page = new Room[myLayout.getMazeWidth()];
+        for (int roomX = 0; roomX < page.length; roomX++) {
+            Room.RoomType type = Room.RoomType.STANDARD;
+            if (roomX == getStartingRoomX() && theRoomY == getStartingRoomY()) {
+                type = Room.RoomType.START;
+            } else if (roomX == getExitRoomX() && theRoomY == getExitRoomY()) {
+                type = Room.RoomType.EXIT;
+            }
+
+            page[roomX] = new Room(type, grid, roomX, 0);
+        }
+
+        return page;
+    }
+
+    /**
+     * Gets the first door listed under a row in the row index.
+     *
+     * @param theRoomY Y-coordinate of the row, or the height for the door count.
+     * @return Index of the row's first door.
+     */
+    private long firstDoorOfRow(final int theRoomY) {
+        return myFile.getLong(myLayout.rowIndexOffset(Math.min(theRoomY, myLayout.getMazeHeight())));
+    }
+
+    /**
+     * Gets the live controller for a door, making it from its record if needed.
+     *
+     * @param theIndex Index of the door.
+     * @return DoorController for the door.
+     */
+    private DoorController getDoor(final long theIndex) {
+        DoorController door = myLiveDoors.get(theIndex);
+        if (door == null) {
+            final long offset = myLayout.doorOffset(theIndex);
+            final long first = myFile.getLong(offset + MazeFileLayout.DOOR_FIRST_SIDE);
+            final long second = myFile.getLong(offset + MazeFileLayout.DOOR_SECOND_SIDE);
+            final long key = myFile.getLong(offset + MazeFileLayout.DOOR_QUESTION_KEY);
+            final int state = (int) myFile.getLong(offset + MazeFileLayout.DOOR_STATE);
+
+            door = new DoorController(myResolver, key,
+                    PackedCoordinates.getRoomX(first), PackedCoordinates.getRoomY(first),
+                    PackedCoordinates.getRoomX(second), PackedCoordinates.getRoomY(second));
+            door.restoreState(DOOR_STATES[state]);
+
+            // Keep the file up to date first, then tell the game
+            door.addUpdateListener(new StateWriter(theIndex));
+            if (myQuestionHandler != null) {
+                door.setHandler(myQuestionHandler);
+            }
+            if (myDoorListener != null) {
+                door.addUpdateListener(myDoorListener);
+            }
+
+            myLiveDoors.put(theIndex, door);
+        }
+
+        return door;
+    }
+
+    /**
+     * Drops the live doors of a row which was paged out,
+     * unless the row on their other side is still paged in.
+     *
+     * @param theRoomY Y-coordinate of the row which was paged out.
+     */
+    private void releaseDoors(final int theRoomY) {
+        final Iterator<Map.Entry<Long, DoorController>> doors
+                = myLiveDoors.entrySet().iterator();
+        while (doors.hasNext()) {
+            final DoorController door = doors.next().getValue();
+            final int firstRow = door.getRoomY(0);
+            final int secondRow = door.getRoomY(1);
+
+            if ((firstRow == theRoomY || secondRow == theRoomY)
+                && !myPages.containsKey(firstRow) && !myPages.containsKey(secondRow)) {
+                doors.remove();
+            }
+        }
+    }
+
+    /**
+     * Saves this maze, including the question source if it can be saved.
+     *
+     * @param theOut ObjectOutputStream to write to.
+     * @throws NotSerializableException If this maze's file is temporary.
+     * @throws IOException See java.io.ObjectOutputStream.defaultWriteObject()
+     */
+    @Serial
+    private void writeObject(final ObjectOutputStream theOut) throws IOException {
+        if (myTemporary) {
+            throw new NotSerializableException(TEMPORARY_MAZE_MESSAGE);
+        }
+
+        myFile.force();
+        theOut.defaultWriteObject();
+
+        if (myQuestionSource instanceof Serializable) {
+            theOut.writeObject(myQuestionSource);
+        } else {
+            theOut.writeObject(null);
+        }
+    }
+
+    /**
+     * Loads this maze, reopening its file. Questions come from the source
+     * the game is being loaded with, see SaveController.loadGame(QuestionSource),
+     * or else the saved source, or the QuestionsFactory if there's neither.
+     *
+     * @param theIn ObjectInputStream to read from.
+     * @throws IOException If the maze's file couldn't be reopened.
+     * @throws ClassNotFoundException See java.io.ObjectInputStream.defaultReadObject()
+     */
+    @Serial
+    private void readObject(final ObjectInputStream theIn)
+            throws IOException, ClassNotFoundException {
+        theIn.defaultReadObject();
+
+        myQuestionSource = QuestionSourceInputStream.chooseSource(
+                theIn, (QuestionSource) theIn.readObject());
+        if (myQuestionSource == null) {
+            myQuestionSource = QuestionsFactory.getInstance();
+        }
+        myResolver = new QuestionResolver(myQuestionSource);
+
+        myFile = MappedFile.open(Path.of(myPath), true);
+        myLayout = MazeFileLayout.read(myFile);
+        preparePages();
+    }
+
+    /**
+     * Writes a door's state into its record whenever it changes.
+     */
+    private final class StateWriter implements DoorUpdateListener {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Index of the door.
+         */
+        private final long myIndex;
+
+        /**
+         * Constructs a StateWriter for a door.
+         *
+         * @param theIndex Index of the door.
+         */
+        private StateWriter(final long theIndex) {
+            myIndex = theIndex;
+        }
+
+        @Override
+        public void doUpdate(final DoorController theController) {
+            try {
+                myFile.putLong(myLayout.doorOffset(myIndex) + MazeFileLayout.DOOR_STATE,
+                               theController.getState().ordinal());
+            } catch (final UncheckedIOException exception) {
+                // Keep playing with the state in memory, it just won't survive paging out.
+                System.err.println(exception.getMessage());
+            }
+        }
+    }
+}
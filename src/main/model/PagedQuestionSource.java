@@ -0,0 +1,232 @@
+package model;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import javax.sql.DataSource;
+import model.interfaces.QuestionSource;
+
+/**
+ * Source of questions which loads them from the questions database a small
+ * batch at a time, instead of loading every question up front.
+ * <p>
+ * Opening the source only reads the smallest and largest rowid of the
+ * questions table. Whenever its buffer runs out, it picks BATCH_SIZE
+ * different rowids at random in that range and loads the questions with
+ * them in one query. Rowids of deleted questions are simply skipped, so
+ * starting up and memory use don't depend on how many questions there are.
+ * Tables with no more rowids than BATCH_SIZE are loaded whole each time,
+ * so a small bank still goes through every question before repeating.
+ * </p>
+ * <p>
+ * A source can be shared between threads, which take turns getting
+ * questions, so the buffer is never refilled while a question is taken.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class PagedQuestionSource implements QuestionSource {
+
+    /**
+     * Number of rowids picked for each batch.
+     */
+    static final int BATCH_SIZE = 64;
+
+    /**
+     * Number of batches in a row which can find no questions before giving up.
+     */
+    private static final int MAX_EMPTY_BATCHES = 16;
+
+    /**
+     * Error message for a database with no questions.
+     */
+    private static final String NO_QUESTIONS_MESSAGE = "There are no questions in the database!";
+
+    /**
+     * Error message for questions which couldn't be loaded.
+     */
+    private static final String LOAD_FAILED_MESSAGE
+            = "Unable to load questions from the database!";
+
+    /**
+     * Loader reading the questions database.
+     */
+    private final QuestionLoader myLoader;
+
+    /**
+     * Smallest rowid of the questions.
+     */
+    private final long myFirstRowid;
+
+    /**
+     * Largest rowid of the questions.
+     */
+    private final long myLastRowid;
+
+    /**
+     * Random number generator picking the rowids of each batch.
+     */
+    private final Random myRandom;
+
+    /**
+     * Questions loaded but not yet given out.
+     */
+    private final ArrayDeque<TriviaQuestion> myBuffer;
+
+    /**
+     * Constructs a source over a range of rowids.
+     *
+     * @param theLoader Loader reading the questions database.
+     * @param theRange Smallest then largest rowid of the questions.
+     * @param theRandom Random number generator picking the rowids of each batch.
+     */
+    private PagedQuestionSource(final QuestionLoader theLoader, final long[] theRange,
+                                final Random theRandom) {
+        myLoader = theLoader;
+        myFirstRowid = theRange[0];
+        myLastRowid = theRange[1];
+        myRandom = theRandom;
+        myBuffer = new ArrayDeque<>(BATCH_SIZE);
+    }
+
+    /**
+     * Opens a source reading the questions table of a data source.
+     *
+     * @param theDataSource Data source holding the questions table.
+     * @return Source of questions from theDataSource.
+     * @throws SQLException If the table couldn't be read, or has no questions.
+     */
+    public static PagedQuestionSource open(final DataSource theDataSource) throws SQLException {
+        return open(theDataSource, new Random());
+    }
+
+    /**
+     * Opens a source reading the questions table of a data source.
+     *
+     * @param theDataSource Data source holding the questions table.
+     * @param theRandom Random number generator picking the rowids of each batch.
+     * @return Source of questions from theDataSource.
+     * @throws SQLException If the table couldn't be read, or has no questions.
+     */
+    static PagedQuestionSource open(final DataSource theDataSource, final Random theRandom)
+            throws SQLException {
+        final QuestionLoader loader = new QuestionLoader(theDataSource);
+        final long[] range = loader.findRowidRange();
+        if (range == null) {
+            throw new SQLException(NO_QUESTIONS_MESSAGE);
+        }
+
+        return new PagedQuestionSource(loader, range, theRandom);
+    }
+
+    /**
+     * Gets a random question, loading another batch if none are left.
+     *
+     * @return Random trivia question.
+     * @throws IllegalStateException If no questions could be loaded.
+     */
+    @Override
+    public synchronized TriviaQuestion getQuestion() {
+        if (myBuffer.isEmpty()) {
+            refill();
+        }
+
+        return myBuffer.poll();
+    }
+
+    /**
+     * Gets the question for a key, which is the question at or after the
+     * rowid the key falls on, so always the same question for the same key
+     * while the database is unchanged.
+     *
+     * @param theKey Key identifying the question.
+     * @return Trivia question for the key.
+     * @throws IllegalStateException If no question could be loaded.
+     */
+    @Override
+    public synchronized TriviaQuestion getQuestion(final long theKey) {
+        final long rowid = myFirstRowid + Math.floorMod(theKey, getSpan());
+        try {
+            TriviaQuestion question = myLoader.loadAtOrAfter(rowid);
+            if (question == null) {
+                // Questions after the rowid were deleted, so wrap around
+                question = myLoader.loadAtOrAfter(myFirstRowid);
+            }
+            if (question == null) {
+                throw new IllegalStateException(NO_QUESTIONS_MESSAGE);
+            }
+
+            return question;
+        } catch (final SQLException caughtException) {
+            throw new IllegalStateException(LOAD_FAILED_MESSAGE, caughtException);
+        }
+    }
+
+    /**
+     * Loads batches of questions into the buffer until at least one is found.
+     *
+     * @throws IllegalStateException If no questions could be loaded.
+     */
+    private void refill() {
+        try {
+            for (int attempt = 0; attempt < MAX_EMPTY_BATCHES; attempt++) {
+                final List<TriviaQuestion> batch
+                        = new ArrayList<>(myLoader.loadRows(pickRowids()));
+                // Questions come back in rowid order
+                Collections.shuffle(batch, myRandom);
+                myBuffer.addAll(batch);
+                if (!myBuffer.isEmpty()) {
+                    return;
+                }
+            }
+        } catch (final SQLException caughtException) {
+            throw new IllegalStateException(LOAD_FAILED_MESSAGE, caughtException);
+        }
+
+        throw new IllegalStateException(NO_QUESTIONS_MESSAGE);
+    }
+
+    /**
+     * Picks the rowids of the next batch: every rowid if there are no more
+     * than BATCH_SIZE, or else BATCH_SIZE different ones at random.
+     *
+     * @return Rowids of the next batch.
+     */
+    private long[] pickRowids() {
+        final long span = getSpan();
+        if (span <= BATCH_SIZE) {
+            final long[] rowids = new long[(int) span];
+            for (int index = 0; index < rowids.length; index++) {
+                rowids[index] = myFirstRowid + index;
+            }
+            return rowids;
+        }
+
+        final Set<Long> picked = new HashSet<>();
+        final long[] rowids = new long[BATCH_SIZE];
+        int count = 0;
+        while (count < BATCH_SIZE) {
+            final long rowid = myFirstRowid + myRandom.nextLong(span);
+            if (picked.add(rowid)) {
+                rowids[count++] = rowid;
+            }
+        }
+
+        return rowids;
+    }
+
+    /**
+     * Gets the number of rowids from the smallest to the largest.
+     *
+     * @return Number of rowids in the range.
+     */
+    private long getSpan() {
+        return myLastRowid - myFirstRowid + 1;
+    }
+}
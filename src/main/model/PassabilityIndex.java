@@ -0,0 +1,406 @@
+package model;
+
+import java.io.Serial;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import model.enums.Direction;
+import model.enums.TileID;
+import model.interfaces.DoorUpdateListener;
+import model.interfaces.Tile;
+
+/**
+ * Precomputed index of which tiles in a maze can be walked onto, and which
+ * neighbors each room has, so movement checks and path searches are array
+ * lookups instead of calls through each Tile.
+ * <p>
+ * Every tile has one bit, set if it can be moved onto without anything else
+ * happening: empty tiles and open doors. Walls, missing tiles, and doors
+ * which are unanswered or locked are clear. A second bit per tile is set
+ * for doors which are still unanswered, since they can be passed after
+ * answering their question. Each room has a mask of the directions it has
+ * a neighbor in, and a mask of the directions it has an open door in.
+ * The index listens to every door in the maze, so door bits
+ * and masks stay up to date as doors are answered.
+ * </p>
+ * <p>
+ * Tiles are indexed row by row across the whole maze, as if it were one
+ * big grid of tiles, so every room needs to be the same size.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class PassabilityIndex implements DoorUpdateListener {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Every Direction, indexed by ordinal.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Width of the maze in rooms.
+     */
+    private final int myMazeWidth;
+
+    /**
+     * Height of the maze in rooms.
+     */
+    private final int myMazeHeight;
+
+    /**
+     * Width of each room in tiles.
+     */
+    private final int myRoomWidth;
+
+    /**
+     * Height of each room in tiles.
+     */
+    private final int myRoomHeight;
+
+    /**
+     * Width of the whole maze in tiles.
+     */
+    private final long myRowLength;
+
+    /**
+     * One bit per tile, set if the tile can be moved onto.
+     */
+    private final long[] myPassable;
+
+    /**
+     * One bit per tile, set if the tile is an unanswered door.
+     */
+    private final long[] myUnanswered;
+
+    /**
+     * For each room, a bit per Direction ordinal set if it has a neighbor that way.
+     */
+    private final byte[] myNeighbors;
+
+    /**
+     * For each room, a bit per Direction ordinal set if it has an open door that way.
+     */
+    private final byte[] myOpenings;
+
+    /**
+     * Tile indices of each door's two tiles.
+     */
+    private final Map<DoorController, long[]> myDoorTiles;
+
+    /**
+     * Builds the index for a maze, and starts listening to its doors.
+     *
+     * @param theMaze Maze to index, whose rooms are all the same size.
+     * @param theRoomWidth Width of each room in tiles.
+     * @param theRoomHeight Height of each room in tiles.
+     */
+    private PassabilityIndex(final Maze theMaze,
+                             final int theRoomWidth, final int theRoomHeight) {
+        myMazeWidth = theMaze.getWidth();
+        myMazeHeight = theMaze.getHeight();
+        myRoomWidth = theRoomWidth;
+        myRoomHeight = theRoomHeight;
+        myRowLength = (long) myMazeWidth * myRoomWidth;
+
+        final long tileCount = myRowLength * myMazeHeight * myRoomHeight;
+        myPassable = new long[(int) ((tileCount + Long.SIZE - 1) / Long.SIZE)];
+        myUnanswered = new long[myPassable.length];
+        myNeighbors = new byte[myMazeWidth * myMazeHeight];
+        myOpenings = new byte[myNeighbors.length];
+        myDoorTiles = new IdentityHashMap<>();
+
+        // Find every passable tile, and where each door tile is
+        final Map<Tile, Long> doorTiles = new IdentityHashMap<>();
+        for (int roomY = 0; roomY < myMazeHeight; roomY++) {
+            for (int roomX = 0; roomX < myMazeWidth; roomX++) {
+                final Room room = theMaze.getRoom(roomX, roomY);
+                for (int y = 0; y < myRoomHeight; y++) {
+                    for (int x = 0; x < myRoomWidth; x++) {
+                        final Tile tile = room.getTile(x, y);
+                        final long index = getTileIndex(roomX, roomY, x, y);
+                        if (tile instanceof DoorController.DoorTile) {
+                            doorTiles.put(tile, index);
+                        } else if (tile != null && tile.getTileID() == TileID.EMPTY) {
+                            setBit(myPassable, index, true);
+                        }
+                    }
+                }
+
+                byte neighbors = 0;
+                for (final Direction direction : DIRECTIONS) {
+                    if (theMaze.hasNeighbor(roomX, roomY, direction)) {
+                        neighbors |= (byte) (1 << direction.ordinal());
+                    }
+                }
+                myNeighbors[getRoomIndex(roomX, roomY)] = neighbors;
+            }
+        }
+
+        // Link up every door which was placed in the maze
+        for (final DoorController door : theMaze.getDoors()) {
+            final Long first = doorTiles.get(door.getDoors()[0]);
+            final Long second = doorTiles.get(door.getDoors()[1]);
+            if (first != null && second != null) {
+                myDoorTiles.put(door, new long[] {first, second});
+                door.addUpdateListener(this);
+                doUpdate(door);
+            }
+        }
+    }
+
+    /**
+     * Builds the index for a maze, and starts listening to its doors.
+     *
+     * @param theMaze Maze to index.
+     * @return Index for theMaze, or null if it has no door array
+     *          or its rooms aren't all the same size.
+     */
+    static PassabilityIndex build(final Maze theMaze) {
+        if (theMaze.getDoors() == null) {
+            return null;
+        }
+
+        final Room first = theMaze.getRoom(0, 0);
+        for (int roomY = 0; roomY < theMaze.getHeight(); roomY++) {
+            for (int roomX = 0; roomX < theMaze.getWidth(); roomX++) {
+                final Room room = theMaze.getRoom(roomX, roomY);
+                if (room == null
+                    || room.getWidth() != first.getWidth()
+                    || room.getHeight() != first.getHeight()) {
+                    return null;
+                }
+            }
+        }
+
+        return new PassabilityIndex(theMaze, first.getWidth(), first.getHeight());
+    }
+
+    /**
+     * Gets the index of a tile, counting row by row across the whole maze.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theX X-coordinate of the tile inside the room.
+     * @param theY Y-coordinate of the tile inside the room.
+     * @return Index of the tile.
+     */
+    public long getTileIndex(final int theRoomX, final int theRoomY,
+                             final int theX, final int theY) {
+        return ((long) theRoomY * myRoomHeight + theY) * myRowLength
+               + (long) theRoomX * myRoomWidth + theX;
+    }
+
+    /**
+     * Gets the width of each room in tiles.
+     *
+     * @return Width of each room.
+     */
+    public int getRoomWidth() {
+        return myRoomWidth;
+    }
+
+    /**
+     * Gets the height of each room in tiles.
+     *
+     * @return Height of each room.
+     */
+    public int getRoomHeight() {
+        return myRoomHeight;
+    }
+
+    /**
+     * Gets the width of the whole maze in tiles.
+     *
+     * @return Width in tiles.
+     */
+    public long getTilesWide() {
+        return myRowLength;
+    }
+
+    /**
+     * Gets the height of the whole maze in tiles.
+     *
+     * @return Height in tiles.
+     */
+    public long getTilesHigh() {
+        return (long) myMazeHeight * myRoomHeight;
+    }
+
+    /**
+     * Checks if a tile can be moved onto without anything else happening.
+     *
+     * @param thePacked Coordinates of the tile, packed by PackedCoordinates.
+     * @return True if the tile is passable, false otherwise.
+     */
+    public boolean isPassable(final long thePacked) {
+        return isPassableTile(getTileIndex(PackedCoordinates.getRoomX(thePacked),
+                                           PackedCoordinates.getRoomY(thePacked),
+                                           PackedCoordinates.getX(thePacked),
+                                           PackedCoordinates.getY(thePacked)));
+    }
+
+    /**
+     * Checks if a tile can be moved onto without anything else happening.
+     *
+     * @param theTileIndex Index of the tile, from getTileIndex().
+     * @return True if the tile is passable, false otherwise.
+     */
+    public boolean isPassableTile(final long theTileIndex) {
+        return (myPassable[(int) (theTileIndex >>> 6)] & (1L << theTileIndex)) != 0;
+    }
+
+    /**
+     * Checks if a tile is a door whose question hasn't been answered yet.
+     *
+     * @param theTileIndex Index of the tile, from getTileIndex().
+     * @return True if the tile is an unanswered door, false otherwise.
+     */
+    public boolean isUnansweredDoorTile(final long theTileIndex) {
+        return (myUnanswered[(int) (theTileIndex >>> 6)] & (1L << theTileIndex)) != 0;
+    }
+
+    /**
+     * Checks if a room has a neighboring room in a certain direction.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theDirection Direction to check.
+     * @return True if there's a neighbor in theDirection, false otherwise.
+     */
+    public boolean hasNeighbor(final int theRoomX, final int theRoomY,
+                               final Direction theDirection) {
+        return (myNeighbors[getRoomIndex(theRoomX, theRoomY)]
+                & (1 << theDirection.ordinal())) != 0;
+    }
+
+    /**
+     * Checks if a room has an open door leading to its neighbor in a certain direction.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theDirection Direction to check.
+     * @return True if there's an open door in theDirection, false otherwise.
+     */
+    public boolean hasOpenDoor(final int theRoomX, final int theRoomY,
+                               final Direction theDirection) {
+        return (myOpenings[getRoomIndex(theRoomX, theRoomY)]
+                & (1 << theDirection.ordinal())) != 0;
+    }
+
+    /**
+     * Gets the tile indices of a door's two tiles.
+     *
+     * @param theController Door controller to look up.
+     * @return Tile indices of the first and second door, or null if
+     *          theController's doors weren't both placed in the maze.
+     */
+    long[] getDoorTiles(final DoorController theController) {
+        return myDoorTiles.get(theController);
+    }
+
+    @Override
+    public void doUpdate(final DoorController theController) {
+        final long[] tiles = myDoorTiles.get(theController);
+        if (tiles == null) {
+            return;
+        }
+
+        final boolean open = theController.getState() == DoorController.DoorState.OPEN;
+        final boolean unanswered
+                = theController.getState() == DoorController.DoorState.UNANSWERED;
+        for (final long tile : tiles) {
+            setBit(myPassable, tile, open);
+            setBit(myUnanswered, tile, unanswered);
+        }
+
+        // Doors between neighboring rooms also open the way between them
+        final int firstX = (int) (tiles[0] % myRowLength / myRoomWidth);
+        final int firstY = (int) (tiles[0] / myRowLength / myRoomHeight);
+        final int secondX = (int) (tiles[1] % myRowLength / myRoomWidth);
+        final int secondY = (int) (tiles[1] / myRowLength / myRoomHeight);
+        final Direction direction = directionBetween(firstX, firstY, secondX, secondY);
+        if (direction != null) {
+            setOpening(firstX, firstY, direction, open);
+            setOpening(secondX, secondY, directionBetween(secondX, secondY, firstX, firstY),
+                       open);
+        }
+    }
+
+    /**
+     * Sets or clears a tile's bit in a bitset.
+     *
+     * @param theBits Bitset to change.
+     * @param theTileIndex Index of the tile.
+     * @param theValue True to set the bit, false to clear it.
+     */
+    private static void setBit(final long[] theBits, final long theTileIndex,
+                               final boolean theValue) {
+        final int word = (int) (theTileIndex >>> 6);
+        if (theValue) {
+            theBits[word] |= 1L << theTileIndex;
+        } else {
+            theBits[word] &= ~(1L << theTileIndex);
+        }
+    }
+
+    /**
+     * Sets or clears a room's open door bit for a direction.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theDirection Direction of the door.
+     * @param theOpen True if the door is open.
+     */
+    private void setOpening(final int theRoomX, final int theRoomY,
+                            final Direction theDirection, final boolean theOpen) {
+        final int room = getRoomIndex(theRoomX, theRoomY);
+        if (theOpen) {
+            myOpenings[room] |= (byte) (1 << theDirection.ordinal());
+        } else {
+            myOpenings[room] &= (byte) ~(1 << theDirection.ordinal());
+        }
+    }
+
+    /**
+     * Gets the index of a room in the room masks.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Index of the room.
+     */
+    private int getRoomIndex(final int theRoomX, final int theRoomY) {
+        return theRoomY * myMazeWidth + theRoomX;
+    }
+
+    /**
+     * Gets the direction from one room to a neighboring room.
+     *
+     * @param theFromX X-coordinate of the first room.
+     * @param theFromY Y-coordinate of the first room.
+     * @param theToX X-coordinate of the second room.
+     * @param theToY Y-coordinate of the second room.
+     * @return Direction from the first room to the second, or null if they aren't neighbors.
+     */
+    static Direction directionBetween(final int theFromX, final int theFromY,
+                                      final int theToX, final int theToY) {
+        final int deltaX = theToX - theFromX;
+        final int deltaY = theToY - theFromY;
+
+        final Direction direction;
+        if (deltaX == 0 && deltaY == 1) {
+            direction = Direction.UP;
+        } else if (deltaX == 0 && deltaY == -1) {
+            direction = Direction.DOWN;
+        } else if (deltaX == 1 && deltaY == 0) {
+            direction = Direction.RIGHT;
+        } else if (deltaX == -1 && deltaY == 0) {
+            direction = Direction.LEFT;
+        } else {
+            direction = null;
+        }
+
+        return direction;
+    }
+}
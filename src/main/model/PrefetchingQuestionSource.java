@@ -0,0 +1,350 @@
+package model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import model.interfaces.QuestionSource;
+
+/**
+ * QuestionSource which keeps a buffer of questions filled from another
+ * source on a background thread, so getting a question is usually just
+ * taking it out of the buffer rather than waiting on the database.
+ * <p>
+ * The buffer is a fixed size ring with one thread putting questions in and
+ * one taking them out, which only needs ordered reads and writes of its two
+ * positions rather than locks. Threads getting questions take turns, so any
+ * number of them can share a source. The background thread stays parked
+ * until taking a question leaves the buffer half empty or less, then tops it
+ * up with getQuestions(), CHUNK_SIZE questions at a time. Getting a question
+ * only waits when the buffer has run dry. If the other source fails, getting
+ * a question from an empty buffer reports the failure, and the background
+ * thread tries again after waiting longer each time, so a passing failure
+ * doesn't stop the buffer filling for good.
+ * </p>
+ * <p>
+ * Keyed questions aren't buffered, and are fetched from the other source
+ * straight away, taking turns with the background thread since the other
+ * source only ever sees one thread at a time. Fetching in chunks means a
+ * keyed question waits on at most one chunk rather than a whole top up.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class PrefetchingQuestionSource implements QuestionSource, AutoCloseable {
+
+    /**
+     * Number of questions buffered by default.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Most questions fetched from the other source at once.
+     */
+    static final int CHUNK_SIZE = 64;
+
+    /**
+     * Time to wait before trying again after the other source first fails, in nanoseconds.
+     */
+    private static final long FIRST_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Longest time to wait before trying again after the other source fails, in nanoseconds.
+     */
+    private static final long MAX_RETRY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Longest time close() waits for the background thread each time, in milliseconds.
+     */
+    static final long CLOSE_TIMEOUT_MILLIS = 500;
+
+    /**
+     * Error message for a capacity which isn't positive.
+     */
+    private static final String CAPACITY_MESSAGE = "Capacity must be positive: ";
+
+    /**
+     * Error message for getting a question after closing.
+     */
+    private static final String CLOSED_MESSAGE = "Question source has been closed!";
+
+    /**
+     * Error message for questions the other source failed to give.
+     */
+    private static final String FETCH_FAILED_MESSAGE = "Unable to prefetch questions!";
+
+    /**
+     * Source the questions come from.
+     */
+    private final QuestionSource mySource;
+
+    /**
+     * Lock held whenever mySource is used.
+     */
+    private final Object mySourceLock;
+
+    /**
+     * Questions in the buffer, by position modulo its length.
+     */
+    private final AtomicReferenceArray<TriviaQuestion> mySlots;
+
+    /**
+     * Mask taking a position to its slot, one less than the capacity.
+     */
+    private final int myMask;
+
+    /**
+     * Position of the next question to take, only moved by the taking thread.
+     */
+    private final AtomicLong myHead;
+
+    /**
+     * Position of the next question to put, only moved by the background thread.
+     */
+    private final AtomicLong myTail;
+
+    /**
+     * Background thread filling the buffer.
+     */
+    private final Thread myFiller;
+
+    /**
+     * Thread waiting for a question, or null if none is.
+     */
+    private volatile Thread myWaiting;
+
+    /**
+     * Why the other source last failed, or null if its last fetch succeeded.
+     */
+    private volatile RuntimeException myFailure;
+
+    /**
+     * Whether the source has been closed.
+     */
+    private volatile boolean myClosed;
+
+    /**
+     * Constructs a source buffering DEFAULT_CAPACITY questions from another,
+     * and starts filling the buffer.
+     *
+     * @param theSource Source to take questions from, only used by one thread at a time.
+     */
+    public PrefetchingQuestionSource(final QuestionSource theSource) {
+        this(theSource, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a source buffering questions from another, and starts filling the buffer.
+     *
+     * @param theSource Source to take questions from, only used by one thread at a time.
+     * @param theCapacity Least number of questions to buffer, rounded up to a power of two.
+     * @throws IllegalArgumentException If theCapacity isn't positive.
+     */
+    public PrefetchingQuestionSource(final QuestionSource theSource, final int theCapacity) {
+        if (theCapacity <= 0) {
+            throw new IllegalArgumentException(CAPACITY_MESSAGE + theCapacity);
+        }
+
+        mySource = theSource;
+        mySourceLock = new Object();
+        final int capacity = Integer.highestOneBit(Math.max(1, theCapacity - 1)) << 1;
+        mySlots = new AtomicReferenceArray<>(capacity);
+        myMask = capacity - 1;
+        myHead = new AtomicLong();
+        myTail = new AtomicLong();
+
+        myFiller = new Thread(this::fill, "question-prefetch");
+        myFiller.setDaemon(true);
+        myFiller.start();
+    }
+
+    /**
+     * Gets the next buffered question, waiting for one if the buffer is empty.
+     *
+     * @return Next trivia question.
+     * @throws IllegalStateException If the source is closed, or the buffer
+     *          is empty and the other source failed.
+     */
+    @Override
+    public synchronized TriviaQuestion getQuestion() {
+        return take();
+    }
+
+    /**
+     * Gets the next buffered questions, waiting for more whenever the buffer is empty.
+     *
+     * @param theCount Number of questions to get.
+     * @return Array of theCount trivia questions.
+     * @throws IllegalStateException If the source is closed, or the buffer
+     *          is empty and the other source failed.
+     */
+    @Override
+    public synchronized TriviaQuestion[] getQuestions(final int theCount) {
+        final TriviaQuestion[] questions = new TriviaQuestion[theCount];
+        for (int index = 0; index < theCount; index++) {
+            questions[index] = take();
+        }
+
+        return questions;
+    }
+
+    /**
+     * Gets the question for a key straight from the other source.
+     *
+     * @param theKey Key identifying the question.
+     * @return Trivia question for the key.
+     */
+    @Override
+    public TriviaQuestion getQuestion(final long theKey) {
+        synchronized (mySourceLock) {
+            return mySource.getQuestion(theKey);
+        }
+    }
+
+    /**
+     * Gets the number of questions in the buffer.
+     *
+     * @return Number of buffered questions.
+     */
+    public int getBufferedCount() {
+        return (int) (myTail.get() - myHead.get());
+    }
+
+    /**
+     * Gets the number of questions the buffer can hold.
+     *
+     * @return Capacity of the buffer.
+     */
+    public int getCapacity() {
+        return mySlots.length();
+    }
+
+    /**
+     * Gets the state of the background thread, so tests can check it's parked.
+     *
+     * @return State of the thread filling the buffer.
+     */
+    Thread.State getFillerState() {
+        return myFiller.getState();
+    }
+
+    /**
+     * Stops filling the buffer, and waits a little while for the background
+     * thread to finish. If it's still fetching from the other source after
+     * that, it's interrupted and given a little longer, and otherwise left
+     * to finish on its own since it won't keep the program running.
+     */
+    @Override
+    public void close() {
+        myClosed = true;
+        LockSupport.unpark(myFiller);
+        LockSupport.unpark(myWaiting);
+        try {
+            myFiller.join(CLOSE_TIMEOUT_MILLIS);
+            if (myFiller.isAlive()) {
+                myFiller.interrupt();
+                myFiller.join(CLOSE_TIMEOUT_MILLIS);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes the next question out of the buffer, waiting for one if it's empty.
+     *
+     * @return Next trivia question.
+     */
+    private TriviaQuestion take() {
+        final long head = myHead.get();
+        while (myTail.get() == head) {
+            if (myFailure != null) {
+                throw new IllegalStateException(FETCH_FAILED_MESSAGE, myFailure);
+            }
+            if (myClosed) {
+                throw new IllegalStateException(CLOSED_MESSAGE);
+            }
+
+            // Check again after announcing the wait, so a put in between isn't missed
+            myWaiting = Thread.currentThread();
+            LockSupport.unpark(myFiller);
+            if (myTail.get() == head && !myClosed) {
+                LockSupport.park(this);
+            }
+            myWaiting = null;
+        }
+
+        final int slot = (int) head & myMask;
+        final TriviaQuestion question = mySlots.get(slot);
+        mySlots.lazySet(slot, null);
+        myHead.lazySet(head + 1);
+
+        if (myTail.get() - head - 1 <= getCapacity() / 2) {
+            // Half empty or less, so wake the background thread to top it up
+            LockSupport.unpark(myFiller);
+        }
+
+        return question;
+    }
+
+    /**
+     * Keeps the buffer filled until closed, on the background thread.
+     */
+    private void fill() {
+        final int capacity = getCapacity();
+        final int lowWater = capacity / 2;
+        long retryNanos = FIRST_RETRY_NANOS;
+        boolean toppingUp = false;
+
+        while (!myClosed) {
+            final long tail = myTail.get();
+            final int free = capacity - (int) (tail - myHead.get());
+            if (free == 0 || !toppingUp && capacity - free > lowWater) {
+                // Full, or still over half full, so wait to be woken by a take or close
+                toppingUp = false;
+                LockSupport.park(this);
+                continue;
+            }
+            toppingUp = true;
+
+            final TriviaQuestion[] questions;
+            try {
+                // Only a chunk at a time, so keyed questions aren't kept waiting long
+                synchronized (mySourceLock) {
+                    questions = mySource.getQuestions(Math.min(free, CHUNK_SIZE));
+                }
+            } catch (final RuntimeException exception) {
+                myFailure = exception;
+                LockSupport.unpark(myWaiting);
+                backOff(retryNanos);
+                retryNanos = Math.min(retryNanos * 2, MAX_RETRY_NANOS);
+                continue;
+            }
+            myFailure = null;
+            retryNanos = FIRST_RETRY_NANOS;
+
+            for (int index = 0; index < questions.length; index++) {
+                mySlots.lazySet((int) (tail + index) & myMask, questions[index]);
+            }
+            // A full write, so a waiting thread announced before this is seen below
+            myTail.set(tail + questions.length);
+            LockSupport.unpark(myWaiting);
+        }
+    }
+
+    /**
+     * Waits before trying the other source again, on the background thread.
+     * Takes waking it early don't cut the wait short, only closing does.
+     *
+     * @param theNanos Time to wait, in nanoseconds.
+     */
+    private void backOff(final long theNanos) {
+        final long deadline = System.nanoTime() + theNanos;
+        long remaining = theNanos;
+        while (remaining > 0 && !myClosed) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+
+/**
+ * Loads trivia questions out of the questions database.
+ * <p>
+ * Queries only select the columns a question needs, and each column's index
+ * is looked up once per query rather than by name for every row. Rows are
+ * streamed forward-only in batches of FETCH_SIZE, and each row's type is
+ * mapped to its QuestionType through a table built once, so loading a large
+ * question bank is mostly the cost of reading its text.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class QuestionLoader {
+
+    /**
+     * Number of rows fetched from the database at a time.
+     */
+    static final int FETCH_SIZE = 1024;
+
+    /**
+     * Name of the field in the database for the question portion of a question.
+     */
+    private static final String DB_QUESTION_FIELD = "question_text";
+
+    /**
+     * Name of the field in the database for the type portion of a question.
+     */
+    private static final String DB_TYPE_FIELD = "type";
+
+    /**
+     * Name of the field in the database for the answer portion of a question.
+     */
+    private static final String DB_ANSWER_FIELD = "answer_text";
+
+    /**
+     * Query to get every question from the database, with only the columns needed.
+     */
+    private static final String LOAD_QUESTIONS_QUERY = "SELECT " + DB_QUESTION_FIELD + ", "
+            + DB_TYPE_FIELD + ", " + DB_ANSWER_FIELD + " FROM questions";
+
+    /**
+     * Query to get the smallest and largest rowid of the questions.
+     */
+    private static final String ROWID_RANGE_QUERY
+            = "SELECT MIN(rowid), MAX(rowid) FROM questions";
+
+    /**
+     * Query to get some questions by rowid, missing the placeholder for each rowid.
+     */
+    private static final String LOAD_ROWS_QUERY = LOAD_QUESTIONS_QUERY + " WHERE rowid IN (";
+
+    /**
+     * Query to get the first question at or after a rowid.
+     */
+    private static final String LOAD_AT_OR_AFTER_QUERY = LOAD_QUESTIONS_QUERY
+            + " WHERE rowid >= ? ORDER BY rowid LIMIT 1";
+
+    /**
+     * Error message for a question with a type which doesn't exist.
+     */
+    private static final String UNKNOWN_TYPE_MESSAGE = "Unknown question type: ";
+
+    /**
+     * Every QuestionType by name.
+     */
+    private static final Map<String, TriviaQuestion.QuestionType> TYPES = new HashMap<>();
+
+    static {
+        for (final TriviaQuestion.QuestionType type : TriviaQuestion.QuestionType.values()) {
+            TYPES.put(type.name(), type);
+        }
+    }
+
+    /**
+     * Data source to load questions from.
+     */
+    private final DataSource myDataSource;
+
+    /**
+     * Constructs a loader reading from a data source.
+     *
+     * @param theDataSource Data source holding the questions table.
+     */
+    public QuestionLoader(final DataSource theDataSource) {
+        myDataSource = theDataSource;
+    }
+
+    /**
+     * Loads every question in the database into a list.
+     *
+     * @return List of TriviaQuestions, one for each row in the database.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    public List<TriviaQuestion> loadAll() throws SQLException {
+        final List<TriviaQuestion> questions = new ArrayList<>();
+        forEach(questions::add);
+        return questions;
+    }
+
+    /**
+     * Streams every question in the database to an action, one row at a time.
+     *
+     * @param theAction Action to perform on each question.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    public void forEach(final Consumer<TriviaQuestion> theAction) throws SQLException {
+        try (Connection connection = myDataSource.getConnection();
+             PreparedStatement statement = prepare(connection, LOAD_QUESTIONS_QUERY);
+             ResultSet results = statement.executeQuery()) {
+
+            final Columns columns = new Columns(results);
+            while (results.next()) {
+                theAction.accept(columns.read(results));
+            }
+        }
+    }
+
+    /**
+     * Finds the smallest and largest rowid of the questions, which SQLite
+     * reads from the ends of the table without scanning it.
+     *
+     * @return Array of the smallest then largest rowid, or null if there are no questions.
+     * @throws SQLException If the range couldn't be found.
+     */
+    public long[] findRowidRange() throws SQLException {
+        try (Connection connection = myDataSource.getConnection();
+             PreparedStatement statement = prepare(connection, ROWID_RANGE_QUERY);
+             ResultSet results = statement.executeQuery()) {
+
+            if (!results.next()) {
+                return null;
+            }
+            final long first = results.getLong(1);
+            if (results.wasNull()) {
+                return null;
+            }
+
+            return new long[] {first, results.getLong(2)};
+        }
+    }
+
+    /**
+     * Loads the questions with some rowids, in rowid order. Rowids with no
+     * question are skipped.
+     *
+     * @param theRowids Rowids of the questions to load.
+     * @return List of the questions found.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    public List<TriviaQuestion> loadRows(final long[] theRowids) throws SQLException {
+        final List<TriviaQuestion> questions = new ArrayList<>(theRowids.length);
+        if (theRowids.length == 0) {
+            return questions;
+        }
+
+        final StringBuilder query = new StringBuilder(LOAD_ROWS_QUERY);
+        for (int index = 0; index < theRowids.length; index++) {
+            query.append(index == 0 ? "?" : ", ?");
+        }
+        query.append(')');
+
+        try (Connection connection = myDataSource.getConnection();
+             PreparedStatement statement = prepare(connection, query.toString())) {
+
+            for (int index = 0; index < theRowids.length; index++) {
+                statement.setLong(index + 1, theRowids[index]);
+            }
+            try (ResultSet results = statement.executeQuery()) {
+                final Columns columns = new Columns(results);
+                while (results.next()) {
+                    questions.add(columns.read(results));
+                }
+            }
+        }
+
+        return questions;
+    }
+
+    /**
+     * Loads the question with the smallest rowid at or after a rowid.
+     *
+     * @param theRowid Rowid to start looking from.
+     * @return The question found, or null if there's none at or after theRowid.
+     * @throws SQLException If the question couldn't be loaded.
+     */
+    public TriviaQuestion loadAtOrAfter(final long theRowid) throws SQLException {
+        try (Connection connection = myDataSource.getConnection();
+             PreparedStatement statement = prepare(connection, LOAD_AT_OR_AFTER_QUERY)) {
+
+            statement.setLong(1, theRowid);
+            try (ResultSet results = statement.executeQuery()) {
+                return results.next() ? new Columns(results).read(results) : null;
+            }
+        }
+    }
+
+    /**
+     * Prepares a forward-only, read-only query which fetches FETCH_SIZE rows at a time.
+     *
+     * @param theConnection Connection to prepare the query on.
+     * @param theQuery SQL of the query.
+     * @return Prepared query.
+     * @throws SQLException If the query couldn't be prepared.
+     */
+    private static PreparedStatement prepare(final Connection theConnection,
+                                             final String theQuery) throws SQLException {
+        final PreparedStatement statement = theConnection.prepareStatement(theQuery,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(FETCH_SIZE);
+        return statement;
+    }
+
+    /**
+     * Gets the QuestionType with a name.
+     *
+     * @param theName Name of the type.
+     * @return QuestionType with that name.
+     * @throws SQLException If there's no type with that name.
+     */
+    private static TriviaQuestion.QuestionType parseType(final String theName)
+            throws SQLException {
+        final TriviaQuestion.QuestionType type = TYPES.get(theName);
+        if (type == null) {
+            throw new SQLException(UNKNOWN_TYPE_MESSAGE + theName);
+        }
+
+        return type;
+    }
+
+    /**
+     * Indices of a question's columns in a set of results, looked up once.
+     */
+    private static final class Columns {
+
+        /**
+         * Index of the question text column.
+         */
+        private final int myQuestion;
+
+        /**
+         * Index of the type column.
+         */
+        private final int myType;
+
+        /**
+         * Index of the answer text column.
+         */
+        private final int myAnswer;
+
+        /**
+         * Looks up the question's columns in a set of results.
+         *
+         * @param theResults Results holding the question's columns.
+         * @throws SQLException If a column is missing.
+         */
+        Columns(final ResultSet theResults) throws SQLException {
+            myQuestion = theResults.findColumn(DB_QUESTION_FIELD);
+            myType = theResults.findColumn(DB_TYPE_FIELD);
+            myAnswer = theResults.findColumn(DB_ANSWER_FIELD);
+        }
+
+        /**
+         * Loads a TriviaQuestion from the current row of the results.
+         *
+         * @param theResults Results to load from.
+         * @return TriviaQuestion made from the row's contents.
+         * @throws SQLException If an error occurred in loading the question data.
+         */
+        TriviaQuestion read(final ResultSet theResults) throws SQLException {
+            return new TriviaQuestion(theResults.getString(myQuestion),
+                                      theResults.getString(myAnswer),
+                                      parseType(theResults.getString(myType)));
+        }
+    }
+}
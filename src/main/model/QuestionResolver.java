@@ -0,0 +1,149 @@
+package model;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import model.interfaces.QuestionSource;
+
+/**
+ * Looks up the questions of doors which were made without one, the first
+ * time each door's question is needed.
+ * <p>
+ * Doors made with a key get the question for that key, and keyed
+ * questions are kept in a small cache of the most recently used ones, so
+ * doors sharing a key and copies of a door don't fetch it again. Doors made
+ * without a key just get the next question from the source.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class QuestionResolver implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Most keyed questions kept in the cache.
+     */
+    static final int CACHE_SIZE = 256;
+
+    /**
+     * Source questions are looked up in. Transient since it's only
+     * saved if it can be, see writeObject().
+     */
+    private transient QuestionSource mySource;
+
+    /**
+     * Recently looked up questions by key, in least recently used order.
+     * Transient since it's rebuilt as questions are looked up again.
+     */
+    private transient Map<Long, TriviaQuestion> myCache;
+
+    /**
+     * Constructs a resolver looking up questions in a source.
+     *
+     * @param theSource Source to look up questions in.
+     */
+    public QuestionResolver(final QuestionSource theSource) {
+        mySource = theSource;
+        myCache = makeCache();
+    }
+
+    /**
+     * Gets the question for a key, from the cache if it was looked up recently.
+     *
+     * @param theKey Key identifying the question.
+     * @return Trivia question for the key.
+     */
+    public TriviaQuestion resolve(final long theKey) {
+        TriviaQuestion question = myCache.get(theKey);
+        if (question == null) {
+            question = getSource().getQuestion(theKey);
+            myCache.put(theKey, question);
+        }
+
+        return question;
+    }
+
+    /**
+     * Gets a new question for a door without a key.
+     *
+     * @return New trivia question.
+     */
+    public TriviaQuestion resolve() {
+        return getSource().getQuestion();
+    }
+
+    /**
+     * Gets the source questions are looked up in. A loaded resolver uses the
+     * source the game was loaded with, or else the one it was saved with,
+     * and falls back to the QuestionsFactory only once a question is needed
+     * if it has neither.
+     *
+     * @return Source to look up questions in.
+     */
+    private QuestionSource getSource() {
+        if (mySource == null) {
+            mySource = QuestionsFactory.getInstance();
+        }
+
+        return mySource;
+    }
+
+    /**
+     * Makes an empty cache which drops its least recently used question when full.
+     *
+     * @return New cache of questions by key.
+     */
+    private static Map<Long, TriviaQuestion> makeCache() {
+        return new LinkedHashMap<>(CACHE_SIZE * 2, 0.75f, true) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<Long, TriviaQuestion> theEldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+    }
+
+    /**
+     * Saves this resolver, including the question source if it can be saved.
+     *
+     * @param theOut ObjectOutputStream to write to.
+     * @throws IOException See java.io.ObjectOutputStream.defaultWriteObject()
+     */
+    @Serial
+    private void writeObject(final ObjectOutputStream theOut) throws IOException {
+        theOut.defaultWriteObject();
+
+        if (mySource instanceof Serializable) {
+            theOut.writeObject(mySource);
+        } else {
+            theOut.writeObject(null);
+        }
+    }
+
+    /**
+     * Loads this resolver, using the source the game is being loaded with,
+     * see SaveController.loadGame(QuestionSource), or else the saved source.
+     *
+     * @param theIn ObjectInputStream to read from.
+     * @throws IOException See java.io.ObjectInputStream.defaultReadObject()
+     * @throws ClassNotFoundException See java.io.ObjectInputStream.defaultReadObject()
+     */
+    @Serial
+    private void readObject(final ObjectInputStream theIn)
+            throws IOException, ClassNotFoundException {
+        theIn.defaultReadObject();
+
+        mySource = QuestionSourceInputStream.chooseSource(
+                theIn, (QuestionSource) theIn.readObject());
+        myCache = makeCache();
+    }
+}
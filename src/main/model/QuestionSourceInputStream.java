@@ -0,0 +1,54 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import model.interfaces.QuestionSource;
+
+/**
+ * ObjectInputStream for loading saved games, which carries the QuestionSource
+ * the running game uses so doors loaded from it look up their questions in
+ * that source rather than whichever one they were saved with.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class QuestionSourceInputStream extends ObjectInputStream {
+
+    /**
+     * Source loaded doors should look up their questions in, or null to keep their own.
+     */
+    private final QuestionSource myQuestionSource;
+
+    /**
+     * Constructs a stream reading a saved game.
+     *
+     * @param theIn Stream to read the saved game from.
+     * @param theQuestionSource Source loaded doors should look up their
+     *                          questions in, or null to keep their own.
+     * @throws IOException See java.io.ObjectInputStream(InputStream)
+     */
+    QuestionSourceInputStream(final InputStream theIn, final QuestionSource theQuestionSource)
+            throws IOException {
+        super(theIn);
+        myQuestionSource = theQuestionSource;
+    }
+
+    /**
+     * Picks the source something being loaded should look up questions in:
+     * the one the stream carries if there is one, or else the saved one.
+     *
+     * @param theIn Stream the object is being loaded from.
+     * @param theSaved Source saved with the object, or null if it couldn't be saved.
+     * @return Source to look up questions in, or null if there's neither.
+     */
+    static QuestionSource chooseSource(final ObjectInputStream theIn,
+                                       final QuestionSource theSaved) {
+        if (theIn instanceof QuestionSourceInputStream stream
+            && stream.myQuestionSource != null) {
+            return stream.myQuestionSource;
+        }
+
+        return theSaved;
+    }
+}
@@ -1,20 +1,17 @@
 package model;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import model.interfaces.QuestionSource;
 import org.sqlite.SQLiteDataSource;
 
 /**
  * Manages interactions with the questions SQLite Database.
+ * Questions are loaded a small batch at a time as they're needed,
+ * so starting up doesn't wait for the whole database to load. The single
+ * instance can be shared between threads, which take turns getting questions.
  *
  * @author Shane Menzies
- * @version 11/2/24
+ * @version 10/17/26
  */
 public final class QuestionsFactory implements QuestionSource {
 
@@ -23,26 +20,6 @@ public final class QuestionsFactory implements QuestionSource {
      */
     private static final String DATABASE_FILE = "resources/questions.db";
 
-    /**
-     * Query to get all the questions from the database.
-     */
-    private static final String LOAD_QUESTIONS_QUERY = "SELECT * FROM questions";
-
-    /**
-     * Name of the field in the database for the question portion of a question.
-     */
-    private static final String DB_QUESTION_FIELD = "question_text";
-
-    /**
-     * Name of the field in the database for the type portion of a question.
-     */
-    private static final String DB_TYPE_FIELD = "type";
-
-    /**
-     * Name of the field in the database for the answer portion of a question.
-     */
-    private static final String DB_ANSWER_FIELD = "answer_text";
-
     /**
      * Error message unable to retrieve questions from the SQL Database.
      */
@@ -56,23 +33,15 @@ public final class QuestionsFactory implements QuestionSource {
     private static final QuestionsFactory UNIQUE_INSTANCE = new QuestionsFactory();
 
     /**
-     * List of trivia questions from database.
+     * Source loading questions from the database a batch at a time.
      */
-    private final List<TriviaQuestion> myQuestions;
-
-    /**
-     * Index for tracking position in questions array.
-     */
-    private int myIndex;
+    private final PagedQuestionSource mySource;
 
     /**
      * Private constructor to prevent external instantiation.
      */
     private QuestionsFactory() {
-        final SQLiteDataSource dataSource = establishDataSource();
-        myQuestions = loadQuestionsFromDatabase(dataSource);
-        shuffleQuestions();
-        myIndex = 0;
+        mySource = openSource(establishDataSource());
     }
 
     /**
@@ -92,16 +61,19 @@ public final class QuestionsFactory implements QuestionSource {
      */
     @Override
     public TriviaQuestion getQuestion() {
-        final TriviaQuestion question = myQuestions.get(myIndex);
-        myIndex++;
-
-        // Reshuffle questions if end reached
-        if (myIndex >= myQuestions.size()) {
-            shuffleQuestions();
-            myIndex = 0;
-        }
+        return mySource.getQuestion();
+    }
 
-        return question;
+    /**
+     * Gets the question for a key, which is always the same question
+     * for the same key while the database is unchanged.
+     *
+     * @param theKey Key identifying the question.
+     * @return Trivia question for the key.
+     */
+    @Override
+    public TriviaQuestion getQuestion(final long theKey) {
+        return mySource.getQuestion(theKey);
     }
 
     /**
@@ -116,60 +88,23 @@ public final class QuestionsFactory implements QuestionSource {
     }
 
     /**
-     * Loads a TriviaQuestion from a row of SQL query results.
-     *
-     * @param theResults Results to load from.
-     * @return TriviaQuestion made from the row's contents.
-     * @throws SQLException If an error occurred in loading the question data.
-     */
-    private static TriviaQuestion loadQuestion(final ResultSet theResults)
-            throws SQLException {
-        final String question = theResults.getString(DB_QUESTION_FIELD);
-        final String typeString = theResults.getString(DB_TYPE_FIELD);
-        final String answer = theResults.getString(DB_ANSWER_FIELD);
-
-        final TriviaQuestion.QuestionType type
-                = TriviaQuestion.QuestionType.valueOf(typeString);
-
-        return new TriviaQuestion(question, answer, type);
-    }
-
-    /**
-     * Loads all the questions from the provided data source
-     * into a list.
+     * Opens a paged source of questions from the provided data source.
      *
      * @param theDataSource Data source to load the question data from.
-     * @return List of TriviaQuestions, one for each row in the database.
+     * @return Source of the questions in the database.
      */
-    private static List<TriviaQuestion> loadQuestionsFromDatabase(
-            final SQLiteDataSource theDataSource) {
-        final ArrayList<TriviaQuestion> tempQuestions = new ArrayList<>();
-
-        try (Connection dbConnection = theDataSource.getConnection();
-             Statement dbStatement = dbConnection.createStatement()) {
-
-            // Perform query
-            final ResultSet result = dbStatement.executeQuery(LOAD_QUESTIONS_QUERY);
-
-            // Parse results into TriviaQuestion objects
-            while (result.next()) {
-                tempQuestions.add(loadQuestion(result));
-            }
+    private static PagedQuestionSource openSource(final SQLiteDataSource theDataSource) {
+        PagedQuestionSource source = null;
 
+        try {
+            source = PagedQuestionSource.open(theDataSource);
         } catch (final SQLException caughtException) {
             System.out.println(RETRIEVAL_FAILED_MESSAGE);
-            System.out.println("Cause: " + caughtException.getCause().toString());
+            System.out.println("Cause: " + caughtException.getCause());
             System.out.println(caughtException.getMessage());
             System.exit(1);
         }
 
-        return tempQuestions;
-    }
-
-    /**
-     * Shuffles the list of questions.
-     */
-    private void shuffleQuestions() {
-        Collections.shuffle(myQuestions);
+        return source;
     }
 }
\ No newline at end of file
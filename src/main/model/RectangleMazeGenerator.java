@@ -1,19 +1,25 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+import model.interfaces.MazeDumpSink;
 import model.interfaces.MazeGenerator;
+import model.interfaces.MazeTopology;
 import model.interfaces.QuestionSource;
 import model.interfaces.Tile;
-import model.tiles.EmptyTile;
-import model.tiles.WallTile;
+import model.tiles.TileRegistry;
+import model.topologies.GridTopology;
 
 /**
  * Rectangular maze generator.
  *
  * @author Shane Menzies
- * @version 11/17/24
+ * @version 10/17/26
  */
 public class RectangleMazeGenerator implements MazeGenerator {
 
@@ -23,6 +29,17 @@ public class RectangleMazeGenerator implements MazeGenerator {
     private static final String ILLEGAL_COORDINATES_MESSAGE =
             "Illegal coordinates provided!";
 
+    /**
+     * Error message for a null topology being provided.
+     */
+    private static final String NULL_TOPOLOGY_MESSAGE = "Provided MazeTopology was null!";
+
+    /**
+     * Minimum number of rooms in a band before it's worth splitting
+     * further when generating in parallel.
+     */
+    private static final int MIN_BAND_ROOMS = 4096;
+
     /**
      * Height of the generated Maze.
      */
@@ -90,14 +107,70 @@ public class RectangleMazeGenerator implements MazeGenerator {
 
 
     /**
-     * Arrays of tiles for each room.
+     * True if generated Mazes should store their tiles in a TileGrid.
+     */
+    private boolean myPackedStorage;
+
+    /**
+     * Arrays of tiles for each room, null when generating into a TileGrid.
      */
     private Tile[][][][] myTiles;
 
     /**
-     * List of DoorControllers for room doors.
+     * TileGrid for the maze being generated, null unless using packed storage.
+     */
+    private TileGrid myGrid;
+
+    /**
+     * True if generation should be split into bands of rows run in parallel.
+     */
+    private boolean myParallel;
+
+    /**
+     * True if doors should look up their questions when first reached,
+     * rather than being given them during generation.
      */
-    private List<DoorController> myDoors;
+    private boolean myLazyQuestions;
+
+    /**
+     * Topology deciding which walls between rooms get doors.
+     */
+    private MazeTopology myTopology;
+
+    /**
+     * Set for each possible door position which gets a door, by door index.
+     */
+    private BitSet myDoorways;
+
+    /**
+     * Sink every generated maze is dumped to, or null to not dump them.
+     */
+    private MazeDumpSink myDumpSink;
+
+    /**
+     * DoorControllers for room doors, in the order they're created.
+     */
+    private DoorController[] myDoors;
+
+    /**
+     * Questions for each door, fetched before any doors are made.
+     */
+    private TriviaQuestion[] myQuestions;
+
+    /**
+     * Key of each door's question when looking them up lazily by key, otherwise null.
+     */
+    private long[] myQuestionKeys;
+
+    /**
+     * Resolver shared by the doors when looking questions up lazily, otherwise null.
+     */
+    private QuestionResolver myResolver;
+
+    /**
+     * Rooms of the maze being generated, null when using packed storage.
+     */
+    private Room[][] myRooms;
 
     /**
      * Constructs a rectangular maze generator.
@@ -117,6 +190,7 @@ public class RectangleMazeGenerator implements MazeGenerator {
         myVerticalDoorIndex = myRoomHeight / 2;
         myRoomWidth = theRoomWidth;
         myHorizontalDoorIndex = myRoomWidth / 2;
+        myTopology = new GridTopology();
         myQuestionSource = theQuestionSource;
     }
 
@@ -156,109 +230,381 @@ public class RectangleMazeGenerator implements MazeGenerator {
         myExitY = theExitY;
     }
 
+    /**
+     * Sets whether generated Mazes store their tiles packed inside a TileGrid
+     * rather than as individual Tile objects in each Room.
+     *
+     * @param thePacked True to generate Mazes backed by a TileGrid.
+     */
+    public void setPackedStorage(final boolean thePacked) {
+        myPackedStorage = thePacked;
+    }
+
+    /**
+     * Sets whether generation is split into bands of room rows which are
+     * generated in parallel on the common ForkJoinPool. Parallel generation
+     * produces the same maze as sequential generation.
+     *
+     * @param theParallel True to generate in parallel.
+     */
+    public void setParallel(final boolean theParallel) {
+        myParallel = theParallel;
+    }
+
+    /**
+     * Sets whether doors of generated Mazes look up their questions the
+     * first time they're reached, instead of every question being fetched
+     * during generation. Seeded generation gives doors the same questions
+     * either way.
+     *
+     * @param theLazy True to look questions up lazily.
+     */
+    public void setLazyQuestions(final boolean theLazy) {
+        myLazyQuestions = theLazy;
+    }
+
+    /**
+     * Sets the topology deciding which walls between rooms get doors.
+     * By default every wall between rooms gets a door.
+     *
+     * @param theTopology Topology to lay out doors with.
+     * @throws IllegalArgumentException If theTopology is null.
+     */
+    public void setTopology(final MazeTopology theTopology) throws IllegalArgumentException {
+        if (theTopology == null) {
+            throw new IllegalArgumentException(NULL_TOPOLOGY_MESSAGE);
+        }
+
+        myTopology = theTopology;
+    }
+
+    /**
+     * Sets where generated mazes are dumped for diagnostics.
+     * By default mazes aren't dumped anywhere.
+     *
+     * @param theSink Sink to dump every generated maze to, or null to stop dumping.
+     */
+    public void setDumpSink(final MazeDumpSink theSink) {
+        myDumpSink = theSink;
+    }
+
     @Override
     public Maze generate() {
+        return generate(new SplittableRandom(), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each door's question is looked up with a key drawn from the seed,
+     * so the questions are only reproducible if the QuestionSource
+     * returns the same question for the same key.
+     * </p>
+     */
+    @Override
+    public Maze generate(final long theSeed) {
+        return generate(new SplittableRandom(theSeed), true);
+    }
+
+    /**
+     * Generates a maze as configured.
+     *
+     * @param theRandom Random generator for every random choice.
+     * @param theKeyedQuestions True to get each door's question by a key drawn
+     *                          from theRandom, false to just get the next question.
+     * @return A new Maze following configured settings.
+     */
+    private Maze generate(final RandomGenerator theRandom, final boolean theKeyedQuestions) {
 
         // Generate start and exit positions if not specified
         if (!myStartSpecified) {
-            generateStart();
+            generateStart(theRandom);
         }
         if (!myExitSpecified) {
-            generateExit();
+            generateExit(theRandom);
         }
 
-        // Make room and tile arrays
-        final Room[][] rooms = new Room[myMazeHeight][myMazeWidth];
-        myTiles = new Tile[myMazeHeight][myMazeWidth][myRoomHeight][myRoomWidth];
-        myDoors = new ArrayList<>();
-
-        // Internal Room borders
-        makeAllRoomBorders();
+        // Make tile storage
+        if (myPackedStorage) {
+            myGrid = new TileGrid(myMazeWidth, myMazeHeight, myRoomWidth, myRoomHeight);
+            myTiles = null;
+            myRooms = null;
+        } else {
+            myTiles = new Tile[myMazeHeight][myMazeWidth][myRoomHeight][myRoomWidth];
+            myGrid = null;
+            myRooms = new Room[myMazeHeight][myMazeWidth];
+        }
 
-        // Create rooms from prepared tiles.
-        for (int i = 0; i < myMazeHeight; i++) {
-            for (int j = 0; j < myMazeWidth; j++) {
-                rooms[i][j] = prepareRoom(j, i);
+        // Decide which walls get doors
+        final int doorCount = getDoorIndex(myMazeWidth - 1, myMazeHeight - 1);
+        myDoorways = layOutDoorways(doorCount, theRandom);
+
+        // Fetch every door's question up front, in the order the doors are made,
+        // so bands don't need to share the question source.
+        myDoors = new DoorController[doorCount];
+        if (myLazyQuestions) {
+            // Doors look their questions up when reached, so only draw the keys
+            myResolver = new QuestionResolver(myQuestionSource);
+            if (theKeyedQuestions) {
+                myQuestionKeys = new long[doorCount];
+                for (int i = myDoorways.nextSetBit(0); i >= 0;
+                     i = myDoorways.nextSetBit(i + 1)) {
+                    myQuestionKeys[i] = theRandom.nextLong();
+                }
+            }
+        } else {
+            myQuestions = new TriviaQuestion[doorCount];
+            final TriviaQuestion[] questions = theKeyedQuestions
+                    ? null : myQuestionSource.getQuestions(myDoorways.cardinality());
+            int next = 0;
+            for (int i = myDoorways.nextSetBit(0); i >= 0; i = myDoorways.nextSetBit(i + 1)) {
+                if (theKeyedQuestions) {
+                    myQuestions[i] = myQuestionSource.getQuestion(theRandom.nextLong());
+                } else {
+                    myQuestions[i] = questions[next++];
+                }
             }
         }
 
+        // Fill in rooms, borders, and doors one band of rows at a time.
+        if (myParallel) {
+            ForkJoinPool.commonPool().invoke(new BandTask(0, myMazeHeight));
+        } else {
+            generateBand(0, myMazeHeight);
+        }
+
+        // Close up the gaps left by walls without doors
+        if (myDoorways.cardinality() != doorCount) {
+            myDoors = Arrays.stream(myDoors)
+                            .filter(door -> door != null)
+                            .toArray(DoorController[]::new);
+        }
+
         // Can finally put together Maze.
-        final Maze finishedMaze = new Maze(
-            rooms, myDoors.toArray(new DoorController[0]),
-            myStartX, myStartY,
-            myExitX, myExitY
-        );
+        final Maze finishedMaze;
+        if (myPackedStorage) {
+            // Door tiles go in separately, since the grid's door lookup isn't thread safe.
+            placeGridDoors();
+
+            finishedMaze = new Maze(
+                myGrid, myDoors,
+                myStartX, myStartY,
+                myExitX, myExitY
+            );
+        } else {
+            finishedMaze = new Maze(
+                myRooms, myDoors,
+                myStartX, myStartY,
+                myExitX, myExitY
+            );
+        }
 
-        // Print out generated maze
-System.out.println("DEBUG: RectangleMazeGenerator generated Maze:\n"
-            + finishedMaze);
+        // Release generation storage, the Maze now owns it.
+        myTiles = null;
+        myGrid = null;
+        myRooms = null;
+        myDoors = null;
+        myQuestions = null;
+        myQuestionKeys = null;
+        myResolver = null;
+        myDoorways = null;
+
+        if (myDumpSink != null) {
+            myDumpSink.dump(finishedMaze);
+        }
 
         return finishedMaze;
     }
 
     /**
      * Generates a starting point at the center of the maze.
+     *
+     * @param theRandom Random generator to break ties with in even dimensions.
      */
-    private void generateStart() {
-        final Random rand = new Random();
+    private void generateStart(final RandomGenerator theRandom) {
+        final int[] start = pickStart(myMazeWidth, myMazeHeight, theRandom);
+        myStartX = start[0];
+        myStartY = start[1];
+    }
 
-        myStartX = myMazeWidth / 2;
-        myStartY = myMazeHeight / 2;
+    /**
+     * Generates a random position for the Exit.
+     *
+     * @param theRandom Random generator to pick the position with.
+     */
+    private void generateExit(final RandomGenerator theRandom) {
+        final int[] exit = pickExit(myMazeWidth, myMazeHeight, theRandom);
+        myExitX = exit[0];
+        myExitY = exit[1];
+    }
+
+    /**
+     * Picks a starting room at the center of a maze.
+     *
+     * @param theMazeWidth Width of the maze in rooms.
+     * @param theMazeHeight Height of the maze in rooms.
+     * @param theRandom Random generator to break ties with in even dimensions.
+     * @return Coordinates of the starting room, as {x, y}.
+     */
+    static int[] pickStart(final int theMazeWidth, final int theMazeHeight,
+                           final RandomGenerator theRandom) {
+        int startX = theMazeWidth / 2;
+        int startY = theMazeHeight / 2;
 
         // Check for an even maze width or height
-        if (myMazeWidth % 2 == 0
-            && rand.nextBoolean()) {
-            myStartX++;
+        if (theMazeWidth % 2 == 0
+            && theRandom.nextBoolean()) {
+            startX++;
         }
-        if (myMazeHeight % 2 == 0
-            && rand.nextBoolean()) {
-            myStartY++;
+        if (theMazeHeight % 2 == 0
+            && theRandom.nextBoolean()) {
+            startY++;
         }
+
+        return new int[] {startX, startY};
     }
 
     /**
-     * Generates a random position for the Exit.
+     * Picks a random exit room along the edge of a maze.
+     *
+     * @param theMazeWidth Width of the maze in rooms.
+     * @param theMazeHeight Height of the maze in rooms.
+     * @param theRandom Random generator to pick the room with.
+     * @return Coordinates of the exit room, as {x, y}.
      */
-    private void generateExit() {
-        final Random rand = new Random();
+    static int[] pickExit(final int theMazeWidth, final int theMazeHeight,
+                          final RandomGenerator theRandom) {
+        final int exitX;
+        final int exitY;
 
         // Pick a random edge for the exit to be at
-        switch (rand.nextInt(1, 5)) {
+        switch (theRandom.nextInt(1, 5)) {
             case 1: // Top Edge
-                myExitX = rand.nextInt(0, myMazeWidth);
-                myExitY = myMazeHeight - 1;
+                exitX = theRandom.nextInt(0, theMazeWidth);
+                exitY = theMazeHeight - 1;
                 break;
 
             case 2: // Bottom Edge
-                myExitX = rand.nextInt(0, myMazeWidth);
-                myExitY = 0;
+                exitX = theRandom.nextInt(0, theMazeWidth);
+                exitY = 0;
                 break;
 
             case 3: // Left Edge
-                myExitX = 0;
-                myExitY = rand.nextInt(0, myMazeHeight);
+                exitX = 0;
+                exitY = theRandom.nextInt(0, theMazeHeight);
                 break;
 
             case 4: // Right Edge
-                myExitX = myMazeWidth - 1;
-                myExitY = rand.nextInt(0, myMazeHeight);
+                exitX = theMazeWidth - 1;
+                exitY = theRandom.nextInt(0, theMazeHeight);
                 break;
 
             default:
-                throw new IllegalStateException("Invalid result returned from rand.nextInt!");
+                throw new IllegalStateException("Invalid result returned from nextInt!");
         }
+
+        return new int[] {exitX, exitY};
     }
 
     /**
-     * Makes the necessary borders for all the rooms in the maze.
+     * Generates a band of room rows: filling each room, making its borders
+     * and doors, and making the Room itself when not using packed storage.
+     * Bands only ever write to their own rooms, apart from the bottom door
+     * tile of the row above, which no other band writes to.
+     *
+     * @param theStartRow First row of rooms in the band, inclusive.
+     * @param theEndRow Last row of rooms in the band, exclusive.
      */
-    private void makeAllRoomBorders() {
-        for (int roomY = 0; roomY < myMazeHeight; roomY++) {
+    private void generateBand(final int theStartRow, final int theEndRow) {
+        for (int roomY = theStartRow; roomY < theEndRow; roomY++) {
             for (int roomX = 0; roomX < myMazeWidth; roomX++) {
                 fillRoomInterior(roomX, roomY);
                 makeRoomBorders(roomX, roomY);
             }
         }
+
+        if (myRooms != null) {
+            // The rows above may still be placing their doors into these rooms, but Room
+            // only keeps a reference to its tile array so that's fine.
+            for (int roomY = theStartRow; roomY < theEndRow; roomY++) {
+                for (int roomX = 0; roomX < myMazeWidth; roomX++) {
+                    myRooms[roomY][roomX] = prepareRoom(roomX, roomY);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the first door made by a room, which is the number
+     * of doors made by every room before it in row order. Every room makes
+     * a top door unless it's in the top row, and a right door unless it's
+     * in the rightmost column.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Index of the room's first door in the door array.
+     */
+    private int getDoorIndex(final int theRoomX, final int theRoomY) {
+        // Each full row below the top row makes (width) top doors and (width - 1) right doors.
+        final int doorsPerRow = 2 * myMazeWidth - 1;
+
+        if (theRoomY >= myMazeHeight - 1) {
+            // Only right doors in the top row
+            return (myMazeHeight - 1) * doorsPerRow + theRoomX;
+        }
+        return theRoomY * doorsPerRow + theRoomX * 2;
+    }
+
+    /**
+     * Lays out which walls between rooms get doors using the topology.
+     *
+     * @param theDoorCount Number of possible door positions.
+     * @param theRandom Random generator for the topology.
+     * @return Set of the door indices which get doors.
+     */
+    private BitSet layOutDoorways(final int theDoorCount, final RandomGenerator theRandom) {
+        final BitSet doorways = new BitSet(theDoorCount);
+        final MazeTopology.RowCarver carver
+                = myTopology.carve(myMazeWidth, myMazeHeight, theRandom);
+
+        final boolean[] rightDoors = new boolean[myMazeWidth];
+        final boolean[] topDoors = new boolean[myMazeWidth];
+        for (int roomY = 0; roomY < myMazeHeight; roomY++) {
+            carver.nextRow(rightDoors, topDoors);
+
+            for (int roomX = 0; roomX < myMazeWidth; roomX++) {
+                int doorIndex = getDoorIndex(roomX, roomY);
+                if (roomY != (myMazeHeight - 1)) {
+                    doorways.set(doorIndex++, topDoors[roomX]);
+                }
+                if (roomX != (myMazeWidth - 1)) {
+                    doorways.set(doorIndex, rightDoors[roomX]);
+                }
+            }
+        }
+
+        return doorways;
+    }
+
+    /**
+     * Places every door's tiles into the TileGrid, in door order.
+     */
+    private void placeGridDoors() {
+        for (final DoorController door : myDoors) {
+            if (door.getRoomY(0) != door.getRoomY(1)) {
+                // Top door
+                myGrid.setTile(door.getRoomX(0), door.getRoomY(0),
+                        myHorizontalDoorIndex, myRoomHeight - 1, door.getDoors()[0]);
+                myGrid.setTile(door.getRoomX(1), door.getRoomY(1),
+                        myHorizontalDoorIndex, 0, door.getDoors()[1]);
+            } else {
+                // Right door
+                myGrid.setTile(door.getRoomX(0), door.getRoomY(0),
+                        myRoomWidth - 1, myVerticalDoorIndex, door.getDoors()[0]);
+                myGrid.setTile(door.getRoomX(1), door.getRoomY(1),
+                        0, myVerticalDoorIndex, door.getDoors()[1]);
+            }
+        }
     }
 
     /**
@@ -270,30 +616,61 @@ System.out.println("DEBUG: RectangleMazeGenerator generated Maze:\n"
     private void fillRoomInterior(final int theRoomX, final int theRoomY) {
         for (int y = 1; y < (myRoomHeight - 1); y++) {
             for (int x = 1; x < (myRoomWidth - 1); x++) {
-                myTiles[theRoomY][theRoomX][y][x]
-                        = new EmptyTile();
+                placeTile(theRoomX, theRoomY, x, y, TileRegistry.getEmpty());
             }
         }
     }
 
+    /**
+     * Places a door tile into the storage for the maze being generated.
+     * Door tiles for packed storage are placed afterward by placeGridDoors().
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theX X-coordinate of the tile inside the room.
+     * @param theY Y-coordinate of the tile inside the room.
+     * @param theTile Door tile to place.
+     */
+    private void placeDoorTile(final int theRoomX, final int theRoomY,
+                               final int theX, final int theY,
+                               final DoorController.DoorTile theTile) {
+        if (myGrid == null) {
+            myTiles[theRoomY][theRoomX][theY][theX] = theTile;
+        }
+    }
+
+    /**
+     * Places a tile into the storage for the maze being generated.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @param theX X-coordinate of the tile inside the room.
+     * @param theY Y-coordinate of the tile inside the room.
+     * @param theTile Tile to place.
+     */
+    private void placeTile(final int theRoomX, final int theRoomY,
+                           final int theX, final int theY, final Tile theTile) {
+        if (myGrid != null) {
+            myGrid.setTile(theRoomX, theRoomY, theX, theY, theTile);
+        } else {
+            myTiles[theRoomY][theRoomX][theY][theX] = theTile;
+        }
+    }
+
     private void makeRoomBorders(final int theRoomX, final int theRoomY) {
         // Right and Left
         for (int y = 0; y < myRoomHeight; y++) {
             if (y != myVerticalDoorIndex) {
-                myTiles[theRoomY][theRoomX][y][0]
-                        = new WallTile();
-                myTiles[theRoomY][theRoomX][y][myRoomWidth - 1]
-                        = new WallTile();
+                placeTile(theRoomX, theRoomY, 0, y, TileRegistry.getWall());
+                placeTile(theRoomX, theRoomY, myRoomWidth - 1, y, TileRegistry.getWall());
             }
         }
 
         // Top and Bottom
         for (int x = 0; x < myRoomWidth; x++) {
             if (x != myHorizontalDoorIndex) {
-                myTiles[theRoomY][theRoomX][0][x]
-                        = new WallTile();
-                myTiles[theRoomY][theRoomX][myRoomHeight - 1][x]
-                        = new WallTile();
+                placeTile(theRoomX, theRoomY, x, 0, TileRegistry.getWall());
+                placeTile(theRoomX, theRoomY, x, myRoomHeight - 1, TileRegistry.getWall());
             }
         }
 
@@ -301,48 +678,88 @@ System.out.println("DEBUG: RectangleMazeGenerator generated Maze:\n"
         // in those directions.
         if (theRoomY == 0) {
             // No bottom door
-            myTiles[theRoomY][theRoomX][0][myHorizontalDoorIndex]
-                    = new WallTile();
+            placeTile(theRoomX, theRoomY, myHorizontalDoorIndex, 0, TileRegistry.getWall());
         }
         if (theRoomX == 0) {
             // No left door
-            myTiles[theRoomY][theRoomX][myVerticalDoorIndex][0]
-                    = new WallTile();
+            placeTile(theRoomX, theRoomY, 0, myVerticalDoorIndex, TileRegistry.getWall());
         }
 
         // Top door
+        final int topDoorIndex = getDoorIndex(theRoomX, theRoomY);
         if (theRoomY == (myMazeHeight - 1)) {
             // No top door
-            myTiles[theRoomY][theRoomX][myRoomHeight - 1][myHorizontalDoorIndex]
-                   = new WallTile();
+            placeTile(theRoomX, theRoomY, myHorizontalDoorIndex, myRoomHeight - 1,
+                    TileRegistry.getWall());
+        } else if (!myDoorways.get(topDoorIndex)) {
+            // Wall between this room and the one above
+            placeTile(theRoomX, theRoomY, myHorizontalDoorIndex, myRoomHeight - 1,
+                    TileRegistry.getWall());
+            placeTile(theRoomX, theRoomY + 1, myHorizontalDoorIndex, 0,
+                    TileRegistry.getWall());
         } else {
             // Make a top door
             final DoorController topDoor
-                    = new DoorController(myQuestionSource.getQuestion());
-            myDoors.add(topDoor);
-            myTiles[theRoomY][theRoomX][myRoomHeight - 1][myHorizontalDoorIndex]
-                    = topDoor.getDoors()[0];
-            myTiles[theRoomY + 1][theRoomX][0][myHorizontalDoorIndex]
-                    = topDoor.getDoors()[1];
+                    = makeDoor(topDoorIndex, theRoomX, theRoomY, theRoomX, theRoomY + 1);
+            myDoors[topDoorIndex] = topDoor;
+            placeDoorTile(theRoomX, theRoomY, myHorizontalDoorIndex, myRoomHeight - 1,
+                    topDoor.getDoors()[0]);
+            placeDoorTile(theRoomX, theRoomY + 1, myHorizontalDoorIndex, 0,
+                    topDoor.getDoors()[1]);
         }
 
-        // Right door
+        // Right door, after this room's top door if it could have one
+        int rightDoorIndex = topDoorIndex;
+        if (theRoomY != (myMazeHeight - 1)) {
+            rightDoorIndex++;
+        }
         if (theRoomX == (myMazeWidth - 1)) {
             // No right door
-            myTiles[theRoomY][theRoomX][myVerticalDoorIndex][myRoomWidth - 1]
-                    = new WallTile();
+            placeTile(theRoomX, theRoomY, myRoomWidth - 1, myVerticalDoorIndex,
+                    TileRegistry.getWall());
+        } else if (!myDoorways.get(rightDoorIndex)) {
+            // Wall between this room and the one to the right
+            placeTile(theRoomX, theRoomY, myRoomWidth - 1, myVerticalDoorIndex,
+                    TileRegistry.getWall());
+            placeTile(theRoomX + 1, theRoomY, 0, myVerticalDoorIndex,
+                    TileRegistry.getWall());
         } else {
             // Make a right door
             final DoorController rightDoor
-                    = new DoorController(myQuestionSource.getQuestion());
-            myDoors.add(rightDoor);
-            myTiles[theRoomY][theRoomX][myVerticalDoorIndex][myRoomWidth - 1]
-                    = rightDoor.getDoors()[0];
-            myTiles[theRoomY][theRoomX + 1][myVerticalDoorIndex][0]
-                    = rightDoor.getDoors()[1];
+                    = makeDoor(rightDoorIndex, theRoomX, theRoomY, theRoomX + 1, theRoomY);
+            myDoors[rightDoorIndex] = rightDoor;
+            placeDoorTile(theRoomX, theRoomY, myRoomWidth - 1, myVerticalDoorIndex,
+                    rightDoor.getDoors()[0]);
+            placeDoorTile(theRoomX + 1, theRoomY, 0, myVerticalDoorIndex,
+                    rightDoor.getDoors()[1]);
         }
     }
 
+    /**
+     * Makes the controller for a door, with its question or a way to look it up.
+     *
+     * @param theIndex Index of the door.
+     * @param theFirstRoomX X-coordinate of the room holding the first door.
+     * @param theFirstRoomY Y-coordinate of the room holding the first door.
+     * @param theSecondRoomX X-coordinate of the room holding the second door.
+     * @param theSecondRoomY Y-coordinate of the room holding the second door.
+     * @return New DoorController for the door.
+     */
+    private DoorController makeDoor(final int theIndex,
+                                    final int theFirstRoomX, final int theFirstRoomY,
+                                    final int theSecondRoomX, final int theSecondRoomY) {
+        if (myResolver == null) {
+            return new DoorController(myQuestions[theIndex],
+                    theFirstRoomX, theFirstRoomY, theSecondRoomX, theSecondRoomY);
+        } else if (myQuestionKeys != null) {
+            return new DoorController(myResolver, myQuestionKeys[theIndex],
+                    theFirstRoomX, theFirstRoomY, theSecondRoomX, theSecondRoomY);
+        }
+
+        return new DoorController(myResolver,
+                theFirstRoomX, theFirstRoomY, theSecondRoomX, theSecondRoomY);
+    }
+
     /**
      * Creates a single room from the prepared tiles.
      *
@@ -368,4 +785,46 @@ System.out.println("DEBUG: RectangleMazeGenerator generated Maze:\n"
                 myTiles[theRoomY][theRoomX]);
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Task which generates a band of room rows, splitting in half until
+     * the band is small enough to generate directly.
+     */
+    private final class BandTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * First row of rooms in the band, inclusive.
+         */
+        private final int myStartRow;
+
+        /**
+         * Last row of rooms in the band, exclusive.
+         */
+        private final int myEndRow;
+
+        /**
+         * Constructs a task for a band of rows.
+         *
+         * @param theStartRow First row of rooms in the band, inclusive.
+         * @param theEndRow Last row of rooms in the band, exclusive.
+         */
+        private BandTask(final int theStartRow, final int theEndRow) {
+            myStartRow = theStartRow;
+            myEndRow = theEndRow;
+        }
+
+        @Override
+        protected void compute() {
+            final int rows = myEndRow - myStartRow;
+            if (rows <= 1 || (long) rows * myMazeWidth <= MIN_BAND_ROOMS) {
+                generateBand(myStartRow, myEndRow);
+            } else {
+                final int middle = (myStartRow + myEndRow) >>> 1;
+                invokeAll(new BandTask(myStartRow, middle),
+                          new BandTask(middle, myEndRow));
+            }
+        }
+    }
+}
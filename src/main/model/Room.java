@@ -2,12 +2,13 @@ package model;
 
 import java.io.Serializable;
 import model.interfaces.Tile;
+import model.tiles.TileRegistry;
 
 /**
  * Represents an entire room in a maze.
  *
  * @author Shane Menzies
- * @version 10/26/24
+ * @version 10/17/26
  */
 public final class Room implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -36,10 +37,25 @@ public final class Room implements Serializable {
     private final RoomType myType;
 
     /**
-     * 2D Array of this room's tiles.
+     * 2D Array of this room's tiles, null if this room is backed by a TileGrid.
      */
     private final Tile[][] myTiles;
 
+    /**
+     * TileGrid holding this room's tiles, null if this room has its own tile array.
+     */
+    private final TileGrid myGrid;
+
+    /**
+     * X coordinate of this room inside myGrid.
+     */
+    private final int myGridX;
+
+    /**
+     * Y coordinate of this room inside myGrid.
+     */
+    private final int myGridY;
+
     /**
      * Makes a room from the provided values.
      *
@@ -50,6 +66,9 @@ public final class Room implements Serializable {
             throws IllegalArgumentException {
         myType = theType;
         myTiles = theTiles;
+        myGrid = null;
+        myGridX = 0;
+        myGridY = 0;
 
         // Double check tile Array is valid
         if (myTiles.length == 0) {
@@ -69,23 +88,51 @@ public final class Room implements Serializable {
         }
     }
 
+    /**
+     * Makes a room whose tiles are stored inside a TileGrid.
+     *
+     * @param theType Type of room.
+     * @param theGrid TileGrid holding the new room's tiles.
+     * @param theGridX X coordinate of the room inside theGrid.
+     * @param theGridY Y coordinate of the room inside theGrid.
+     */
+    public Room(final RoomType theType, final TileGrid theGrid,
+                final int theGridX, final int theGridY) {
+        myType = theType;
+        myTiles = null;
+        myGrid = theGrid;
+        myGridX = theGridX;
+        myGridY = theGridY;
+    }
+
     /**
      * Creates a new Room as a copy of an existing Room.
      * <p>
      * This creates a new 2D Tile array for the new Room, however
      * the contents of the new array will still start as copies of
-     * the original's Tile references.
+     * the original's Tile references, with any stateless tiles
+     * swapped for their shared instances from TileRegistry.
      * </p>
      *
      * @param theSource Room instance to copy.
      */
     public Room(final Room theSource) {
         myType = theSource.myType;
+        myGrid = null;
+        myGridX = 0;
+        myGridY = 0;
 
-        // Need to clone each row individually
-        myTiles = new Tile[theSource.getHeight()][];
-        for (int i = 0; i < myTiles.length; i++) {
-            myTiles[i] = theSource.myTiles[i].clone();
+        if (theSource.myGrid != null) {
+            myTiles = theSource.getTiles();
+        } else {
+            // Need to copy each row individually
+            myTiles = new Tile[theSource.getHeight()][];
+            for (int i = 0; i < myTiles.length; i++) {
+                myTiles[i] = new Tile[theSource.myTiles[i].length];
+                for (int j = 0; j < myTiles[i].length; j++) {
+                    myTiles[i][j] = TileRegistry.canonical(theSource.myTiles[i][j]);
+                }
+            }
         }
     }
 
@@ -104,6 +151,9 @@ public final class Room implements Serializable {
      * @return Height of this room.
      */
     public int getHeight() {
+        if (myGrid != null) {
+            return myGrid.getRoomHeight();
+        }
         return myTiles.length;
     }
 
@@ -113,6 +163,9 @@ public final class Room implements Serializable {
      * @return Width of this room.
      */
     public int getWidth() {
+        if (myGrid != null) {
+            return myGrid.getRoomWidth();
+        }
         return myTiles[0].length;
     }
 
@@ -133,11 +186,36 @@ public final class Room implements Serializable {
 
     /**
      * Gets this room's tile array.
+     * <p>
+     * Rooms backed by a TileGrid don't keep a tile array, so for those
+     * a new array is built on every call and changes to it won't be
+     * reflected in the room.
+     * </p>
      *
      * @return This room's 2D tile array.
      */
     public Tile[][] getTiles() {
-        return myTiles;
+        if (myGrid == null) {
+            return myTiles;
+        }
+
+        final Tile[][] tiles = new Tile[getHeight()][getWidth()];
+        for (int y = 0; y < tiles.length; y++) {
+            for (int x = 0; x < tiles[y].length; x++) {
+                tiles[y][x] = getTile(x, y);
+            }
+        }
+
+        return tiles;
+    }
+
+    /**
+     * Checks if this room's tiles are stored inside a TileGrid.
+     *
+     * @return True if this room is backed by a TileGrid, false otherwise.
+     */
+    public boolean isPacked() {
+        return myGrid != null;
     }
 
     /**
@@ -148,6 +226,9 @@ public final class Room implements Serializable {
      * @return Tile at provided coordinates.
      */
     public Tile getTile(final int theX, final int theY) {
+        if (myGrid != null) {
+            return myGrid.getTile(myGridX, myGridY, theX, theY);
+        }
         return myTiles[theY][theX];
     }
 
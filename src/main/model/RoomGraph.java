@@ -0,0 +1,342 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Compact view of a maze as a graph of rooms joined by doors, for searches
+ * which only care which rooms can reach each other and not about the tiles
+ * inside them.
+ * <p>
+ * Edges are stored in compressed sparse rows: the edges leaving each room
+ * are next to each other, from getFirstEdge() up to getEndEdge(). Every door
+ * gives one edge each way, and each edge knows the index of its door in
+ * Maze.getDoors(), so its state is always the door's current state. Rooms
+ * are indexed row by row.
+ * </p>
+ * <p>
+ * Searches keep their working memory between calls, so a graph should only
+ * be searched by one thread at a time, and finding a distance doesn't
+ * allocate anything.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class RoomGraph {
+
+    /**
+     * Distance returned when there's no route.
+     */
+    public static final int NO_ROUTE = -1;
+
+    /**
+     * Parent of a room a search started from.
+     */
+    private static final int NO_PARENT = -1;
+
+    /**
+     * Width of the maze in rooms.
+     */
+    private final int myWidth;
+
+    /**
+     * Doors of the maze, which edges refer to by index.
+     */
+    private final DoorController[] myDoors;
+
+    /**
+     * Index of each room's first edge, with one extra entry for the end of the last room's.
+     */
+    private final int[] myOffsets;
+
+    /**
+     * Room each edge leads to.
+     */
+    private final int[] myTargets;
+
+    /**
+     * Index in the maze's doors of the door each edge passes through.
+     */
+    private final int[] myEdgeDoors;
+
+    /**
+     * Rooms waiting to be expanded by a search.
+     */
+    private final int[] myQueue;
+
+    /**
+     * Room each room was reached from in the latest search.
+     */
+    private final int[] myParents;
+
+    /**
+     * Generation of the search which last reached each room.
+     */
+    private final int[] myVisits;
+
+    /**
+     * Generation of the current search.
+     */
+    private int myGeneration;
+
+    /**
+     * Builds the graph of a maze's rooms and doors.
+     *
+     * @param theMaze Maze to build the graph of.
+     */
+    private RoomGraph(final Maze theMaze) {
+        myWidth = theMaze.getWidth();
+        myDoors = theMaze.getDoors();
+        final int roomCount = theMaze.getWidth() * theMaze.getHeight();
+
+        // Count each room's edges, then lay them out in order
+        myOffsets = new int[roomCount + 1];
+        for (final DoorController door : myDoors) {
+            if (door.isLinked()) {
+                myOffsets[getRoomIndex(door.getRoomX(0), door.getRoomY(0)) + 1]++;
+                myOffsets[getRoomIndex(door.getRoomX(1), door.getRoomY(1)) + 1]++;
+            }
+        }
+        for (int room = 0; room < roomCount; room++) {
+            myOffsets[room + 1] += myOffsets[room];
+        }
+
+        myTargets = new int[myOffsets[roomCount]];
+        myEdgeDoors = new int[myTargets.length];
+        final int[] next = Arrays.copyOf(myOffsets, roomCount);
+        for (int index = 0; index < myDoors.length; index++) {
+            final DoorController door = myDoors[index];
+            if (door.isLinked()) {
+                final int first = getRoomIndex(door.getRoomX(0), door.getRoomY(0));
+                final int second = getRoomIndex(door.getRoomX(1), door.getRoomY(1));
+                addEdge(next, first, second, index);
+                addEdge(next, second, first, index);
+            }
+        }
+
+        myQueue = new int[roomCount];
+        myParents = new int[roomCount];
+        myVisits = new int[roomCount];
+    }
+
+    /**
+     * Builds the graph of a maze's rooms and doors. Doors which don't
+     * know which rooms they're in are left out.
+     *
+     * @param theMaze Maze to build the graph of.
+     * @return Graph of theMaze, or null if it has no door array.
+     */
+    static RoomGraph build(final Maze theMaze) {
+        if (theMaze.getDoors() == null) {
+            return null;
+        }
+
+        return new RoomGraph(theMaze);
+    }
+
+    /**
+     * Gets the number of rooms in the graph.
+     *
+     * @return Number of rooms.
+     */
+    public int getRoomCount() {
+        return myOffsets.length - 1;
+    }
+
+    /**
+     * Gets the number of edges in the graph, two for each door.
+     *
+     * @return Number of edges.
+     */
+    public int getEdgeCount() {
+        return myTargets.length;
+    }
+
+    /**
+     * Gets the index of a room.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Index of the room.
+     */
+    public int getRoomIndex(final int theRoomX, final int theRoomY) {
+        return theRoomY * myWidth + theRoomX;
+    }
+
+    /**
+     * Gets the X-coordinate of a room.
+     *
+     * @param theRoom Index of the room.
+     * @return X-coordinate of the room.
+     */
+    public int getRoomX(final int theRoom) {
+        return theRoom % myWidth;
+    }
+
+    /**
+     * Gets the Y-coordinate of a room.
+     *
+     * @param theRoom Index of the room.
+     * @return Y-coordinate of the room.
+     */
+    public int getRoomY(final int theRoom) {
+        return theRoom / myWidth;
+    }
+
+    /**
+     * Gets the first edge leaving a room.
+     *
+     * @param theRoom Index of the room.
+     * @return Index of the room's first edge.
+     */
+    public int getFirstEdge(final int theRoom) {
+        return myOffsets[theRoom];
+    }
+
+    /**
+     * Gets the end of the edges leaving a room.
+     *
+     * @param theRoom Index of the room.
+     * @return One past the index of the room's last edge.
+     */
+    public int getEndEdge(final int theRoom) {
+        return myOffsets[theRoom + 1];
+    }
+
+    /**
+     * Gets the room an edge leads to.
+     *
+     * @param theEdge Index of the edge.
+     * @return Index of the room.
+     */
+    public int getTarget(final int theEdge) {
+        return myTargets[theEdge];
+    }
+
+    /**
+     * Gets the index of the door an edge passes through.
+     *
+     * @param theEdge Index of the edge.
+     * @return Index of the door in Maze.getDoors().
+     */
+    public int getDoorIndex(final int theEdge) {
+        return myEdgeDoors[theEdge];
+    }
+
+    /**
+     * Gets the door an edge passes through.
+     *
+     * @param theEdge Index of the edge.
+     * @return Door controller of the edge.
+     */
+    public DoorController getDoor(final int theEdge) {
+        return myDoors[myEdgeDoors[theEdge]];
+    }
+
+    /**
+     * Checks if an edge can be passed, which it can unless its door is locked.
+     *
+     * @param theEdge Index of the edge.
+     * @return True if the edge's door isn't locked, false otherwise.
+     */
+    public boolean isPassable(final int theEdge) {
+        return getDoor(theEdge).getState() != DoorController.DoorState.LOCKED;
+    }
+
+    /**
+     * Finds how many rooms apart two rooms are, through doors which aren't locked.
+     *
+     * @param theFrom Index of the room to start from.
+     * @param theTo Index of the room to reach.
+     * @return Number of doors passed through, or NO_ROUTE if theTo can't be reached.
+     */
+    public int findDistance(final int theFrom, final int theTo) {
+        if (!search(theFrom, theTo)) {
+            return NO_ROUTE;
+        }
+
+        int distance = 0;
+        for (int room = theTo; room != theFrom; room = myParents[room]) {
+            distance++;
+        }
+
+        return distance;
+    }
+
+    /**
+     * Finds a route with the fewest doors between two rooms, through doors which aren't locked.
+     *
+     * @param theFrom Index of the room to start from.
+     * @param theTo Index of the room to reach.
+     * @return Index of every room along the route, from theFrom to theTo,
+     *          or null if theTo can't be reached.
+     */
+    public int[] findRoute(final int theFrom, final int theTo) {
+        final int distance = findDistance(theFrom, theTo);
+        if (distance == NO_ROUTE) {
+            return null;
+        }
+
+        final int[] route = new int[distance + 1];
+        int index = distance;
+        for (int room = theTo; room != NO_PARENT; room = myParents[room]) {
+            route[index--] = room;
+        }
+
+        return route;
+    }
+
+    /**
+     * Searches breadth-first between two rooms, leaving each room's parent in the scratch buffers.
+     *
+     * @param theFrom Index of the room to start from.
+     * @param theTo Index of the room to reach.
+     * @return True if theTo was reached, false otherwise.
+     */
+    private boolean search(final int theFrom, final int theTo) {
+        myGeneration++;
+        if (myGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(myVisits, 0);
+            myGeneration = 1;
+        }
+
+        int head = 0;
+        int tail = 0;
+        myQueue[tail++] = theFrom;
+        myVisits[theFrom] = myGeneration;
+        myParents[theFrom] = NO_PARENT;
+
+        while (head < tail) {
+            final int room = myQueue[head++];
+            if (room == theTo) {
+                return true;
+            }
+
+            for (int edge = myOffsets[room]; edge < myOffsets[room + 1]; edge++) {
+                final int target = myTargets[edge];
+                if (myVisits[target] != myGeneration && isPassable(edge)) {
+                    myVisits[target] = myGeneration;
+                    myParents[target] = room;
+                    myQueue[tail++] = target;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds an edge to the next free slot of a room's edges.
+     *
+     * @param theNext Next free edge of each room.
+     * @param theFrom Room the edge leaves.
+     * @param theTo Room the edge leads to.
+     * @param theDoor Index of the door the edge passes through.
+     */
+    private void addEdge(final int[] theNext, final int theFrom, final int theTo,
+                         final int theDoor) {
+        final int edge = theNext[theFrom]++;
+        myTargets[edge] = theTo;
+        myEdgeDoors[edge] = theDoor;
+    }
+}
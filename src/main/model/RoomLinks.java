@@ -0,0 +1,191 @@
+package model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import model.enums.Direction;
+
+/**
+ * Which neighboring rooms of a maze are linked by a door that isn't locked,
+ * shared by the trackers which follow the maze room by room.
+ * <p>
+ * Rooms are indexed row by row. Each room has a bit per Direction ordinal,
+ * set if a door that way can still be passed, since unanswered doors can be
+ * opened. Owners pass on each door update, and are told which rooms changed.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class RoomLinks implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Every Direction, indexed by ordinal.
+     */
+    static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Width of the maze in rooms.
+     */
+    private final int myMazeWidth;
+
+    /**
+     * Passability index of the maze, for finding the rooms each door joins.
+     */
+    private final PassabilityIndex myPassability;
+
+    /**
+     * For each room, a bit per Direction ordinal set if a door that way isn't locked.
+     */
+    private final byte[] myLinks;
+
+    /**
+     * Finds the links between every room of a maze.
+     *
+     * @param theMaze Maze to link.
+     * @param thePassability Passability index of theMaze.
+     */
+    RoomLinks(final Maze theMaze, final PassabilityIndex thePassability) {
+        myMazeWidth = theMaze.getWidth();
+        myPassability = thePassability;
+        myLinks = new byte[theMaze.getWidth() * theMaze.getHeight()];
+
+        for (final DoorController door : theMaze.getDoors()) {
+            final long[] tiles = thePassability.getDoorTiles(door);
+            if (tiles != null) {
+                setLink(getRoom(tiles[0]), getRoom(tiles[1]),
+                        door.getState() != DoorController.DoorState.LOCKED);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of rooms in the maze.
+     *
+     * @return Number of rooms.
+     */
+    int getRoomCount() {
+        return myLinks.length;
+    }
+
+    /**
+     * Gets the index of a room.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Index of the room.
+     */
+    int getRoomIndex(final int theRoomX, final int theRoomY) {
+        return theRoomY * myMazeWidth + theRoomX;
+    }
+
+    /**
+     * Checks if a room is linked to its neighbor in a direction.
+     *
+     * @param theRoom Index of the room.
+     * @param theDirection Direction to check.
+     * @return True if a door that way isn't locked, false otherwise.
+     */
+    boolean isLinked(final int theRoom, final Direction theDirection) {
+        return (myLinks[theRoom] & (1 << theDirection.ordinal())) != 0;
+    }
+
+    /**
+     * Gets the index of a room's neighbor.
+     *
+     * @param theRoom Index of the room.
+     * @param theDirection Direction of the neighbor.
+     * @return Index of the neighboring room.
+     */
+    int neighbor(final int theRoom, final Direction theDirection) {
+        return switch (theDirection) {
+            case UP -> theRoom + myMazeWidth;
+            case DOWN -> theRoom - myMazeWidth;
+            case RIGHT -> theRoom + 1;
+            case LEFT -> theRoom - 1;
+        };
+    }
+
+    /**
+     * Follows a door's new state.
+     *
+     * @param theController Door controller which updated.
+     * @return Indices of the two rooms the door joins if their link changed,
+     *          or null if it didn't or the door isn't between neighbors.
+     */
+    int[] update(final DoorController theController) {
+        final long[] tiles = myPassability.getDoorTiles(theController);
+        if (tiles == null) {
+            return null;
+        }
+
+        final int first = getRoom(tiles[0]);
+        final int second = getRoom(tiles[1]);
+        final Direction direction = directionBetween(first, second);
+        final boolean linked = theController.getState() != DoorController.DoorState.LOCKED;
+        if (direction == null || linked == isLinked(first, direction)) {
+            return null;
+        }
+
+        setLink(first, second, linked);
+        return new int[] {first, second};
+    }
+
+    /**
+     * Sets or clears the link between two rooms.
+     *
+     * @param theFirst Index of the first room.
+     * @param theSecond Index of the second room.
+     * @param theLinked True if the rooms are linked.
+     */
+    private void setLink(final int theFirst, final int theSecond, final boolean theLinked) {
+        setLink(theFirst, directionBetween(theFirst, theSecond), theLinked);
+        setLink(theSecond, directionBetween(theSecond, theFirst), theLinked);
+    }
+
+    /**
+     * Sets or clears a room's link bit for a direction.
+     *
+     * @param theRoom Index of the room.
+     * @param theDirection Direction of the link, or null to do nothing.
+     * @param theLinked True if the room is linked that way.
+     */
+    private void setLink(final int theRoom, final Direction theDirection,
+                         final boolean theLinked) {
+        if (theDirection == null) {
+            return;
+        }
+
+        if (theLinked) {
+            myLinks[theRoom] |= (byte) (1 << theDirection.ordinal());
+        } else {
+            myLinks[theRoom] &= (byte) ~(1 << theDirection.ordinal());
+        }
+    }
+
+    /**
+     * Gets the index of the room holding a tile.
+     *
+     * @param theTileIndex Index of the tile, from PassabilityIndex.getTileIndex().
+     * @return Index of the room.
+     */
+    private int getRoom(final long theTileIndex) {
+        final long tilesWide = myPassability.getTilesWide();
+        final int roomX = (int) (theTileIndex % tilesWide / myPassability.getRoomWidth());
+        final int roomY = (int) (theTileIndex / tilesWide / myPassability.getRoomHeight());
+        return getRoomIndex(roomX, roomY);
+    }
+
+    /**
+     * Gets the direction from one room to a neighboring room.
+     *
+     * @param theFrom Index of the first room.
+     * @param theTo Index of the second room.
+     * @return Direction from the first room to the second, or null if they aren't neighbors.
+     */
+    private Direction directionBetween(final int theFrom, final int theTo) {
+        return PassabilityIndex.directionBetween(theFrom % myMazeWidth, theFrom / myMazeWidth,
+                                                 theTo % myMazeWidth, theTo / myMazeWidth);
+    }
+}
@@ -1,6 +1,7 @@
 package model;
 
 import java.io.*;
+import model.interfaces.QuestionSource;
 
 /**
  * SaveController is responsible for saving and loading game state to and from a specified file.
@@ -40,15 +41,30 @@ public final class SaveController {
 
     /**
      * Loads the game state from the specified save location.
+     * Doors which look up their questions when reached use the source they
+     * were saved with, or the QuestionsFactory if it couldn't be saved.
      * @return the loaded GameState object
      * @throws RuntimeException if the game state cannot be loaded
      */
     public GameState loadGame() {
+        return loadGame(null);
+    }
+
+    /**
+     * Loads the game state from the specified save location, with doors
+     * which look up their questions when reached using the provided source.
+     * @param theQuestionSource source for loaded doors to look up questions in,
+     *                          or null to use the one they were saved with
+     * @return the loaded GameState object
+     * @throws RuntimeException if the game state cannot be loaded
+     */
+    public GameState loadGame(final QuestionSource theQuestionSource) {
         File file = new File(mySaveLocation);
         if (!file.exists() || file.length() == 0) {
             throw new RuntimeException("Failed to load game: save file is empty or does not exist");
         }
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(mySaveLocation))) {
+        try (ObjectInputStream ois = new QuestionSourceInputStream(
+                new FileInputStream(mySaveLocation), theQuestionSource)) {
             return (GameState) ois.readObject();
         } catch (IOException | ClassNotFoundException e) {
             throw new RuntimeException("Failed to load game: " + e.getMessage());
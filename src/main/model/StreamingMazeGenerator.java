@@ -0,0 +1,375 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import model.enums.TileID;
+import model.interfaces.MazeGenerator;
+import model.interfaces.MazeTopology;
+import model.interfaces.QuestionSource;
+import model.topologies.GridTopology;
+
+/**
+ * Rectangular maze generator which writes each row of rooms straight out
+ * to a memory-mapped file as soon as it's generated, producing a PagedMaze.
+ * <p>
+ * Only the row being generated and the topology's state for it are kept on
+ * the heap, so mazes far taller than would fit in memory can be generated.
+ * Mazes are laid out the same way RectangleMazeGenerator lays them out.
+ * </p>
+ * <p>
+ * Every door's question is looked up by a key, both while generating and
+ * whenever the door is paged back in, so QuestionSources should return the
+ * same question for the same key. Questions aren't checked while generating,
+ * so the source is only asked for a question once its door is needed.
+ * </p>
+ * <p>
+ * Unless an output file is set, each maze is written to its own temporary
+ * file, which is deleted when the maze is closed. Unlike RectangleMazeGenerator,
+ * mazes can't be dumped as they're generated, since they can be far larger
+ * than memory and a PagedMaze can't be read from another thread.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class StreamingMazeGenerator implements MazeGenerator {
+
+    /**
+     * Exception message for being provided illegal coordinates.
+     */
+    private static final String ILLEGAL_COORDINATES_MESSAGE =
+            "Illegal coordinates provided!";
+
+    /**
+     * Error message for a null topology being provided.
+     */
+    private static final String NULL_TOPOLOGY_MESSAGE = "Provided MazeTopology was null!";
+
+    /**
+     * Prefix for temporary maze files.
+     */
+    private static final String TEMP_FILE_PREFIX = "maze";
+
+    /**
+     * Suffix for temporary maze files.
+     */
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Code for empty tiles.
+     */
+    private static final byte EMPTY_CODE = TileGrid.codeFor(TileID.EMPTY);
+
+    /**
+     * Code for wall tiles.
+     */
+    private static final byte WALL_CODE = TileGrid.codeFor(TileID.WALL);
+
+    /**
+     * Code for door tiles.
+     */
+    private static final byte DOOR_CODE = TileGrid.codeFor(TileID.DOOR_UNANSWERED);
+
+    /**
+     * Height of the generated Maze.
+     */
+    private final int myMazeHeight;
+
+    /**
+     * Width of the generated Maze.
+     */
+    private final int myMazeWidth;
+
+    /**
+     * Height of the generated Room.
+     */
+    private final int myRoomHeight;
+
+    /**
+     * Width of the generated Room.
+     */
+    private final int myRoomWidth;
+
+    /**
+     * QuestionSource to get questions from.
+     */
+    private final QuestionSource myQuestionSource;
+
+    /**
+     * Index of the door in each vertical wall.
+     */
+    private final int myVerticalDoorIndex;
+
+    /**
+     * Index of the door in each horizontal wall.
+     */
+    private final int myHorizontalDoorIndex;
+
+    /**
+     * True if a specific starting room was specified.
+     */
+    private boolean myStartSpecified;
+
+    /**
+     * Coordinates of the starting room, as {x, y}.
+     */
+    private int[] myStart;
+
+    /**
+     * True if a specific exit room was specified.
+     */
+    private boolean myExitSpecified;
+
+    /**
+     * Coordinates of the exit room, as {x, y}.
+     */
+    private int[] myExit;
+
+    /**
+     * Topology deciding which walls between rooms get doors.
+     */
+    private MazeTopology myTopology;
+
+    /**
+     * File to write generated mazes to, or null for a temporary file.
+     */
+    private Path myOutputFile;
+
+    /**
+     * Constructs a streaming maze generator.
+     *
+     * @param theMazeHeight Height of the Maze in rooms.
+     * @param theMazeWidth Width of the Maze in rooms.
+     * @param theRoomHeight Height of each room in tiles.
+     * @param theRoomWidth Width of each room in tiles.
+     * @param theQuestionSource Source to get questions from for trivia doors.
+     */
+    public StreamingMazeGenerator(final int theMazeHeight, final int theMazeWidth,
+                                  final int theRoomHeight, final int theRoomWidth,
+                                  final QuestionSource theQuestionSource) {
+        myMazeHeight = theMazeHeight;
+        myMazeWidth = theMazeWidth;
+        myRoomHeight = theRoomHeight;
+        myVerticalDoorIndex = myRoomHeight / 2;
+        myRoomWidth = theRoomWidth;
+        myHorizontalDoorIndex = myRoomWidth / 2;
+        myTopology = new GridTopology();
+        myQuestionSource = theQuestionSource;
+    }
+
+    /**
+     * Sets the coordinates of the generated Maze's starting room.
+     *
+     * @param theStartX X-coordinate for the starting room.
+     * @param theStartY Y-coordinate for the starting room.
+     */
+    public void setStartCoordinates(final int theStartX, final int theStartY) {
+        if (theStartX < 0
+            || theStartY < 0) {
+            throw new IllegalArgumentException(ILLEGAL_COORDINATES_MESSAGE);
+        }
+
+        myStartSpecified = true;
+        myStart = new int[] {theStartX, theStartY};
+    }
+
+    /**
+     * Sets the coordinates for the generated Maze's exit room.
+     *
+     * @param theExitX X-coordinate for the exit room.
+     * @param theExitY Y-coordinate for the exit room.
+     */
+    public void setExitCoordinates(final int theExitX, final int theExitY) {
+        if (theExitX < 0
+            || theExitY < 0) {
+            throw new IllegalArgumentException(ILLEGAL_COORDINATES_MESSAGE);
+        }
+
+        myExitSpecified = true;
+        myExit = new int[] {theExitX, theExitY};
+    }
+
+    /**
+     * Sets the topology deciding which walls between rooms get doors.
+     * By default every wall between rooms gets a door.
+     *
+     * @param theTopology Topology to lay out doors with.
+     * @throws IllegalArgumentException If theTopology is null.
+     */
+    public void setTopology(final MazeTopology theTopology) throws IllegalArgumentException {
+        if (theTopology == null) {
+            throw new IllegalArgumentException(NULL_TOPOLOGY_MESSAGE);
+        }
+
+        myTopology = theTopology;
+    }
+
+    /**
+     * Sets the file generated mazes are written to, replacing anything in it,
+     * so a maze generated earlier into the same file should be closed first.
+     * By default, each maze gets its own temporary file which is deleted when
+     * the maze is closed, and games on those mazes can't be saved.
+     *
+     * @param theOutputFile File to write mazes to, or null for temporary files.
+     */
+    public void setOutputFile(final Path theOutputFile) {
+        myOutputFile = theOutputFile;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException If the maze's file couldn't be written.
+     */
+    @Override
+    public Maze generate() {
+        return generate(new SplittableRandom());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException If the maze's file couldn't be written.
+     */
+    @Override
+    public Maze generate(final long theSeed) {
+        return generate(new SplittableRandom(theSeed));
+    }
+
+    /**
+     * Generates a maze as configured, writing it out one row at a time.
+     *
+     * @param theRandom Random generator for every random choice.
+     * @return A new PagedMaze following configured settings.
+     * @throws UncheckedIOException If the maze's file couldn't be written.
+     */
+    private Maze generate(final RandomGenerator theRandom) {
+        final int[] start = myStartSpecified ? myStart
+                : RectangleMazeGenerator.pickStart(myMazeWidth, myMazeHeight, theRandom);
+        final int[] exit = myExitSpecified ? myExit
+                : RectangleMazeGenerator.pickExit(myMazeWidth, myMazeHeight, theRandom);
+
+        final long doorCapacity = MazeFileLayout.maxDoors(myMazeWidth, myMazeHeight);
+        final MazeFileLayout layout = new MazeFileLayout(myMazeWidth, myMazeHeight,
+                                                         myRoomWidth, myRoomHeight,
+                                                         doorCapacity);
+
+        final boolean temporary = myOutputFile == null;
+        final MappedFile file;
+        try {
+            file = MappedFile.create(temporary
+                    ? Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX)
+                    : myOutputFile, layout.getSize());
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        layout.writeHeader(file, start[0], start[1], exit[0], exit[1]);
+
+        final MazeTopology.RowCarver carver
+                = myTopology.carve(myMazeWidth, myMazeHeight, theRandom);
+        final boolean[] rightDoors = new boolean[myMazeWidth];
+        final boolean[] topDoors = new boolean[myMazeWidth];
+        final boolean[] bottomDoors = new boolean[myMazeWidth];
+        final byte[] codes = new byte[layout.getRowStride()];
+
+        long doorCount = 0;
+        for (int roomY = 0; roomY < myMazeHeight; roomY++) {
+            carver.nextRow(rightDoors, topDoors);
+            if (roomY == myMazeHeight - 1) {
+                // Nothing above the top row
+                Arrays.fill(topDoors, false);
+            }
+            rightDoors[myMazeWidth - 1] = false;
+
+            file.putLong(layout.rowIndexOffset(roomY), doorCount);
+
+            fillRow(codes, rightDoors, topDoors, bottomDoors);
+            file.putBytes(layout.rowOffset(roomY), codes, 0, codes.length);
+
+            for (int roomX = 0; roomX < myMazeWidth; roomX++) {
+                if (topDoors[roomX]) {
+                    writeDoor(file, layout.doorOffset(doorCount++),
+                            PackedCoordinates.pack(roomX, roomY,
+                                    myHorizontalDoorIndex, myRoomHeight - 1),
+                            PackedCoordinates.pack(roomX, roomY + 1,
+                                    myHorizontalDoorIndex, 0),
+                            theRandom.nextLong());
+                }
+                if (rightDoors[roomX]) {
+                    writeDoor(file, layout.doorOffset(doorCount++),
+                            PackedCoordinates.pack(roomX, roomY,
+                                    myRoomWidth - 1, myVerticalDoorIndex),
+                            PackedCoordinates.pack(roomX + 1, roomY,
+                                    0, myVerticalDoorIndex),
+                            theRandom.nextLong());
+                }
+            }
+
+            System.arraycopy(topDoors, 0, bottomDoors, 0, myMazeWidth);
+        }
+        file.putLong(layout.rowIndexOffset(myMazeHeight), doorCount);
+
+        return new PagedMaze(file, layout, myQuestionSource, temporary);
+    }
+
+    /**
+     * Fills in the tile codes for a row of rooms.
+     *
+     * @param theCodes Codes for the row, laid out like a one row TileGrid.
+     * @param theRightDoors Which rooms in the row have a door to the right.
+     * @param theTopDoors Which rooms in the row have a door above.
+     * @param theBottomDoors Which rooms in the row have a door below.
+     */
+    private void fillRow(final byte[] theCodes, final boolean[] theRightDoors,
+                         final boolean[] theTopDoors, final boolean[] theBottomDoors) {
+        final int rowLength = myMazeWidth * myRoomWidth;
+
+        for (int roomX = 0; roomX < myMazeWidth; roomX++) {
+            final int left = roomX * myRoomWidth;
+            final int right = left + myRoomWidth - 1;
+
+            for (int y = 0; y < myRoomHeight; y++) {
+                final int row = y * rowLength;
+                final boolean edge = y == 0 || y == myRoomHeight - 1;
+
+                Arrays.fill(theCodes, row + left, row + right + 1, edge ? WALL_CODE : EMPTY_CODE);
+                theCodes[row + left] = WALL_CODE;
+                theCodes[row + right] = WALL_CODE;
+            }
+
+            // Door spots
+            theCodes[left + myHorizontalDoorIndex]
+                    = theBottomDoors[roomX] ? DOOR_CODE : WALL_CODE;
+            theCodes[(myRoomHeight - 1) * rowLength + left + myHorizontalDoorIndex]
+                    = theTopDoors[roomX] ? DOOR_CODE : WALL_CODE;
+            theCodes[myVerticalDoorIndex * rowLength + left]
+                    = roomX > 0 && theRightDoors[roomX - 1] ? DOOR_CODE : WALL_CODE;
+            theCodes[myVerticalDoorIndex * rowLength + right]
+                    = theRightDoors[roomX] ? DOOR_CODE : WALL_CODE;
+        }
+    }
+
+    /**
+     * Writes a new, unanswered door's record.
+     *
+     * @param theFile File to write to.
+     * @param theOffset Offset of the door's record.
+     * @param theFirstSide Packed coordinates of the door's first tile.
+     * @param theSecondSide Packed coordinates of the door's second tile.
+     * @param theKey Key of the door's question.
+     */
+    private static void writeDoor(final MappedFile theFile, final long theOffset,
+                                  final long theFirstSide, final long theSecondSide,
+                                  final long theKey) {
+        theFile.putLong(theOffset + MazeFileLayout.DOOR_FIRST_SIDE, theFirstSide);
+        theFile.putLong(theOffset + MazeFileLayout.DOOR_SECOND_SIDE, theSecondSide);
+        theFile.putLong(theOffset + MazeFileLayout.DOOR_QUESTION_KEY, theKey);
+        theFile.putLong(theOffset + MazeFileLayout.DOOR_STATE,
+                        DoorController.DoorState.UNANSWERED.ordinal());
+    }
+}
@@ -0,0 +1,533 @@
+package model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+import model.enums.TileID;
+import model.interfaces.Tile;
+import model.tiles.EmptyTile;
+import model.tiles.TileRegistry;
+import model.tiles.WallTile;
+
+/**
+ * Compact storage for every tile in a maze.
+ * <p>
+ * Instead of one Tile object per cell, each cell is stored as a single byte
+ * holding its TileID ordinal (offset by one, so that zero means "no tile").
+ * Door cells are additionally recorded in a small side index mapping the
+ * cell to its DoorTile, since doors are the only tiles with any state.
+ * </p>
+ * <p>
+ * Cells are laid out row by row across the whole maze, starting from the
+ * bottom row of tiles, so a scan over the maze walks memory in order.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class TileGrid implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Exception message for invalid grid dimensions.
+     */
+    private static final String INVALID_DIMENSIONS_MESSAGE
+            = "Invalid dimensions provided to TileGrid()!";
+
+    /**
+     * Exception message for a grid that would have too many tiles.
+     */
+    private static final String TOO_LARGE_MESSAGE
+            = "Too many tiles for a single TileGrid!";
+
+    /**
+     * Exception message for rooms which don't all share the same dimensions.
+     */
+    private static final String MISMATCHED_ROOMS_MESSAGE
+            = "All Rooms must have the same dimensions to be packed into a TileGrid!";
+
+    /**
+     * Exception message for a tile that can't be stored in a TileGrid.
+     */
+    private static final String UNSUPPORTED_TILE_MESSAGE
+            = "Tile type can not be stored in a TileGrid: ";
+
+    /**
+     * Every TileID, indexed by ordinal.
+     */
+    private static final TileID[] TILE_IDS = TileID.values();
+
+    /**
+     * Code stored for a cell with no tile.
+     */
+    private static final byte NO_TILE_CODE = 0;
+
+    /**
+     * Code stored for an empty tile.
+     */
+    private static final byte EMPTY_CODE = codeFor(TileID.EMPTY);
+
+    /**
+     * Code stored for a wall tile.
+     */
+    private static final byte WALL_CODE = codeFor(TileID.WALL);
+
+    /**
+     * Code stored for any door tile, the door's actual
+     * state is read from the door itself.
+     */
+    private static final byte DOOR_CODE = codeFor(TileID.DOOR_UNANSWERED);
+
+    /**
+     * Marker for an unused slot in the door index.
+     */
+    private static final int EMPTY_SLOT = -1;
+
+    /**
+     * Initial capacity of the door index.
+     */
+    private static final int INITIAL_DOOR_CAPACITY = 16;
+
+    /**
+     * Width of the maze in rooms.
+     */
+    private final int myMazeWidth;
+
+    /**
+     * Height of the maze in rooms.
+     */
+    private final int myMazeHeight;
+
+    /**
+     * Width of each room in tiles.
+     */
+    private final int myRoomWidth;
+
+    /**
+     * Height of each room in tiles.
+     */
+    private final int myRoomHeight;
+
+    /**
+     * Number of tiles in a single row across the entire maze.
+     */
+    private final int myRowLength;
+
+    /**
+     * Tile codes for every cell in the maze.
+     */
+    private final byte[] myCodes;
+
+    /**
+     * Cell indices of each door, as an open-addressed hash table.
+     */
+    private int[] myDoorCells;
+
+    /**
+     * Door tiles matching each slot in myDoorCells.
+     */
+    private DoorController.DoorTile[] myDoorTiles;
+
+    /**
+     * Number of doors currently in the index.
+     */
+    private int myDoorCount;
+
+    /**
+     * Constructs an empty TileGrid for a maze of the provided dimensions.
+     * Every cell starts with no tile.
+     *
+     * @param theMazeWidth Width of the maze in rooms.
+     * @param theMazeHeight Height of the maze in rooms.
+     * @param theRoomWidth Width of each room in tiles.
+     * @param theRoomHeight Height of each room in tiles.
+     * @throws IllegalArgumentException If any dimension isn't positive, or if the
+     *          grid would hold more tiles than fit in a single array.
+     */
+    public TileGrid(final int theMazeWidth, final int theMazeHeight,
+                    final int theRoomWidth, final int theRoomHeight)
+            throws IllegalArgumentException {
+        if (theMazeWidth <= 0 || theMazeHeight <= 0
+                || theRoomWidth <= 0 || theRoomHeight <= 0) {
+            throw new IllegalArgumentException(INVALID_DIMENSIONS_MESSAGE);
+        }
+
+        final long tileCount = (long) theMazeWidth * theRoomWidth
+                * theMazeHeight * theRoomHeight;
+        if (tileCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(TOO_LARGE_MESSAGE);
+        }
+
+        myMazeWidth = theMazeWidth;
+        myMazeHeight = theMazeHeight;
+        myRoomWidth = theRoomWidth;
+        myRoomHeight = theRoomHeight;
+        myRowLength = theMazeWidth * theRoomWidth;
+        myCodes = new byte[(int) tileCount];
+
+        myDoorCells = new int[INITIAL_DOOR_CAPACITY];
+        Arrays.fill(myDoorCells, EMPTY_SLOT);
+        myDoorTiles = new DoorController.DoorTile[INITIAL_DOOR_CAPACITY];
+    }
+
+    /**
+     * Constructs a TileGrid which takes ownership of an existing array of
+     * tile codes, laid out the same way as this class lays them out.
+     * Door cells read as having no tile until their DoorTiles are given
+     * to setTile(), since only the tiles themselves know their doors.
+     *
+     * @param theMazeWidth Width of the maze in rooms.
+     * @param theMazeHeight Height of the maze in rooms.
+     * @param theRoomWidth Width of each room in tiles.
+     * @param theRoomHeight Height of each room in tiles.
+     * @param theCodes Tile codes for every cell, modified and kept by this grid.
+     */
+    TileGrid(final int theMazeWidth, final int theMazeHeight,
+             final int theRoomWidth, final int theRoomHeight, final byte[] theCodes) {
+        myMazeWidth = theMazeWidth;
+        myMazeHeight = theMazeHeight;
+        myRoomWidth = theRoomWidth;
+        myRoomHeight = theRoomHeight;
+        myRowLength = theMazeWidth * theRoomWidth;
+        myCodes = theCodes;
+
+        for (int cell = 0; cell < myCodes.length; cell++) {
+            if (myCodes[cell] == DOOR_CODE) {
+                myCodes[cell] = NO_TILE_CODE;
+            }
+        }
+
+        myDoorCells = new int[INITIAL_DOOR_CAPACITY];
+        Arrays.fill(myDoorCells, EMPTY_SLOT);
+        myDoorTiles = new DoorController.DoorTile[INITIAL_DOOR_CAPACITY];
+    }
+
+    /**
+     * Constructs a copy of an existing TileGrid, replacing each of its
+     * door tiles with the one provided by theDoorReplacer.
+     *
+     * @param theSource TileGrid to copy.
+     * @param theDoorReplacer Gives the door tile to use in place of each original.
+     */
+    public TileGrid(final TileGrid theSource,
+                    final UnaryOperator<DoorController.DoorTile> theDoorReplacer) {
+        myMazeWidth = theSource.myMazeWidth;
+        myMazeHeight = theSource.myMazeHeight;
+        myRoomWidth = theSource.myRoomWidth;
+        myRoomHeight = theSource.myRoomHeight;
+        myRowLength = theSource.myRowLength;
+        myCodes = theSource.myCodes.clone();
+
+        // Same cells hash to the same slots, so the door index can be copied as is.
+        myDoorCells = theSource.myDoorCells.clone();
+        myDoorTiles = new DoorController.DoorTile[theSource.myDoorTiles.length];
+        for (int i = 0; i < myDoorTiles.length; i++) {
+            if (theSource.myDoorTiles[i] != null) {
+                myDoorTiles[i] = theDoorReplacer.apply(theSource.myDoorTiles[i]);
+            }
+        }
+        myDoorCount = theSource.myDoorCount;
+    }
+
+    /**
+     * Packs an existing 2D array of Rooms into a new TileGrid.
+     *
+     * @param theRooms Rectangular array of Rooms, all with identical dimensions.
+     * @return New TileGrid holding the same tiles as theRooms.
+     * @throws IllegalArgumentException If the rooms don't share the same dimensions,
+     *          or contain a tile type which can't be packed.
+     */
+    public static TileGrid fromRooms(final Room[][] theRooms)
+            throws IllegalArgumentException {
+        final int roomWidth = theRooms[0][0].getWidth();
+        final int roomHeight = theRooms[0][0].getHeight();
+
+        final TileGrid grid = new TileGrid(theRooms[0].length, theRooms.length,
+                                           roomWidth, roomHeight);
+
+        for (int roomY = 0; roomY < theRooms.length; roomY++) {
+            for (int roomX = 0; roomX < theRooms[roomY].length; roomX++) {
+                final Room room = theRooms[roomY][roomX];
+                if (room.getWidth() != roomWidth || room.getHeight() != roomHeight) {
+                    throw new IllegalArgumentException(MISMATCHED_ROOMS_MESSAGE);
+                }
+
+                for (int y = 0; y < roomHeight; y++) {
+                    for (int x = 0; x < roomWidth; x++) {
+                        grid.setTile(roomX, roomY, x, y, room.getTile(x, y));
+                    }
+                }
+            }
+        }
+
+        return grid;
+    }
+
+    /**
+     * Gets the width of the maze in rooms.
+     *
+     * @return Width of the maze in rooms.
+     */
+    public int getMazeWidth() {
+        return myMazeWidth;
+    }
+
+    /**
+     * Gets the height of the maze in rooms.
+     *
+     * @return Height of the maze in rooms.
+     */
+    public int getMazeHeight() {
+        return myMazeHeight;
+    }
+
+    /**
+     * Gets the width of each room in tiles.
+     *
+     * @return Width of each room in tiles.
+     */
+    public int getRoomWidth() {
+        return myRoomWidth;
+    }
+
+    /**
+     * Gets the height of each room in tiles.
+     *
+     * @return Height of each room in tiles.
+     */
+    public int getRoomHeight() {
+        return myRoomHeight;
+    }
+
+    /**
+     * Gets the tile at a certain position.
+     *
+     * @param theRoomX X coordinate of the room.
+     * @param theRoomY Y coordinate of the room.
+     * @param theX X coordinate of the tile inside the room.
+     * @param theY Y coordinate of the tile inside the room.
+     * @return Tile at the provided position, or null if there is none.
+     */
+    public Tile getTile(final int theRoomX, final int theRoomY,
+                        final int theX, final int theY) {
+        final int cell = cellIndex(theRoomX, theRoomY, theX, theY);
+        final byte code = myCodes[cell];
+
+        if (code == DOOR_CODE) {
+            return myDoorTiles[findDoorSlot(cell)];
+        }
+        return sharedTileFor(code);
+    }
+
+    /**
+     * Gets the TileID of the tile at a certain position.
+     *
+     * @param theRoomX X coordinate of the room.
+     * @param theRoomY Y coordinate of the room.
+     * @param theX X coordinate of the tile inside the room.
+     * @param theY Y coordinate of the tile inside the room.
+     * @return TileID of the tile at the provided position, or null if there is no tile.
+     */
+    public TileID getTileID(final int theRoomX, final int theRoomY,
+                            final int theX, final int theY) {
+        final int cell = cellIndex(theRoomX, theRoomY, theX, theY);
+        final byte code = myCodes[cell];
+
+        final TileID id;
+        if (code == NO_TILE_CODE) {
+            id = null;
+        } else if (code == DOOR_CODE) {
+            id = myDoorTiles[findDoorSlot(cell)].getTileID();
+        } else {
+            id = TILE_IDS[code - 1];
+        }
+
+        return id;
+    }
+
+    /**
+     * Sets the tile at a certain position.
+     *
+     * @param theRoomX X coordinate of the room.
+     * @param theRoomY Y coordinate of the room.
+     * @param theX X coordinate of the tile inside the room.
+     * @param theY Y coordinate of the tile inside the room.
+     * @param theTile New tile for this position, may be null.
+     * @throws IllegalArgumentException If theTile can't be stored in a TileGrid.
+     */
+    public void setTile(final int theRoomX, final int theRoomY,
+                        final int theX, final int theY, final Tile theTile)
+            throws IllegalArgumentException {
+        final int cell = cellIndex(theRoomX, theRoomY, theX, theY);
+
+        if (myCodes[cell] == DOOR_CODE) {
+            removeDoor(cell);
+        }
+
+        if (theTile == null) {
+            myCodes[cell] = NO_TILE_CODE;
+        } else if (theTile instanceof DoorController.DoorTile door) {
+            myCodes[cell] = DOOR_CODE;
+            putDoor(cell, door);
+        } else if (theTile instanceof EmptyTile) {
+            myCodes[cell] = EMPTY_CODE;
+        } else if (theTile instanceof WallTile) {
+            myCodes[cell] = WALL_CODE;
+        } else {
+            throw new IllegalArgumentException(UNSUPPORTED_TILE_MESSAGE
+                    + theTile.getClass().getName());
+        }
+    }
+
+    /**
+     * Gets the number of door tiles stored in this grid.
+     *
+     * @return Number of door tiles.
+     */
+    public int getDoorCount() {
+        return myDoorCount;
+    }
+
+    /**
+     * Gets the shared instance of the tile a code stands for.
+     *
+     * @param theCode Code to get the tile for.
+     * @return Shared tile for theCode, or null for no tile or a door.
+     */
+    static Tile sharedTileFor(final byte theCode) {
+        final Tile tile;
+        if (theCode == EMPTY_CODE) {
+            tile = TileRegistry.getEmpty();
+        } else if (theCode == WALL_CODE) {
+            tile = TileRegistry.getWall();
+        } else {
+            tile = null;
+        }
+
+        return tile;
+    }
+
+    /**
+     * Gets the code for a certain TileID.
+     *
+     * @param theID TileID to get the code for.
+     * @return Stored code for theID.
+     */
+    static byte codeFor(final TileID theID) {
+        return (byte) (theID.ordinal() + 1);
+    }
+
+    /**
+     * Gets the index of a cell inside myCodes.
+     *
+     * @param theRoomX X coordinate of the room.
+     * @param theRoomY Y coordinate of the room.
+     * @param theX X coordinate of the tile inside the room.
+     * @param theY Y coordinate of the tile inside the room.
+     * @return Index of the cell.
+     */
+    private int cellIndex(final int theRoomX, final int theRoomY,
+                          final int theX, final int theY) {
+        return ((theRoomY * myRoomHeight) + theY) * myRowLength
+                + (theRoomX * myRoomWidth) + theX;
+    }
+
+    /**
+     * Gets the starting slot in the door index for a cell.
+     *
+     * @param theCell Cell index.
+     * @param theCapacity Capacity of the door index.
+     * @return Starting slot to probe from.
+     */
+    private static int homeSlot(final int theCell, final int theCapacity) {
+        // Spread out neighbouring cells, capacity is always a power of two.
+        return ((theCell * 0x9E3779B9) >>> 1) & (theCapacity - 1);
+    }
+
+    /**
+     * Finds the slot in the door index holding a certain cell.
+     *
+     * @param theCell Cell index of the door.
+     * @return Slot holding the door for theCell.
+     */
+    private int findDoorSlot(final int theCell) {
+        final int mask = myDoorCells.length - 1;
+        int slot = homeSlot(theCell, myDoorCells.length);
+        while (myDoorCells[slot] != theCell) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Adds a door to the door index.
+     *
+     * @param theCell Cell index of the door.
+     * @param theDoor Door tile at that cell.
+     */
+    private void putDoor(final int theCell, final DoorController.DoorTile theDoor) {
+        // Keep the table at most half full.
+        if ((myDoorCount + 1) * 2 > myDoorCells.length) {
+            growDoorIndex();
+        }
+
+        final int mask = myDoorCells.length - 1;
+        int slot = homeSlot(theCell, myDoorCells.length);
+        while (myDoorCells[slot] != EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+
+        myDoorCells[slot] = theCell;
+        myDoorTiles[slot] = theDoor;
+        myDoorCount++;
+    }
+
+    /**
+     * Removes a door from the door index.
+     *
+     * @param theCell Cell index of the door.
+     */
+    private void removeDoor(final int theCell) {
+        final int mask = myDoorCells.length - 1;
+        int hole = findDoorSlot(theCell);
+        myDoorCells[hole] = EMPTY_SLOT;
+        myDoorTiles[hole] = null;
+        myDoorCount--;
+
+        // Shift back any following entries which can now sit closer to home.
+        int slot = (hole + 1) & mask;
+        while (myDoorCells[slot] != EMPTY_SLOT) {
+            final int home = homeSlot(myDoorCells[slot], myDoorCells.length);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                myDoorCells[hole] = myDoorCells[slot];
+                myDoorTiles[hole] = myDoorTiles[slot];
+                myDoorCells[slot] = EMPTY_SLOT;
+                myDoorTiles[slot] = null;
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Doubles the capacity of the door index.
+     */
+    private void growDoorIndex() {
+        final int[] oldCells = myDoorCells;
+        final DoorController.DoorTile[] oldTiles = myDoorTiles;
+
+        myDoorCells = new int[oldCells.length * 2];
+        Arrays.fill(myDoorCells, EMPTY_SLOT);
+        myDoorTiles = new DoorController.DoorTile[oldCells.length * 2];
+        myDoorCount = 0;
+
+        for (int i = 0; i < oldCells.length; i++) {
+            if (oldCells[i] != EMPTY_SLOT) {
+                putDoor(oldCells[i], oldTiles[i]);
+            }
+        }
+    }
+}
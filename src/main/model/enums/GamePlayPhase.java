@@ -40,4 +40,10 @@ public enum GamePlayPhase {
      */
     FAILURE,
 
+    /**
+     * Indicates the player has lost the game, since locked doors
+     * cut them off from the exit.
+     */
+    TRAPPED,
+
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package model.interfaces;
+
+import model.Maze;
+
+/**
+ * Interface for somewhere generated mazes are dumped for diagnostics.
+ * Sinks are called on the generating thread, so anything slow,
+ * like writing the whole maze out, should be handed off to another thread.
+ * RectangleMazeGenerator takes a sink; StreamingMazeGenerator doesn't, since
+ * its mazes can be far larger than memory and can't be read from another thread.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+@FunctionalInterface
+public interface MazeDumpSink {
+
+    /**
+     * Dumps a freshly generated maze.
+     *
+     * @param theMaze Maze which was just generated.
+     */
+    void dump(Maze theMaze);
+}
@@ -8,7 +8,7 @@ import model.Maze;
  * the parameters for generation.
  *
  * @author Shane Menzies
- * @version 11/15/24
+ * @version 10/17/26
  */
 public interface MazeGenerator {
 
@@ -18,4 +18,16 @@ public interface MazeGenerator {
      * @return A new Maze following configured settings.
      */
     Maze generate();
-}
\ No newline at end of file
+
+    /**
+     * Generates a maze as configured, with every random choice made from
+     * the provided seed, so the same seed always produces the same maze.
+     * Generators which can't be seeded just generate a new maze.
+     *
+     * @param theSeed Seed for every random choice made during generation.
+     * @return A new Maze following configured settings.
+     */
+    default Maze generate(final long theSeed) {
+        return generate();
+    }
+}
@@ -0,0 +1,44 @@
+package model.interfaces;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface for deciding which walls between rooms of a rectangular maze
+ * get doors. Rooms without a door between them are separated by wall.
+ * <p>
+ * Door layouts are handed out one row of rooms at a time, starting from
+ * the bottom row, so topologies which only need to remember a single row
+ * can lay out mazes of any height.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public interface MazeTopology {
+
+    /**
+     * Starts laying out the doors of a new maze.
+     *
+     * @param theWidth Width of the maze in rooms.
+     * @param theHeight Height of the maze in rooms.
+     * @param theRandom Random generator for every random choice in the layout.
+     * @return Source of the maze's door layout, one row at a time.
+     */
+    RowCarver carve(int theWidth, int theHeight, RandomGenerator theRandom);
+
+    /**
+     * Source of a maze's door layout, one row of rooms at a time.
+     */
+    interface RowCarver {
+
+        /**
+         * Fills in which doors the next row of rooms has, starting from the
+         * bottom row. Both arrays are as long as the maze is wide, and the
+         * rightmost right door and every top door of the top row are always false.
+         *
+         * @param theRightDoors Set to whether each room has a door to the room on its right.
+         * @param theTopDoors Set to whether each room has a door to the room above it.
+         */
+        void nextRow(boolean[] theRightDoors, boolean[] theTopDoors);
+    }
+}
@@ -0,0 +1,42 @@
+package model.interfaces;
+
+/**
+ * Interface for finding routes between tiles of a maze.
+ * <p>
+ * Tiles are given as coordinates packed by PackedCoordinates. Finders keep
+ * their working memory between searches, so each one should only be used
+ * by one thread at a time, and finding just the cost of a route doesn't
+ * allocate anything. Which route is found depends on the finder, most find
+ * the cheapest one.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public interface PathFinder {
+
+    /**
+     * Cost returned when there's no route.
+     */
+    int NO_PATH = -1;
+
+    /**
+     * Finds the cost of a route between two tiles, which is the total
+     * cost of entering every tile along it after the first.
+     *
+     * @param theStart Packed coordinates of the tile to start from.
+     * @param theGoal Packed coordinates of the tile to reach.
+     * @return Cost of the route, or NO_PATH if theGoal can't be reached.
+     */
+    int findCost(long theStart, long theGoal);
+
+    /**
+     * Finds a route between two tiles.
+     *
+     * @param theStart Packed coordinates of the tile to start from.
+     * @param theGoal Packed coordinates of the tile to reach.
+     * @return Packed coordinates of every tile along the route, from theStart
+     *          to theGoal, or null if theGoal can't be reached.
+     */
+    long[] findPath(long theStart, long theGoal);
+}
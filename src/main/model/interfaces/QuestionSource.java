@@ -6,7 +6,7 @@ import model.TriviaQuestion;
  * Interface representing a source of trivia questions.
  *
  * @author Shane Menzies
- * @version 11/17/24
+ * @version 10/17/26
  */
 public interface QuestionSource {
 
@@ -16,4 +16,32 @@ public interface QuestionSource {
      * @return New Trivia Question.
      */
     TriviaQuestion getQuestion();
-}
\ No newline at end of file
+
+    /**
+     * Gets some new questions from this source at once. Sources which can
+     * should fetch them together, by default this just gets each in turn.
+     *
+     * @param theCount Number of questions to get.
+     * @return Array of theCount new Trivia Questions.
+     */
+    default TriviaQuestion[] getQuestions(final int theCount) {
+        final TriviaQuestion[] questions = new TriviaQuestion[theCount];
+        for (int index = 0; index < theCount; index++) {
+            questions[index] = getQuestion();
+        }
+
+        return questions;
+    }
+
+    /**
+     * Gets the question for a key from this source. Sources which can
+     * should always return the same question for the same key,
+     * by default this just gets a new question.
+     *
+     * @param theKey Key identifying the question.
+     * @return Trivia Question for the key.
+     */
+    default TriviaQuestion getQuestion(final long theKey) {
+        return getQuestion();
+    }
+}
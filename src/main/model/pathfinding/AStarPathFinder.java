@@ -0,0 +1,86 @@
+package model.pathfinding;
+
+/**
+ * Finds cheapest routes with A*, guided by the Manhattan distance to the
+ * goal. Since every tile costs at least 1 to enter, the distance never
+ * overestimates, so routes found are always the cheapest.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class AStarPathFinder extends GridSearch {
+
+    /**
+     * Open set of tiles to expand, by estimated total cost.
+     */
+    private final LongMinHeap myOpen;
+
+    /**
+     * Constructs an A* path finder over a grid.
+     *
+     * @param theGrid Grid to search.
+     */
+    public AStarPathFinder(final SearchGrid theGrid) {
+        super(theGrid);
+        myOpen = new LongMinHeap();
+    }
+
+    @Override
+    int search(final int theStart, final int theGoal) {
+        nextGeneration();
+        myOpen.clear();
+
+        visit(theStart, 0, NO_PARENT);
+        myOpen.push(LongMinHeap.entry(distance(theStart, theGoal), theStart));
+
+        while (!myOpen.isEmpty()) {
+            final long entry = myOpen.pop();
+            final int tile = LongMinHeap.tileOf(entry);
+            final int cost = myCosts[tile];
+            if (tile == theGoal) {
+                return cost;
+            } else if (LongMinHeap.priorityOf(entry) > cost + distance(tile, theGoal)) {
+                // A cheaper route to this tile was already expanded
+                continue;
+            }
+
+            final int x = tile % myWidth;
+            if (x > 0) {
+                relax(tile, tile - 1, cost, theGoal);
+            }
+            if (x < myWidth - 1) {
+                relax(tile, tile + 1, cost, theGoal);
+            }
+            if (tile >= myWidth) {
+                relax(tile, tile - myWidth, cost, theGoal);
+            }
+            if (tile < (myHeight - 1) * myWidth) {
+                relax(tile, tile + myWidth, cost, theGoal);
+            }
+        }
+
+        return NO_PATH;
+    }
+
+    /**
+     * Tries reaching a neighbor of a tile, opening it if that's the best route yet.
+     *
+     * @param theTile Tile being expanded.
+     * @param theNeighbor Neighboring tile to reach.
+     * @param theCost Cost of the route to theTile.
+     * @param theGoal Tile being searched for.
+     */
+    private void relax(final int theTile, final int theNeighbor,
+                       final int theCost, final int theGoal) {
+        final int step = myGrid.getCost(theNeighbor);
+        if (step == SearchGrid.BLOCKED) {
+            return;
+        }
+
+        final int cost = theCost + step;
+        if (!isVisited(theNeighbor) || cost < myCosts[theNeighbor]) {
+            visit(theNeighbor, cost, theTile);
+            myOpen.push(LongMinHeap.entry(cost + distance(theNeighbor, theGoal), theNeighbor));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package model.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Finds routes with the fewest steps using breadth-first searches from both
+ * ends at once, always growing whichever side has the smaller frontier.
+ * <p>
+ * Every tile which can be entered counts as one step, so routes may pass
+ * through unanswered doors a weighted search would go around. The cost
+ * returned is still the full cost of entering each tile along the route.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class BidirectionalBfsPathFinder extends GridSearch {
+
+    /**
+     * Tiles waiting to be expanded from the start, one level at a time.
+     */
+    private final int[] myForwardQueue;
+
+    /**
+     * Tiles waiting to be expanded from the goal, one level at a time.
+     */
+    private final int[] myBackwardQueue;
+
+    /**
+     * Steps from each tile reached from the goal back to the goal.
+     */
+    private final int[] myBackwardSteps;
+
+    /**
+     * Tile each tile reached from the goal leads on to toward the goal.
+     */
+    private final int[] myBackwardParents;
+
+    /**
+     * Generation of the search which last reached each tile from the goal.
+     */
+    private final int[] myBackwardVisits;
+
+    /**
+     * Generation of the current search from the goal.
+     */
+    private int myBackwardGeneration;
+
+    /**
+     * Tile where the two searches met along the best route, for building the path.
+     */
+    private int myMeeting;
+
+    /**
+     * Constructs a bidirectional breadth-first path finder over a grid.
+     *
+     * @param theGrid Grid to search.
+     */
+    public BidirectionalBfsPathFinder(final SearchGrid theGrid) {
+        super(theGrid);
+        myForwardQueue = new int[theGrid.getTileCount()];
+        myBackwardQueue = new int[theGrid.getTileCount()];
+        myBackwardSteps = new int[theGrid.getTileCount()];
+        myBackwardParents = new int[theGrid.getTileCount()];
+        myBackwardVisits = new int[theGrid.getTileCount()];
+    }
+
+    @Override
+    int search(final int theStart, final int theGoal) {
+        nextGeneration();
+        myBackwardGeneration++;
+        if (myBackwardGeneration == 0) {
+            Arrays.fill(myBackwardVisits, 0);
+            myBackwardGeneration = 1;
+        }
+
+        // Steps from the start are kept as the costs of the forward search
+        visit(theStart, 0, NO_PARENT);
+        visitBackward(theGoal, 0, NO_PARENT);
+
+        int forwardHead = 0;
+        int forwardTail = 0;
+        myForwardQueue[forwardTail++] = theStart;
+        int backwardHead = 0;
+        int backwardTail = 0;
+        myBackwardQueue[backwardTail++] = theGoal;
+
+        myMeeting = NO_PARENT;
+        int bestSteps = Integer.MAX_VALUE;
+        while (forwardHead < forwardTail && backwardHead < backwardTail) {
+            final boolean forward = forwardTail - forwardHead <= backwardTail - backwardHead;
+
+            // Expand one whole level, so every meeting at this depth is compared
+            if (forward) {
+                final int levelEnd = forwardTail;
+                while (forwardHead < levelEnd) {
+                    final int tile = myForwardQueue[forwardHead++];
+                    for (int side = 0; side < 4; side++) {
+                        final int next = neighbor(tile, side);
+                        if (next < 0 || isVisited(next)
+                            || myGrid.getCost(next) == SearchGrid.BLOCKED) {
+                            continue;
+                        }
+
+                        visit(next, myCosts[tile] + 1, tile);
+                        myForwardQueue[forwardTail++] = next;
+                        if (isVisitedBackward(next)
+                            && myCosts[next] + myBackwardSteps[next] < bestSteps) {
+                            bestSteps = myCosts[next] + myBackwardSteps[next];
+                            myMeeting = next;
+                        }
+                    }
+                }
+            } else {
+                final int levelEnd = backwardTail;
+                while (backwardHead < levelEnd) {
+                    final int tile = myBackwardQueue[backwardHead++];
+                    for (int side = 0; side < 4; side++) {
+                        final int previous = neighbor(tile, side);
+                        if (previous < 0 || isVisitedBackward(previous)
+                            || previous != theStart
+                               && myGrid.getCost(previous) == SearchGrid.BLOCKED) {
+                            continue;
+                        }
+
+                        visitBackward(previous, myBackwardSteps[tile] + 1, tile);
+                        myBackwardQueue[backwardTail++] = previous;
+                        if (isVisited(previous)
+                            && myCosts[previous] + myBackwardSteps[previous] < bestSteps) {
+                            bestSteps = myCosts[previous] + myBackwardSteps[previous];
+                            myMeeting = previous;
+                        }
+                    }
+                }
+            }
+
+            if (myMeeting != NO_PARENT) {
+                return routeCost(theStart, theGoal);
+            }
+        }
+
+        return NO_PATH;
+    }
+
+    @Override
+    long[] buildPath(final int theStart, final int theGoal) {
+        if (theStart == theGoal) {
+            // Never searched, so there's no meeting tile
+            return super.buildPath(theStart, theGoal);
+        }
+
+        final long[] path = new long[myCosts[myMeeting] + myBackwardSteps[myMeeting] + 1];
+
+        int index = myCosts[myMeeting];
+        for (int tile = myMeeting; tile != NO_PARENT; tile = myParents[tile]) {
+            path[index--] = myGrid.toPacked(tile);
+        }
+        index = myCosts[myMeeting] + 1;
+        for (int tile = myBackwardParents[myMeeting]; tile != NO_PARENT;
+             tile = myBackwardParents[tile]) {
+            path[index++] = myGrid.toPacked(tile);
+        }
+
+        return path;
+    }
+
+    /**
+     * Adds up the cost of entering every tile along the route through the meeting tile.
+     *
+     * @param theStart Tile the search started from.
+     * @param theGoal Tile the search reached.
+     * @return Cost of the route.
+     */
+    private int routeCost(final int theStart, final int theGoal) {
+        int cost = 0;
+        for (int tile = myMeeting; tile != theStart; tile = myParents[tile]) {
+            cost += myGrid.getCost(tile);
+        }
+        for (int tile = myMeeting; tile != theGoal; tile = myBackwardParents[tile]) {
+            cost += myGrid.getCost(myBackwardParents[tile]);
+        }
+
+        return cost;
+    }
+
+    /**
+     * Gets one of a tile's four neighbors.
+     *
+     * @param theTile Tile to get a neighbor of.
+     * @param theSide Which neighbor, from 0 to 3.
+     * @return Neighboring tile, or -1 if it's outside the grid.
+     */
+    private int neighbor(final int theTile, final int theSide) {
+        return switch (theSide) {
+            case 0 -> theTile % myWidth > 0 ? theTile - 1 : -1;
+            case 1 -> theTile % myWidth < myWidth - 1 ? theTile + 1 : -1;
+            case 2 -> theTile >= myWidth ? theTile - myWidth : -1;
+            default -> theTile < (myHeight - 1) * myWidth ? theTile + myWidth : -1;
+        };
+    }
+
+    /**
+     * Checks if a tile has been reached from the goal in the current search.
+     *
+     * @param theTile Tile to check.
+     * @return True if reached, false otherwise.
+     */
+    private boolean isVisitedBackward(final int theTile) {
+        return myBackwardVisits[theTile] == myBackwardGeneration;
+    }
+
+    /**
+     * Records a tile reached from the goal.
+     *
+     * @param theTile Tile reached.
+     * @param theSteps Steps from theTile to the goal.
+     * @param theParent Tile theTile leads on to toward the goal.
+     */
+    private void visitBackward(final int theTile, final int theSteps, final int theParent) {
+        myBackwardVisits[theTile] = myBackwardGeneration;
+        myBackwardSteps[theTile] = theSteps;
+        myBackwardParents[theTile] = theParent;
+    }
+}
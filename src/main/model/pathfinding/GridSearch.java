@@ -0,0 +1,207 @@
+package model.pathfinding;
+
+import java.util.Arrays;
+import model.interfaces.PathFinder;
+
+/**
+ * Base for path finders searching a SearchGrid, holding the scratch
+ * buffers every search reuses.
+ * <p>
+ * Rather than clearing its buffers before each search, a tile's entries only
+ * count if its visit mark matches the current search's generation, so starting
+ * a search is constant time however big the grid is.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+abstract class GridSearch implements PathFinder {
+
+    /**
+     * Parent of tiles with no parent.
+     */
+    static final int NO_PARENT = -1;
+
+    /**
+     * Grid being searched.
+     */
+    final SearchGrid myGrid;
+
+    /**
+     * Width of the grid in tiles.
+     */
+    final int myWidth;
+
+    /**
+     * Height of the grid in tiles.
+     */
+    final int myHeight;
+
+    /**
+     * Cost of the best route found so far to each visited tile.
+     */
+    final int[] myCosts;
+
+    /**
+     * Tile each visited tile was reached from, along a straight line.
+     */
+    final int[] myParents;
+
+    /**
+     * Generation of the search which last visited each tile.
+     */
+    private final int[] myVisits;
+
+    /**
+     * Generation of the current search.
+     */
+    private int myGeneration;
+
+    /**
+     * Constructs a search over a grid, allocating its scratch buffers.
+     *
+     * @param theGrid Grid to search.
+     */
+    GridSearch(final SearchGrid theGrid) {
+        myGrid = theGrid;
+        myWidth = theGrid.getWidth();
+        myHeight = theGrid.getHeight();
+        myCosts = new int[theGrid.getTileCount()];
+        myParents = new int[theGrid.getTileCount()];
+        myVisits = new int[theGrid.getTileCount()];
+    }
+
+    @Override
+    public int findCost(final long theStart, final long theGoal) {
+        return run(myGrid.toTile(theStart), myGrid.toTile(theGoal));
+    }
+
+    @Override
+    public long[] findPath(final long theStart, final long theGoal) {
+        final int start = myGrid.toTile(theStart);
+        final int goal = myGrid.toTile(theGoal);
+        if (run(start, goal) == NO_PATH) {
+            return null;
+        }
+
+        return buildPath(start, goal);
+    }
+
+    /**
+     * Searches for the cheapest route between two tiles, leaving each
+     * tile's parent along it in the scratch buffers.
+     *
+     * @param theStart Tile to start from.
+     * @param theGoal Tile to reach, which can be entered.
+     * @return Cost of the route, or NO_PATH if there is none.
+     */
+    abstract int search(int theStart, int theGoal);
+
+    /**
+     * Builds the route found by the last search by following parents back
+     * from the goal, filling in the tiles between each parent and child.
+     *
+     * @param theStart Tile the search started from.
+     * @param theGoal Tile the search reached.
+     * @return Packed coordinates of every tile along the route.
+     */
+    long[] buildPath(final int theStart, final int theGoal) {
+        int length = 1;
+        for (int tile = theGoal; tile != theStart; tile = myParents[tile]) {
+            length += distance(myParents[tile], tile);
+        }
+
+        final long[] path = new long[length];
+        int index = length - 1;
+        for (int tile = theGoal; tile != theStart; tile = myParents[tile]) {
+            final int parent = myParents[tile];
+            final int step = stepBetween(parent, tile);
+            for (int between = tile; between != parent; between -= step) {
+                path[index--] = myGrid.toPacked(between);
+            }
+        }
+        path[0] = myGrid.toPacked(theStart);
+
+        return path;
+    }
+
+    /**
+     * Starts a new search generation, forgetting every visited tile.
+     */
+    void nextGeneration() {
+        myGeneration++;
+        if (myGeneration == 0) {
+            // Marks wrapped around, so old marks could match again
+            Arrays.fill(myVisits, 0);
+            myGeneration = 1;
+        }
+    }
+
+    /**
+     * Checks if a tile has been visited in the current search.
+     *
+     * @param theTile Tile to check.
+     * @return True if visited, false otherwise.
+     */
+    boolean isVisited(final int theTile) {
+        return myVisits[theTile] == myGeneration;
+    }
+
+    /**
+     * Records a route to a tile in the current search.
+     *
+     * @param theTile Tile reached.
+     * @param theCost Cost of the route to it.
+     * @param theParent Tile it was reached from.
+     */
+    void visit(final int theTile, final int theCost, final int theParent) {
+        myVisits[theTile] = myGeneration;
+        myCosts[theTile] = theCost;
+        myParents[theTile] = theParent;
+    }
+
+    /**
+     * Gets the Manhattan distance between two tiles.
+     *
+     * @param theFirst First tile.
+     * @param theSecond Second tile.
+     * @return Manhattan distance in tiles.
+     */
+    int distance(final int theFirst, final int theSecond) {
+        return Math.abs(theFirst % myWidth - theSecond % myWidth)
+               + Math.abs(theFirst / myWidth - theSecond / myWidth);
+    }
+
+    /**
+     * Gets the tile number step from one tile toward another in the same row or column.
+     *
+     * @param theFrom Tile to step from.
+     * @param theTo Tile to step toward.
+     * @return Difference in tile number of one step.
+     */
+    int stepBetween(final int theFrom, final int theTo) {
+        if (theFrom / myWidth == theTo / myWidth) {
+            return theTo > theFrom ? 1 : -1;
+        }
+        return theTo > theFrom ? myWidth : -myWidth;
+    }
+
+    /**
+     * Checks the ends of a search, then runs it.
+     *
+     * @param theStart Tile to start from.
+     * @param theGoal Tile to reach.
+     * @return Cost of the route, or NO_PATH if there is none.
+     */
+    private int run(final int theStart, final int theGoal) {
+        if (theStart == theGoal) {
+            nextGeneration();
+            visit(theStart, 0, NO_PARENT);
+            return 0;
+        } else if (myGrid.getCost(theGoal) == SearchGrid.BLOCKED) {
+            return NO_PATH;
+        }
+
+        return search(theStart, theGoal);
+    }
+}
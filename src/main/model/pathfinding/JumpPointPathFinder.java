@@ -0,0 +1,207 @@
+package model.pathfinding;
+
+/**
+ * Finds cheapest routes with jump point search for grids without diagonal
+ * moves, which skips along straight runs of plain tiles instead of opening
+ * every tile on the way like A* does.
+ * <p>
+ * Jumps only ever pass over tiles costing the usual step cost, and stop on
+ * anything costing more, such as an unanswered door. Weighted tiles are
+ * expanded in every direction and never count as plain when deciding
+ * whether a neighbor is forced, so routes through them stay the cheapest.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class JumpPointPathFinder extends GridSearch {
+
+    /**
+     * Returned by a jump which found nothing.
+     */
+    private static final int NO_JUMP = -1;
+
+    /**
+     * Open set of jump points to expand, by estimated total cost.
+     */
+    private final LongMinHeap myOpen;
+
+    /**
+     * Tile being searched for.
+     */
+    private int myGoal;
+
+    /**
+     * Constructs a jump point path finder over a grid.
+     *
+     * @param theGrid Grid to search.
+     */
+    public JumpPointPathFinder(final SearchGrid theGrid) {
+        super(theGrid);
+        myOpen = new LongMinHeap();
+    }
+
+    @Override
+    int search(final int theStart, final int theGoal) {
+        nextGeneration();
+        myOpen.clear();
+        myGoal = theGoal;
+
+        visit(theStart, 0, NO_PARENT);
+        myOpen.push(LongMinHeap.entry(distance(theStart, theGoal), theStart));
+
+        while (!myOpen.isEmpty()) {
+            final long entry = myOpen.pop();
+            final int tile = LongMinHeap.tileOf(entry);
+            final int cost = myCosts[tile];
+            if (tile == theGoal) {
+                return cost;
+            } else if (LongMinHeap.priorityOf(entry) > cost + distance(tile, theGoal)) {
+                // A cheaper route to this tile was already expanded
+                continue;
+            }
+
+            final int x = tile % myWidth;
+            final int y = tile / myWidth;
+            final int parent = myParents[tile];
+
+            if (parent == NO_PARENT || myGrid.getCost(tile) != SearchGrid.STEP_COST) {
+                // Nothing to prune from
+                jumpFrom(tile, cost, x, y, 1, 0);
+                jumpFrom(tile, cost, x, y, -1, 0);
+                jumpFrom(tile, cost, x, y, 0, 1);
+                jumpFrom(tile, cost, x, y, 0, -1);
+            } else if (parent / myWidth == y) {
+                // Moving horizontally: keep going, or turn either way
+                final int deltaX = Integer.signum(x - parent % myWidth);
+                jumpFrom(tile, cost, x, y, deltaX, 0);
+                jumpFrom(tile, cost, x, y, 0, 1);
+                jumpFrom(tile, cost, x, y, 0, -1);
+            } else {
+                // Moving vertically: keep going, or turn either way
+                final int deltaY = Integer.signum(y - parent / myWidth);
+                jumpFrom(tile, cost, x, y, 0, deltaY);
+                jumpFrom(tile, cost, x, y, 1, 0);
+                jumpFrom(tile, cost, x, y, -1, 0);
+            }
+        }
+
+        return NO_PATH;
+    }
+
+    /**
+     * Jumps from a tile in a direction, opening the jump point found if
+     * that's the best route to it yet.
+     *
+     * @param theTile Tile being expanded.
+     * @param theCost Cost of the route to theTile.
+     * @param theX X-coordinate of theTile.
+     * @param theY Y-coordinate of theTile.
+     * @param theDeltaX Horizontal direction to jump, -1, 0 or 1.
+     * @param theDeltaY Vertical direction to jump, -1, 0 or 1.
+     */
+    private void jumpFrom(final int theTile, final int theCost,
+                          final int theX, final int theY,
+                          final int theDeltaX, final int theDeltaY) {
+        final int point;
+        if (theDeltaX != 0) {
+            point = jumpHorizontal(theX + theDeltaX, theY, theDeltaX);
+        } else {
+            point = jumpVertical(theX, theY + theDeltaY, theDeltaY);
+        }
+        if (point == NO_JUMP) {
+            return;
+        }
+
+        // Every tile skipped over costs one step
+        final int cost = theCost + distance(theTile, point) - 1 + myGrid.getCost(point);
+        if (!isVisited(point) || cost < myCosts[point]) {
+            visit(point, cost, theTile);
+            myOpen.push(LongMinHeap.entry(cost + distance(point, myGoal), point));
+        }
+    }
+
+    /**
+     * Jumps horizontally until reaching a jump point or a dead end.
+     *
+     * @param theX X-coordinate of the first tile of the jump.
+     * @param theY Y-coordinate of the row to jump along.
+     * @param theDeltaX Direction to jump, -1 or 1.
+     * @return Jump point reached, or NO_JUMP if there wasn't one.
+     */
+    private int jumpHorizontal(final int theX, final int theY, final int theDeltaX) {
+        for (int x = theX;; x += theDeltaX) {
+            final int cost = myGrid.getCost(x, theY);
+            if (cost == SearchGrid.BLOCKED) {
+                return NO_JUMP;
+            }
+
+            final int tile = theY * myWidth + x;
+            if (tile == myGoal || cost != SearchGrid.STEP_COST) {
+                return tile;
+            }
+
+            // A way up or down which couldn't be reached as cheaply from behind
+            if (isOpen(x, theY + 1) && !isPlain(x - theDeltaX, theY + 1)
+                || isOpen(x, theY - 1) && !isPlain(x - theDeltaX, theY - 1)) {
+                return tile;
+            }
+        }
+    }
+
+    /**
+     * Jumps vertically until reaching a jump point or a dead end. Any tile
+     * a horizontal jump would find a jump point from is itself a jump point.
+     *
+     * @param theX X-coordinate of the column to jump along.
+     * @param theY Y-coordinate of the first tile of the jump.
+     * @param theDeltaY Direction to jump, -1 or 1.
+     * @return Jump point reached, or NO_JUMP if there wasn't one.
+     */
+    private int jumpVertical(final int theX, final int theY, final int theDeltaY) {
+        for (int y = theY;; y += theDeltaY) {
+            final int cost = myGrid.getCost(theX, y);
+            if (cost == SearchGrid.BLOCKED) {
+                return NO_JUMP;
+            }
+
+            final int tile = y * myWidth + theX;
+            if (tile == myGoal || cost != SearchGrid.STEP_COST) {
+                return tile;
+            }
+
+            // A way sideways which couldn't be reached as cheaply from behind
+            if (isOpen(theX + 1, y) && !isPlain(theX + 1, y - theDeltaY)
+                || isOpen(theX - 1, y) && !isPlain(theX - 1, y - theDeltaY)) {
+                return tile;
+            }
+
+            if (jumpHorizontal(theX + 1, y, 1) != NO_JUMP
+                || jumpHorizontal(theX - 1, y, -1) != NO_JUMP) {
+                return tile;
+            }
+        }
+    }
+
+    /**
+     * Checks if a tile can be entered.
+     *
+     * @param theX X-coordinate of the tile.
+     * @param theY Y-coordinate of the tile.
+     * @return True if inside the grid and not blocked, false otherwise.
+     */
+    private boolean isOpen(final int theX, final int theY) {
+        return myGrid.getCost(theX, theY) != SearchGrid.BLOCKED;
+    }
+
+    /**
+     * Checks if a tile can be entered for the usual step cost.
+     *
+     * @param theX X-coordinate of the tile.
+     * @param theY Y-coordinate of the tile.
+     * @return True if inside the grid and costing one step, false otherwise.
+     */
+    private boolean isPlain(final int theX, final int theY) {
+        return myGrid.getCost(theX, theY) == SearchGrid.STEP_COST;
+    }
+}
@@ -0,0 +1,134 @@
+package model.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of primitive longs, used as an open set by packing a
+ * priority into the high half of each entry and a tile into the low half.
+ * Entries are never removed early, searches skip stale ones instead.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class LongMinHeap {
+
+    /**
+     * Starting capacity of the heap.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Entries of the heap, in heap order.
+     */
+    private long[] myEntries;
+
+    /**
+     * Number of entries in the heap.
+     */
+    private int mySize;
+
+    /**
+     * Constructs an empty heap.
+     */
+    LongMinHeap() {
+        myEntries = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Packs a priority and tile into a single entry, ordered by priority.
+     *
+     * @param thePriority Priority of the entry, not negative.
+     * @param theTile Tile number, not negative.
+     * @return Packed entry.
+     */
+    static long entry(final int thePriority, final int theTile) {
+        return ((long) thePriority << Integer.SIZE) | theTile;
+    }
+
+    /**
+     * Gets the tile number of an entry.
+     *
+     * @param theEntry Packed entry.
+     * @return Tile number.
+     */
+    static int tileOf(final long theEntry) {
+        return (int) theEntry;
+    }
+
+    /**
+     * Gets the priority of an entry.
+     *
+     * @param theEntry Packed entry.
+     * @return Priority.
+     */
+    static int priorityOf(final long theEntry) {
+        return (int) (theEntry >>> Integer.SIZE);
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return True if empty, false otherwise.
+     */
+    boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the heap's capacity.
+     */
+    void clear() {
+        mySize = 0;
+    }
+
+    /**
+     * Adds an entry.
+     *
+     * @param theEntry Entry to add.
+     */
+    void push(final long theEntry) {
+        if (mySize == myEntries.length) {
+            myEntries = Arrays.copyOf(myEntries, mySize * 2);
+        }
+
+        // Sift up
+        int index = mySize++;
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (myEntries[parent] <= theEntry) {
+                break;
+            }
+            myEntries[index] = myEntries[parent];
+            index = parent;
+        }
+        myEntries[index] = theEntry;
+    }
+
+    /**
+     * Removes and returns the smallest entry.
+     *
+     * @return Smallest entry.
+     */
+    long pop() {
+        final long smallest = myEntries[0];
+        final long last = myEntries[--mySize];
+
+        // Sift down
+        int index = 0;
+        final int half = mySize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < mySize && myEntries[child + 1] < myEntries[child]) {
+                child++;
+            }
+            if (last <= myEntries[child]) {
+                break;
+            }
+            myEntries[index] = myEntries[child];
+            index = child;
+        }
+        myEntries[index] = last;
+
+        return smallest;
+    }
+}
@@ -0,0 +1,133 @@
+package model.pathfinding;
+
+import model.Coordinates;
+import model.Maze;
+import model.PackedCoordinates;
+import model.RoomGraph;
+import model.interfaces.PathFinder;
+
+/**
+ * Finds routes through a maze to its exit room, for hints, solvability
+ * checks and bots. Routes aim for the center tile of the exit room, where
+ * the player would stand after walking in.
+ * <p>
+ * Routes follow every door's current state: locked doors can't be passed,
+ * and unanswered doors can be passed for an extra cost, since the player
+ * still needs to answer them.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class MazeRouter {
+
+    /**
+     * Default cost of passing through an unanswered door, in steps.
+     */
+    public static final int DEFAULT_DOOR_COST = 10;
+
+    /**
+     * Maze being routed through.
+     */
+    private final Maze myMaze;
+
+    /**
+     * Grid the finder searches.
+     */
+    private final SearchGrid myGrid;
+
+    /**
+     * Finder used for every route.
+     */
+    private final PathFinder myFinder;
+
+    /**
+     * Constructs a router through a maze, with the default door cost.
+     *
+     * @param theMaze Maze to route through.
+     * @throws IllegalArgumentException If theMaze has no passability index.
+     */
+    public MazeRouter(final Maze theMaze) throws IllegalArgumentException {
+        this(theMaze, DEFAULT_DOOR_COST);
+    }
+
+    /**
+     * Constructs a router through a maze.
+     *
+     * @param theMaze Maze to route through.
+     * @param theDoorCost Cost of passing through an unanswered door, in steps.
+     * @throws IllegalArgumentException If theMaze has no passability index,
+     *                                  or theDoorCost isn't positive.
+     */
+    public MazeRouter(final Maze theMaze, final int theDoorCost)
+            throws IllegalArgumentException {
+        myMaze = theMaze;
+        myGrid = new SearchGrid(theMaze, theDoorCost);
+        myFinder = new JumpPointPathFinder(myGrid);
+    }
+
+    /**
+     * Finds the cheapest route from a position to the exit room.
+     *
+     * @param theFrom Position to start from.
+     * @return Packed coordinates of every tile along the route,
+     *          or null if the exit can't be reached.
+     */
+    public long[] routeToExit(final Coordinates theFrom) {
+        return myFinder.findPath(PackedCoordinates.fromCoordinates(theFrom), getExitTile());
+    }
+
+    /**
+     * Finds the cost of the cheapest route from a position to the exit room.
+     *
+     * @param theFrom Position to start from.
+     * @return Cost of the route, or PathFinder.NO_PATH if the exit can't be reached.
+     */
+    public int costToExit(final Coordinates theFrom) {
+        return myFinder.findCost(PackedCoordinates.fromCoordinates(theFrom), getExitTile());
+    }
+
+    /**
+     * Checks if the exit room can be reached from the center of the starting
+     * room, going through unanswered doors but not locked ones. Searches the
+     * maze's room graph when it has one, since that's one step per room
+     * instead of one per tile.
+     *
+     * @return True if the maze can still be solved, false otherwise.
+     */
+    public boolean isSolvable() {
+        final RoomGraph graph = myMaze.getRoomGraph();
+        if (graph != null) {
+            return graph.findDistance(
+                    graph.getRoomIndex(myMaze.getStartingRoomX(), myMaze.getStartingRoomY()),
+                    graph.getRoomIndex(myMaze.getExitRoomX(), myMaze.getExitRoomY()))
+                   != RoomGraph.NO_ROUTE;
+        }
+
+        final long start = PackedCoordinates.pack(myMaze.getStartingRoomX(),
+                                                  myMaze.getStartingRoomY(),
+                                                  myMaze.getRoom(0, 0).getWidth() / 2,
+                                                  myMaze.getRoom(0, 0).getHeight() / 2);
+        return myFinder.findCost(start, getExitTile()) != PathFinder.NO_PATH;
+    }
+
+    /**
+     * Gets the grid routes are searched over.
+     *
+     * @return Search grid for the maze.
+     */
+    public SearchGrid getGrid() {
+        return myGrid;
+    }
+
+    /**
+     * Gets the packed coordinates of the center tile of the exit room.
+     *
+     * @return Packed coordinates of the exit tile.
+     */
+    private long getExitTile() {
+        return PackedCoordinates.pack(myMaze.getExitRoomX(), myMaze.getExitRoomY(),
+                                      myMaze.getRoom(0, 0).getWidth() / 2,
+                                      myMaze.getRoom(0, 0).getHeight() / 2);
+    }
+}
@@ -0,0 +1,186 @@
+package model.pathfinding;
+
+import model.Maze;
+import model.PackedCoordinates;
+import model.PassabilityIndex;
+
+/**
+ * View of a maze as one big grid of tiles with a cost for entering each
+ * one, read live from the maze's PassabilityIndex so it follows every door.
+ * <p>
+ * Tiles are numbered row by row from the bottom left tile of the maze, so
+ * the tile above another is one row length further on. Entering a passable
+ * tile costs 1, entering an unanswered door costs the door cost, and every
+ * other tile, including locked doors, can't be entered at all.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class SearchGrid {
+
+    /**
+     * Cost of tiles which can't be entered.
+     */
+    public static final int BLOCKED = 0;
+
+    /**
+     * Cost of entering a passable tile.
+     */
+    public static final int STEP_COST = 1;
+
+    /**
+     * Error message for a maze without a passability index.
+     */
+    private static final String UNINDEXED_MAZE_MESSAGE
+            = "Maze has no passability index to search!";
+
+    /**
+     * Error message for a maze with too many tiles.
+     */
+    private static final String TOO_LARGE_MESSAGE = "Maze has too many tiles to search!";
+
+    /**
+     * Error message for an invalid door cost.
+     */
+    private static final String ILLEGAL_DOOR_COST_MESSAGE = "Door cost must be positive!";
+
+    /**
+     * Index the grid reads tiles from.
+     */
+    private final PassabilityIndex myIndex;
+
+    /**
+     * Width of the grid in tiles.
+     */
+    private final int myWidth;
+
+    /**
+     * Height of the grid in tiles.
+     */
+    private final int myHeight;
+
+    /**
+     * Width of each room in tiles.
+     */
+    private final int myRoomWidth;
+
+    /**
+     * Height of each room in tiles.
+     */
+    private final int myRoomHeight;
+
+    /**
+     * Cost of entering an unanswered door.
+     */
+    private final int myDoorCost;
+
+    /**
+     * Constructs a search grid over a maze.
+     *
+     * @param theMaze Maze to search.
+     * @param theDoorCost Cost of entering an unanswered door.
+     * @throws IllegalArgumentException If theMaze can't be indexed or is too large,
+     *                                  or theDoorCost isn't positive.
+     */
+    public SearchGrid(final Maze theMaze, final int theDoorCost)
+            throws IllegalArgumentException {
+        myIndex = theMaze.getPassability();
+        if (myIndex == null) {
+            throw new IllegalArgumentException(UNINDEXED_MAZE_MESSAGE);
+        } else if (myIndex.getTilesWide() * myIndex.getTilesHigh() >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(TOO_LARGE_MESSAGE);
+        } else if (theDoorCost <= 0) {
+            throw new IllegalArgumentException(ILLEGAL_DOOR_COST_MESSAGE);
+        }
+
+        myWidth = (int) myIndex.getTilesWide();
+        myHeight = (int) myIndex.getTilesHigh();
+        myRoomWidth = myIndex.getRoomWidth();
+        myRoomHeight = myIndex.getRoomHeight();
+        myDoorCost = theDoorCost;
+    }
+
+    /**
+     * Gets the width of the grid in tiles.
+     *
+     * @return Width in tiles.
+     */
+    public int getWidth() {
+        return myWidth;
+    }
+
+    /**
+     * Gets the height of the grid in tiles.
+     *
+     * @return Height in tiles.
+     */
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Gets the number of tiles in the grid.
+     *
+     * @return Number of tiles.
+     */
+    public int getTileCount() {
+        return myWidth * myHeight;
+    }
+
+    /**
+     * Gets the cost of entering a tile.
+     *
+     * @param theTile Tile number.
+     * @return Cost of entering theTile, or BLOCKED if it can't be entered.
+     */
+    public int getCost(final int theTile) {
+        if (myIndex.isPassableTile(theTile)) {
+            return STEP_COST;
+        } else if (myIndex.isUnansweredDoorTile(theTile)) {
+            return myDoorCost;
+        }
+        return BLOCKED;
+    }
+
+    /**
+     * Gets the cost of entering the tile at certain grid coordinates.
+     *
+     * @param theX X-coordinate in tiles across the whole maze.
+     * @param theY Y-coordinate in tiles across the whole maze.
+     * @return Cost of entering the tile, or BLOCKED if it can't be entered
+     *          or is outside the grid.
+     */
+    public int getCost(final int theX, final int theY) {
+        if (theX < 0 || theY < 0 || theX >= myWidth || theY >= myHeight) {
+            return BLOCKED;
+        }
+        return getCost(theY * myWidth + theX);
+    }
+
+    /**
+     * Gets the tile number for a set of packed coordinates.
+     *
+     * @param thePacked Coordinates packed by PackedCoordinates.
+     * @return Tile number.
+     */
+    public int toTile(final long thePacked) {
+        return (int) myIndex.getTileIndex(PackedCoordinates.getRoomX(thePacked),
+                                          PackedCoordinates.getRoomY(thePacked),
+                                          PackedCoordinates.getX(thePacked),
+                                          PackedCoordinates.getY(thePacked));
+    }
+
+    /**
+     * Gets the packed coordinates of a tile number.
+     *
+     * @param theTile Tile number.
+     * @return Coordinates of theTile, packed by PackedCoordinates.
+     */
+    public long toPacked(final int theTile) {
+        final int x = theTile % myWidth;
+        final int y = theTile / myWidth;
+        return PackedCoordinates.pack(x / myRoomWidth, y / myRoomHeight,
+                                      x % myRoomWidth, y % myRoomHeight);
+    }
+}
@@ -1,5 +1,6 @@
 package model.tiles;
 
+import java.io.Serial;
 import model.enums.TileID;
 import model.interfaces.Tile;
 
@@ -7,12 +8,13 @@ import model.interfaces.Tile;
  * An empty tile.
  *
  * @author Shane Menzies
- * @version 10/25/24
+ * @version 10/17/26
  */
 public final class EmptyTile implements Tile {
 
     /**
      * Constructs a new Empty Tile.
+     * Prefer the shared instance from TileRegistry.getEmpty().
      */
     public EmptyTile() { }
 
@@ -31,4 +33,15 @@ public final class EmptyTile implements Tile {
     public String toString() {
         return " ";
     }
+
+    /**
+     * Replaces deserialized instances with the shared instance,
+     * so loaded games share tiles just like newly generated ones.
+     *
+     * @return The shared EmptyTile instance.
+     */
+    @Serial
+    private Object readResolve() {
+        return TileRegistry.getEmpty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package model.tiles;
+
+import model.enums.TileID;
+import model.interfaces.Tile;
+
+/**
+ * Registry of shared tile instances.
+ * <p>
+ * Empty and wall tiles hold no state, so a single instance of each
+ * can be shared by every cell in every maze.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class TileRegistry {
+
+    /**
+     * Exception message for a TileID without a shared instance.
+     */
+    private static final String NO_SHARED_INSTANCE_MESSAGE
+            = "No shared tile instance exists for TileID: ";
+
+    /**
+     * The shared empty tile.
+     */
+    private static final EmptyTile EMPTY = new EmptyTile();
+
+    /**
+     * The shared wall tile.
+     */
+    private static final WallTile WALL = new WallTile();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TileRegistry() { }
+
+    /**
+     * Gets the shared empty tile.
+     *
+     * @return The shared EmptyTile instance.
+     */
+    public static EmptyTile getEmpty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the shared wall tile.
+     *
+     * @return The shared WallTile instance.
+     */
+    public static WallTile getWall() {
+        return WALL;
+    }
+
+    /**
+     * Gets the shared tile for a certain TileID.
+     *
+     * @param theID TileID of a stateless tile.
+     * @return The shared tile instance for theID.
+     * @throws IllegalArgumentException If tiles of theID have state and can't be shared.
+     */
+    public static Tile get(final TileID theID) throws IllegalArgumentException {
+        return switch (theID) {
+            case EMPTY -> EMPTY;
+            case WALL -> WALL;
+            default -> throw new IllegalArgumentException(NO_SHARED_INSTANCE_MESSAGE + theID);
+        };
+    }
+
+    /**
+     * Gets the shared equivalent of a tile.
+     *
+     * @param theTile Tile to find the shared equivalent of.
+     * @return The shared instance if theTile is stateless, otherwise theTile itself.
+     */
+    public static Tile canonical(final Tile theTile) {
+        final Tile result;
+        if (theTile instanceof EmptyTile) {
+            result = EMPTY;
+        } else if (theTile instanceof WallTile) {
+            result = WALL;
+        } else {
+            result = theTile;
+        }
+
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package model.tiles;
 
+import java.io.Serial;
 import model.enums.TileID;
 import model.interfaces.Tile;
 
@@ -7,12 +8,13 @@ import model.interfaces.Tile;
  * A solid wall tile, impassable by the player.
  *
  * @author Shane Menzies
- * @version 10/25/24
+ * @version 10/17/26
  */
 public final class WallTile implements Tile {
 
     /**
      * Constructs a new Wall Tile.
+     * Prefer the shared instance from TileRegistry.getWall().
      */
     public WallTile() { }
 
@@ -31,4 +33,15 @@ public final class WallTile implements Tile {
     public String toString() {
         return "▮";
     }
+
+    /**
+     * Replaces deserialized instances with the shared instance,
+     * so loaded games share tiles just like newly generated ones.
+     *
+     * @return The shared WallTile instance.
+     */
+    @Serial
+    private Object readResolve() {
+        return TileRegistry.getWall();
+    }
 }
\ No newline at end of file
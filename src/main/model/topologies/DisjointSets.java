@@ -0,0 +1,84 @@
+package model.topologies;
+
+/**
+ * Union-find over the integers from zero up to a fixed size,
+ * using path halving and union by size.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class DisjointSets {
+
+    /**
+     * Parent of each element, roots are their own parent.
+     */
+    private final int[] myParents;
+
+    /**
+     * Number of elements in each root's set.
+     */
+    private final int[] mySizes;
+
+    /**
+     * Constructs disjoint sets with every element in its own set.
+     *
+     * @param theSize Number of elements.
+     */
+    DisjointSets(final int theSize) {
+        myParents = new int[theSize];
+        mySizes = new int[theSize];
+        reset();
+    }
+
+    /**
+     * Puts every element back into its own set.
+     */
+    void reset() {
+        for (int i = 0; i < myParents.length; i++) {
+            myParents[i] = i;
+            mySizes[i] = 1;
+        }
+    }
+
+    /**
+     * Finds the representative element of an element's set.
+     *
+     * @param theElement Element to look up.
+     * @return Representative of the element's set.
+     */
+    int find(final int theElement) {
+        int element = theElement;
+        while (myParents[element] != element) {
+            myParents[element] = myParents[myParents[element]];
+            element = myParents[element];
+        }
+
+        return element;
+    }
+
+    /**
+     * Merges the sets holding two elements.
+     *
+     * @param theFirst Element of the first set.
+     * @param theSecond Element of the second set.
+     * @return True if the sets were merged, false if they were already the same set.
+     */
+    boolean union(final int theFirst, final int theSecond) {
+        int first = find(theFirst);
+        int second = find(theSecond);
+        if (first == second) {
+            return false;
+        }
+
+        // Hang the smaller set under the larger
+        if (mySizes[first] < mySizes[second]) {
+            final int swap = first;
+            first = second;
+            second = swap;
+        }
+        myParents[second] = first;
+        mySizes[first] += mySizes[second];
+
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package model.topologies;
+
+import java.util.BitSet;
+import model.enums.Direction;
+import model.interfaces.MazeTopology;
+
+/**
+ * Every door of a maze's layout, for topologies which have to
+ * carve the entire maze before handing out any rows.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class DoorLayout {
+
+    /**
+     * Width of the maze in rooms.
+     */
+    private final int myWidth;
+
+    /**
+     * Height of the maze in rooms.
+     */
+    private final int myHeight;
+
+    /**
+     * Set for each room with a door to the room on its right, indexed by room.
+     */
+    private final BitSet myRightDoors;
+
+    /**
+     * Set for each room with a door to the room above it, indexed by room.
+     */
+    private final BitSet myTopDoors;
+
+    /**
+     * Constructs a layout with no doors.
+     *
+     * @param theWidth Width of the maze in rooms.
+     * @param theHeight Height of the maze in rooms.
+     */
+    DoorLayout(final int theWidth, final int theHeight) {
+        myWidth = theWidth;
+        myHeight = theHeight;
+        myRightDoors = new BitSet(theWidth * theHeight);
+        myTopDoors = new BitSet(theWidth * theHeight);
+    }
+
+    /**
+     * Gets the index of a room, counting along rows from the bottom left.
+     *
+     * @param theX X-coordinate of the room.
+     * @param theY Y-coordinate of the room.
+     * @return Index of the room.
+     */
+    int roomIndex(final int theX, final int theY) {
+        return theY * myWidth + theX;
+    }
+
+    /**
+     * Gets the index of a room's neighbour in one direction.
+     *
+     * @param theRoom Index of the room.
+     * @param theDirection Direction of the neighbour.
+     * @return Index of the neighbour, or -1 if it would be outside the maze.
+     */
+    int neighbor(final int theRoom, final Direction theDirection) {
+        final int x = theRoom % myWidth;
+        final int y = theRoom / myWidth;
+
+        switch (theDirection) {
+            case UP:
+                return y < myHeight - 1 ? theRoom + myWidth : -1;
+            case DOWN:
+                return y > 0 ? theRoom - myWidth : -1;
+            case LEFT:
+                return x > 0 ? theRoom - 1 : -1;
+            case RIGHT:
+                return x < myWidth - 1 ? theRoom + 1 : -1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Opens a door between two neighbouring rooms.
+     *
+     * @param theRoom Index of the first room.
+     * @param theOther Index of the second room, next to or above or below the first.
+     */
+    void connect(final int theRoom, final int theOther) {
+        final int lower = Math.min(theRoom, theOther);
+        final int higher = Math.max(theRoom, theOther);
+
+        if (higher - lower == myWidth) {
+            myTopDoors.set(lower);
+        } else {
+            myRightDoors.set(lower);
+        }
+    }
+
+    /**
+     * Gets a RowCarver handing out this layout's rows, from the bottom up.
+     *
+     * @return RowCarver for this layout.
+     */
+    MazeTopology.RowCarver rows() {
+        final int[] row = {0};
+
+        return (theRightDoors, theTopDoors) -> {
+            final int start = roomIndex(0, row[0]);
+            for (int x = 0; x < myWidth; x++) {
+                theRightDoors[x] = myRightDoors.get(start + x);
+                theTopDoors[x] = myTopDoors.get(start + x);
+            }
+            row[0]++;
+        };
+    }
+}
@@ -0,0 +1,164 @@
+package model.topologies;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import model.interfaces.MazeTopology;
+
+/**
+ * Topology carving a perfect maze with Eller's algorithm, one row at a time.
+ * <p>
+ * Only the current row's sets are remembered, so laying out a maze takes
+ * memory proportional to its width no matter how tall it is. Each row
+ * randomly joins neighbouring rooms in different sets, then carries every
+ * set up into the next row through at least one top door. The top row
+ * joins every set left, which keeps the whole maze connected.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class EllerTopology implements MazeTopology {
+
+    @Override
+    public RowCarver carve(final int theWidth, final int theHeight,
+                           final RandomGenerator theRandom) {
+        return new EllerCarver(theWidth, theHeight, theRandom);
+    }
+
+    /**
+     * Carves rows for a single maze.
+     */
+    private static final class EllerCarver implements RowCarver {
+
+        /**
+         * Marks an unused entry in the set renumbering table.
+         */
+        private static final int UNASSIGNED = -1;
+
+        /**
+         * Width of the maze in rooms.
+         */
+        private final int myWidth;
+
+        /**
+         * Height of the maze in rooms.
+         */
+        private final int myHeight;
+
+        /**
+         * Random generator for every choice.
+         */
+        private final RandomGenerator myRandom;
+
+        /**
+         * Set each room of the current row belongs to, numbered from zero up to the width.
+         */
+        private final int[] mySets;
+
+        /**
+         * Merges of the current row's sets.
+         */
+        private final DisjointSets myMerges;
+
+        /**
+         * Last room of the current row in each set.
+         */
+        private final int[] myLastRooms;
+
+        /**
+         * Whether each set of the current row has a top door yet.
+         */
+        private final boolean[] myCarried;
+
+        /**
+         * Table for renumbering the next row's sets,
+         * covering carried sets and new single room sets.
+         */
+        private final int[] myRenumbering;
+
+        /**
+         * Index of the next row to carve.
+         */
+        private int myRow;
+
+        /**
+         * Constructs a carver with every room of the bottom row in its own set.
+         *
+         * @param theWidth Width of the maze in rooms.
+         * @param theHeight Height of the maze in rooms.
+         * @param theRandom Random generator for every choice.
+         */
+        private EllerCarver(final int theWidth, final int theHeight,
+                            final RandomGenerator theRandom) {
+            myWidth = theWidth;
+            myHeight = theHeight;
+            myRandom = theRandom;
+            mySets = new int[theWidth];
+            myMerges = new DisjointSets(theWidth);
+            myLastRooms = new int[theWidth];
+            myCarried = new boolean[theWidth];
+            myRenumbering = new int[theWidth * 2];
+            myRow = 0;
+
+            for (int x = 0; x < theWidth; x++) {
+                mySets[x] = x;
+            }
+        }
+
+        @Override
+        public void nextRow(final boolean[] theRightDoors, final boolean[] theTopDoors) {
+            final boolean lastRow = myRow == myHeight - 1;
+
+            // Join neighbours in different sets, always on the last row
+            myMerges.reset();
+            for (int x = 0; x < myWidth - 1; x++) {
+                theRightDoors[x] = myMerges.find(mySets[x]) != myMerges.find(mySets[x + 1])
+                                   && (lastRow || myRandom.nextBoolean());
+                if (theRightDoors[x]) {
+                    myMerges.union(mySets[x], mySets[x + 1]);
+                }
+            }
+            theRightDoors[myWidth - 1] = false;
+
+            for (int x = 0; x < myWidth; x++) {
+                mySets[x] = myMerges.find(mySets[x]);
+                myLastRooms[mySets[x]] = x;
+            }
+
+            if (lastRow) {
+                Arrays.fill(theTopDoors, false);
+                myRow++;
+                return;
+            }
+
+            // Carry every set up at least once, forcing a door at its last room if needed
+            Arrays.fill(myCarried, false);
+            for (int x = 0; x < myWidth; x++) {
+                final int set = mySets[x];
+                theTopDoors[x] = myRandom.nextBoolean()
+                                 || (!myCarried[set] && myLastRooms[set] == x);
+                myCarried[set] |= theTopDoors[x];
+            }
+
+            // Rooms above a door keep their set, the rest start new ones.
+            // Renumber everything back down to start from zero.
+            Arrays.fill(myRenumbering, UNASSIGNED);
+            int nextSet = 0;
+            for (int x = 0; x < myWidth; x++) {
+                final int provisional;
+                if (theTopDoors[x]) {
+                    provisional = mySets[x];
+                } else {
+                    provisional = myWidth + x;
+                }
+
+                if (myRenumbering[provisional] == UNASSIGNED) {
+                    myRenumbering[provisional] = nextSet++;
+                }
+                mySets[x] = myRenumbering[provisional];
+            }
+
+            myRow++;
+        }
+    }
+}
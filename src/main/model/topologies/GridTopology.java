@@ -0,0 +1,28 @@
+package model.topologies;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import model.interfaces.MazeTopology;
+
+/**
+ * Topology with a door in every wall between rooms,
+ * so every room is connected to all of its neighbours.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class GridTopology implements MazeTopology {
+
+    @Override
+    public RowCarver carve(final int theWidth, final int theHeight,
+                           final RandomGenerator theRandom) {
+        final int[] row = {0};
+
+        return (theRightDoors, theTopDoors) -> {
+            Arrays.fill(theRightDoors, true);
+            theRightDoors[theWidth - 1] = false;
+            Arrays.fill(theTopDoors, row[0] < theHeight - 1);
+            row[0]++;
+        };
+    }
+}
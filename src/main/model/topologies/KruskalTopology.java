@@ -0,0 +1,62 @@
+package model.topologies;
+
+import java.util.random.RandomGenerator;
+import model.interfaces.MazeTopology;
+
+/**
+ * Topology carving a perfect maze with randomized Kruskal's algorithm,
+ * opening walls in a random order whenever they join two separate regions.
+ * Gives lots of short dead ends.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class KruskalTopology implements MazeTopology {
+
+    @Override
+    public RowCarver carve(final int theWidth, final int theHeight,
+                           final RandomGenerator theRandom) {
+        final DoorLayout layout = new DoorLayout(theWidth, theHeight);
+
+        // Each wall is stored as (room * 2), for the wall on its right,
+        // or (room * 2 + 1), for the wall above it.
+        final int[] walls = new int[(theWidth - 1) * theHeight + theWidth * (theHeight - 1)];
+        int count = 0;
+        for (int y = 0; y < theHeight; y++) {
+            for (int x = 0; x < theWidth; x++) {
+                final int room = layout.roomIndex(x, y);
+                if (x < theWidth - 1) {
+                    walls[count++] = room * 2;
+                }
+                if (y < theHeight - 1) {
+                    walls[count++] = room * 2 + 1;
+                }
+            }
+        }
+
+        // Fisher-Yates shuffle
+        for (int i = walls.length - 1; i > 0; i--) {
+            final int j = theRandom.nextInt(i + 1);
+            final int swap = walls[i];
+            walls[i] = walls[j];
+            walls[j] = swap;
+        }
+
+        final DisjointSets regions = new DisjointSets(theWidth * theHeight);
+        for (final int wall : walls) {
+            final int room = wall >>> 1;
+            final int other;
+            if ((wall & 1) == 0) {
+                other = room + 1;
+            } else {
+                other = room + theWidth;
+            }
+
+            if (regions.union(room, other)) {
+                layout.connect(room, other);
+            }
+        }
+
+        return layout.rows();
+    }
+}
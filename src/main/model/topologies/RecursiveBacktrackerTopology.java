@@ -0,0 +1,62 @@
+package model.topologies;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+import model.enums.Direction;
+import model.interfaces.MazeTopology;
+
+/**
+ * Topology carving a perfect maze with a randomized depth-first search,
+ * giving long winding corridors with few branches.
+ * Uses an explicit stack, so mazes of any size can be carved.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class RecursiveBacktrackerTopology implements MazeTopology {
+
+    /**
+     * Every direction, cached to avoid copying values() each step.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @Override
+    public RowCarver carve(final int theWidth, final int theHeight,
+                           final RandomGenerator theRandom) {
+        final DoorLayout layout = new DoorLayout(theWidth, theHeight);
+        final int roomCount = theWidth * theHeight;
+
+        final BitSet visited = new BitSet(roomCount);
+        final int[] stack = new int[roomCount];
+        final int[] unvisited = new int[DIRECTIONS.length];
+
+        int depth = 0;
+        final int start = theRandom.nextInt(roomCount);
+        visited.set(start);
+        stack[depth++] = start;
+
+        while (depth > 0) {
+            final int room = stack[depth - 1];
+
+            int count = 0;
+            for (final Direction direction : DIRECTIONS) {
+                final int neighbor = layout.neighbor(room, direction);
+                if (neighbor >= 0 && !visited.get(neighbor)) {
+                    unvisited[count++] = neighbor;
+                }
+            }
+
+            if (count == 0) {
+                // Dead end, back up
+                depth--;
+            } else {
+                final int next = unvisited[theRandom.nextInt(count)];
+                layout.connect(room, next);
+                visited.set(next);
+                stack[depth++] = next;
+            }
+        }
+
+        return layout.rows();
+    }
+}
@@ -0,0 +1,67 @@
+package model.topologies;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+import model.enums.Direction;
+import model.interfaces.MazeTopology;
+
+/**
+ * Topology carving a perfect maze with Wilson's algorithm, adding
+ * loop-erased random walks to the maze until every room is reached.
+ * Every possible perfect maze is equally likely, without the bias
+ * of the other algorithms.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class WilsonTopology implements MazeTopology {
+
+    /**
+     * Every direction, cached to avoid copying values() each step.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @Override
+    public RowCarver carve(final int theWidth, final int theHeight,
+                           final RandomGenerator theRandom) {
+        final DoorLayout layout = new DoorLayout(theWidth, theHeight);
+        final int roomCount = theWidth * theHeight;
+
+        final BitSet inMaze = new BitSet(roomCount);
+        // Room each walk last left each room towards. Revisiting a room
+        // overwrites its exit, which erases any loop the walk made.
+        final int[] exits = new int[roomCount];
+        final int[] neighbors = new int[DIRECTIONS.length];
+
+        inMaze.set(theRandom.nextInt(roomCount));
+
+        for (int start = inMaze.nextClearBit(0); start < roomCount;
+             start = inMaze.nextClearBit(start + 1)) {
+
+            // Walk randomly until reaching the maze
+            int room = start;
+            while (!inMaze.get(room)) {
+                int count = 0;
+                for (final Direction direction : DIRECTIONS) {
+                    final int neighbor = layout.neighbor(room, direction);
+                    if (neighbor >= 0) {
+                        neighbors[count++] = neighbor;
+                    }
+                }
+
+                exits[room] = neighbors[theRandom.nextInt(count)];
+                room = exits[room];
+            }
+
+            // Add the loop-erased walk to the maze
+            room = start;
+            while (!inMaze.get(room)) {
+                inMaze.set(room);
+                layout.connect(room, exits[room]);
+                room = exits[room];
+            }
+        }
+
+        return layout.rows();
+    }
+}
@@ -6,6 +6,11 @@ import model.GameModel;
 import model.enums.GamePlayPhase;
 import model.interfaces.GameModelUpdateListener;
 import java.awt.*;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import javax.swing.*;
 
 /**
@@ -13,7 +18,7 @@ import javax.swing.*;
  * and menu bar.
  *
  * @author Cynthia Lopez
- * @version 10/28/24
+ * @version 10/17/26
  */
 public class GameplayFrame extends JFrame {
 
@@ -29,6 +34,9 @@ public class GameplayFrame extends JFrame {
     /** Stats panel object for Player lives and score. */
     private final StatsPanel myStats;
 
+    /** Overview map of the maze for the map dialog. */
+    private final MiniMapView myMiniMap;
+
     /** Outcome panel object to handle win/lose screens. */
     private final OutcomePanel myOutcome;
 
@@ -63,6 +71,7 @@ public class GameplayFrame extends JFrame {
         myLogoLabel = new JLabel();
         myGameOp = new GameOperations(theGameModel, this);
         myGamePanel = new GameplayPanel(theGameModel);
+        myMiniMap = new MiniMapView(600, 600, theGameModel);
         myQuestionsPanel = new QuestionsPanel(theGameModel);
         myStats = new StatsPanel(theGameModel);
         myOutcome = new OutcomePanel();
@@ -107,6 +116,7 @@ public class GameplayFrame extends JFrame {
         final JMenuItem load = new JMenuItem("Load");
         final JMenuItem exit = new JMenuItem("Exit");
         final JMenuItem miniMap = new JMenuItem("View Map");
+        final JMenuItem exportMap = new JMenuItem("Export Map...");
 
         final JMenuItem about = new JMenuItem("About");
         final JMenuItem gameInstructions = new JMenuItem("Game Play Instructions");
@@ -155,7 +165,7 @@ public class GameplayFrame extends JFrame {
                     super.paintComponent(g);
                     Graphics2D g2D = (Graphics2D) g;
 
-                    Image miniMapImage = myGamePanel.getMazeView().getFull();
+                    Image miniMapImage = myMiniMap.getImage();
 
                     g2D.drawImage(miniMapImage, 0, 0, getWidth(), getHeight(), null);
                 }
@@ -164,6 +174,8 @@ public class GameplayFrame extends JFrame {
             mapDialog.setVisible(true);
         });
 
+        exportMap.addActionListener(e -> exportMap());
+
         myFile.add(newGame);
         myFile.add(save);
         myFile.add(load);
@@ -173,6 +185,7 @@ public class GameplayFrame extends JFrame {
         myHelp.add(gameInstructions);
 
         myMap.add(miniMap);
+        myMap.add(exportMap);
 
         myMenuBar.add(myFile);
         myMenuBar.add(myHelp);
@@ -181,6 +194,25 @@ public class GameplayFrame extends JFrame {
         myGameFrame.setJMenuBar(myMenuBar);
     }
 
+    /** Saves a full resolution image of the maze to a PNG file chosen by the user. */
+    private void exportMap() {
+        final JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("maze.png"));
+        if (chooser.showSaveDialog(myGameFrame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        try (OutputStream output = new BufferedOutputStream(
+                new FileOutputStream(chooser.getSelectedFile()))) {
+            myGamePanel.getMazeView().writeFullPng(output);
+        } catch (final IOException exception) {
+            JOptionPane.showMessageDialog(myGameFrame,
+                    "An error occurred while exporting the map: " + exception.getMessage(),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     /** Method to create background music using Music class. */
     private void backgroundMusic() {
         myMusic.getMusic("resources/sounds/game_bgm.wav");
@@ -214,6 +246,7 @@ public class GameplayFrame extends JFrame {
         myPanel.add(iconLabel);
         myPanel.add(myStats.getScore());
         myPanel.add(myStats.getLives());
+        myPanel.add(myStats.getRooms());
 
         iconLabel.setVisible(true);
     }
@@ -273,13 +306,17 @@ public class GameplayFrame extends JFrame {
                 victory();
             }
 
-            if (currentPhase == GamePlayPhase.FAILURE) {
+            if (currentPhase == GamePlayPhase.FAILURE
+                || currentPhase == GamePlayPhase.TRAPPED) {
                 gameOver();
             }
 
             myStats.updateStats();
             myPanel.revalidate();
             myPanel.repaint();
+        } else if (theUpdateType == GameModelUpdateListener.UpdateType.GAME_STATE_PLAYER) {
+            // Rooms left to the exit changes as the player moves
+            myStats.updateStats();
         }
         myGamePanel.repaint();
     }
@@ -1,6 +1,7 @@
 package view;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import javax.swing.*;
 import model.*;
 import model.enums.GamePlayPhase;
@@ -10,13 +11,10 @@ import model.enums.GamePlayPhase;
  * It handles rendering the game, managing updates, and tracking the player.
  *
  * @author Cynthia Lopez
- * @version 11/1/24
+ * @version 10/17/26
  */
 public class GameplayPanel extends JPanel {
 
-    /** Target update frame rate. */
-    private static final int TARGET_FPS = 60;
-
     /** Height of a single tile. */
     private final static int TILE_HEIGHT = 50;
 
@@ -32,6 +30,18 @@ public class GameplayPanel extends JPanel {
     /** Object for game logic. */
     private final GameModel myGameModel;
 
+    /** Composited view of the maze around the player, reused between frames. */
+    private BufferedImage myViewport;
+
+    /** X-coordinate of the room the viewport is centered on. */
+    private int myViewportRoomX;
+
+    /** Y-coordinate of the room the viewport is centered on. */
+    private int myViewportRoomY;
+
+    /** Whether the viewport needs to be fully recomposed before it's drawn. */
+    private boolean myViewportInvalid;
+
     /** Constructs a game panel. */
     public GameplayPanel(final GameModel theGameModel) {
         myGameModel = theGameModel;
@@ -41,11 +51,12 @@ public class GameplayPanel extends JPanel {
 
         myMazeView.addRoomViewHook(playerView.getRoomViewHook());
         myMazeView.addRoomViewHook(new ExitViewHook());
+        myMazeView.addUpdateListener(this::onMazeViewUpdate);
+        myViewportInvalid = true;
 
         theGameModel.getState().setPhase(GamePlayPhase.IN_PROGRESS);
 
         mainGameWindow();
-        startGameThread();
     }
 
     /** Configures the main game window. */
@@ -58,31 +69,140 @@ public class GameplayPanel extends JPanel {
 
     /**
      * Renders the gameplay area, including the player and other elements.
+     * The maze is drawn from the cached viewport, which is only recomposed
+     * when needed and scrolled when the player changes rooms.
      *
      * @param theGraphics the graphics object to render components.
      */
     protected void paintComponent(final Graphics theGraphics) {
         super.paintComponent(theGraphics);
-        final Graphics2D g2D = (Graphics2D) theGraphics;
+
+        final int width = getWidth();
+        final int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
 
         final Coordinates playerPos = myGameModel.getState().getPlayer().getPosition();
+        if (myViewport == null
+            || myViewport.getWidth() != width
+            || myViewport.getHeight() != height) {
+            myViewport = createViewport(width, height);
+            myViewportInvalid = true;
+        }
 
-        final Image mazeImage = myMazeView.getPortion(playerPos.getRoomX(), playerPos.getRoomY(),
-                                                      super.getWidth(), super.getHeight());
+        if (myViewportInvalid) {
+            myViewportRoomX = playerPos.getRoomX();
+            myViewportRoomY = playerPos.getRoomY();
+            composeViewport(new Rectangle(0, 0, width, height));
+            myViewportInvalid = false;
+        } else if (playerPos.getRoomX() != myViewportRoomX
+                   || playerPos.getRoomY() != myViewportRoomY) {
+            scrollViewport(playerPos.getRoomX(), playerPos.getRoomY());
+        }
 
-        g2D.drawImage(mazeImage, 0, 0, super.getWidth(), super.getHeight(), null);
+        theGraphics.drawImage(myViewport, 0, 0, null);
+    }
 
-        g2D.dispose();
+    /**
+     * Creates a new viewport image, matching the screen's format when possible.
+     *
+     * @param theWidth Width of the viewport.
+     * @param theHeight Height of the viewport.
+     * @return New blank viewport image.
+     */
+    private BufferedImage createViewport(final int theWidth, final int theHeight) {
+        final GraphicsConfiguration configuration = getGraphicsConfiguration();
+        if (configuration != null) {
+            return configuration.createCompatibleImage(theWidth, theHeight);
+        }
+        return new BufferedImage(theWidth, theHeight, BufferedImage.TYPE_INT_RGB);
     }
 
-    /** Starts game loop in a separate thread. */
-    private void startGameThread() {
-        final int delay = 1000 / TARGET_FPS;
-        new Timer(delay, ActionListener -> refresh()).start();
+    /**
+     * Recomposes part of the viewport around its current center room.
+     *
+     * @param theArea Area of the viewport to recompose.
+     */
+    private void composeViewport(final Rectangle theArea) {
+        final Graphics2D context = myViewport.createGraphics();
+        context.setClip(theArea);
+        context.setColor(Color.BLACK);
+        context.fill(theArea);
+
+        myMazeView.drawPortion(context, myViewportRoomX, myViewportRoomY,
+                               myViewport.getWidth(), myViewport.getHeight());
+
+        context.dispose();
     }
 
-    /** Updates the state of the game, including player movement and interactions. */
-    private void refresh() {
+    /**
+     * Moves the viewport to a new center room, shifting what's already
+     * been drawn and only recomposing the newly exposed edges.
+     *
+     * @param theRoomX X-coordinate of the new center room.
+     * @param theRoomY Y-coordinate of the new center room.
+     */
+    private void scrollViewport(final int theRoomX, final int theRoomY) {
+        final int width = myViewport.getWidth();
+        final int height = myViewport.getHeight();
+
+        // Rooms move opposite to the player horizontally, and rows go down as Y increases.
+        final int shiftX = (myViewportRoomX - theRoomX) * myMazeView.getRoomImageWidth();
+        final int shiftY = (theRoomY - myViewportRoomY) * myMazeView.getRoomImageHeight();
+
+        myViewportRoomX = theRoomX;
+        myViewportRoomY = theRoomY;
+
+        if (Math.abs(shiftX) >= width || Math.abs(shiftY) >= height) {
+            // Nothing drawn is still visible.
+            composeViewport(new Rectangle(0, 0, width, height));
+            return;
+        }
+
+        final Graphics2D context = myViewport.createGraphics();
+        context.copyArea(0, 0, width, height, shiftX, shiftY);
+        context.dispose();
+
+        // Recompose the exposed strips
+        if (shiftX > 0) {
+            composeViewport(new Rectangle(0, 0, shiftX, height));
+        } else if (shiftX < 0) {
+            composeViewport(new Rectangle(width + shiftX, 0, -shiftX, height));
+        }
+        if (shiftY > 0) {
+            composeViewport(new Rectangle(0, 0, width, shiftY));
+        } else if (shiftY < 0) {
+            composeViewport(new Rectangle(0, height + shiftY, width, -shiftY));
+        }
+    }
+
+    /**
+     * Keeps the viewport up to date when the MazeView re-renders rooms.
+     *
+     * @param theType Type of update.
+     * @param theView MazeView which updated.
+     * @param theRoomX X-coordinate of the updated room, for ROOM updates.
+     * @param theRoomY Y-coordinate of the updated room, for ROOM updates.
+     */
+    private void onMazeViewUpdate(final MazeViewUpdateListener.UpdateType theType,
+                                  final MazeView theView,
+                                  final int theRoomX, final int theRoomY) {
+        if (theType == MazeViewUpdateListener.UpdateType.ROOM
+            && myViewport != null && !myViewportInvalid) {
+            final Rectangle roomArea = theView.getRoomBounds(myViewportRoomX, myViewportRoomY,
+                                                            myViewport.getWidth(),
+                                                            myViewport.getHeight(),
+                                                            theRoomX, theRoomY);
+            final Rectangle visibleArea = roomArea.intersection(
+                    new Rectangle(0, 0, myViewport.getWidth(), myViewport.getHeight()));
+            if (!visibleArea.isEmpty()) {
+                composeViewport(visibleArea);
+            }
+        } else {
+            myViewportInvalid = true;
+        }
+
         repaint();
     }
 
@@ -94,6 +214,11 @@ public class GameplayPanel extends JPanel {
      * RoomViewHook to draw the maze's exit door.
      */
     private final class ExitViewHook implements RoomViewHook {
+
+        /** Exit door image, loaded once. */
+        private final Image myExitDoor
+                = new ImageIcon("resources/images/exit_door.png").getImage();
+
         @Override
         public void doHook(final Graphics2D theGraphics, final RoomView theRoom) {
             final int exitX = myGameModel.getState().getMaze().getExitRoomX();
@@ -102,15 +227,13 @@ public class GameplayPanel extends JPanel {
             final int exitTileX = 2;
             final int exitTileY = 2;
 
-            final Image exitDoor = new ImageIcon("resources/images/exit_door.png").getImage();
-
             if (theRoom.getRoomX() == exitX && theRoom.getRoomY() == exitY) {
 
                 final int imageX = exitTileX * theRoom.getTileWidth();
                 final int imageY = (theRoom.getRoom().getHeight() - 1 - exitTileY)
                         * theRoom.getTileHeight();
 
-                theGraphics.drawImage(exitDoor, imageX, imageY,
+                theGraphics.drawImage(myExitDoor, imageX, imageY,
                         theRoom.getTileWidth(), theRoom.getTileHeight(),
                         null);
             }
@@ -1,18 +1,24 @@
 package view;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import model.Coordinates;
+import model.DoorController;
 import model.GameModel;
 import model.Maze;
 import model.interfaces.GameModelUpdateListener;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
  * Class for rendering a view of the maze.
  *
  * @author Shane Menzies
- * @version 12/3/24
+ * @version 10/17/26
  */
 public final class MazeView {
 
@@ -26,6 +32,11 @@ public final class MazeView {
      */
     private static final String NULL_MODEL = "Provided GameModel was null!";
 
+    /**
+     * Number of rendered rooms to keep before evicting the least recently used one.
+     */
+    private static final int MAX_CACHED_ROOMS = 256;
+
     /**
      * Current width of each tile in pixels.
      */
@@ -47,9 +58,25 @@ public final class MazeView {
     private final List<RoomViewHook> myRoomViewHooks;
 
     /**
-     * RoomViews for each Room in the Maze.
+     * Listeners to notify when rooms are re-rendered.
+     */
+    private final List<MazeViewUpdateListener> myListeners;
+
+    /**
+     * Recently used RoomViews, keyed by room coordinates, in least recently used
+     * order. Rooms are only rendered the first time they're needed.
+     */
+    private final Map<Long, RoomView> myRoomViews;
+
+    /**
+     * X-coordinate of the room the player was in when last rendered.
+     */
+    private int myPlayerRoomX;
+
+    /**
+     * Y-coordinate of the room the player was in when last rendered.
      */
-    private RoomView[][] myRoomViews;
+    private int myPlayerRoomY;
 
     /**
      * Constructs a MazeView with the specified tile dimensions and target model.
@@ -74,6 +101,13 @@ public final class MazeView {
         myTargetModel.addUpdateListener(this::onGameModelUpdate);
 
         myRoomViewHooks = new ArrayList<>();
+        myListeners = new ArrayList<>();
+        myRoomViews = new LinkedHashMap<>(MAX_CACHED_ROOMS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, RoomView> theEldest) {
+                return size() > MAX_CACHED_ROOMS;
+            }
+        };
 
         refresh();
     }
@@ -93,6 +127,9 @@ public final class MazeView {
         myTileWidth = theTileWidth;
         myTileHeight = theTileHeight;
 
+        // Scale the sprites to the new size once, up front.
+        SpriteMap.getInstance().getAtlas(myTileWidth, myTileHeight);
+
         refresh();
     }
 
@@ -119,8 +156,29 @@ public final class MazeView {
         return result;
     }
 
+    /**
+     * Adds a listener to be notified when rooms are re-rendered.
+     *
+     * @param theListener The new listener to add.
+     */
+    public void addUpdateListener(final MazeViewUpdateListener theListener) {
+        myListeners.add(theListener);
+    }
+
+    /**
+     * Removes a previously added update listener.
+     *
+     * @param theListener The listener to remove.
+     * @return True if successful, false if it failed.
+     */
+    public boolean removeUpdateListener(final MazeViewUpdateListener theListener) {
+        return myListeners.remove(theListener);
+    }
+
     /**
      * Renders an image view of the entire maze.
+     * Rooms which aren't already cached get rendered one at a time
+     * and discarded, rather than being kept around.
      *
      * @return Image of entire maze.
      */
@@ -142,7 +200,7 @@ public final class MazeView {
         for (int roomY = target.getHeight() - 1; roomY >= 0; roomY--) {
             for (int roomX = 0; roomX < target.getWidth(); roomX++) {
 
-                context.drawImage(myRoomViews[roomY][roomX].asImage(),
+                context.drawImage(getUncachedRoomView(roomX, roomY).asImage(),
                                   imageX, imageY, null);
                 imageX += roomWidthTiles * myTileWidth;
             }
@@ -154,81 +212,57 @@ public final class MazeView {
     }
 
     /**
-     * Renders an image view of only a portion of the maze.
+     * Writes a full resolution image of the entire maze to a PNG stream.
+     * The image is rendered and written one row of rooms at a time,
+     * so the whole image is never held in memory.
      *
-     * @param theCenterRoomX Center room's X-coordinate.
-     * @param theCenterRoomY Center room's Y-coordinate.
-     * @param theImageWidth Width of the resulting image.
-     * @param theImageHeight Height of the resulting image.
-     * @return Image containing only the specified portion of the maze.
+     * @param theOutput Stream to write the PNG to, which is left open.
+     * @throws IOException If the image couldn't be written.
      */
-    public Image getPortion(final int theCenterRoomX, final int theCenterRoomY,
-                            final int theImageWidth, final int theImageHeight) {
+    public void writeFullPng(final OutputStream theOutput) throws IOException {
         final Maze target = myTargetModel.getState().getMaze();
 
-        final int roomWidthTiles
-                = target.getRoom(theCenterRoomX, theCenterRoomY).getWidth();
-        final int roomHeightTiles
-                = target.getRoom(theCenterRoomX, theCenterRoomY).getHeight();
-
-        final int roomImageHeight = roomHeightTiles * myTileHeight;
-        final int roomImageWidth = roomWidthTiles * myTileWidth;
-
-        // Determine room bounds for this portion
-        int leftRoomBound = theCenterRoomX;
-        int rightRoomBound = theCenterRoomX;
-
-        int leftRemaining = (theImageWidth / 2)
-                - (roomImageWidth / 2);
-        int rightRemaining = leftRemaining;
-
-        // Left bound
-        while (leftRemaining > 0 && leftRoomBound >= 1) {
-            leftRoomBound--;
-            leftRemaining -= roomImageWidth;
-        }
-
-        // Right bound
-        while (rightRemaining > 0 && rightRoomBound < (target.getWidth() - 1)) {
-            rightRoomBound++;
-            rightRemaining -= roomImageWidth;
-        }
-
-        int topRoomBound = theCenterRoomY;
-        int bottomRoomBound = theCenterRoomY;
+        final int roomImageWidth = getRoomImageWidth();
+        final int roomImageHeight = getRoomImageHeight();
 
-        int topRemaining = (theImageHeight / 2)
-                - (roomImageHeight / 2);
-        int bottomRemaining = topRemaining;
+        final PngStreamWriter writer = new PngStreamWriter(theOutput,
+                target.getWidth() * roomImageWidth,
+                target.getHeight() * roomImageHeight);
 
-        // Bottom bound
-        while (bottomRemaining > 0 && bottomRoomBound >= 1) {
-            bottomRoomBound--;
-            bottomRemaining -= roomImageHeight;
-        }
+        final BufferedImage band = new BufferedImage(target.getWidth() * roomImageWidth,
+                                                     roomImageHeight,
+                                                     BufferedImage.TYPE_INT_RGB);
+        for (int roomY = target.getHeight() - 1; roomY >= 0; roomY--) {
+            final Graphics2D context = band.createGraphics();
+            for (int roomX = 0; roomX < target.getWidth(); roomX++) {
+                context.drawImage(getUncachedRoomView(roomX, roomY).asImage(),
+                                  roomX * roomImageWidth, 0, null);
+            }
+            context.dispose();
 
-        // Top bound
-        while (topRemaining > 0 && topRoomBound < (target.getHeight() - 1)) {
-            topRoomBound++;
-            topRemaining -= roomImageHeight;
+            writer.writeRows(band, roomImageHeight);
         }
 
-        final Image sourceImage = getRoomRect(leftRoomBound, rightRoomBound,
-                                              bottomRoomBound, topRoomBound);
+        writer.finish();
+    }
 
+    /**
+     * Renders an image view of only a portion of the maze.
+     *
+     * @param theCenterRoomX Center room's X-coordinate.
+     * @param theCenterRoomY Center room's Y-coordinate.
+     * @param theImageWidth Width of the resulting image.
+     * @param theImageHeight Height of the resulting image.
+     * @return Image containing only the specified portion of the maze.
+     */
+    public Image getPortion(final int theCenterRoomX, final int theCenterRoomY,
+                            final int theImageWidth, final int theImageHeight) {
         final BufferedImage image = new BufferedImage(theImageWidth, theImageHeight,
                                                       BufferedImage.TYPE_INT_RGB);
         final Graphics2D context = image.createGraphics();
 
-        final int sourceLeft = -leftRemaining;
-        final int sourceRight = sourceLeft + theImageWidth;
-        final int sourceTop = -topRemaining;
-        final int sourceBottom = sourceTop + theImageHeight;
-
-        context.drawImage(sourceImage, 0, 0,
-                          theImageWidth - 1, theImageHeight - 1,
-                          sourceLeft, sourceTop,
-                          sourceRight, sourceBottom, null);
+        drawPortion(context, theCenterRoomX, theCenterRoomY,
+                    theImageWidth, theImageHeight);
 
         context.dispose();
 
@@ -236,44 +270,124 @@ public final class MazeView {
     }
 
     /**
-     * Gets an image of only a specified range of rooms.
+     * Draws a portion of the maze centered on a certain room.
+     * Only rooms which overlap the graphics' clip get drawn, and nothing
+     * is drawn where there are no rooms, so callers should clear that area
+     * themselves if needed.
      *
-     * @param theLeftBound Left bound, inclusive (lowest X-coordinate)
-     * @param theRightBound Right bound, inclusive (highest X-coordinate)
-     * @param theBottomBound Bottom bound, inclusive (lowest Y-coordinate)
-     * @param theTopBound Top bound, inclusive (highest Y-coordinate)
-     * @return Image of all the rooms inside specified bounds.
-     */
-    private Image getRoomRect(final int theLeftBound, final int theRightBound,
-                              final int theBottomBound, final int theTopBound) {
+     * @param theGraphics Graphics2D handle to draw with.
+     * @param theCenterRoomX Center room's X-coordinate.
+     * @param theCenterRoomY Center room's Y-coordinate.
+     * @param theWidth Width of the area being drawn to.
+     * @param theHeight Height of the area being drawn to.
+     */
+    public void drawPortion(final Graphics2D theGraphics,
+                            final int theCenterRoomX, final int theCenterRoomY,
+                            final int theWidth, final int theHeight) {
         final Maze target = myTargetModel.getState().getMaze();
 
-        final int roomHeightTiles = target.getRoom(theLeftBound, theTopBound).getHeight();
-        final int roomWidthTiles = target.getRoom(theLeftBound, theTopBound).getWidth();
-
-        final int imageHeight = (theTopBound - theBottomBound + 1)
-                                * roomHeightTiles * myTileHeight;
-        final int imageWidth = (theRightBound - theLeftBound + 1)
-                               * roomWidthTiles * myTileWidth;
+        final int roomImageWidth = getRoomImageWidth();
+        final int roomImageHeight = getRoomImageHeight();
 
-        final BufferedImage image = new BufferedImage(imageWidth, imageHeight,
-                                                      BufferedImage.TYPE_INT_RGB);
-        final Graphics2D context = image.createGraphics();
+        // Position of room (0, 0) in the drawing area.
+        final int originX = getRoomLeft(theCenterRoomX, theWidth, 0);
+        final int originY = getRoomTop(theCenterRoomY, theHeight, 0);
 
-        int imageY = 0;
-        int imageX = 0;
-        for (int roomY = theTopBound; roomY >= theBottomBound; roomY--) {
-            for (int roomX = theLeftBound; roomX <= theRightBound; roomX++) {
+        Rectangle clip = theGraphics.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, theWidth, theHeight);
+        } else {
+            clip = clip.intersection(new Rectangle(0, 0, theWidth, theHeight));
+        }
+        if (clip.isEmpty()) {
+            return;
+        }
 
-                context.drawImage(myRoomViews[roomY][roomX].asImage(),
-                                  imageX, imageY, null);
-                imageX += roomWidthTiles * myTileWidth;
+        // Determine which rooms overlap the clip, rows go down as Y increases.
+        final int leftRoom = Math.max(0,
+                Math.floorDiv(clip.x - originX, roomImageWidth));
+        final int rightRoom = Math.min(target.getWidth() - 1,
+                Math.floorDiv(clip.x + clip.width - 1 - originX, roomImageWidth));
+        final int topRoom = Math.min(target.getHeight() - 1,
+                Math.floorDiv(originY + roomImageHeight - 1 - clip.y, roomImageHeight));
+        final int bottomRoom = Math.max(0,
+                Math.floorDiv(originY + roomImageHeight - 1 - (clip.y + clip.height - 1),
+                              roomImageHeight));
+
+        for (int roomY = topRoom; roomY >= bottomRoom; roomY--) {
+            for (int roomX = leftRoom; roomX <= rightRoom; roomX++) {
+                theGraphics.drawImage(getRoomView(roomX, roomY).asImage(),
+                                      originX + roomX * roomImageWidth,
+                                      originY - roomY * roomImageHeight, null);
             }
-            imageX = 0;
-            imageY += roomHeightTiles * myTileHeight;
         }
+    }
 
-        return image;
+    /**
+     * Gets the area a room takes up in a portion drawn by drawPortion().
+     *
+     * @param theCenterRoomX Center room's X-coordinate.
+     * @param theCenterRoomY Center room's Y-coordinate.
+     * @param theWidth Width of the area being drawn to.
+     * @param theHeight Height of the area being drawn to.
+     * @param theRoomX X-coordinate of the room to locate.
+     * @param theRoomY Y-coordinate of the room to locate.
+     * @return Bounds of the room in the drawing area.
+     */
+    public Rectangle getRoomBounds(final int theCenterRoomX, final int theCenterRoomY,
+                                   final int theWidth, final int theHeight,
+                                   final int theRoomX, final int theRoomY) {
+        return new Rectangle(getRoomLeft(theCenterRoomX, theWidth, theRoomX),
+                             getRoomTop(theCenterRoomY, theHeight, theRoomY),
+                             getRoomImageWidth(), getRoomImageHeight());
+    }
+
+    /**
+     * Gets the width of a single room's image in pixels.
+     *
+     * @return Room image width.
+     */
+    public int getRoomImageWidth() {
+        return myTargetModel.getState().getMaze().getRoom(0, 0).getWidth() * myTileWidth;
+    }
+
+    /**
+     * Gets the height of a single room's image in pixels.
+     *
+     * @return Room image height.
+     */
+    public int getRoomImageHeight() {
+        return myTargetModel.getState().getMaze().getRoom(0, 0).getHeight() * myTileHeight;
+    }
+
+    /**
+     * Gets the left edge of a room in a portion drawn by drawPortion().
+     *
+     * @param theCenterRoomX Center room's X-coordinate.
+     * @param theWidth Width of the area being drawn to.
+     * @param theRoomX X-coordinate of the room.
+     * @return Left edge of the room in pixels.
+     */
+    private int getRoomLeft(final int theCenterRoomX, final int theWidth,
+                            final int theRoomX) {
+        final int roomImageWidth = getRoomImageWidth();
+        return (theWidth / 2) - (roomImageWidth / 2)
+               + (theRoomX - theCenterRoomX) * roomImageWidth;
+    }
+
+    /**
+     * Gets the top edge of a room in a portion drawn by drawPortion().
+     *
+     * @param theCenterRoomY Center room's Y-coordinate.
+     * @param theHeight Height of the area being drawn to.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Top edge of the room in pixels.
+     */
+    private int getRoomTop(final int theCenterRoomY, final int theHeight,
+                           final int theRoomY) {
+        final int roomImageHeight = getRoomImageHeight();
+        return (theHeight / 2) - (roomImageHeight / 2)
+               + (theCenterRoomY - theRoomY) * roomImageHeight;
     }
 
     /**
@@ -290,34 +404,170 @@ public final class MazeView {
 
     /**
      * Refreshes all the contained RoomViews.
+     * Rooms get rendered again the next time they're needed.
      */
     private void refresh() {
-        final Maze target = myTargetModel.getState().getMaze();
-        final RoomView[][] newRooms
-                = new RoomView[target.getHeight()][target.getWidth()];
+        myRoomViews.clear();
 
-        // Initialize individual room views.
-        for (int roomY = 0; roomY < target.getHeight(); roomY++) {
-            for (int roomX = 0; roomX < target.getWidth(); roomX++) {
-                final RoomView nextRoom = new RoomView(myTileWidth, myTileHeight,
-                                                         myTargetModel, roomX, roomY);
-                runRoomViewHooks(nextRoom.asImage().createGraphics(),
-                                 nextRoom);
-                newRooms[roomY][roomX] = nextRoom;
-            }
+        final Coordinates playerPos = myTargetModel.getState().getPlayer().getPosition();
+        myPlayerRoomX = playerPos.getRoomX();
+        myPlayerRoomY = playerPos.getRoomY();
+
+        updateListeners(MazeViewUpdateListener.UpdateType.ALL, 0, 0);
+    }
+
+    /**
+     * Refreshes a single contained RoomView.
+     * The room gets rendered again the next time it's needed.
+     *
+     * @param theRoomX X-coordinate of the room to refresh.
+     * @param theRoomY Y-coordinate of the room to refresh.
+     */
+    private void refreshRoom(final int theRoomX, final int theRoomY) {
+        myRoomViews.remove(roomKey(theRoomX, theRoomY));
+
+        updateListeners(MazeViewUpdateListener.UpdateType.ROOM, theRoomX, theRoomY);
+    }
+
+    /**
+     * Gets the RoomView for a room, rendering and caching it if needed.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return RoomView for the room.
+     */
+    private RoomView getRoomView(final int theRoomX, final int theRoomY) {
+        final long key = roomKey(theRoomX, theRoomY);
+
+        RoomView room = myRoomViews.get(key);
+        if (room == null) {
+            room = renderRoom(theRoomX, theRoomY);
+            myRoomViews.put(key, room);
         }
 
-        myRoomViews = newRooms;
+        return room;
+    }
+
+    /**
+     * Gets the RoomView for a room, using the cached one if there is one,
+     * but without caching a newly rendered one.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return RoomView for the room.
+     */
+    private RoomView getUncachedRoomView(final int theRoomX, final int theRoomY) {
+        final RoomView cached = myRoomViews.get(roomKey(theRoomX, theRoomY));
+        if (cached != null) {
+            return cached;
+        }
+        return renderRoom(theRoomX, theRoomY);
+    }
+
+    /**
+     * Gets the cache key for a room.
+     *
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return Key for the room in the RoomView cache.
+     */
+    private static long roomKey(final int theRoomX, final int theRoomY) {
+        return ((long) theRoomY << Integer.SIZE) | (theRoomX & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Renders a new RoomView for a room, with all hooks run on it.
+     *
+     * @param theRoomX X-coordinate of the room to render.
+     * @param theRoomY Y-coordinate of the room to render.
+     * @return Newly rendered RoomView.
+     */
+    private RoomView renderRoom(final int theRoomX, final int theRoomY) {
+        final RoomView room = new RoomView(myTileWidth, myTileHeight,
+                                           myTargetModel, theRoomX, theRoomY);
+        final Graphics2D context = room.asImage().createGraphics();
+        runRoomViewHooks(context, room);
+        context.dispose();
+
+        return room;
+    }
+
+    /**
+     * Updates all listeners for a certain update.
+     *
+     * @param theType Type of update.
+     * @param theRoomX X-coordinate of the updated room, for ROOM updates.
+     * @param theRoomY Y-coordinate of the updated room, for ROOM updates.
+     */
+    private void updateListeners(final MazeViewUpdateListener.UpdateType theType,
+                                 final int theRoomX, final int theRoomY) {
+        for (final MazeViewUpdateListener listener : myListeners) {
+            listener.doUpdate(theType, this, theRoomX, theRoomY);
+        }
+    }
+
+    /**
+     * Refreshes the rooms the player moved between.
+     */
+    private void refreshPlayerRooms() {
+        final Coordinates playerPos = myTargetModel.getState().getPlayer().getPosition();
+
+        refreshRoom(myPlayerRoomX, myPlayerRoomY);
+        if (playerPos.getRoomX() != myPlayerRoomX
+            || playerPos.getRoomY() != myPlayerRoomY) {
+            myPlayerRoomX = playerPos.getRoomX();
+            myPlayerRoomY = playerPos.getRoomY();
+            refreshRoom(myPlayerRoomX, myPlayerRoomY);
+        }
+    }
+
+    /**
+     * Refreshes the rooms holding the most recently updated doors.
+     * Falls back to refreshing everything if those rooms aren't known.
+     */
+    private void refreshDoorRooms() {
+        final DoorController door = myTargetModel.getState().getLastUpdatedDoor();
+
+        if (door == null) {
+            // No door has changed since the game was created or loaded,
+            // which already refreshed everything.
+            return;
+        } else if (!door.isLinked()) {
+            refresh();
+        } else {
+            for (int side = 0; side < door.getDoors().length; side++) {
+                refreshRoom(door.getRoomX(side), door.getRoomY(side));
+            }
+        }
     }
 
     /**
      * Updates this view when the GameModel updates.
+     * Only the rooms affected by player and door updates get re-rendered,
+     * everything gets re-rendered for a new or loaded game.
      *
      * @param theType Type of update.
      * @param theModel GameModel which updated.
      */
     private void onGameModelUpdate(final GameModelUpdateListener.UpdateType theType,
                                    final GameModel theModel) {
-        refresh();
+        switch (theType) {
+            case NEW_GAME:
+            case LOADED:
+                refresh();
+                break;
+
+            case GAME_STATE_PLAYER:
+                refreshPlayerRooms();
+                break;
+
+            case GAME_STATE_DOORS:
+                refreshDoorRooms();
+                break;
+
+            default:
+                // Nothing drawn depends on the phase or saving.
+                break;
+        }
     }
-}
\ No newline at end of file
+}
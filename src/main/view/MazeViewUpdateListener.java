@@ -0,0 +1,34 @@
+package view;
+
+/**
+ * Performs an action whenever part of a MazeView has been re-rendered.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public interface MazeViewUpdateListener {
+    /**
+     * Called after part of the MazeView has been re-rendered.
+     *
+     * @param theUpdateType Type of update.
+     * @param theView MazeView which updated.
+     * @param theRoomX X-coordinate of the updated room, only valid for ROOM updates.
+     * @param theRoomY Y-coordinate of the updated room, only valid for ROOM updates.
+     */
+    void doUpdate(UpdateType theUpdateType, MazeView theView, int theRoomX, int theRoomY);
+
+    /**
+     * Different possible types of updates.
+     */
+    enum UpdateType {
+        /**
+         * A single room was re-rendered.
+         */
+        ROOM,
+
+        /**
+         * Every room was re-rendered, possibly with new dimensions.
+         */
+        ALL,
+    }
+}
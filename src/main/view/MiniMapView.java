@@ -0,0 +1,315 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import model.Coordinates;
+import model.DoorController;
+import model.GameModel;
+import model.Maze;
+import model.Room;
+import model.enums.TileID;
+import model.interfaces.GameModelUpdateListener;
+
+/**
+ * Class for rendering a small overview map of the maze.
+ * <p>
+ * The map is drawn directly at (about) the requested size, using a solid
+ * block of color for each tile, or for each room if the maze is too big to
+ * give every tile at least one pixel. The image is kept between uses and
+ * only the parts affected by player and door updates get redrawn.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class MiniMapView {
+
+    /**
+     * Error message for invalid map dimensions being provided.
+     */
+    private static final String ILLEGAL_MAP_DIMENSIONS = "Illegal Map Dimensions provided!";
+
+    /**
+     * Error message for a null GameModel being provided.
+     */
+    private static final String NULL_MODEL = "Provided GameModel was null!";
+
+    /**
+     * Color for the player.
+     */
+    private static final Color PLAYER_COLOR = new Color(0x3FD0FF);
+
+    /**
+     * Color for the exit.
+     */
+    private static final Color EXIT_COLOR = new Color(0xE040E0);
+
+    /**
+     * Color for a whole room, when drawing by room.
+     */
+    private static final Color ROOM_COLOR = new Color(0x606060);
+
+    /**
+     * Colors for each kind of tile, indexed by TileID ordinal.
+     */
+    private static final Color[] TILE_COLORS = {
+        new Color(0x303030),    // EMPTY
+        new Color(0x909090),    // WALL
+        new Color(0xE0C020),    // DOOR_UNANSWERED
+        new Color(0xC02020),    // DOOR_LOCKED
+        new Color(0x20C040),    // DOOR_OPEN
+    };
+
+    /**
+     * GameModel to retrieve Maze from.
+     */
+    private final GameModel myTargetModel;
+
+    /**
+     * Width the map should fit inside, in pixels.
+     */
+    private final int myTargetWidth;
+
+    /**
+     * Height the map should fit inside, in pixels.
+     */
+    private final int myTargetHeight;
+
+    /**
+     * Cached image of the map.
+     */
+    private BufferedImage myImage;
+
+    /**
+     * True if each block is a tile, false if each block is a whole room.
+     */
+    private boolean myTileBlocks;
+
+    /**
+     * Size of each block in pixels.
+     */
+    private int myBlockSize;
+
+    /**
+     * Player position when the map was last drawn.
+     */
+    private Coordinates myPlayerPos;
+
+    /**
+     * Constructs a MiniMapView which fits inside the given dimensions.
+     *
+     * @param theWidth Width the map should fit inside, in pixels.
+     * @param theHeight Height the map should fit inside, in pixels.
+     * @param theModel GameModel to track, containing the maze to render.
+     */
+    public MiniMapView(final int theWidth, final int theHeight, final GameModel theModel) {
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException(ILLEGAL_MAP_DIMENSIONS);
+        } else if (theModel == null) {
+            throw new IllegalArgumentException(NULL_MODEL);
+        }
+
+        myTargetWidth = theWidth;
+        myTargetHeight = theHeight;
+        myTargetModel = theModel;
+
+        myTargetModel.addUpdateListener(this::onGameModelUpdate);
+
+        refresh();
+    }
+
+    /**
+     * Gets the current image of the map.
+     * The same image is returned until the maze's dimensions change,
+     * so it shouldn't be modified.
+     *
+     * @return Image of the map.
+     */
+    public Image getImage() {
+        return myImage;
+    }
+
+    /**
+     * Redraws the entire map, resizing it for the current maze.
+     */
+    private void refresh() {
+        final Maze target = myTargetModel.getState().getMaze();
+        final Room sampleRoom = target.getRoom(0, 0);
+
+        final int tilesWide = target.getWidth() * sampleRoom.getWidth();
+        final int tilesHigh = target.getHeight() * sampleRoom.getHeight();
+
+        final int tileBlock = Math.min(myTargetWidth / tilesWide, myTargetHeight / tilesHigh);
+        myTileBlocks = tileBlock >= 1;
+        if (myTileBlocks) {
+            myBlockSize = tileBlock;
+        } else {
+            myBlockSize = Math.max(1, Math.min(myTargetWidth / target.getWidth(),
+                                               myTargetHeight / target.getHeight()));
+        }
+
+        final int blocksWide;
+        final int blocksHigh;
+        if (myTileBlocks) {
+            blocksWide = tilesWide;
+            blocksHigh = tilesHigh;
+        } else {
+            blocksWide = target.getWidth();
+            blocksHigh = target.getHeight();
+        }
+
+        myImage = new BufferedImage(blocksWide * myBlockSize, blocksHigh * myBlockSize,
+                                    BufferedImage.TYPE_INT_RGB);
+        myPlayerPos = myTargetModel.getState().getPlayer().getPosition();
+
+        final Graphics2D context = myImage.createGraphics();
+        for (int roomY = 0; roomY < target.getHeight(); roomY++) {
+            for (int roomX = 0; roomX < target.getWidth(); roomX++) {
+                drawRoom(context, roomX, roomY);
+            }
+        }
+        context.dispose();
+    }
+
+    /**
+     * Redraws a single room, including the player or exit if they're inside it.
+     *
+     * @param theGraphics Graphics to draw the map with.
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     */
+    private void drawRoom(final Graphics2D theGraphics,
+                          final int theRoomX, final int theRoomY) {
+        final Maze target = myTargetModel.getState().getMaze();
+        final boolean isExit = theRoomX == target.getExitRoomX()
+                               && theRoomY == target.getExitRoomY();
+        final boolean hasPlayer = theRoomX == myPlayerPos.getRoomX()
+                                  && theRoomY == myPlayerPos.getRoomY();
+
+        if (!myTileBlocks) {
+            // Whole room as one block
+            if (hasPlayer) {
+                theGraphics.setColor(PLAYER_COLOR);
+            } else if (isExit) {
+                theGraphics.setColor(EXIT_COLOR);
+            } else {
+                theGraphics.setColor(ROOM_COLOR);
+            }
+            theGraphics.fillRect(theRoomX * myBlockSize,
+                                 (target.getHeight() - 1 - theRoomY) * myBlockSize,
+                                 myBlockSize, myBlockSize);
+            return;
+        }
+
+        final Room room = target.getRoom(theRoomX, theRoomY);
+        for (int y = 0; y < room.getHeight(); y++) {
+            for (int x = 0; x < room.getWidth(); x++) {
+                final TileID tile = room.getTile(x, y).getTileID();
+                theGraphics.setColor(TILE_COLORS[tile.ordinal()]);
+                fillTile(theGraphics, theRoomX, theRoomY, x, y);
+            }
+        }
+
+        if (isExit) {
+            theGraphics.setColor(EXIT_COLOR);
+            fillTile(theGraphics, theRoomX, theRoomY,
+                     room.getWidth() / 2, room.getHeight() / 2);
+        }
+        if (hasPlayer) {
+            theGraphics.setColor(PLAYER_COLOR);
+            fillTile(theGraphics, theRoomX, theRoomY,
+                     myPlayerPos.getX(), myPlayerPos.getY());
+        }
+    }
+
+    /**
+     * Fills the block for a single tile with the current color.
+     *
+     * @param theGraphics Graphics to draw the map with.
+     * @param theRoomX X-coordinate of the tile's room.
+     * @param theRoomY Y-coordinate of the tile's room.
+     * @param theX X-coordinate of the tile in its room.
+     * @param theY Y-coordinate of the tile in its room.
+     */
+    private void fillTile(final Graphics2D theGraphics,
+                          final int theRoomX, final int theRoomY,
+                          final int theX, final int theY) {
+        final Maze target = myTargetModel.getState().getMaze();
+        final Room room = target.getRoom(theRoomX, theRoomY);
+
+        final int column = theRoomX * room.getWidth() + theX;
+        final int row = (target.getHeight() - 1 - theRoomY) * room.getHeight()
+                        + (room.getHeight() - 1 - theY);
+
+        theGraphics.fillRect(column * myBlockSize, row * myBlockSize,
+                             myBlockSize, myBlockSize);
+    }
+
+    /**
+     * Redraws the rooms the player moved between.
+     */
+    private void refreshPlayer() {
+        final Coordinates oldPos = myPlayerPos;
+        myPlayerPos = myTargetModel.getState().getPlayer().getPosition();
+
+        final Graphics2D context = myImage.createGraphics();
+        drawRoom(context, oldPos.getRoomX(), oldPos.getRoomY());
+        if (oldPos.getRoomX() != myPlayerPos.getRoomX()
+            || oldPos.getRoomY() != myPlayerPos.getRoomY()) {
+            drawRoom(context, myPlayerPos.getRoomX(), myPlayerPos.getRoomY());
+        }
+        context.dispose();
+    }
+
+    /**
+     * Redraws the rooms holding the most recently updated doors.
+     * Falls back to redrawing everything if those rooms aren't known.
+     */
+    private void refreshDoors() {
+        final DoorController door = myTargetModel.getState().getLastUpdatedDoor();
+
+        if (door == null) {
+            // No door has changed since the game was created or loaded.
+            return;
+        } else if (!door.isLinked()) {
+            refresh();
+            return;
+        }
+
+        final Graphics2D context = myImage.createGraphics();
+        for (int side = 0; side < door.getDoors().length; side++) {
+            drawRoom(context, door.getRoomX(side), door.getRoomY(side));
+        }
+        context.dispose();
+    }
+
+    /**
+     * Updates this view when the GameModel updates.
+     *
+     * @param theType Type of update.
+     * @param theModel GameModel which updated.
+     */
+    private void onGameModelUpdate(final GameModelUpdateListener.UpdateType theType,
+                                   final GameModel theModel) {
+        switch (theType) {
+            case NEW_GAME:
+            case LOADED:
+                refresh();
+                break;
+
+            case GAME_STATE_PLAYER:
+                refreshPlayer();
+                break;
+
+            case GAME_STATE_DOORS:
+                refreshDoors();
+                break;
+
+            default:
+                // Nothing drawn depends on the phase or saving.
+                break;
+        }
+    }
+}
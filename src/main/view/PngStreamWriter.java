@@ -0,0 +1,286 @@
+package view;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes an RGB PNG image a band of rows at a time, so images far bigger
+ * than would fit in memory can be written out.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+final class PngStreamWriter {
+
+    /**
+     * Signature at the start of every PNG file.
+     */
+    private static final byte[] PNG_SIGNATURE
+            = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /**
+     * Bit depth of each color channel.
+     */
+    private static final int BIT_DEPTH = 8;
+
+    /**
+     * PNG color type for RGB without alpha.
+     */
+    private static final int COLOR_TYPE_RGB = 2;
+
+    /**
+     * Bytes per pixel for 8-bit RGB.
+     */
+    private static final int BYTES_PER_PIXEL = 3;
+
+    /**
+     * Maximum amount of compressed data to put in a single IDAT chunk.
+     */
+    private static final int MAX_CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Error message for invalid image dimensions being provided.
+     */
+    private static final String ILLEGAL_DIMENSIONS = "Illegal Image Dimensions provided!";
+
+    /**
+     * Error message for writing rows that don't match the image.
+     */
+    private static final String ILLEGAL_ROWS
+            = "Rows don't fit the image being written!";
+
+    /**
+     * Stream the PNG file gets written to.
+     */
+    private final DataOutputStream myOutput;
+
+    /**
+     * Compressed stream of image data, which gets split into IDAT chunks.
+     */
+    private final DeflaterOutputStream myImageData;
+
+    /**
+     * Stream splitting the compressed image data into IDAT chunks.
+     */
+    private final ChunkOutputStream myChunks;
+
+    /**
+     * Compressor used for the image data.
+     */
+    private final Deflater myDeflater;
+
+    /**
+     * Width of the image in pixels.
+     */
+    private final int myWidth;
+
+    /**
+     * Height of the image in pixels.
+     */
+    private final int myHeight;
+
+    /**
+     * Buffer for one row of pixels as ARGB ints.
+     */
+    private final int[] myPixelRow;
+
+    /**
+     * Buffer for one filtered row of image data.
+     */
+    private final byte[] myDataRow;
+
+    /**
+     * Number of rows written so far.
+     */
+    private int myRowsWritten;
+
+    /**
+     * Starts writing a PNG image, writing its header immediately.
+     *
+     * @param theOutput Stream to write the PNG file to.
+     * @param theWidth Width of the image in pixels.
+     * @param theHeight Height of the image in pixels.
+     * @throws IOException If the header couldn't be written.
+     * @throws IllegalArgumentException If either dimension isn't positive.
+     */
+    PngStreamWriter(final OutputStream theOutput, final int theWidth, final int theHeight)
+            throws IOException, IllegalArgumentException {
+        if (theWidth <= 0 || theHeight <= 0
+            || (long) theWidth * BYTES_PER_PIXEL + 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(ILLEGAL_DIMENSIONS);
+        }
+
+        myOutput = new DataOutputStream(theOutput);
+        myWidth = theWidth;
+        myHeight = theHeight;
+        myPixelRow = new int[theWidth];
+        myDataRow = new byte[1 + theWidth * BYTES_PER_PIXEL];
+        myRowsWritten = 0;
+
+        myOutput.write(PNG_SIGNATURE);
+
+        final ByteArrayOutputStream header = new ByteArrayOutputStream();
+        final DataOutputStream headerData = new DataOutputStream(header);
+        headerData.writeInt(theWidth);
+        headerData.writeInt(theHeight);
+        headerData.writeByte(BIT_DEPTH);
+        headerData.writeByte(COLOR_TYPE_RGB);
+        headerData.writeByte(0);    // Deflate compression
+        headerData.writeByte(0);    // Adaptive filtering
+        headerData.writeByte(0);    // No interlacing
+        writeChunk("IHDR", header.toByteArray(), header.size());
+
+        myDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        myChunks = new ChunkOutputStream();
+        myImageData = new DeflaterOutputStream(myChunks, myDeflater,
+                                               MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Writes the next rows of the image from the top of a band image.
+     *
+     * @param theBand Image holding the rows, which must be as wide as the PNG.
+     * @param theRows Number of rows from the top of the band to write.
+     * @throws IOException If the rows couldn't be written.
+     * @throws IllegalArgumentException If the rows don't fit the image.
+     */
+    void writeRows(final BufferedImage theBand, final int theRows)
+            throws IOException, IllegalArgumentException {
+        if (theBand.getWidth() != myWidth
+            || theRows > theBand.getHeight()
+            || myRowsWritten + theRows > myHeight) {
+            throw new IllegalArgumentException(ILLEGAL_ROWS);
+        }
+
+        for (int row = 0; row < theRows; row++) {
+            theBand.getRGB(0, row, myWidth, 1, myPixelRow, 0, myWidth);
+
+            // No filtering for this row
+            myDataRow[0] = 0;
+            int index = 1;
+            for (final int pixel : myPixelRow) {
+                myDataRow[index++] = (byte) (pixel >> 16);
+                myDataRow[index++] = (byte) (pixel >> 8);
+                myDataRow[index++] = (byte) pixel;
+            }
+
+            myImageData.write(myDataRow);
+        }
+
+        myRowsWritten += theRows;
+    }
+
+    /**
+     * Finishes the image, writing any remaining data and the end marker.
+     * The underlying stream is flushed but not closed.
+     *
+     * @throws IOException If the image couldn't be finished.
+     * @throws IllegalStateException If not every row has been written.
+     */
+    void finish() throws IOException, IllegalStateException {
+        if (myRowsWritten != myHeight) {
+            throw new IllegalStateException(ILLEGAL_ROWS);
+        }
+
+        myImageData.finish();
+        myChunks.flush();
+        myDeflater.end();
+
+        writeChunk("IEND", new byte[0], 0);
+        myOutput.flush();
+    }
+
+    /**
+     * Writes a single PNG chunk.
+     *
+     * @param theType Four letter chunk type.
+     * @param theData Buffer holding the chunk's data.
+     * @param theLength Length of the chunk's data.
+     * @throws IOException If the chunk couldn't be written.
+     */
+    private void writeChunk(final String theType, final byte[] theData, final int theLength)
+            throws IOException {
+        final byte[] type = theType.getBytes(StandardCharsets.US_ASCII);
+
+        final CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(theData, 0, theLength);
+
+        myOutput.writeInt(theLength);
+        myOutput.write(type);
+        myOutput.write(theData, 0, theLength);
+        myOutput.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Stream which collects compressed image data and writes it out
+     * as IDAT chunks whenever enough has built up.
+     */
+    private final class ChunkOutputStream extends OutputStream {
+
+        /**
+         * Compressed data waiting to be written.
+         */
+        private final byte[] myBuffer = new byte[MAX_CHUNK_SIZE];
+
+        /**
+         * Amount of data in the buffer.
+         */
+        private int myCount;
+
+        @Override
+        public void write(final int theByte) throws IOException {
+            myBuffer[myCount++] = (byte) theByte;
+            if (myCount == myBuffer.length) {
+                flushChunk();
+            }
+        }
+
+        @Override
+        public void write(final byte[] theBytes, final int theOffset, final int theLength)
+                throws IOException {
+            int offset = theOffset;
+            int remaining = theLength;
+            while (remaining > 0) {
+                final int count = Math.min(remaining, myBuffer.length - myCount);
+                System.arraycopy(theBytes, offset, myBuffer, myCount, count);
+                myCount += count;
+                offset += count;
+                remaining -= count;
+
+                if (myCount == myBuffer.length) {
+                    flushChunk();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushChunk();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushChunk();
+        }
+
+        /**
+         * Writes out any buffered data as an IDAT chunk.
+         *
+         * @throws IOException If the chunk couldn't be written.
+         */
+        private void flushChunk() throws IOException {
+            if (myCount > 0) {
+                writeChunk("IDAT", myBuffer, myCount);
+                myCount = 0;
+            }
+        }
+    }
+}
@@ -170,17 +170,15 @@ public final class RoomView {
         final BufferedImage image = new BufferedImage(imageWidth, imageHeight, TYPE_INT_RGB);
         final Graphics2D context = image.createGraphics();
 
-        final SpriteMap sprites = SpriteMap.getInstance();
+        final SpriteAtlas sprites = SpriteMap.getInstance().getAtlas(myTileWidth, myTileHeight);
 
         int imageX = 0;
         int imageY = 0;
         for (int tileY = room.getHeight() - 1; tileY >= 0; tileY--) {
             for (int tileX = 0; tileX < room.getWidth(); tileX++) {
                 final TileID targetTile = room.getTile(tileX, tileY).getTileID();
-                final Image targetSprite = sprites.get(targetTile);
 
-                context.drawImage(targetSprite, imageX, imageY,
-                                  myTileWidth, myTileHeight, null);
+                sprites.drawTile(context, targetTile, imageX, imageY);
                 imageX += myTileWidth;
             }
             imageX = 0;
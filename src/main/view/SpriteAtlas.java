@@ -0,0 +1,126 @@
+package view;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import model.enums.TileID;
+
+/**
+ * Every tile sprite pre-scaled to a single tile size, packed side by side
+ * into one image in the screen's native format. Drawing a tile from the
+ * atlas is a plain unscaled copy.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class SpriteAtlas {
+
+    /**
+     * Error message for invalid tile dimensions being provided.
+     */
+    private static final String ILLEGAL_TILE_DIMENSIONS = "Illegal Tile Dimensions provided!";
+
+    /**
+     * Width of a tile in pixels.
+     */
+    private final int myTileWidth;
+
+    /**
+     * Height of a tile in pixels.
+     */
+    private final int myTileHeight;
+
+    /**
+     * Image holding every scaled sprite, in TileID ordinal order.
+     */
+    private final BufferedImage myImage;
+
+    /**
+     * Builds an atlas by scaling each sprite to the given tile size.
+     *
+     * @param theSprites Original sprite for each TileID.
+     * @param theTileWidth Width of a tile in pixels.
+     * @param theTileHeight Height of a tile in pixels.
+     * @throws IllegalArgumentException If either dimension isn't positive.
+     */
+    SpriteAtlas(final Map<TileID, Image> theSprites,
+                final int theTileWidth, final int theTileHeight)
+            throws IllegalArgumentException {
+        if (theTileWidth <= 0 || theTileHeight <= 0) {
+            throw new IllegalArgumentException(ILLEGAL_TILE_DIMENSIONS);
+        }
+
+        myTileWidth = theTileWidth;
+        myTileHeight = theTileHeight;
+        myImage = createImage(theTileWidth * TileID.values().length, theTileHeight);
+
+        final Graphics2D context = myImage.createGraphics();
+        context.setComposite(AlphaComposite.Src);
+        for (final TileID nextTile : TileID.values()) {
+            context.drawImage(theSprites.get(nextTile),
+                              nextTile.ordinal() * theTileWidth, 0,
+                              theTileWidth, theTileHeight, null);
+        }
+        context.dispose();
+    }
+
+    /**
+     * Draws a tile's sprite without any scaling.
+     *
+     * @param theGraphics Graphics to draw with.
+     * @param theTile Tile to draw the sprite of.
+     * @param theX X-coordinate to draw the tile's top left corner at.
+     * @param theY Y-coordinate to draw the tile's top left corner at.
+     */
+    public void drawTile(final Graphics theGraphics, final TileID theTile,
+                         final int theX, final int theY) {
+        final int sourceX = theTile.ordinal() * myTileWidth;
+
+        theGraphics.drawImage(myImage,
+                              theX, theY, theX + myTileWidth, theY + myTileHeight,
+                              sourceX, 0, sourceX + myTileWidth, myTileHeight,
+                              null);
+    }
+
+    /**
+     * Gets the width of a tile in this atlas.
+     *
+     * @return Tile width in pixels.
+     */
+    public int getTileWidth() {
+        return myTileWidth;
+    }
+
+    /**
+     * Gets the height of a tile in this atlas.
+     *
+     * @return Tile height in pixels.
+     */
+    public int getTileHeight() {
+        return myTileHeight;
+    }
+
+    /**
+     * Creates an image in the screen's native format if there is a screen,
+     * or a plain ARGB image otherwise.
+     *
+     * @param theWidth Width of the image.
+     * @param theHeight Height of the image.
+     * @return New blank image.
+     */
+    static BufferedImage createImage(final int theWidth, final int theHeight) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(theWidth, theHeight, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(theWidth, theHeight, Transparency.TRANSLUCENT);
+    }
+}
@@ -4,14 +4,17 @@ import java.awt.Image;
 import java.io.File;
 import java.io.IOException;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.imageio.ImageIO;
 import model.enums.TileID;
 
 /**
  * Class to get the appropriate image for any Tile by its TileID.
+ * Also keeps SpriteAtlases of the sprites pre-scaled to recently used tile sizes.
  *
  * @author Shane Menzies
- * @version 11/24/24
+ * @version 10/17/26
  */
 public final class SpriteMap extends EnumMap<TileID, Image> {
 
@@ -38,6 +41,12 @@ public final class SpriteMap extends EnumMap<TileID, Image> {
             "Fallback image \"" + IMAGE_DIRECTORY + FALLBACK_IMAGE_NAME + IMAGE_EXTENSION
                     + "\" not found!";
 
+    /**
+     * Number of differently sized atlases to keep before evicting the least
+     * recently used one.
+     */
+    private static final int MAX_CACHED_ATLASES = 4;
+
     /**
      * The single instance of this class.
      */
@@ -48,6 +57,11 @@ public final class SpriteMap extends EnumMap<TileID, Image> {
      */
     private final Image myFallBackImage;
 
+    /**
+     * Recently used atlases keyed by tile size, in least recently used order.
+     */
+    private final Map<Long, SpriteAtlas> myAtlases;
+
     /**
      * Private constructor, initializes the single instance of SpriteMap.
      */
@@ -63,6 +77,13 @@ public final class SpriteMap extends EnumMap<TileID, Image> {
         }
 
         fillMap();
+
+        myAtlases = new LinkedHashMap<>(MAX_CACHED_ATLASES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, SpriteAtlas> theEldest) {
+                return size() > MAX_CACHED_ATLASES;
+            }
+        };
     }
 
     /**
@@ -74,6 +95,29 @@ public final class SpriteMap extends EnumMap<TileID, Image> {
         return MY_INSTANCE;
     }
 
+    /**
+     * Gets an atlas of every sprite pre-scaled to a certain tile size.
+     * The atlas is only built the first time a size is requested,
+     * until it gets evicted by other sizes.
+     *
+     * @param theTileWidth Width of a tile in pixels.
+     * @param theTileHeight Height of a tile in pixels.
+     * @return Atlas for the requested tile size.
+     * @throws IllegalArgumentException If either dimension isn't positive.
+     */
+    public synchronized SpriteAtlas getAtlas(final int theTileWidth, final int theTileHeight)
+            throws IllegalArgumentException {
+        final long key = ((long) theTileWidth << Integer.SIZE) | (theTileHeight & 0xFFFFFFFFL);
+
+        SpriteAtlas atlas = myAtlases.get(key);
+        if (atlas == null) {
+            atlas = new SpriteAtlas(this, theTileWidth, theTileHeight);
+            myAtlases.put(key, atlas);
+        }
+
+        return atlas;
+    }
+
     /**
      * Fills the sprite map with the correct images for each TileID.
      */
@@ -1,5 +1,6 @@
 package view;
 
+import model.DistanceField;
 import model.GameModel;
 import javax.swing.*;
 import java.awt.*;
@@ -8,7 +9,8 @@ import java.io.IOException;
 
 /**
  * Represents the stats panel for the player.
- * Displays the player's lives remaining and their score.
+ * Displays the player's lives remaining, their score, and how many
+ * rooms are left between them and the exit.
  * Updates according depending on the player answering a question right
  * or wrong.
  *
@@ -23,6 +25,9 @@ public class StatsPanel {
     /** Text field to display player score. */
     private final transient JTextField myScore;
 
+    /** Text field to display rooms left to the exit. */
+    private final transient JTextField myRooms;
+
     /** Game model object to refer for game's logic. */
     private final GameModel myGameModel;
 
@@ -37,24 +42,29 @@ public class StatsPanel {
 
         myScore = new JTextField();
         myLives = new JTextField();
+        myRooms = new JTextField();
 
         showStats();
         customText();
     }
 
-    /** Displays lives and score under player image. */
+    /** Displays lives, score and rooms left under player image. */
     private void showStats() {
         myLives.setBounds(700, 600, 150, 50);
         myScore.setBounds(700, 650, 150, 50);
+        myRooms.setBounds(700, 700, 150, 50);
 
         myLives.setBorder(null);
         myScore.setBorder(null);
+        myRooms.setBorder(null);
 
         myLives.setBackground(new Color(0, 0, 0, 0));
         myScore.setBackground(new Color(0, 0, 0, 0));
+        myRooms.setBackground(new Color(0, 0, 0, 0));
 
         myLives.setEditable(false);
         myScore.setEditable(false);
+        myRooms.setEditable(false);
     }
 
     /** Custom text for questions, answers and buttons. */
@@ -71,18 +81,24 @@ public class StatsPanel {
 
         myLives.setFont(font);
         myScore.setFont(font);
+        myRooms.setFont(font);
 
         myLives.setForeground(Color.WHITE);
         myScore.setForeground(Color.WHITE);
+        myRooms.setForeground(Color.WHITE);
     }
 
-    /** Updates players lives and score through game play. */
+    /** Updates players lives, score and rooms left through game play. */
     public void updateStats() {
         myLives.setText("Lives: " + myGameModel.getState().getPlayer().getLives());
         myScore.setText("Score: " + myGameModel.getState().getPlayer().getScore());
 
+        final int rooms = myGameModel.getState().getRoomsToExit();
+        myRooms.setText("Rooms: " + (rooms == DistanceField.UNREACHABLE ? "?" : rooms));
+
         myLives.repaint();
         myScore.repaint();
+        myRooms.repaint();
     }
 
     /** Getter for lives text field. */
@@ -94,4 +110,9 @@ public class StatsPanel {
     public JTextField getScore() {
         return myScore;
     }
+
+    /** Getter for rooms left text field. */
+    public JTextField getRooms() {
+        return myRooms;
+    }
 }
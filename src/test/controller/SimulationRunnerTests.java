@@ -0,0 +1,186 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import model.GameSettings;
+import model.RectangleMazeGenerator;
+import model.TriviaQuestion;
+import model.enums.Direction;
+import model.topologies.RecursiveBacktrackerTopology;
+import model.utilities.EmptyMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SimulationRunner class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class SimulationRunnerTests {
+
+    /**
+     * Width and height of the test mazes in rooms.
+     */
+    private static final int TEST_MAZE_SIZE = 3;
+
+    /**
+     * Width and height of each room in the test mazes.
+     */
+    private static final int TEST_ROOM_SIZE = 3;
+
+    /**
+     * Settings to use for test games.
+     */
+    private static final GameSettings TEST_SETTINGS = new GameSettings(3, 10, -5);
+
+    /**
+     * Maximum steps for each test game.
+     */
+    private static final int TEST_STEP_LIMIT = 2000;
+
+    /**
+     * Number of games to simulate in each batch.
+     */
+    private static final int TEST_GAMES = 100;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Test SimulationRunner's constructor.
+     */
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationRunner(null, RandomAgent::new,
+                        SimulationRunner.AnswerPolicy.withAccuracy(1),
+                        TEST_SETTINGS, TEST_STEP_LIMIT));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationRunner(this::openGenerator, RandomAgent::new,
+                        SimulationRunner.AnswerPolicy.withAccuracy(1),
+                        TEST_SETTINGS, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationRunner(this::openGenerator, RandomAgent::new,
+                        SimulationRunner.AnswerPolicy.withAccuracy(1),
+                        TEST_SETTINGS, TEST_STEP_LIMIT, 0));
+    }
+
+    /**
+     * Test a scripted agent walking straight to the exit of an open maze.
+     */
+    @Test
+    void runScripted() {
+        final SimulationRunner runner = new SimulationRunner(this::openGenerator,
+                () -> new ScriptedAgent(List.of(Direction.RIGHT, Direction.UP)),
+                SimulationRunner.AnswerPolicy.withAccuracy(1),
+                TEST_SETTINGS, TEST_STEP_LIMIT);
+
+        final SimulationRunner.Report report = runner.run(TEST_GAMES, 0);
+        assertEquals(TEST_GAMES, report.getGames());
+        assertEquals(TEST_GAMES, report.getWins());
+        assertEquals(1.0, report.getWinRate());
+
+        // Five moves right and five moves up reach the exit room
+        assertEquals(10.0, report.getAverageSteps());
+        assertEquals(0, report.getTotalQuestions());
+
+        assertThrows(IllegalArgumentException.class, () -> runner.run(0, 0));
+    }
+
+    /**
+     * Test random agents which never answer correctly.
+     */
+    @Test
+    void runRandomNeverCorrect() {
+        final SimulationRunner runner = new SimulationRunner(this::doorGenerator,
+                RandomAgent::new,
+                SimulationRunner.AnswerPolicy.withAccuracy(0),
+                TEST_SETTINGS, TEST_STEP_LIMIT);
+
+        final SimulationRunner.Report report = runner.run(TEST_GAMES, 1);
+        assertEquals(TEST_GAMES, report.getGames());
+        assertEquals(0, report.getWins(),
+                "Exit shouldn't be reachable without answering a question!");
+        assertEquals(TEST_GAMES,
+                report.getFailures() + report.getUnfinished());
+        assertTrue(report.getAverageSteps() <= TEST_STEP_LIMIT);
+    }
+
+    /**
+     * Test that the same batch seed gives the same results.
+     */
+    @Test
+    void runRepeatable() {
+        final SimulationRunner runner = new SimulationRunner(this::openGenerator,
+                RandomAgent::new,
+                SimulationRunner.AnswerPolicy.withAccuracy(1),
+                TEST_SETTINGS, TEST_STEP_LIMIT);
+
+        final SimulationRunner.Report first = runner.run(TEST_GAMES, 42);
+        final SimulationRunner.Report second = runner.run(TEST_GAMES, 42);
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(first.getTotalSteps(), second.getTotalSteps());
+    }
+
+    /**
+     * Test that the same batch seed gives the same results when each game's
+     * maze is generated from its seed, however the games are scheduled.
+     */
+    @Test
+    void runRepeatableMazes() {
+        final SimulationRunner.Report first = new SimulationRunner(this::randomGenerator,
+                RandomAgent::new, SimulationRunner.AnswerPolicy.withAccuracy(0.5),
+                TEST_SETTINGS, TEST_STEP_LIMIT, 1).run(TEST_GAMES, 42);
+        final SimulationRunner.Report second = new SimulationRunner(this::randomGenerator,
+                RandomAgent::new, SimulationRunner.AnswerPolicy.withAccuracy(0.5),
+                TEST_SETTINGS, TEST_STEP_LIMIT, 4).run(TEST_GAMES, 42);
+
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(first.getFailures(), second.getFailures());
+        assertEquals(first.getTotalSteps(), second.getTotalSteps());
+        assertEquals(first.getTotalQuestions(), second.getTotalQuestions());
+    }
+
+    /**
+     * Makes a generator for open mazes without any doors.
+     *
+     * @return New EmptyMazeGenerator.
+     */
+    private EmptyMazeGenerator openGenerator() {
+        return new EmptyMazeGenerator(TEST_MAZE_SIZE, TEST_ROOM_SIZE,
+                0, 0, TEST_MAZE_SIZE - 1, TEST_MAZE_SIZE - 1);
+    }
+
+    /**
+     * Makes a generator for mazes with doors between every room.
+     *
+     * @return New RectangleMazeGenerator.
+     */
+    private RectangleMazeGenerator doorGenerator() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(
+                TEST_MAZE_SIZE, TEST_MAZE_SIZE,
+                TEST_ROOM_SIZE + 2, TEST_ROOM_SIZE + 2, () -> TEST_QUESTION);
+        generator.setStartCoordinates(0, 0);
+        generator.setExitCoordinates(TEST_MAZE_SIZE - 1, TEST_MAZE_SIZE - 1);
+        return generator;
+    }
+
+    /**
+     * Makes a generator for mazes with random doors, starting rooms and exits.
+     *
+     * @return New RectangleMazeGenerator.
+     */
+    private RectangleMazeGenerator randomGenerator() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(
+                TEST_MAZE_SIZE, TEST_MAZE_SIZE,
+                TEST_ROOM_SIZE + 2, TEST_ROOM_SIZE + 2, () -> TEST_QUESTION);
+        generator.setTopology(new RecursiveBacktrackerTopology());
+        return generator;
+    }
+}
@@ -0,0 +1,256 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import model.enums.GamePlayPhase;
+import model.interfaces.MazeTopology;
+import model.interfaces.QuestionHandler;
+import model.topologies.GridTopology;
+import model.topologies.KruskalTopology;
+import model.utilities.TestMazes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the ConnectivityTracker class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class ConnectivityTrackerTests {
+
+    /**
+     * Width and height of the random test mazes in rooms.
+     */
+    private static final int TEST_MAZE_SIZE = 12;
+
+    /**
+     * Width and height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_SIZE = 5;
+
+    /**
+     * Seed for every random choice in the tests.
+     */
+    private static final long TEST_SEED = 360L;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Test that every room starts connected, and locking every door
+     * around the exit cuts it off.
+     */
+    @Test
+    void lockAroundExit() {
+        final Maze maze = TestMazes.makeMaze(3, TEST_ROOM_SIZE, new GridTopology(), 0);
+        final ConnectivityTracker tracker = ConnectivityTracker.build(maze);
+        assertEquals(1, tracker.getComponentCount());
+
+        // Lock the doors into the exit room one at a time
+        int exitDoors = 0;
+        for (final DoorController door : maze.getDoors()) {
+            if (touchesRoom(door, 1, 1)) {
+                exitDoors++;
+            }
+        }
+        for (final DoorController door : maze.getDoors()) {
+            if (touchesRoom(door, 1, 1)) {
+                assertTrue(tracker.isConnected(0, 0, 1, 1));
+                TestMazes.answer(door, QuestionHandler.QuestionResult.INCORRECT);
+                exitDoors--;
+            }
+        }
+
+        assertEquals(0, exitDoors);
+        assertFalse(tracker.isConnected(0, 0, 1, 1));
+        assertTrue(tracker.isConnected(0, 0, 2, 2));
+        assertEquals(2, tracker.getComponentCount());
+    }
+
+    /**
+     * Test that opening doors never splits rooms.
+     */
+    @Test
+    void openDoesNotSplit() {
+        final Maze maze = TestMazes.makeMaze(TEST_MAZE_SIZE, TEST_ROOM_SIZE,
+                new KruskalTopology(), TEST_SEED);
+        final ConnectivityTracker tracker = ConnectivityTracker.build(maze);
+
+        for (final DoorController door : maze.getDoors()) {
+            TestMazes.answer(door, QuestionHandler.QuestionResult.CORRECT);
+        }
+
+        assertEquals(1, tracker.getComponentCount());
+    }
+
+    /**
+     * Test that the tracker matches a search from scratch after each random lock.
+     */
+    @Test
+    void matchesSearchFromScratch() {
+        final SplittableRandom random = new SplittableRandom(TEST_SEED);
+        for (final MazeTopology topology
+                : new MazeTopology[] {new GridTopology(), new KruskalTopology()}) {
+            final Maze maze = TestMazes.makeMaze(TEST_MAZE_SIZE, TEST_ROOM_SIZE, topology,
+                    random.nextLong());
+            final ConnectivityTracker tracker = ConnectivityTracker.build(maze);
+
+            final DoorController[] doors = maze.getDoors();
+            for (int step = 0; step < doors.length; step++) {
+                final DoorController door = doors[random.nextInt(doors.length)];
+                TestMazes.answer(door, random.nextInt(4) == 0
+                        ? QuestionHandler.QuestionResult.CORRECT
+                        : QuestionHandler.QuestionResult.INCORRECT);
+
+                final int[] expected = labelRooms(maze);
+                for (int first = 0; first < expected.length; first += 7) {
+                    for (int second = 0; second < expected.length; second++) {
+                        assertEquals(expected[first] == expected[second],
+                                     tracker.isConnected(first % TEST_MAZE_SIZE,
+                                                         first / TEST_MAZE_SIZE,
+                                                         second % TEST_MAZE_SIZE,
+                                                         second / TEST_MAZE_SIZE));
+                    }
+                }
+                assertEquals(Arrays.stream(expected).distinct().count(),
+                             tracker.getComponentCount());
+            }
+        }
+    }
+
+    /**
+     * Test that a game ends as trapped once a wrong answer cuts off the exit.
+     */
+    @Test
+    void gameTrapped() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(1, 2,
+                TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        generator.setStartCoordinates(0, 0);
+        generator.setExitCoordinates(1, 0);
+        final GameState state = new GameState(new GameSettings(3, 10, -5),
+                                              generator.generate(TEST_SEED));
+        state.setPhase(GamePlayPhase.IN_PROGRESS);
+        assertTrue(state.isExitReachable());
+
+        state.getMaze().getDoors()[0].getDoors()[0].tryMoveTo();
+        assertEquals(GamePlayPhase.TRIVIA, state.getPhase());
+        state.answerQuestion("Wrong Answer");
+
+        assertFalse(state.isExitReachable());
+        assertEquals(GamePlayPhase.TRAPPED, state.getPhase());
+    }
+
+    /**
+     * Test that a loaded game's trackers aren't saved with it, and are
+     * rebuilt to follow its doors.
+     *
+     * @throws IOException If serialization fails.
+     * @throws ClassNotFoundException If deserialization fails.
+     */
+    @Test
+    void gameTrappedAfterLoad() throws IOException, ClassNotFoundException {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(1, 2,
+                TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        generator.setStartCoordinates(0, 0);
+        generator.setExitCoordinates(1, 0);
+        final GameState saved = new GameState(new GameSettings(3, 10, -5),
+                                              generator.generate(TEST_SEED));
+        saved.setPhase(GamePlayPhase.IN_PROGRESS);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(saved);
+        }
+        final String written = bytes.toString(StandardCharsets.ISO_8859_1);
+        assertFalse(written.contains(ConnectivityTracker.class.getName()));
+        assertFalse(written.contains(DistanceField.class.getName()));
+
+        final GameState state;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            state = (GameState) in.readObject();
+        }
+        assertTrue(state.isExitReachable());
+        assertEquals(1, state.getRoomsToExit());
+
+        state.getMaze().getDoors()[0].getDoors()[0].tryMoveTo();
+        state.answerQuestion("Wrong Answer");
+
+        assertFalse(state.isExitReachable());
+        assertEquals(DistanceField.UNREACHABLE, state.getRoomsToExit());
+        assertEquals(GamePlayPhase.TRAPPED, state.getPhase());
+    }
+
+    /**
+     * Checks if either of a door's tiles is in a room.
+     *
+     * @param theDoor Door to check.
+     * @param theRoomX X-coordinate of the room.
+     * @param theRoomY Y-coordinate of the room.
+     * @return True if the door leads into the room, false otherwise.
+     */
+    private static boolean touchesRoom(final DoorController theDoor,
+                                       final int theRoomX, final int theRoomY) {
+        return theDoor.getRoomX(0) == theRoomX && theDoor.getRoomY(0) == theRoomY
+               || theDoor.getRoomX(1) == theRoomX && theDoor.getRoomY(1) == theRoomY;
+    }
+
+    /**
+     * Labels every room with its component, searching from scratch
+     * through doors which aren't locked.
+     *
+     * @param theMaze Maze to label.
+     * @return Component of each room, indexed by y * width + x.
+     */
+    private static int[] labelRooms(final Maze theMaze) {
+        final int width = theMaze.getWidth();
+        final int[] labels = new int[width * theMaze.getHeight()];
+        Arrays.fill(labels, -1);
+
+        int component = 0;
+        for (int room = 0; room < labels.length; room++) {
+            if (labels[room] != -1) {
+                continue;
+            }
+
+            final Deque<Integer> queue = new ArrayDeque<>();
+            labels[room] = component;
+            queue.add(room);
+            while (!queue.isEmpty()) {
+                final int current = queue.remove();
+                for (final DoorController door : theMaze.getDoors()) {
+                    if (door.getState() == DoorController.DoorState.LOCKED) {
+                        continue;
+                    }
+
+                    for (int side = 0; side < 2; side++) {
+                        final int from = door.getRoomY(side) * width + door.getRoomX(side);
+                        final int to = door.getRoomY(1 - side) * width + door.getRoomX(1 - side);
+                        if (from == current && labels[to] == -1) {
+                            labels[to] = component;
+                            queue.add(to);
+                        }
+                    }
+                }
+            }
+            component++;
+        }
+
+        return labels;
+    }
+}
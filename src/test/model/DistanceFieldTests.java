@@ -0,0 +1,166 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import model.enums.Direction;
+import model.interfaces.MazeTopology;
+import model.interfaces.QuestionHandler;
+import model.topologies.GridTopology;
+import model.topologies.KruskalTopology;
+import model.utilities.TestMazes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the DistanceField class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class DistanceFieldTests {
+
+    /**
+     * Width and height of the test mazes in rooms.
+     */
+    private static final int TEST_MAZE_SIZE = 12;
+
+    /**
+     * Width and height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_SIZE = 5;
+
+    /**
+     * Seed for every random choice in the tests.
+     */
+    private static final long TEST_SEED = 2026L;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Test distances in a maze with every door, where they're Manhattan distances.
+     */
+    @Test
+    void gridDistances() {
+        final Maze maze = TestMazes.makeMaze(TEST_MAZE_SIZE, TEST_ROOM_SIZE,
+                new GridTopology(), TEST_SEED);
+        final DistanceField field = DistanceField.build(maze);
+        final int last = TEST_MAZE_SIZE - 1;
+
+        assertEquals(0, field.getDistance(last, last));
+        assertEquals(2 * last, field.getDistance(0, 0));
+        assertEquals(1, field.getDistance(last - 1, last));
+        assertNull(field.getStepToExit(last, last));
+
+        // Following the hints leads to the exit in as many steps as the distance
+        int x = 0;
+        int y = 0;
+        for (int step = 0; step < 2 * last; step++) {
+            final Direction direction = field.getStepToExit(x, y);
+            assertNotNull(direction);
+            switch (direction) {
+                case UP -> y++;
+                case DOWN -> y--;
+                case RIGHT -> x++;
+                case LEFT -> x--;
+                default -> fail();
+            }
+        }
+        assertEquals(last, x);
+        assertEquals(last, y);
+    }
+
+    /**
+     * Test that distances match a search from scratch as doors lock and unlock.
+     */
+    @Test
+    void matchesSearchFromScratch() {
+        final SplittableRandom random = new SplittableRandom(TEST_SEED);
+        for (final MazeTopology topology
+                : new MazeTopology[] {new GridTopology(), new KruskalTopology()}) {
+            final Maze maze = TestMazes.makeMaze(TEST_MAZE_SIZE, TEST_ROOM_SIZE, topology,
+                    random.nextLong());
+            final DistanceField field = DistanceField.build(maze);
+            assertDistances(maze, field);
+
+            final DoorController[] doors = maze.getDoors();
+            for (int step = 0; step < doors.length * 2; step++) {
+                final DoorController door = doors[random.nextInt(doors.length)];
+                if (door.getState() == DoorController.DoorState.LOCKED) {
+                    // Doors only unlock when restored, so pass the update on directly
+                    door.restoreState(DoorController.DoorState.UNANSWERED);
+                    field.doUpdate(door);
+                } else {
+                    TestMazes.answer(door, random.nextInt(3) == 0
+                            ? QuestionHandler.QuestionResult.CORRECT
+                            : QuestionHandler.QuestionResult.INCORRECT);
+                }
+
+                assertDistances(maze, field);
+            }
+        }
+    }
+
+    /**
+     * Test that a game reports how many rooms are left to the exit.
+     */
+    @Test
+    void gameRoomsToExit() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(1, 3,
+                TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        generator.setStartCoordinates(0, 0);
+        generator.setExitCoordinates(2, 0);
+        final GameState state = new GameState(new GameSettings(3, 10, -5),
+                                              generator.generate(TEST_SEED));
+
+        assertEquals(2, state.getRoomsToExit());
+        assertEquals(Direction.RIGHT, state.getHintDirection());
+    }
+
+    /**
+     * Checks every room's distance against a search from scratch
+     * through doors which aren't locked.
+     *
+     * @param theMaze Maze to search.
+     * @param theField Distance field to check.
+     */
+    private static void assertDistances(final Maze theMaze, final DistanceField theField) {
+        final int width = theMaze.getWidth();
+        final int[] expected = new int[width * theMaze.getHeight()];
+        Arrays.fill(expected, DistanceField.UNREACHABLE);
+
+        final Deque<Integer> queue = new ArrayDeque<>();
+        final int exit = theMaze.getExitRoomY() * width + theMaze.getExitRoomX();
+        expected[exit] = 0;
+        queue.add(exit);
+        while (!queue.isEmpty()) {
+            final int current = queue.remove();
+            for (final DoorController door : theMaze.getDoors()) {
+                if (door.getState() == DoorController.DoorState.LOCKED) {
+                    continue;
+                }
+
+                for (int side = 0; side < 2; side++) {
+                    final int from = door.getRoomY(side) * width + door.getRoomX(side);
+                    final int to = door.getRoomY(1 - side) * width + door.getRoomX(1 - side);
+                    if (from == current && expected[to] == DistanceField.UNREACHABLE) {
+                        expected[to] = expected[current] + 1;
+                        queue.add(to);
+                    }
+                }
+            }
+        }
+
+        for (int room = 0; room < expected.length; room++) {
+            assertEquals(expected[room], theField.getDistance(room % width, room / width));
+        }
+    }
+}
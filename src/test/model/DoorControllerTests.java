@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import model.enums.TileID;
 import model.interfaces.DoorUpdateListener;
 import model.interfaces.QuestionHandler;
+import model.interfaces.QuestionSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,7 +13,7 @@ import org.junit.jupiter.api.Test;
  * Unit tests for the DoorController class, and it's inner class, DoorTile.
  *
  * @author Shane Menzies
- * @version 11/1/24
+ * @version 10/17/26
  */
 class DoorControllerTests {
 
@@ -114,6 +115,27 @@ class DoorControllerTests {
         }
     }
 
+    /**
+     * Tests the getRoomX() and getRoomY() methods.
+     */
+    @Test
+    void getRoomCoordinates() {
+        // Controllers made without rooms aren't linked
+        assertFalse(myController.isLinked());
+        assertEquals(DoorController.NO_ROOM, myController.getRoomX(0));
+        assertEquals(DoorController.NO_ROOM, myController.getRoomY(1));
+
+        final DoorController linked = new DoorController(TEST_QUESTION, 1, 2, 1, 3);
+        assertTrue(linked.isLinked());
+        assertEquals(1, linked.getRoomX(0));
+        assertEquals(2, linked.getRoomY(0));
+        assertEquals(1, linked.getRoomX(1));
+        assertEquals(3, linked.getRoomY(1));
+
+        assertThrows(IllegalArgumentException.class, () -> linked.getRoomX(2));
+        assertThrows(IllegalArgumentException.class, () -> linked.getRoomY(-1));
+    }
+
     /**
      * Test's the getState() method.
      */
@@ -165,6 +187,47 @@ class DoorControllerTests {
                         "cancelled!");
     }
 
+    /**
+     * Test that a door made without a question only resolves it when triggered,
+     * and that doors sharing a key share one lookup.
+     */
+    @Test
+    void lazyQuestion() {
+        final int[] lookups = new int[1];
+        final QuestionResolver resolver = new QuestionResolver(new QuestionSource() {
+            @Override
+            public TriviaQuestion getQuestion() {
+                return TEST_QUESTION;
+            }
+
+            @Override
+            public TriviaQuestion getQuestion(final long theKey) {
+                lookups[0]++;
+                return TEST_QUESTION;
+            }
+        });
+
+        myController = new DoorController(resolver, 5L, 0, 0, 1, 0);
+        final DoorController sameKey = new DoorController(resolver, 5L, 1, 0, 2, 0);
+        final DoorController copy = new DoorController(myController);
+        assertFalse(myController.isQuestionResolved());
+        assertFalse(copy.isQuestionResolved());
+        assertEquals(0, lookups[0]);
+
+        myController.setHandler(myQuestionHandler);
+        myController.getDoors()[0].tryMoveTo();
+        assertTrue(myHasQuestion);
+        assertTrue(myController.isQuestionResolved());
+        assertSame(TEST_QUESTION, sameKey.getQuestion());
+        assertSame(TEST_QUESTION, copy.getQuestion());
+        assertEquals(1, lookups[0]);
+
+        final DoorController unkeyed = new DoorController(resolver, 0, 0, 0, 1);
+        assertFalse(unkeyed.isQuestionResolved());
+        assertSame(TEST_QUESTION, unkeyed.getQuestion());
+        assertTrue(new DoorController(TEST_QUESTION).isQuestionResolved());
+    }
+
     /**
      * Test's trying to move to one of the door's tiles.
      */
@@ -2,6 +2,9 @@ package model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import model.enums.Direction;
 import model.interfaces.MazeGenerator;
 import model.interfaces.QuestionSource;
@@ -209,4 +212,28 @@ public class GameModelTests {
                      "GameModel did not correctly save and load the GameState!"
                      + " The Player's position was different after loading!");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that seeded games on streamed mazes start, and that a streamed
+     * maze's temporary file is closed and deleted once a new game replaces it.
+     *
+     * @throws IOException If the last maze couldn't be closed.
+     */
+    @Test
+    void newGameStreamed() throws IOException {
+        final GameModel model = new GameModel(
+                new StreamingMazeGenerator(TEST_MAZE_SIZE, TEST_MAZE_SIZE,
+                        TEST_ROOM_SIZE, TEST_ROOM_SIZE, TEST_QUESTION_SOURCE),
+                TEST_QUESTION_SOURCE, TEST_GAME_SETTINGS, TEST_SAVE_CONTROLLER);
+
+        model.newGame(1L);
+        final PagedMaze first = (PagedMaze) model.getState().getMaze();
+        final Path firstFile = first.getPath();
+        assertTrue(Files.exists(firstFile));
+
+        model.newGame(1L);
+        assertNotSame(first, model.getState().getMaze());
+        assertFalse(Files.exists(firstFile));
+        ((PagedMaze) model.getState().getMaze()).close();
+    }
+}
@@ -0,0 +1,180 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import model.interfaces.MazeGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MazeCache class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class MazeCacheTests {
+
+    /**
+     * Width and height of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_SIZE = 4;
+
+    /**
+     * Width and height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_SIZE = 5;
+
+    /**
+     * Number of mazes the test cache holds.
+     */
+    private static final int TEST_CAPACITY = 2;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Number of times the wrapped generator has generated a maze.
+     */
+    private int myGenerations;
+
+    /**
+     * Instance to use for testing.
+     */
+    private MazeCache myCache;
+
+    /**
+     * Prepare test instance before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(
+                TEST_MAZE_SIZE, TEST_MAZE_SIZE, TEST_ROOM_SIZE, TEST_ROOM_SIZE,
+                () -> TEST_QUESTION);
+        myGenerations = 0;
+
+        final MazeGenerator counting = new MazeGenerator() {
+            @Override
+            public Maze generate() {
+                myGenerations++;
+                return generator.generate();
+            }
+
+            @Override
+            public Maze generate(final long theSeed) {
+                myGenerations++;
+                return generator.generate(theSeed);
+            }
+        };
+        myCache = new MazeCache(counting, TEST_CAPACITY);
+    }
+
+    /**
+     * Test MazeCache's constructor.
+     */
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MazeCache(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MazeCache(() -> null, 0));
+        assertEquals(0, myCache.size());
+    }
+
+    /**
+     * Test that the same seed reuses the cached maze, as a fresh copy.
+     */
+    @Test
+    void generateCached() {
+        final Maze first = myCache.generate(1L);
+        final Maze second = myCache.generate(1L);
+
+        assertEquals(1, myGenerations, "Cached seed should not have been generated again!");
+        assertNotSame(first, second);
+        assertEquals(first.toString(), second.toString());
+        assertEquals(first.getStartingRoomX(), second.getStartingRoomX());
+        assertEquals(first.getExitRoomY(), second.getExitRoomY());
+
+        // Doors must be new so one game can't affect another
+        assertEquals(first.getDoors().length, second.getDoors().length);
+        for (int i = 0; i < first.getDoors().length; i++) {
+            final DoorController firstDoor = first.getDoors()[i];
+            final DoorController secondDoor = second.getDoors()[i];
+            assertNotSame(firstDoor, secondDoor);
+            assertSame(firstDoor.getQuestion(), secondDoor.getQuestion());
+
+            for (int side = 0; side < secondDoor.getDoors().length; side++) {
+                final Room room = second.getRoom(secondDoor.getRoomX(side),
+                                                 secondDoor.getRoomY(side));
+                boolean found = false;
+                for (int y = 0; y < room.getHeight(); y++) {
+                    for (int x = 0; x < room.getWidth(); x++) {
+                        assertNotSame(firstDoor.getDoors()[side], room.getTile(x, y));
+                        found |= room.getTile(x, y) == secondDoor.getDoors()[side];
+                    }
+                }
+                assertTrue(found, "Copied door wasn't placed in its room!");
+            }
+        }
+    }
+
+    /**
+     * Test that the least recently used maze is evicted.
+     */
+    @Test
+    void generateEvicts() {
+        myCache.generate(1L);
+        myCache.generate(2L);
+        myCache.generate(1L);
+        myCache.generate(3L);
+        assertEquals(TEST_CAPACITY, myCache.size());
+        assertEquals(3, myGenerations);
+
+        // Seed 2 was least recently used, so it must be generated again
+        myCache.generate(1L);
+        assertEquals(3, myGenerations);
+        myCache.generate(2L);
+        assertEquals(4, myGenerations);
+
+        // Unseeded generation is never cached
+        myCache.generate();
+        myCache.generate();
+        assertEquals(6, myGenerations);
+    }
+
+    /**
+     * Test that mazes which can't be copied are handed out as generated,
+     * without being cached.
+     *
+     * @throws IOException If the test maze file couldn't be made or removed.
+     */
+    @Test
+    void generateUncopyable() throws IOException {
+        final Path file = Files.createTempFile("test", ".maze");
+        final StreamingMazeGenerator generator = new StreamingMazeGenerator(
+                TEST_MAZE_SIZE, TEST_MAZE_SIZE, TEST_ROOM_SIZE, TEST_ROOM_SIZE,
+                () -> TEST_QUESTION);
+        generator.setOutputFile(file);
+        final MazeCache cache = new MazeCache(generator, TEST_CAPACITY);
+
+        try {
+            final PagedMaze first = (PagedMaze) cache.generate(1L);
+            assertEquals(0, cache.size());
+            assertFalse(first.isCopyable());
+            first.close();
+
+            final PagedMaze second = (PagedMaze) cache.generate(1L);
+            assertNotSame(first, second);
+            assertEquals(0, cache.size());
+            second.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Arrays;
  * Unit tests for the Maze class.
  *
  * @author Shane Menzies
- * @version 11/2/24
+ * @version 10/17/26
  */
 class MazeTests {
 
@@ -312,6 +312,33 @@ class MazeTests {
                         + " instead of " + expectedCoords + "!");
     }
 
+    /**
+     * Test Maze's moveCoordinates() method with packed coordinates.
+     */
+    @Test
+    void moveCoordinatesPacked() {
+        final long testCoords = PackedCoordinates.pack(0, 0, 2, 2);
+
+        // Moves that cross rooms
+        assertEquals(PackedCoordinates.pack(1, 0, 0, 2),
+                myMaze.moveCoordinates(testCoords, Direction.RIGHT));
+        assertEquals(PackedCoordinates.pack(0, 1, 2, 0),
+                myMaze.moveCoordinates(testCoords, Direction.UP));
+
+        // Moves inside the room
+        assertEquals(PackedCoordinates.pack(0, 0, 1, 2),
+                myMaze.moveCoordinates(testCoords, Direction.LEFT));
+        assertEquals(PackedCoordinates.pack(0, 0, 2, 1),
+                myMaze.moveCoordinates(testCoords, Direction.DOWN));
+
+        // Moves off the edge of the maze should return the same coordinates
+        final long cornerCoords = PackedCoordinates.pack(0, 0, 0, 0);
+        assertEquals(cornerCoords,
+                myMaze.moveCoordinates(cornerCoords, Direction.LEFT));
+        assertEquals(cornerCoords,
+                myMaze.moveCoordinates(cornerCoords, Direction.DOWN));
+    }
+
     /**
      * Test Maze's getStartingRoomX() and getStartingRoomY() methods.
      */
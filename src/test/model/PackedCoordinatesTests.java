@@ -0,0 +1,71 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PackedCoordinates class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class PackedCoordinatesTests {
+
+    /**
+     * Largest value which fits into a single lane.
+     */
+    private static final int MAX_LANE_VALUE = 0xFFFF;
+
+    /**
+     * Test PackedCoordinates' pack() method and getters.
+     */
+    @Test
+    void pack() {
+        final long packed = PackedCoordinates.pack(1, 2, 3, 4);
+        assertEquals(1, PackedCoordinates.getRoomX(packed));
+        assertEquals(2, PackedCoordinates.getRoomY(packed));
+        assertEquals(3, PackedCoordinates.getX(packed));
+        assertEquals(4, PackedCoordinates.getY(packed));
+
+        // Lanes shouldn't bleed into each other at their limits
+        final long maxed = PackedCoordinates.pack(MAX_LANE_VALUE, 0,
+                MAX_LANE_VALUE, 0);
+        assertEquals(MAX_LANE_VALUE, PackedCoordinates.getRoomX(maxed));
+        assertEquals(0, PackedCoordinates.getRoomY(maxed));
+        assertEquals(MAX_LANE_VALUE, PackedCoordinates.getX(maxed));
+        assertEquals(0, PackedCoordinates.getY(maxed));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PackedCoordinates.pack(-1, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> PackedCoordinates.pack(0, 0, 0, MAX_LANE_VALUE + 1));
+    }
+
+    /**
+     * Test converting to and from Coordinates objects.
+     */
+    @Test
+    void coordinatesRoundTrip() {
+        final Coordinates coordinates = new Coordinates(5, 6, 7, 8);
+        final long packed = PackedCoordinates.fromCoordinates(coordinates);
+
+        assertEquals(coordinates, PackedCoordinates.toCoordinates(packed));
+        assertEquals(coordinates.toString(), PackedCoordinates.toString(packed));
+    }
+
+    /**
+     * Test PackedCoordinates' sameRoom() method.
+     */
+    @Test
+    void sameRoom() {
+        final long first = PackedCoordinates.pack(1, 1, 0, 0);
+
+        assertTrue(PackedCoordinates.sameRoom(first,
+                PackedCoordinates.pack(1, 1, 2, 2)));
+        assertFalse(PackedCoordinates.sameRoom(first,
+                PackedCoordinates.pack(1, 2, 0, 0)));
+        assertFalse(PackedCoordinates.sameRoom(first,
+                PackedCoordinates.pack(0, 1, 0, 0)));
+    }
+}
@@ -0,0 +1,183 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import model.enums.Direction;
+import model.enums.TileID;
+import model.interfaces.QuestionHandler;
+import model.topologies.KruskalTopology;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for opening and writing maze files with the PagedMaze class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class PagedMazeTests {
+
+    /**
+     * Width of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_WIDTH = 6;
+
+    /**
+     * Height of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_HEIGHT = 4;
+
+    /**
+     * Width and height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_SIZE = 5;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * File test mazes are written to.
+     */
+    private Path myFile;
+
+    /**
+     * Second file for tests writing more than one maze.
+     */
+    private Path mySecondFile;
+
+    /**
+     * In-heap maze to write out.
+     */
+    private Maze myMaze;
+
+    /**
+     * Maze opened during a test, closed afterward.
+     */
+    private PagedMaze myOpened;
+
+    /**
+     * Prepare test instances before each test.
+     *
+     * @throws IOException If the test files couldn't be made.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        myFile = Files.createTempFile("test", ".maze");
+        mySecondFile = Files.createTempFile("test", ".maze");
+
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                TEST_MAZE_WIDTH, TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        generator.setTopology(new KruskalTopology());
+        myMaze = generator.generate(11L);
+    }
+
+    /**
+     * Close any opened maze and delete the test files.
+     *
+     * @throws IOException If the test files couldn't be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        if (myOpened != null) {
+            myOpened.close();
+        }
+        Files.deleteIfExists(myFile);
+        Files.deleteIfExists(mySecondFile);
+    }
+
+    /**
+     * Test that a written maze opens as the same maze.
+     *
+     * @throws IOException If the maze file couldn't be written or opened.
+     */
+    @Test
+    void writeAndOpen() throws IOException {
+        PagedMaze.write(myMaze, myFile);
+        myOpened = PagedMaze.open(myFile, () -> TEST_QUESTION);
+
+        assertEquals(TEST_MAZE_WIDTH, myOpened.getWidth());
+        assertEquals(TEST_MAZE_HEIGHT, myOpened.getHeight());
+        assertEquals(myMaze.getStartingRoomX(), myOpened.getStartingRoomX());
+        assertEquals(myMaze.getStartingRoomY(), myOpened.getStartingRoomY());
+        assertEquals(myMaze.getExitRoomX(), myOpened.getExitRoomX());
+        assertEquals(myMaze.getExitRoomY(), myOpened.getExitRoomY());
+        assertEquals(myMaze.getDoors().length, myOpened.getDoorCount());
+        assertEquals(myMaze.toString(), myOpened.toString());
+    }
+
+    /**
+     * Test that opening a maze file doesn't page in any rows, and that
+     * only door tiles need their row paged in.
+     *
+     * @throws IOException If the maze file couldn't be written or opened.
+     */
+    @Test
+    void openReadsOnlyHeader() throws IOException {
+        PagedMaze.write(myMaze, myFile);
+        myOpened = PagedMaze.open(myFile, () -> TEST_QUESTION);
+        assertEquals(0, myOpened.getPagedRowCount());
+
+        assertTrue(myOpened.hasNeighbor(0, 0, Direction.RIGHT));
+        assertFalse(myOpened.hasNeighbor(0, 0, Direction.LEFT));
+        assertSame(myMaze.getTile(PackedCoordinates.pack(0, 0, 0, 0)),
+                   myOpened.getTile(PackedCoordinates.pack(0, 0, 0, 0)));
+        assertSame(myMaze.getTile(new Coordinates(1, 1, 2, 2)),
+                   myOpened.getTile(new Coordinates(1, 1, 2, 2)));
+        assertEquals(0, myOpened.getPagedRowCount());
+    }
+
+    /**
+     * Test that door states are written out and kept when reopened.
+     *
+     * @throws IOException If the maze file couldn't be written or opened.
+     */
+    @Test
+    void doorStatesPersist() throws IOException {
+        final DoorController door = myMaze.getDoors()[0];
+        door.setHandler((theQuestion, theCallback) ->
+                                theCallback.call(QuestionHandler.QuestionResult.INCORRECT));
+        door.getDoors()[0].tryMoveTo();
+        assertEquals(DoorController.DoorState.LOCKED, door.getState());
+
+        PagedMaze.write(myMaze, myFile);
+        myOpened = PagedMaze.open(myFile, () -> TEST_QUESTION);
+        final boolean topDoor = door.getRoomY(0) != door.getRoomY(1);
+        final Coordinates doorTile = new Coordinates(door.getRoomX(0), door.getRoomY(0),
+                topDoor ? TEST_ROOM_SIZE / 2 : TEST_ROOM_SIZE - 1,
+                topDoor ? TEST_ROOM_SIZE - 1 : TEST_ROOM_SIZE / 2);
+        assertEquals(TileID.DOOR_LOCKED, myOpened.getTile(doorTile).getTileID());
+
+        // Writing a PagedMaze copies its file
+        PagedMaze.write(myOpened, mySecondFile);
+        final PagedMaze copy = PagedMaze.open(mySecondFile, () -> TEST_QUESTION);
+        assertEquals(myOpened.toString(), copy.toString());
+        copy.close();
+    }
+
+    /**
+     * Test that invalid maze files aren't opened.
+     *
+     * @throws IOException If the test file couldn't be written.
+     */
+    @Test
+    void openInvalid() throws IOException {
+        Files.write(myFile, new byte[] {1, 2, 3, 4});
+        assertThrows(IOException.class, () -> PagedMaze.open(myFile, () -> TEST_QUESTION));
+
+        // Cut off the door table
+        PagedMaze.write(myMaze, mySecondFile);
+        final byte[] written = Files.readAllBytes(mySecondFile);
+        Files.write(myFile, Arrays.copyOf(written, written.length - 8));
+        assertThrows(IOException.class, () -> PagedMaze.open(myFile, () -> TEST_QUESTION));
+    }
+}
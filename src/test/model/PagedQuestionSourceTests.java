@@ -0,0 +1,237 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import model.utilities.TestQuestionDatabase;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PagedQuestionSource class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class PagedQuestionSourceTests {
+
+    /**
+     * Number of questions in the large test database.
+     */
+    private static final int LARGE_BANK = 100_000;
+
+    /**
+     * Number of questions in the small test database, fewer than a batch.
+     */
+    private static final int SMALL_BANK = 10;
+
+    /**
+     * Seed for the random choice of questions.
+     */
+    private static final long TEST_SEED = 22L;
+
+    /**
+     * Number of threads sharing a source in the concurrent test.
+     */
+    private static final int THREAD_COUNT = 8;
+
+    /**
+     * Number of times each thread goes through the small bank's worth of
+     * questions in the concurrent test.
+     */
+    private static final int ROUNDS_PER_THREAD = 100;
+
+    /**
+     * Test that opening a source only reads the range of rowids.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the source couldn't be opened.
+     */
+    @Test
+    void openReadsRange() throws IOException, SQLException {
+        try (TestQuestionDatabase database
+                     = new TestQuestionDatabase(TestQuestionDatabase.makeQuestions(LARGE_BANK))) {
+            PagedQuestionSource.open(database, new Random(TEST_SEED));
+
+            assertEquals(1, database.getConnectionCount());
+        }
+    }
+
+    /**
+     * Test that questions are loaded a batch of different questions at a time.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the source couldn't be opened.
+     */
+    @Test
+    void loadsBatches() throws IOException, SQLException {
+        try (TestQuestionDatabase database
+                     = new TestQuestionDatabase(TestQuestionDatabase.makeQuestions(LARGE_BANK))) {
+            final PagedQuestionSource source
+                    = PagedQuestionSource.open(database, new Random(TEST_SEED));
+
+            final Set<String> batch = new HashSet<>();
+            for (int index = 0; index < PagedQuestionSource.BATCH_SIZE; index++) {
+                batch.add(source.getQuestion().getQuestion());
+            }
+            assertEquals(PagedQuestionSource.BATCH_SIZE, batch.size());
+            assertEquals(2, database.getConnectionCount());
+
+            assertNotNull(source.getQuestion());
+            assertEquals(3, database.getConnectionCount());
+        }
+    }
+
+    /**
+     * Test that a bank smaller than a batch gives every question before repeating.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the source couldn't be opened.
+     */
+    @Test
+    void smallBankGivesEveryQuestion() throws IOException, SQLException {
+        try (TestQuestionDatabase database
+                     = new TestQuestionDatabase(TestQuestionDatabase.makeQuestions(SMALL_BANK))) {
+            final PagedQuestionSource source
+                    = PagedQuestionSource.open(database, new Random(TEST_SEED));
+
+            for (int round = 0; round < 2; round++) {
+                final Set<String> seen = new HashSet<>();
+                for (int index = 0; index < SMALL_BANK; index++) {
+                    seen.add(source.getQuestion().getQuestion());
+                }
+                assertEquals(SMALL_BANK, seen.size());
+            }
+        }
+    }
+
+    /**
+     * Test that batches skip deleted rows and still find questions.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the source couldn't be opened.
+     */
+    @Test
+    void batchesSkipGaps() throws IOException, SQLException {
+        try (TestQuestionDatabase database
+                     = new TestQuestionDatabase(TestQuestionDatabase.makeQuestions(SMALL_BANK))) {
+            database.deleteRows(2, 3, 4, 5, 6, 7, 8, 9);
+            final PagedQuestionSource source
+                    = PagedQuestionSource.open(database, new Random(TEST_SEED));
+
+            final Set<String> seen = new HashSet<>();
+            for (int index = 0; index < 2; index++) {
+                seen.add(source.getQuestion().getQuestion());
+            }
+            assertEquals(Set.of("Question 0", "Question 9"), seen);
+        }
+    }
+
+    /**
+     * Test that keyed questions are the same for the same key, moving on
+     * past deleted rows and wrapping around past the last one.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the source couldn't be opened.
+     */
+    @Test
+    void keyedQuestions() throws IOException, SQLException {
+        try (TestQuestionDatabase database
+                     = new TestQuestionDatabase(TestQuestionDatabase.makeQuestions(SMALL_BANK))) {
+            final PagedQuestionSource source = PagedQuestionSource.open(database);
+
+            assertEquals("Question 3", source.getQuestion(3).getQuestion());
+            assertEquals("Question 3", source.getQuestion(SMALL_BANK + 3).getQuestion());
+            assertEquals("Question 9", source.getQuestion(-1).getQuestion());
+
+            database.deleteRows(4, SMALL_BANK - 1, SMALL_BANK);
+            assertEquals("Question 4", source.getQuestion(3).getQuestion());
+            assertEquals("Question 0", source.getQuestion(SMALL_BANK - 2).getQuestion());
+        }
+    }
+
+    /**
+     * Test that a database with no questions can't be opened.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the test database couldn't be made.
+     */
+    @Test
+    void emptyBank() throws IOException, SQLException {
+        try (TestQuestionDatabase database = new TestQuestionDatabase(List.of())) {
+            assertThrows(SQLException.class, () -> PagedQuestionSource.open(database));
+        }
+    }
+
+    /**
+     * Test that threads sharing a source each get their own questions,
+     * with none lost or given out twice while the buffer is refilled.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the source couldn't be opened.
+     * @throws InterruptedException If interrupted while waiting for the threads.
+     */
+    @Test
+    void sharedBetweenThreads() throws IOException, SQLException, InterruptedException {
+        final ConcurrentLinkedQueue<TriviaQuestion> given = new ConcurrentLinkedQueue<>();
+        try (TestQuestionDatabase database
+                     = new TestQuestionDatabase(TestQuestionDatabase.makeQuestions(SMALL_BANK))) {
+            final PagedQuestionSource source
+                    = PagedQuestionSource.open(database, new Random(TEST_SEED));
+            drainConcurrently(source, given);
+        }
+
+        // Every refill loads the whole small bank, so each question comes up equally often
+        final Map<String, Integer> counts = new HashMap<>();
+        for (final TriviaQuestion question : given) {
+            counts.merge(question.getQuestion(), 1, Integer::sum);
+        }
+        assertEquals(THREAD_COUNT * ROUNDS_PER_THREAD * SMALL_BANK, given.size());
+        assertEquals(SMALL_BANK, counts.size());
+        for (final int count : counts.values()) {
+            assertEquals(THREAD_COUNT * ROUNDS_PER_THREAD, count);
+        }
+    }
+
+    /**
+     * Has THREAD_COUNT threads take ROUNDS_PER_THREAD rounds of the small
+     * bank's worth of questions from a source at once.
+     *
+     * @param theSource Source shared by the threads.
+     * @param theGiven Queue to add every question taken to.
+     * @throws InterruptedException If interrupted while waiting for the threads.
+     */
+    private static void drainConcurrently(final PagedQuestionSource theSource,
+                                          final ConcurrentLinkedQueue<TriviaQuestion> theGiven)
+            throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException exception) {
+                    return;
+                }
+                for (int index = 0; index < ROUNDS_PER_THREAD * SMALL_BANK; index++) {
+                    theGiven.add(theSource.getQuestion());
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.enums.Direction;
+import model.interfaces.QuestionHandler;
+import model.tiles.EmptyTile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PassabilityIndex class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class PassabilityIndexTests {
+
+    /**
+     * Width of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_WIDTH = 3;
+
+    /**
+     * Height of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_HEIGHT = 2;
+
+    /**
+     * Width and height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_SIZE = 5;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Maze to index.
+     */
+    private Maze myMaze;
+
+    /**
+     * Instance to use for testing.
+     */
+    private PassabilityIndex myIndex;
+
+    /**
+     * Prepare test instance before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                TEST_MAZE_WIDTH, TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        generator.setStartCoordinates(1, 0);
+        generator.setExitCoordinates(0, 1);
+        myMaze = generator.generate();
+        myIndex = myMaze.getPassability();
+    }
+
+    /**
+     * Test that the index is only built once and has the maze's size.
+     */
+    @Test
+    void testBuild() {
+        assertNotNull(myIndex);
+        assertSame(myIndex, myMaze.getPassability());
+        assertEquals((long) TEST_MAZE_WIDTH * TEST_ROOM_SIZE, myIndex.getTilesWide());
+        assertEquals((long) TEST_MAZE_HEIGHT * TEST_ROOM_SIZE, myIndex.getTilesHigh());
+    }
+
+    /**
+     * Test that passable bits match each tile.
+     */
+    @Test
+    void testPassable() {
+        for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+            for (int roomX = 0; roomX < TEST_MAZE_WIDTH; roomX++) {
+                for (int y = 0; y < TEST_ROOM_SIZE; y++) {
+                    for (int x = 0; x < TEST_ROOM_SIZE; x++) {
+                        final long packed = PackedCoordinates.pack(roomX, roomY, x, y);
+                        final boolean empty = myMaze.getTile(packed) instanceof EmptyTile;
+                        assertEquals(empty, myIndex.isPassable(packed));
+                        assertEquals(empty, myIndex.isPassableTile(
+                                myIndex.getTileIndex(roomX, roomY, x, y)));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that neighbor masks match the maze.
+     */
+    @Test
+    void testNeighbors() {
+        assertTrue(myIndex.hasNeighbor(0, 0, Direction.UP));
+        assertTrue(myIndex.hasNeighbor(0, 0, Direction.RIGHT));
+        assertFalse(myIndex.hasNeighbor(0, 0, Direction.DOWN));
+        assertFalse(myIndex.hasNeighbor(0, 0, Direction.LEFT));
+        assertFalse(myIndex.hasNeighbor(TEST_MAZE_WIDTH - 1, TEST_MAZE_HEIGHT - 1,
+                                        Direction.UP));
+        assertTrue(myMaze.hasNeighbor(1, 1, Direction.LEFT));
+        assertFalse(myMaze.hasNeighbor(1, 1, Direction.UP));
+    }
+
+    /**
+     * Test that answering a door updates the index.
+     */
+    @Test
+    void testDoorUpdates() {
+        final DoorController door = myMaze.getDoors()[0];
+        final long first = PackedCoordinates.pack(0, 0, TEST_ROOM_SIZE / 2, TEST_ROOM_SIZE - 1);
+        final long second = PackedCoordinates.pack(0, 1, TEST_ROOM_SIZE / 2, 0);
+        assertSame(door.getDoors()[0], myMaze.getTile(first));
+        assertFalse(myIndex.isPassable(first));
+        assertFalse(myIndex.hasOpenDoor(0, 0, Direction.UP));
+
+        door.setHandler((theQuestion, theCallback) ->
+                                theCallback.call(QuestionHandler.QuestionResult.CORRECT));
+        door.getDoors()[0].tryMoveTo();
+
+        assertTrue(myIndex.isPassable(first));
+        assertTrue(myIndex.isPassable(second));
+        assertTrue(myIndex.hasOpenDoor(0, 0, Direction.UP));
+        assertTrue(myIndex.hasOpenDoor(0, 1, Direction.DOWN));
+        assertFalse(myIndex.hasOpenDoor(0, 0, Direction.RIGHT));
+    }
+}
@@ -0,0 +1,254 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import model.interfaces.QuestionSource;
+import model.utilities.TestQuestionDatabase;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PrefetchingQuestionSource class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class PrefetchingQuestionSourceTests {
+
+    /**
+     * Capacity of the test buffers.
+     */
+    private static final int TEST_CAPACITY = 16;
+
+    /**
+     * Number of questions given by the test sources.
+     */
+    private static final int TEST_QUESTION_COUNT = 500;
+
+    /**
+     * Longest time to wait for the buffer to fill, in milliseconds.
+     */
+    private static final long FILL_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * Number of times to check the background thread is still parked.
+     */
+    private static final int PARKED_CHECKS = 50;
+
+    /**
+     * Test that the buffer fills in the background without being asked.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @Test
+    void fillsInBackground() throws InterruptedException {
+        final AtomicInteger given = new AtomicInteger();
+        try (PrefetchingQuestionSource source = new PrefetchingQuestionSource(
+                numberedSource(given, Integer.MAX_VALUE), TEST_CAPACITY)) {
+            assertEquals(TEST_CAPACITY, source.getCapacity());
+
+            waitFor(() -> source.getBufferedCount() == TEST_CAPACITY);
+            assertEquals(TEST_CAPACITY, source.getBufferedCount());
+            assertEquals(TEST_CAPACITY, given.get());
+        }
+    }
+
+    /**
+     * Test that the background thread stays parked while the buffer is over
+     * half full, and tops it up once it's half empty.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @Test
+    void parksWhileOverHalfFull() throws InterruptedException {
+        final AtomicInteger given = new AtomicInteger();
+        try (PrefetchingQuestionSource source = new PrefetchingQuestionSource(
+                numberedSource(given, Integer.MAX_VALUE), TEST_CAPACITY)) {
+            waitFor(() -> source.getBufferedCount() == TEST_CAPACITY
+                          && source.getFillerState() == Thread.State.WAITING);
+
+            // Down to one over half, which shouldn't wake it
+            source.getQuestions(TEST_CAPACITY / 2 - 1);
+            for (int check = 0; check < PARKED_CHECKS; check++) {
+                Thread.sleep(1);
+                assertEquals(Thread.State.WAITING, source.getFillerState());
+            }
+            assertEquals(TEST_CAPACITY, given.get());
+
+            // Down to half, which should
+            source.getQuestion();
+            waitFor(() -> source.getBufferedCount() == TEST_CAPACITY);
+            assertEquals(TEST_CAPACITY * 3 / 2, given.get());
+        }
+    }
+
+    /**
+     * Test that questions come out in the order the other source gave them,
+     * across many refills of the buffer.
+     */
+    @Test
+    void keepsOrder() {
+        try (PrefetchingQuestionSource source = new PrefetchingQuestionSource(
+                numberedSource(new AtomicInteger(), Integer.MAX_VALUE), TEST_CAPACITY)) {
+            final TriviaQuestion[] questions = source.getQuestions(TEST_QUESTION_COUNT);
+            for (int index = 0; index < questions.length; index++) {
+                assertEquals("Question " + index, questions[index].getQuestion());
+            }
+            assertEquals("Question " + TEST_QUESTION_COUNT, source.getQuestion().getQuestion());
+        }
+    }
+
+    /**
+     * Test that the other source is asked for no more than a chunk of questions at once.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @Test
+    void fetchesInChunks() throws InterruptedException {
+        final AtomicInteger largest = new AtomicInteger();
+        final QuestionSource numbered = numberedSource(new AtomicInteger(), Integer.MAX_VALUE);
+        final QuestionSource recording = new QuestionSource() {
+            @Override
+            public TriviaQuestion getQuestion() {
+                return numbered.getQuestion();
+            }
+
+            @Override
+            public TriviaQuestion[] getQuestions(final int theCount) {
+                largest.accumulateAndGet(theCount, Math::max);
+                return QuestionSource.super.getQuestions(theCount);
+            }
+        };
+
+        try (PrefetchingQuestionSource source = new PrefetchingQuestionSource(recording)) {
+            waitFor(() -> source.getBufferedCount() == source.getCapacity());
+            assertEquals(PrefetchingQuestionSource.CHUNK_SIZE, largest.get());
+        }
+    }
+
+    /**
+     * Test that a failure of the other source is reported instead of waiting forever.
+     */
+    @Test
+    void reportsFailure() {
+        try (PrefetchingQuestionSource source = new PrefetchingQuestionSource(
+                numberedSource(new AtomicInteger(), 0), TEST_CAPACITY)) {
+            assertThrows(IllegalStateException.class, source::getQuestion);
+        }
+    }
+
+    /**
+     * Test that the buffer fills again once a failing source recovers.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @Test
+    void recoversFromFailure() throws InterruptedException {
+        final AtomicInteger failures = new AtomicInteger(3);
+        final QuestionSource numbered = numberedSource(new AtomicInteger(), Integer.MAX_VALUE);
+        final QuestionSource flaky = () -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("Database busy");
+            }
+            return numbered.getQuestion();
+        };
+
+        try (PrefetchingQuestionSource source
+                     = new PrefetchingQuestionSource(flaky, TEST_CAPACITY)) {
+            waitFor(() -> source.getBufferedCount() == TEST_CAPACITY);
+            assertEquals("Question 0", source.getQuestion().getQuestion());
+        }
+    }
+
+    /**
+     * Test that closing gives up on a background thread stuck in the other
+     * source, interrupting it.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @Test
+    void closeInterruptsStuckFetch() throws InterruptedException {
+        final CountDownLatch fetching = new CountDownLatch(1);
+        final QuestionSource stuck = () -> {
+            fetching.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Interrupted");
+        };
+
+        final PrefetchingQuestionSource source
+                = new PrefetchingQuestionSource(stuck, TEST_CAPACITY);
+        assertTrue(fetching.await(FILL_TIMEOUT, TimeUnit.MILLISECONDS));
+        source.close();
+        waitFor(() -> source.getFillerState() == Thread.State.TERMINATED);
+    }
+
+    /**
+     * Test that keyed questions go straight to the other source, and
+     * that a closed source gives no more questions.
+     */
+    @Test
+    void keyedAndClosed() {
+        final TriviaQuestion keyed = TestQuestionDatabase.makeQuestions(1).get(0);
+        final QuestionSource keyedSource = new QuestionSource() {
+            @Override
+            public TriviaQuestion getQuestion() {
+                return keyed;
+            }
+
+            @Override
+            public TriviaQuestion getQuestion(final long theKey) {
+                return new TriviaQuestion("Key " + theKey, "", keyed.getType());
+            }
+        };
+        final PrefetchingQuestionSource source
+                = new PrefetchingQuestionSource(keyedSource, TEST_CAPACITY);
+
+        assertEquals("Key 7", source.getQuestion(7).getQuestion());
+        source.close();
+        assertThrows(IllegalStateException.class,
+                () -> source.getQuestions(TEST_CAPACITY + 1));
+    }
+
+    /**
+     * Waits for a condition to hold, up to FILL_TIMEOUT.
+     *
+     * @param theCondition Condition to wait for.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private static void waitFor(final BooleanSupplier theCondition)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + FILL_TIMEOUT;
+        while (!theCondition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(theCondition.getAsBoolean());
+    }
+
+    /**
+     * Makes a source of numbered questions, which fails after a limit.
+     *
+     * @param theGiven Counter of questions given.
+     * @param theLimit Number of questions to give before failing.
+     * @return Source of questions numbered from zero.
+     */
+    private static QuestionSource numberedSource(final AtomicInteger theGiven,
+                                                 final int theLimit) {
+        return () -> {
+            final int number = theGiven.get();
+            if (number >= theLimit) {
+                throw new IllegalStateException("Out of questions");
+            }
+
+            theGiven.incrementAndGet();
+            return new TriviaQuestion("Question " + number, "Answer " + number,
+                                      TriviaQuestion.QuestionType.SHORT_ANSWER);
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import model.utilities.TestQuestionDatabase;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the QuestionLoader class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class QuestionLoaderTests {
+
+    /**
+     * Number of questions in the test database.
+     */
+    private static final int TEST_QUESTION_COUNT = 50;
+
+    /**
+     * Test that every question is loaded in order with its type.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    @Test
+    void loadAll() throws IOException, SQLException {
+        final List<TriviaQuestion> rows = new ArrayList<>(
+                TestQuestionDatabase.makeQuestions(TEST_QUESTION_COUNT));
+        rows.add(new TriviaQuestion("True?", "True", TriviaQuestion.QuestionType.TRUE_FALSE));
+        rows.add(new TriviaQuestion("Which?", "A", TriviaQuestion.QuestionType.MULTIPLE_CHOICE));
+
+        try (TestQuestionDatabase database = new TestQuestionDatabase(rows)) {
+            final List<TriviaQuestion> loaded = new QuestionLoader(database).loadAll();
+            assertEquals(rows.size(), loaded.size());
+            for (int index = 0; index < rows.size(); index++) {
+                assertEquals(rows.get(index).getQuestion(), loaded.get(index).getQuestion());
+                assertEquals(rows.get(index).getAnswer(), loaded.get(index).getAnswer());
+                assertSame(rows.get(index).getType(), loaded.get(index).getType());
+            }
+            assertEquals(1, database.getConnectionCount());
+        }
+    }
+
+    /**
+     * Test that columns are found by name, so a table with its columns in
+     * another order and extra columns still loads.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    @Test
+    void loadOtherColumnLayout() throws IOException, SQLException {
+        try (TestQuestionDatabase database = new TestQuestionDatabase(
+                "CREATE TABLE questions (id INTEGER PRIMARY KEY, answer_text TEXT, "
+                + "notes TEXT, type TEXT, question_text TEXT)",
+                TestQuestionDatabase.makeQuestions(2))) {
+            final List<TriviaQuestion> loaded = new QuestionLoader(database).loadAll();
+
+            assertEquals(2, loaded.size());
+            assertEquals("Question 1", loaded.get(1).getQuestion());
+            assertEquals("Answer 1", loaded.get(1).getAnswer());
+            assertSame(TriviaQuestion.QuestionType.SHORT_ANSWER, loaded.get(1).getType());
+        }
+    }
+
+    /**
+     * Test that an empty table loads no questions and has no rowid range.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    @Test
+    void loadEmpty() throws IOException, SQLException {
+        try (TestQuestionDatabase database = new TestQuestionDatabase(List.of())) {
+            final QuestionLoader loader = new QuestionLoader(database);
+            assertTrue(loader.loadAll().isEmpty());
+            assertNull(loader.findRowidRange());
+            assertNull(loader.loadAtOrAfter(1));
+        }
+    }
+
+    /**
+     * Test that loading by rowid skips deleted rows and comes back in rowid order.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    @Test
+    void loadRowsWithGaps() throws IOException, SQLException {
+        try (TestQuestionDatabase database = new TestQuestionDatabase(
+                TestQuestionDatabase.makeQuestions(TEST_QUESTION_COUNT))) {
+            database.deleteRows(3, 5);
+            final QuestionLoader loader = new QuestionLoader(database);
+
+            final List<TriviaQuestion> loaded
+                    = loader.loadRows(new long[] {7, 5, 2, 3, TEST_QUESTION_COUNT + 1});
+            assertEquals(2, loaded.size());
+            assertEquals("Question 1", loaded.get(0).getQuestion());
+            assertEquals("Question 6", loaded.get(1).getQuestion());
+            assertTrue(loader.loadRows(new long[0]).isEmpty());
+        }
+    }
+
+    /**
+     * Test that the rowid range and lookups at or after a rowid skip deleted rows.
+     *
+     * @throws IOException If the test database couldn't be made or removed.
+     * @throws SQLException If the questions couldn't be loaded.
+     */
+    @Test
+    void rowidRangeAndGaps() throws IOException, SQLException {
+        try (TestQuestionDatabase database = new TestQuestionDatabase(
+                TestQuestionDatabase.makeQuestions(TEST_QUESTION_COUNT))) {
+            database.deleteRows(1, 4, 5, TEST_QUESTION_COUNT);
+            final QuestionLoader loader = new QuestionLoader(database);
+
+            assertArrayEquals(new long[] {2, TEST_QUESTION_COUNT - 1}, loader.findRowidRange());
+            assertEquals("Question 5", loader.loadAtOrAfter(4).getQuestion());
+            assertEquals("Question 1", loader.loadAtOrAfter(-1).getQuestion());
+            assertNull(loader.loadAtOrAfter(TEST_QUESTION_COUNT));
+        }
+    }
+}
@@ -2,8 +2,11 @@ package model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import model.interfaces.QuestionSource;
 import model.tiles.EmptyTile;
 import model.tiles.WallTile;
+import model.topologies.KruskalTopology;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -201,6 +204,31 @@ class RectangleMazeGeneratorTests {
                 + roomHeight + 'x' + roomWidth + " rooms!");
     }
 
+    /**
+     * Test generating a maze with its tiles packed into a TileGrid.
+     */
+    @Test
+    void generatePacked() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT, TEST_MAZE_WIDTH,
+                TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, () -> TEST_QUESTION);
+        generator.setPackedStorage(true);
+
+        final String expected = expectedFor(TEST_MAZE_HEIGHT, TEST_MAZE_WIDTH,
+                TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH);
+
+        final Maze generatedMaze = generator.generate();
+
+        assertNotNull(generatedMaze.getTileGrid(),
+                "Packed generation did not produce a Maze backed by a TileGrid!");
+        assertEquals(expected, generatedMaze.toString(), "Packed generation test failed on "
+                + TEST_MAZE_HEIGHT + 'x' + TEST_MAZE_WIDTH + " maze of "
+                + TEST_ROOM_HEIGHT + 'x' + TEST_ROOM_WIDTH + " rooms!");
+        assertEquals(Room.RoomType.START, generatedMaze.getRoom(
+                generatedMaze.getStartingRoomX(), generatedMaze.getStartingRoomY()).getType());
+        assertEquals(Room.RoomType.EXIT, generatedMaze.getRoom(
+                generatedMaze.getExitRoomX(), generatedMaze.getExitRoomY()).getType());
+    }
+
     /**
      * Generate the expected toString output for a rectangular maze with the
      * provided parameters.
@@ -270,4 +298,259 @@ class RectangleMazeGeneratorTests {
 
         return stringBuilder.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that generated doors know which rooms they are in.
+     */
+    @Test
+    void generateDoorLinks() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT, TEST_MAZE_WIDTH,
+                TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, () -> TEST_QUESTION);
+        final Maze maze = generator.generate();
+
+        for (final DoorController door : maze.getDoors()) {
+            assertTrue(door.isLinked());
+
+            for (int side = 0; side < door.getDoors().length; side++) {
+                final Room room = maze.getRoom(door.getRoomX(side), door.getRoomY(side));
+
+                boolean found = false;
+                for (int y = 0; y < room.getHeight(); y++) {
+                    for (int x = 0; x < room.getWidth(); x++) {
+                        found |= room.getTile(x, y) == door.getDoors()[side];
+                    }
+                }
+                assertTrue(found, "Door wasn't inside the room it was linked to!");
+            }
+        }
+    }
+
+    /**
+     * Test that parallel generation produces the same maze as sequential generation.
+     */
+    @Test
+    void generateParallel() {
+        // Big enough to be split into several bands
+        final int mazeSize = 100;
+        final int roomSize = 5;
+
+        for (final boolean packed : new boolean[] {false, true}) {
+            final RectangleMazeGenerator sequential = new RectangleMazeGenerator(
+                    mazeSize, mazeSize, roomSize, roomSize, () -> TEST_QUESTION);
+            sequential.setPackedStorage(packed);
+            sequential.setStartCoordinates(0, 0);
+            sequential.setExitCoordinates(mazeSize - 1, mazeSize - 1);
+
+            final RectangleMazeGenerator parallel = new RectangleMazeGenerator(
+                    mazeSize, mazeSize, roomSize, roomSize, () -> TEST_QUESTION);
+            parallel.setPackedStorage(packed);
+            parallel.setStartCoordinates(0, 0);
+            parallel.setExitCoordinates(mazeSize - 1, mazeSize - 1);
+            parallel.setParallel(true);
+
+            final Maze expected = sequential.generate();
+            final Maze actual = parallel.generate();
+
+            assertEquals(expected.toString(), actual.toString(),
+                    "Parallel generation produced a different maze!");
+
+            assertEquals(expected.getDoors().length, actual.getDoors().length);
+            for (int i = 0; i < expected.getDoors().length; i++) {
+                final DoorController expectedDoor = expected.getDoors()[i];
+                final DoorController actualDoor = actual.getDoors()[i];
+                for (int side = 0; side < expectedDoor.getDoors().length; side++) {
+                    assertEquals(expectedDoor.getRoomX(side), actualDoor.getRoomX(side));
+                    assertEquals(expectedDoor.getRoomY(side), actualDoor.getRoomY(side));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that generating from the same seed produces the same maze.
+     */
+    @Test
+    void generateSeeded() {
+        final TriviaQuestion[] questions = new TriviaQuestion[7];
+        for (int i = 0; i < questions.length; i++) {
+            questions[i] = new TriviaQuestion("Question " + i, "Answer " + i,
+                    TriviaQuestion.QuestionType.SHORT_ANSWER);
+        }
+        final QuestionSource keyedSource = new QuestionSource() {
+            @Override
+            public TriviaQuestion getQuestion() {
+                return TEST_QUESTION;
+            }
+
+            @Override
+            public TriviaQuestion getQuestion(final long theKey) {
+                return questions[(int) Math.floorMod(theKey, (long) questions.length)];
+            }
+        };
+
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                TEST_MAZE_WIDTH, TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, keyedSource);
+
+        final Maze first = generator.generate(42L);
+        final Maze second = generator.generate(42L);
+
+        assertEquals(first.getStartingRoomX(), second.getStartingRoomX());
+        assertEquals(first.getStartingRoomY(), second.getStartingRoomY());
+        assertEquals(first.getExitRoomX(), second.getExitRoomX());
+        assertEquals(first.getExitRoomY(), second.getExitRoomY());
+        assertEquals(first.toString(), second.toString());
+
+        assertEquals(first.getDoors().length, second.getDoors().length);
+        for (int i = 0; i < first.getDoors().length; i++) {
+            assertSame(first.getDoors()[i].getQuestion(), second.getDoors()[i].getQuestion(),
+                    "Same seed gave a door a different question!");
+        }
+    }
+
+    /**
+     * Test that every door's question is pulled from the source in one call.
+     */
+    @Test
+    void generateBatchQuestions() {
+        final int[] calls = new int[2];
+        final QuestionSource countingSource = new QuestionSource() {
+            @Override
+            public TriviaQuestion getQuestion() {
+                calls[0]++;
+                return TEST_QUESTION;
+            }
+
+            @Override
+            public TriviaQuestion[] getQuestions(final int theCount) {
+                calls[1]++;
+                final TriviaQuestion[] questions = new TriviaQuestion[theCount];
+                Arrays.fill(questions, TEST_QUESTION);
+                return questions;
+            }
+        };
+
+        final Maze maze = new RectangleMazeGenerator(TEST_MAZE_HEIGHT, TEST_MAZE_WIDTH,
+                TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, countingSource).generate();
+
+        assertEquals(0, calls[0]);
+        assertEquals(1, calls[1]);
+        for (final DoorController door : maze.getDoors()) {
+            assertSame(TEST_QUESTION, door.getQuestion());
+        }
+    }
+
+    /**
+     * Test that lazy questions aren't fetched during generation, and that
+     * seeded doors still get the same questions.
+     */
+    @Test
+    void generateLazyQuestions() {
+        final TriviaQuestion[] questions = new TriviaQuestion[7];
+        for (int i = 0; i < questions.length; i++) {
+            questions[i] = new TriviaQuestion("Question " + i, "Answer " + i,
+                    TriviaQuestion.QuestionType.SHORT_ANSWER);
+        }
+        final int[] fetches = new int[1];
+        final QuestionSource keyedSource = new QuestionSource() {
+            @Override
+            public TriviaQuestion getQuestion() {
+                fetches[0]++;
+                return TEST_QUESTION;
+            }
+
+            @Override
+            public TriviaQuestion getQuestion(final long theKey) {
+                fetches[0]++;
+                return questions[(int) Math.floorMod(theKey, (long) questions.length)];
+            }
+        };
+
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                TEST_MAZE_WIDTH, TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, keyedSource);
+        final Maze eager = generator.generate(42L);
+        generator.setLazyQuestions(true);
+        fetches[0] = 0;
+        final Maze lazy = generator.generate(42L);
+        final Maze unkeyed = generator.generate();
+
+        assertEquals(0, fetches[0]);
+        assertEquals(eager.toString(), lazy.toString());
+        for (int i = 0; i < lazy.getDoors().length; i++) {
+            assertFalse(lazy.getDoors()[i].isQuestionResolved());
+            assertSame(eager.getDoors()[i].getQuestion(), lazy.getDoors()[i].getQuestion());
+        }
+        assertFalse(unkeyed.getDoors()[0].isQuestionResolved());
+        assertSame(TEST_QUESTION, unkeyed.getDoors()[0].getQuestion());
+    }
+
+    /**
+     * Test that a topology decides which walls get doors.
+     */
+    @Test
+    void generateTopology() {
+        for (final boolean packed : new boolean[] {false, true}) {
+            final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                    TEST_MAZE_WIDTH, TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, () -> TEST_QUESTION);
+            generator.setPackedStorage(packed);
+            generator.setTopology(new KruskalTopology());
+            assertThrows(IllegalArgumentException.class, () -> generator.setTopology(null));
+
+            final Maze maze = generator.generate(7L);
+
+            // A perfect maze has one door less than it has rooms
+            assertEquals(TEST_MAZE_HEIGHT * TEST_MAZE_WIDTH - 1, maze.getDoors().length);
+
+            int doorTiles = 0;
+            for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+                for (int roomX = 0; roomX < TEST_MAZE_WIDTH; roomX++) {
+                    final Room room = maze.getRoom(roomX, roomY);
+                    for (int y = 0; y < TEST_ROOM_HEIGHT; y++) {
+                        for (int x = 0; x < TEST_ROOM_WIDTH; x++) {
+                            final boolean border = x == 0 || y == 0
+                                    || x == TEST_ROOM_WIDTH - 1 || y == TEST_ROOM_HEIGHT - 1;
+                            assertNotNull(room.getTile(x, y));
+                            if (room.getTile(x, y) instanceof DoorController.DoorTile) {
+                                doorTiles++;
+                            } else if (border) {
+                                assertInstanceOf(WallTile.class, room.getTile(x, y));
+                            }
+                        }
+                    }
+                }
+            }
+            assertEquals(maze.getDoors().length * 2, doorTiles);
+
+            // Seeded topologies are reproducible
+            assertEquals(maze.toString(), generator.generate(7L).toString());
+        }
+    }
+
+    /**
+     * Test that generated mazes only go to a dump sink once one is set,
+     * and that the async sink writes them out in full.
+     */
+    @Test
+    void generateDumpSink() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                TEST_MAZE_WIDTH, TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, () -> TEST_QUESTION);
+        final Maze[] dumped = new Maze[1];
+        generator.generate(3L);
+        assertNull(dumped[0]);
+
+        generator.setDumpSink(theMaze -> dumped[0] = theMaze);
+        final Maze maze = generator.generate(3L);
+        assertSame(maze, dumped[0]);
+
+        final StringBuilder out = new StringBuilder();
+        try (AsyncMazeDumpSink sink = new AsyncMazeDumpSink(out)) {
+            generator.setDumpSink(sink);
+            generator.generate(3L);
+        }
+        assertEquals("Generated Maze:\n" + maze, out.toString());
+
+        generator.setDumpSink(null);
+        dumped[0] = null;
+        generator.generate(3L);
+        assertNull(dumped[0]);
+    }
+}
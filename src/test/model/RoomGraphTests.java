@@ -0,0 +1,164 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import model.interfaces.MazeTopology;
+import model.interfaces.QuestionHandler;
+import model.topologies.GridTopology;
+import model.topologies.KruskalTopology;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the RoomGraph class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class RoomGraphTests {
+
+    /**
+     * Width of the test mazes in rooms.
+     */
+    private static final int TEST_MAZE_WIDTH = 9;
+
+    /**
+     * Height of the test mazes in rooms.
+     */
+    private static final int TEST_MAZE_HEIGHT = 7;
+
+    /**
+     * Width and height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_SIZE = 5;
+
+    /**
+     * Seed for every random choice in the tests.
+     */
+    private static final long TEST_SEED = 25L;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Test that every door gives an edge each way between its rooms.
+     */
+    @Test
+    void edgesMatchDoors() {
+        for (final MazeTopology topology
+                : new MazeTopology[] {new GridTopology(), new KruskalTopology()}) {
+            final Maze maze = makeMaze(topology);
+            final RoomGraph graph = maze.getRoomGraph();
+            assertSame(graph, maze.getRoomGraph());
+            assertEquals(TEST_MAZE_WIDTH * TEST_MAZE_HEIGHT, graph.getRoomCount());
+            assertEquals(maze.getDoors().length * 2, graph.getEdgeCount());
+
+            for (int room = 0; room < graph.getRoomCount(); room++) {
+                for (int edge = graph.getFirstEdge(room); edge < graph.getEndEdge(room);
+                     edge++) {
+                    final DoorController door = graph.getDoor(edge);
+                    assertSame(maze.getDoors()[graph.getDoorIndex(edge)], door);
+
+                    final int target = graph.getTarget(edge);
+                    assertEquals(1, Math.abs(graph.getRoomX(room) - graph.getRoomX(target))
+                                    + Math.abs(graph.getRoomY(room) - graph.getRoomY(target)));
+                    assertTrue(door.getRoomX(0) == graph.getRoomX(room)
+                                   && door.getRoomY(0) == graph.getRoomY(room)
+                               || door.getRoomX(1) == graph.getRoomX(room)
+                                   && door.getRoomY(1) == graph.getRoomY(room));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that distances match the distance field as doors lock, and routes are valid.
+     */
+    @Test
+    void matchesDistanceField() {
+        final SplittableRandom random = new SplittableRandom(TEST_SEED);
+        final Maze maze = makeMaze(new GridTopology());
+        final RoomGraph graph = maze.getRoomGraph();
+        final DistanceField field = DistanceField.build(maze);
+        final int exit = graph.getRoomIndex(maze.getExitRoomX(), maze.getExitRoomY());
+
+        for (final DoorController door : maze.getDoors()) {
+            if (random.nextInt(3) == 0) {
+                door.setHandler((theQuestion, theCallback)
+                        -> theCallback.call(QuestionHandler.QuestionResult.INCORRECT));
+                door.getDoors()[0].tryMoveTo();
+            }
+
+            for (int room = 0; room < graph.getRoomCount(); room++) {
+                final int expected = field.getDistance(graph.getRoomX(room),
+                                                       graph.getRoomY(room));
+                assertEquals(expected == DistanceField.UNREACHABLE
+                             ? RoomGraph.NO_ROUTE : expected,
+                             graph.findDistance(room, exit));
+            }
+        }
+
+        final int start = graph.getRoomIndex(maze.getStartingRoomX(), maze.getStartingRoomY());
+        final int[] route = graph.findRoute(start, exit);
+        if (graph.findDistance(start, exit) == RoomGraph.NO_ROUTE) {
+            assertNull(route);
+        } else {
+            assertEquals(start, route[0]);
+            assertEquals(exit, route[route.length - 1]);
+            for (int step = 1; step < route.length; step++) {
+                assertTrue(hasPassableEdge(graph, route[step - 1], route[step]));
+            }
+        }
+    }
+
+    /**
+     * Test that a route from a room to itself is just that room.
+     */
+    @Test
+    void routeToSelf() {
+        final RoomGraph graph = makeMaze(new KruskalTopology()).getRoomGraph();
+
+        assertEquals(0, graph.findDistance(3, 3));
+        assertArrayEquals(new int[] {3}, graph.findRoute(3, 3));
+    }
+
+    /**
+     * Makes a test maze.
+     *
+     * @param theTopology Topology to lay out doors with.
+     * @return Test maze.
+     */
+    private static Maze makeMaze(final MazeTopology theTopology) {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                TEST_MAZE_WIDTH, TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        generator.setStartCoordinates(0, 0);
+        generator.setExitCoordinates(TEST_MAZE_WIDTH - 1, TEST_MAZE_HEIGHT - 1);
+        generator.setTopology(theTopology);
+        return generator.generate(TEST_SEED);
+    }
+
+    /**
+     * Checks if there's a passable edge between two rooms.
+     *
+     * @param theGraph Graph to check.
+     * @param theFrom Room the edge leaves.
+     * @param theTo Room the edge leads to.
+     * @return True if there's such an edge, false otherwise.
+     */
+    private static boolean hasPassableEdge(final RoomGraph theGraph,
+                                           final int theFrom, final int theTo) {
+        for (int edge = theGraph.getFirstEdge(theFrom); edge < theGraph.getEndEdge(theFrom);
+             edge++) {
+            if (theGraph.getTarget(edge) == theTo && theGraph.isPassable(edge)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
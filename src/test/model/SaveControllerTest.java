@@ -1,6 +1,7 @@
 package model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -10,6 +11,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import model.interfaces.QuestionSource;
 import model.interfaces.Tile;
 import model.tiles.EmptyTile;
 import model.tiles.WallTile;
@@ -201,4 +203,29 @@ public class SaveControllerTest {
                 "Tile at (0,1) should match");
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests that doors loaded before being reached look up their questions
+     * in the source the game is loaded with.
+     */
+    @Test
+    void testLoadWithQuestionSource() {
+        final TriviaQuestion savedQuestion = new TriviaQuestion("Saved?", "Saved",
+                TriviaQuestion.QuestionType.SHORT_ANSWER);
+        final TriviaQuestion loadedQuestion = new TriviaQuestion("Loaded?", "Loaded",
+                TriviaQuestion.QuestionType.SHORT_ANSWER);
+        final QuestionSource savedSource = () -> savedQuestion;
+        final QuestionSource loadedSource = () -> loadedQuestion;
+
+        final RectangleMazeGenerator generator
+                = new RectangleMazeGenerator(3, 3, 5, 5, savedSource);
+        generator.setLazyQuestions(true);
+        saveController.saveGame(new GameState(new GameSettings(3, 10, -5),
+                generator.generate()));
+
+        final GameState loadedState = saveController.loadGame(loadedSource);
+        final DoorController door = loadedState.getMaze().getDoors()[0];
+        assertFalse(door.isQuestionResolved(), "Door should not have looked up its question yet");
+        assertEquals(loadedQuestion, door.getQuestion(),
+                "Door should use the source the game was loaded with");
+    }
+}
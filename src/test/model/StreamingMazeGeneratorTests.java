@@ -0,0 +1,243 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import model.enums.Direction;
+import model.enums.TileID;
+import model.interfaces.QuestionHandler;
+import model.interfaces.Tile;
+import model.topologies.EllerTopology;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the StreamingMazeGenerator and PagedMaze classes.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class StreamingMazeGeneratorTests {
+
+    /**
+     * Width of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_WIDTH = 5;
+
+    /**
+     * Height of the test maze in rooms, taller than the number of rows
+     * a PagedMaze keeps paged in.
+     */
+    private static final int TEST_MAZE_HEIGHT = 150;
+
+    /**
+     * Width and height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_SIZE = 5;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * File the test maze is written to.
+     */
+    private Path myFile;
+
+    /**
+     * Second file for tests generating more than one maze.
+     */
+    private Path mySecondFile;
+
+    /**
+     * Instance to use for testing.
+     */
+    private StreamingMazeGenerator myGenerator;
+
+    /**
+     * Mazes generated during a test, closed afterward.
+     */
+    private List<PagedMaze> myMazes;
+
+    /**
+     * Prepare test instance before each test.
+     *
+     * @throws IOException If the test file couldn't be made.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        myFile = Files.createTempFile("test", ".maze");
+        mySecondFile = Files.createTempFile("test", ".maze");
+        myMazes = new ArrayList<>();
+        myGenerator = new StreamingMazeGenerator(TEST_MAZE_HEIGHT, TEST_MAZE_WIDTH,
+                TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        myGenerator.setOutputFile(myFile);
+        myGenerator.setStartCoordinates(2, 2);
+        myGenerator.setExitCoordinates(0, TEST_MAZE_HEIGHT - 1);
+    }
+
+    /**
+     * Close any test mazes and delete the test file.
+     *
+     * @throws IOException If the test file couldn't be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        for (final PagedMaze maze : myMazes) {
+            maze.close();
+        }
+        Files.deleteIfExists(myFile);
+        Files.deleteIfExists(mySecondFile);
+    }
+
+    /**
+     * Test that streamed mazes match the ones RectangleMazeGenerator makes.
+     */
+    @Test
+    void generateMatchesRectangle() {
+        final RectangleMazeGenerator rectangle = new RectangleMazeGenerator(TEST_MAZE_HEIGHT,
+                TEST_MAZE_WIDTH, TEST_ROOM_SIZE, TEST_ROOM_SIZE, () -> TEST_QUESTION);
+        rectangle.setStartCoordinates(2, 2);
+        rectangle.setExitCoordinates(0, TEST_MAZE_HEIGHT - 1);
+
+        final PagedMaze maze = generate();
+        final Maze expected = rectangle.generate();
+
+        assertEquals(TEST_MAZE_WIDTH, maze.getWidth());
+        assertEquals(TEST_MAZE_HEIGHT, maze.getHeight());
+        assertEquals(expected.getDoors().length, maze.getDoorCount());
+        assertEquals(expected.toString(), maze.toString());
+        assertEquals(Room.RoomType.START, maze.getRoom(2, 2).getType());
+        assertEquals(Room.RoomType.EXIT, maze.getRoom(0, TEST_MAZE_HEIGHT - 1).getType());
+        assertTrue(maze.hasNeighbor(0, 0, Direction.UP));
+        assertFalse(maze.hasNeighbor(0, 0, Direction.DOWN));
+    }
+
+    /**
+     * Test that only a limited number of rows stay paged in.
+     */
+    @Test
+    void pagingLimitsRows() {
+        final PagedMaze maze = generate();
+
+        for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+            assertNotNull(maze.getRoom(0, roomY));
+        }
+
+        assertTrue(maze.getPagedRowCount() < TEST_MAZE_HEIGHT);
+    }
+
+    /**
+     * Test that doors on either side of a row boundary are shared,
+     * and keep their state after being paged out.
+     */
+    @Test
+    void doorStateSurvivesPaging() {
+        final PagedMaze maze = generate();
+
+        final Tile below = maze.getRoom(1, 0).getTile(TEST_ROOM_SIZE / 2, TEST_ROOM_SIZE - 1);
+        final Tile above = maze.getRoom(1, 1).getTile(TEST_ROOM_SIZE / 2, 0);
+        assertInstanceOf(DoorController.DoorTile.class, below);
+        assertEquals(below.getTileID(), above.getTileID());
+
+        // Answer the door, then page out both of its rows
+        final List<DoorController> updated = new ArrayList<>();
+        maze.bindDoors((theQuestion, theCallback) ->
+                               theCallback.call(QuestionHandler.QuestionResult.CORRECT),
+                       updated::add);
+        assertFalse(below.tryMoveTo());
+        assertFalse(updated.isEmpty());
+        assertEquals(TileID.DOOR_OPEN, above.getTileID());
+
+        for (int roomY = TEST_MAZE_HEIGHT - 1; roomY >= 2; roomY--) {
+            maze.getRoom(0, roomY);
+        }
+
+        final Tile pagedBack = maze.getRoom(1, 1).getTile(TEST_ROOM_SIZE / 2, 0);
+        assertNotSame(above, pagedBack);
+        assertEquals(TileID.DOOR_OPEN, pagedBack.getTileID());
+        assertTrue(pagedBack.tryMoveTo());
+    }
+
+    /**
+     * Test generating a perfect maze a row at a time.
+     */
+    @Test
+    void generateTopology() {
+        myGenerator.setTopology(new EllerTopology());
+        assertThrows(IllegalArgumentException.class, () -> myGenerator.setTopology(null));
+
+        final PagedMaze maze = generate(3L);
+
+        // A perfect maze has one door less than it has rooms
+        assertEquals(TEST_MAZE_HEIGHT * TEST_MAZE_WIDTH - 1, maze.getDoorCount());
+        final String expected = maze.toString();
+        myGenerator.setOutputFile(mySecondFile);
+        assertEquals(expected, generate(3L).toString());
+    }
+
+    /**
+     * Test that mazes without an output file get their own temporary file,
+     * which is deleted on closing, and that they can't be saved.
+     *
+     * @throws IOException If the maze couldn't be closed.
+     */
+    @Test
+    void temporaryFiles() throws IOException {
+        myGenerator.setOutputFile(null);
+        final PagedMaze first = generate();
+        final PagedMaze second = generate();
+
+        assertTrue(first.isTemporary());
+        assertNotEquals(first.getPath(), second.getPath());
+        assertTrue(Files.exists(first.getPath()));
+        assertThrows(NotSerializableException.class,
+                () -> new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(first));
+
+        first.close();
+        assertFalse(Files.exists(first.getPath()));
+        assertTrue(Files.exists(second.getPath()));
+
+        // Mazes in a chosen file are kept
+        myGenerator.setOutputFile(myFile);
+        final PagedMaze kept = generate();
+        assertFalse(kept.isTemporary());
+        kept.close();
+        assertTrue(Files.exists(myFile));
+    }
+
+    /**
+     * Generates a maze to test, remembering it to close afterward.
+     *
+     * @return Generated maze.
+     */
+    private PagedMaze generate() {
+        final PagedMaze maze = (PagedMaze) myGenerator.generate();
+        myMazes.add(maze);
+        return maze;
+    }
+
+    /**
+     * Generates a seeded maze to test, remembering it to close afterward.
+     *
+     * @param theSeed Seed to generate with.
+     * @return Generated maze.
+     */
+    private PagedMaze generate(final long theSeed) {
+        final PagedMaze maze = (PagedMaze) myGenerator.generate(theSeed);
+        myMazes.add(maze);
+        return maze;
+    }
+}
@@ -0,0 +1,206 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.enums.TileID;
+import model.interfaces.Tile;
+import model.tiles.EmptyTile;
+import model.tiles.WallTile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the TileGrid class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class TileGridTests {
+
+    /**
+     * Width of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_WIDTH = 4;
+
+    /**
+     * Height of the test maze in rooms.
+     */
+    private static final int TEST_MAZE_HEIGHT = 3;
+
+    /**
+     * Width of each test room in tiles.
+     */
+    private static final int TEST_ROOM_WIDTH = 5;
+
+    /**
+     * Height of each test room in tiles.
+     */
+    private static final int TEST_ROOM_HEIGHT = 6;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Instance to use for testing.
+     */
+    private TileGrid myGrid;
+
+    /**
+     * Prepare test instance before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        myGrid = new TileGrid(TEST_MAZE_WIDTH, TEST_MAZE_HEIGHT,
+                TEST_ROOM_WIDTH, TEST_ROOM_HEIGHT);
+    }
+
+    /**
+     * Test TileGrid's constructor.
+     */
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TileGrid(0, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TileGrid(1, 1, 1, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TileGrid(100000, 100000, 5, 5),
+                "TileGrid should refuse more tiles than fit in one array!");
+
+        assertEquals(TEST_MAZE_WIDTH, myGrid.getMazeWidth());
+        assertEquals(TEST_MAZE_HEIGHT, myGrid.getMazeHeight());
+        assertEquals(TEST_ROOM_WIDTH, myGrid.getRoomWidth());
+        assertEquals(TEST_ROOM_HEIGHT, myGrid.getRoomHeight());
+
+        // Every cell should start without a tile
+        assertNull(myGrid.getTile(0, 0, 0, 0));
+        assertNull(myGrid.getTileID(TEST_MAZE_WIDTH - 1, TEST_MAZE_HEIGHT - 1,
+                TEST_ROOM_WIDTH - 1, TEST_ROOM_HEIGHT - 1));
+    }
+
+    /**
+     * Test storing and retrieving stateless tiles.
+     */
+    @Test
+    void setTileStateless() {
+        myGrid.setTile(1, 2, 3, 4, new WallTile());
+        myGrid.setTile(1, 2, 3, 3, new EmptyTile());
+
+        assertInstanceOf(WallTile.class, myGrid.getTile(1, 2, 3, 4));
+        assertEquals(TileID.WALL, myGrid.getTileID(1, 2, 3, 4));
+        assertInstanceOf(EmptyTile.class, myGrid.getTile(1, 2, 3, 3));
+        assertEquals(TileID.EMPTY, myGrid.getTileID(1, 2, 3, 3));
+
+        // Neighbouring cells in other rooms shouldn't be affected
+        assertNull(myGrid.getTile(0, 2, 3, 4));
+        assertNull(myGrid.getTile(1, 1, 3, 4));
+
+        myGrid.setTile(1, 2, 3, 4, null);
+        assertNull(myGrid.getTile(1, 2, 3, 4));
+    }
+
+    /**
+     * Test storing and retrieving door tiles.
+     */
+    @Test
+    void setTileDoors() {
+        // One door along the bottom row of every room
+        final DoorController[][] doors = new DoorController[TEST_MAZE_HEIGHT][TEST_MAZE_WIDTH];
+        for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+            for (int roomX = 0; roomX < TEST_MAZE_WIDTH; roomX++) {
+                doors[roomY][roomX] = new DoorController(TEST_QUESTION);
+                myGrid.setTile(roomX, roomY, roomX % TEST_ROOM_WIDTH, 0,
+                        doors[roomY][roomX].getDoors()[0]);
+            }
+        }
+
+        assertEquals(TEST_MAZE_WIDTH * TEST_MAZE_HEIGHT, myGrid.getDoorCount());
+
+        for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+            for (int roomX = 0; roomX < TEST_MAZE_WIDTH; roomX++) {
+                assertSame(doors[roomY][roomX].getDoors()[0],
+                        myGrid.getTile(roomX, roomY, roomX % TEST_ROOM_WIDTH, 0),
+                        "TileGrid did not return the same door tile it was given!");
+                assertEquals(TileID.DOOR_UNANSWERED,
+                        myGrid.getTileID(roomX, roomY, roomX % TEST_ROOM_WIDTH, 0));
+            }
+        }
+
+        // Replace the doors in every other room, the rest should be unaffected
+        for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+            for (int roomX = 0; roomX < TEST_MAZE_WIDTH; roomX += 2) {
+                myGrid.setTile(roomX, roomY, roomX % TEST_ROOM_WIDTH, 0, new WallTile());
+            }
+        }
+
+        assertEquals((TEST_MAZE_WIDTH / 2) * TEST_MAZE_HEIGHT, myGrid.getDoorCount());
+        for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+            for (int roomX = 1; roomX < TEST_MAZE_WIDTH; roomX += 2) {
+                assertSame(doors[roomY][roomX].getDoors()[0],
+                        myGrid.getTile(roomX, roomY, roomX % TEST_ROOM_WIDTH, 0),
+                        "Door tile was lost after removing other doors!");
+            }
+        }
+    }
+
+    /**
+     * Test that unsupported tile types are refused.
+     */
+    @Test
+    void setTileUnsupported() {
+        final Tile customTile = new Tile() {
+            @Override
+            public boolean tryMoveTo() {
+                return true;
+            }
+
+            @Override
+            public TileID getTileID() {
+                return TileID.EMPTY;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class,
+                () -> myGrid.setTile(0, 0, 0, 0, customTile));
+    }
+
+    /**
+     * Test packing a generated maze's rooms.
+     */
+    @Test
+    void fromRooms() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(
+                TEST_MAZE_HEIGHT, TEST_MAZE_WIDTH,
+                TEST_ROOM_HEIGHT, TEST_ROOM_WIDTH, () -> TEST_QUESTION);
+        final Maze maze = generator.generate();
+
+        myGrid = TileGrid.fromRooms(maze.getRooms());
+        for (int roomY = 0; roomY < TEST_MAZE_HEIGHT; roomY++) {
+            for (int roomX = 0; roomX < TEST_MAZE_WIDTH; roomX++) {
+                for (int y = 0; y < TEST_ROOM_HEIGHT; y++) {
+                    for (int x = 0; x < TEST_ROOM_WIDTH; x++) {
+                        final Tile original = maze.getRoom(roomX, roomY).getTile(x, y);
+                        final Tile packed = myGrid.getTile(roomX, roomY, x, y);
+
+                        assertEquals(original.getTileID(), packed.getTileID());
+                        if (original instanceof DoorController.DoorTile) {
+                            assertSame(original, packed);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Rooms of different sizes can't be packed together
+        final Room[][] mismatched = new Room[1][2];
+        mismatched[0][0] = new Room(Room.RoomType.STANDARD, new EmptyTile[3][3]);
+        mismatched[0][1] = new Room(Room.RoomType.STANDARD, new EmptyTile[3][4]);
+        assertThrows(IllegalArgumentException.class,
+                () -> TileGrid.fromRooms(mismatched));
+    }
+}
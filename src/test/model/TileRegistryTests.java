@@ -0,0 +1,100 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import model.enums.TileID;
+import model.interfaces.Tile;
+import model.tiles.EmptyTile;
+import model.tiles.TileRegistry;
+import model.tiles.WallTile;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the TileRegistry class.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class TileRegistryTests {
+
+    /**
+     * Test question for door tiles.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Tests that the registry always hands out the same instances.
+     */
+    @Test
+    void sharedInstances() {
+        assertSame(TileRegistry.getEmpty(), TileRegistry.getEmpty());
+        assertSame(TileRegistry.getWall(), TileRegistry.getWall());
+
+        assertSame(TileRegistry.getEmpty(), TileRegistry.get(TileID.EMPTY));
+        assertSame(TileRegistry.getWall(), TileRegistry.get(TileID.WALL));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> TileRegistry.get(TileID.DOOR_UNANSWERED),
+                "Door tiles have state and shouldn't have a shared instance!");
+    }
+
+    /**
+     * Tests TileRegistry's canonical() method.
+     */
+    @Test
+    void canonical() {
+        assertSame(TileRegistry.getEmpty(), TileRegistry.canonical(new EmptyTile()));
+        assertSame(TileRegistry.getWall(), TileRegistry.canonical(new WallTile()));
+
+        final Tile door = new DoorController(TEST_QUESTION).getDoors()[0];
+        assertSame(door, TileRegistry.canonical(door));
+    }
+
+    /**
+     * Tests that deserialized tiles resolve back to the shared instances.
+     *
+     * @throws IOException If serialization fails.
+     * @throws ClassNotFoundException If deserialization fails.
+     */
+    @Test
+    void readResolve() throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new Tile[] {new EmptyTile(), TileRegistry.getWall()});
+        }
+
+        final Tile[] loaded;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (Tile[]) in.readObject();
+        }
+
+        assertSame(TileRegistry.getEmpty(), loaded[0]);
+        assertSame(TileRegistry.getWall(), loaded[1]);
+    }
+
+    /**
+     * Tests that copied rooms share the registry's tiles.
+     */
+    @Test
+    void roomCopy() {
+        final Tile[][] tiles = {
+            {new WallTile(), new EmptyTile()},
+            {new EmptyTile(), new WallTile()},
+        };
+
+        final Room copy = new Room(new Room(Room.RoomType.STANDARD, tiles));
+        assertSame(TileRegistry.getWall(), copy.getTile(0, 0));
+        assertSame(TileRegistry.getEmpty(), copy.getTile(1, 0));
+        assertSame(TileRegistry.getEmpty(), copy.getTile(0, 1));
+        assertSame(TileRegistry.getWall(), copy.getTile(1, 1));
+    }
+}
@@ -0,0 +1,249 @@
+package model.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import model.Coordinates;
+import model.DoorController;
+import model.Maze;
+import model.PackedCoordinates;
+import model.RectangleMazeGenerator;
+import model.TriviaQuestion;
+import model.interfaces.MazeTopology;
+import model.interfaces.PathFinder;
+import model.interfaces.QuestionHandler;
+import model.topologies.GridTopology;
+import model.topologies.KruskalTopology;
+import model.utilities.TestMazes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the path finders and MazeRouter.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class PathFinderTests {
+
+    /**
+     * Width and height of each test maze in rooms.
+     */
+    private static final int TEST_MAZE_SIZE = 8;
+
+    /**
+     * Room sizes to test with, in tiles.
+     */
+    private static final int[] TEST_ROOM_SIZES = {5, 6};
+
+    /**
+     * Number of random routes to compare in each maze.
+     */
+    private static final int TEST_ROUTES = 200;
+
+    /**
+     * Cost of unanswered doors in weighted tests.
+     */
+    private static final int TEST_DOOR_COST = 7;
+
+    /**
+     * Seed for every random choice in the tests.
+     */
+    private static final long TEST_SEED = 99L;
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Test that A* and jump point search agree on the cheapest cost,
+     * with open, locked, and unanswered doors.
+     */
+    @Test
+    void weightedFindersAgree() {
+        final SplittableRandom random = new SplittableRandom(TEST_SEED);
+        for (final int roomSize : TEST_ROOM_SIZES) {
+            for (final MazeTopology topology
+                    : new MazeTopology[] {new GridTopology(), new KruskalTopology()}) {
+                final Maze maze = makeAnsweredMaze(roomSize, topology, random);
+                final SearchGrid grid = new SearchGrid(maze, TEST_DOOR_COST);
+                final PathFinder astar = new AStarPathFinder(grid);
+                final PathFinder jump = new JumpPointPathFinder(grid);
+
+                for (int route = 0; route < TEST_ROUTES; route++) {
+                    final long start = randomOpenTile(grid, random);
+                    final long goal = randomOpenTile(grid, random);
+
+                    final int cost = astar.findCost(start, goal);
+                    assertEquals(cost, jump.findCost(start, goal));
+                    checkPath(grid, astar.findPath(start, goal), start, goal, cost);
+                    checkPath(grid, jump.findPath(start, goal), start, goal, cost);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that bidirectional breadth-first search finds routes with the fewest steps.
+     */
+    @Test
+    void breadthFirstFindsFewestSteps() {
+        final SplittableRandom random = new SplittableRandom(TEST_SEED);
+        for (final int roomSize : TEST_ROOM_SIZES) {
+            final Maze maze = makeAnsweredMaze(roomSize, new KruskalTopology(), random);
+
+            // With unit door costs the cheapest route has the fewest steps
+            final SearchGrid unitGrid = new SearchGrid(maze, SearchGrid.STEP_COST);
+            final PathFinder astar = new AStarPathFinder(unitGrid);
+            final PathFinder bfs = new BidirectionalBfsPathFinder(unitGrid);
+
+            for (int route = 0; route < TEST_ROUTES; route++) {
+                final long start = randomOpenTile(unitGrid, random);
+                final long goal = randomOpenTile(unitGrid, random);
+
+                final int cost = astar.findCost(start, goal);
+                assertEquals(cost, bfs.findCost(start, goal));
+                checkPath(unitGrid, bfs.findPath(start, goal), start, goal, cost);
+            }
+        }
+    }
+
+    /**
+     * Test routing to the exit, and that locking every door makes the maze unsolvable.
+     */
+    @Test
+    void routeToExit() {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(TEST_MAZE_SIZE,
+                TEST_MAZE_SIZE, 5, 5, () -> TEST_QUESTION);
+        generator.setStartCoordinates(0, 0);
+        generator.setExitCoordinates(TEST_MAZE_SIZE - 1, TEST_MAZE_SIZE - 1);
+        final Maze maze = generator.generate(TEST_SEED);
+        final MazeRouter router = new MazeRouter(maze);
+
+        assertTrue(router.isSolvable());
+        final Coordinates from = new Coordinates(0, 0, 2, 2);
+        final long[] route = router.routeToExit(from);
+        assertNotNull(route);
+        assertEquals(PackedCoordinates.fromCoordinates(from), route[0]);
+        assertEquals(PackedCoordinates.pack(TEST_MAZE_SIZE - 1, TEST_MAZE_SIZE - 1, 2, 2),
+                     route[route.length - 1]);
+        assertEquals(router.costToExit(from), checkCost(router.getGrid(), route));
+
+        for (final DoorController door : maze.getDoors()) {
+            TestMazes.answer(door, QuestionHandler.QuestionResult.INCORRECT);
+        }
+        assertFalse(router.isSolvable());
+        assertNull(router.routeToExit(from));
+        assertEquals(PathFinder.NO_PATH, router.costToExit(from));
+    }
+
+    /**
+     * Test that walls can't be routed to, and routes to the start are empty.
+     */
+    @Test
+    void edgeCases() {
+        final Maze maze = makeAnsweredMaze(5, new GridTopology(), new SplittableRandom(TEST_SEED));
+        final SearchGrid grid = new SearchGrid(maze, TEST_DOOR_COST);
+        final long start = PackedCoordinates.pack(0, 0, 2, 2);
+        final long wall = PackedCoordinates.pack(0, 0, 0, 0);
+
+        for (final PathFinder finder : new PathFinder[] {new AStarPathFinder(grid),
+                new BidirectionalBfsPathFinder(grid), new JumpPointPathFinder(grid)}) {
+            assertEquals(PathFinder.NO_PATH, finder.findCost(start, wall));
+            assertNull(finder.findPath(start, wall));
+            assertEquals(0, finder.findCost(start, start));
+            assertArrayEquals(new long[] {start}, finder.findPath(start, start));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new SearchGrid(maze, 0));
+    }
+
+    /**
+     * Makes a test maze, answering some of its doors at random.
+     *
+     * @param theRoomSize Width and height of each room.
+     * @param theTopology Topology to lay out doors with.
+     * @param theRandom Random generator for the seed and which doors to answer.
+     * @return Test maze.
+     */
+    private static Maze makeAnsweredMaze(final int theRoomSize, final MazeTopology theTopology,
+                                         final SplittableRandom theRandom) {
+        final Maze maze = TestMazes.makeMaze(TEST_MAZE_SIZE, theRoomSize, theTopology,
+                                             theRandom.nextLong());
+
+        for (final DoorController door : maze.getDoors()) {
+            switch (theRandom.nextInt(3)) {
+                case 0 -> TestMazes.answer(door, QuestionHandler.QuestionResult.CORRECT);
+                case 1 -> TestMazes.answer(door, QuestionHandler.QuestionResult.INCORRECT);
+                default -> { }
+            }
+        }
+
+        return maze;
+    }
+
+    /**
+     * Picks a random tile which can be entered.
+     *
+     * @param theGrid Grid to pick from.
+     * @param theRandom Random generator to pick with.
+     * @return Packed coordinates of the tile.
+     */
+    private static long randomOpenTile(final SearchGrid theGrid,
+                                       final SplittableRandom theRandom) {
+        int tile;
+        do {
+            tile = theRandom.nextInt(theGrid.getTileCount());
+        } while (theGrid.getCost(tile) == SearchGrid.BLOCKED);
+
+        return theGrid.toPacked(tile);
+    }
+
+    /**
+     * Checks that a path is a valid route between two tiles with a certain cost.
+     *
+     * @param theGrid Grid the path is through.
+     * @param thePath Path to check, or null if there shouldn't be one.
+     * @param theStart Tile the path should start on.
+     * @param theGoal Tile the path should end on.
+     * @param theCost Cost the path should have.
+     */
+    private static void checkPath(final SearchGrid theGrid, final long[] thePath,
+                                  final long theStart, final long theGoal, final int theCost) {
+        if (theCost == PathFinder.NO_PATH) {
+            assertNull(thePath);
+            return;
+        }
+
+        assertEquals(theStart, thePath[0]);
+        assertEquals(theGoal, thePath[thePath.length - 1]);
+        assertEquals(theCost, checkCost(theGrid, thePath));
+    }
+
+    /**
+     * Checks that every step of a path is between neighboring tiles
+     * which can be entered, and adds up its cost.
+     *
+     * @param theGrid Grid the path is through.
+     * @param thePath Path to check.
+     * @return Total cost of the path.
+     */
+    private static int checkCost(final SearchGrid theGrid, final long[] thePath) {
+        int cost = 0;
+        for (int step = 1; step < thePath.length; step++) {
+            final int from = theGrid.toTile(thePath[step - 1]);
+            final int to = theGrid.toTile(thePath[step]);
+            final int difference = Math.abs(to - from);
+            assertTrue(difference == 1 || difference == theGrid.getWidth());
+
+            final int stepCost = theGrid.getCost(to);
+            assertNotEquals(SearchGrid.BLOCKED, stepCost);
+            cost += stepCost;
+        }
+
+        return cost;
+    }
+}
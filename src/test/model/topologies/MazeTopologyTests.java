@@ -0,0 +1,183 @@
+package model.topologies;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import model.interfaces.MazeTopology;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MazeTopology implementations.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+class MazeTopologyTests {
+
+    /**
+     * Maze dimensions to test each topology with, as {width, height}.
+     */
+    private static final int[][] TEST_DIMENSIONS = {
+        {1, 1}, {1, 6}, {6, 1}, {2, 2}, {7, 4}, {30, 20}
+    };
+
+    /**
+     * Seed for the random generator given to topologies.
+     */
+    private static final long TEST_SEED = 1234L;
+
+    /**
+     * Topologies which should always carve perfect mazes.
+     */
+    private static final MazeTopology[] PERFECT_TOPOLOGIES = {
+        new RecursiveBacktrackerTopology(),
+        new KruskalTopology(),
+        new WilsonTopology(),
+        new EllerTopology(),
+    };
+
+    /**
+     * Test that the grid topology puts a door in every wall.
+     */
+    @Test
+    void gridTopology() {
+        for (final int[] dimensions : TEST_DIMENSIONS) {
+            final int width = dimensions[0];
+            final int height = dimensions[1];
+            final BitSet[] doors = carve(new GridTopology(), width, height, TEST_SEED);
+
+            assertEquals((width - 1) * height, doors[0].cardinality());
+            assertEquals(width * (height - 1), doors[1].cardinality());
+        }
+    }
+
+    /**
+     * Test that the perfect maze topologies connect every room
+     * by exactly one path.
+     */
+    @Test
+    void perfectTopologies() {
+        for (final MazeTopology topology : PERFECT_TOPOLOGIES) {
+            for (final int[] dimensions : TEST_DIMENSIONS) {
+                final int width = dimensions[0];
+                final int height = dimensions[1];
+                final BitSet[] doors = carve(topology, width, height, TEST_SEED);
+                final String name = topology.getClass().getSimpleName()
+                                    + " on " + width + 'x' + height;
+
+                // A connected maze with one less door than rooms has no loops
+                assertEquals(width * height - 1,
+                        doors[0].cardinality() + doors[1].cardinality(),
+                        name + " made the wrong number of doors!");
+                assertEquals(width * height, countReachable(doors, width, height),
+                        name + " left rooms unreachable!");
+            }
+        }
+    }
+
+    /**
+     * Test that the same seed always carves the same maze.
+     */
+    @Test
+    void seededTopologies() {
+        for (final MazeTopology topology : PERFECT_TOPOLOGIES) {
+            final BitSet[] first = carve(topology, 15, 12, TEST_SEED);
+            final BitSet[] second = carve(topology, 15, 12, TEST_SEED);
+
+            assertEquals(first[0], second[0]);
+            assertEquals(first[1], second[1]);
+        }
+    }
+
+    /**
+     * Test that Eller's topology handles very tall mazes.
+     */
+    @Test
+    void ellerTall() {
+        final int width = 3;
+        final int height = 20000;
+        final BitSet[] doors = carve(new EllerTopology(), width, height, TEST_SEED);
+
+        assertEquals(width * height - 1, doors[0].cardinality() + doors[1].cardinality());
+        assertEquals(width * height, countReachable(doors, width, height));
+    }
+
+    /**
+     * Carves a maze with a topology.
+     *
+     * @param theTopology Topology to carve with.
+     * @param theWidth Width of the maze in rooms.
+     * @param theHeight Height of the maze in rooms.
+     * @param theSeed Seed for the random generator.
+     * @return Right doors and top doors, each indexed by room.
+     */
+    private static BitSet[] carve(final MazeTopology theTopology,
+                                  final int theWidth, final int theHeight,
+                                  final long theSeed) {
+        final BitSet right = new BitSet();
+        final BitSet top = new BitSet();
+        final MazeTopology.RowCarver carver
+                = theTopology.carve(theWidth, theHeight, new SplittableRandom(theSeed));
+
+        final boolean[] rightDoors = new boolean[theWidth];
+        final boolean[] topDoors = new boolean[theWidth];
+        for (int y = 0; y < theHeight; y++) {
+            // Make sure every entry is actually filled in
+            Arrays.fill(rightDoors, true);
+            Arrays.fill(topDoors, true);
+            carver.nextRow(rightDoors, topDoors);
+
+            assertFalse(rightDoors[theWidth - 1], "Door out of the right edge!");
+            for (int x = 0; x < theWidth; x++) {
+                right.set(y * theWidth + x, rightDoors[x]);
+                top.set(y * theWidth + x, topDoors[x]);
+                if (y == theHeight - 1) {
+                    assertFalse(topDoors[x], "Door out of the top edge!");
+                }
+            }
+        }
+
+        return new BitSet[] {right, top};
+    }
+
+    /**
+     * Counts the rooms reachable from the bottom left room.
+     *
+     * @param theDoors Right doors and top doors, each indexed by room.
+     * @param theWidth Width of the maze in rooms.
+     * @param theHeight Height of the maze in rooms.
+     * @return Number of reachable rooms.
+     */
+    private static int countReachable(final BitSet[] theDoors,
+                                      final int theWidth, final int theHeight) {
+        final BitSet reached = new BitSet();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        reached.set(0);
+        queue.add(0);
+
+        while (!queue.isEmpty()) {
+            final int room = queue.poll();
+            final int x = room % theWidth;
+            final int y = room / theWidth;
+
+            final int[] neighbors = {
+                theDoors[0].get(room) ? room + 1 : -1,
+                x > 0 && theDoors[0].get(room - 1) ? room - 1 : -1,
+                theDoors[1].get(room) ? room + theWidth : -1,
+                y > 0 && theDoors[1].get(room - theWidth) ? room - theWidth : -1,
+            };
+            for (final int neighbor : neighbors) {
+                if (neighbor >= 0 && !reached.get(neighbor)) {
+                    reached.set(neighbor);
+                    queue.add(neighbor);
+                }
+            }
+        }
+
+        return reached.cardinality();
+    }
+}
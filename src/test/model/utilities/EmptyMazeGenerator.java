@@ -4,7 +4,7 @@ import model.Maze;
 import model.Room;
 import model.interfaces.MazeGenerator;
 import model.interfaces.Tile;
-import model.tiles.EmptyTile;
+import model.tiles.TileRegistry;
 
 public class EmptyMazeGenerator implements MazeGenerator {
 
@@ -106,7 +106,7 @@ public class EmptyMazeGenerator implements MazeGenerator {
         // Clear tiles
         for (int y = 0; y < myRoomSize; y++) {
             for (int x = 0; x < myRoomSize; x++) {
-                myTiles[theRoomY][theRoomX][y][x] = new EmptyTile();
+                myTiles[theRoomY][theRoomX][y][x] = TileRegistry.getEmpty();
             }
         }
 
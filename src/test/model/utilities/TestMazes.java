@@ -0,0 +1,63 @@
+package model.utilities;
+
+import model.DoorController;
+import model.Maze;
+import model.RectangleMazeGenerator;
+import model.TriviaQuestion;
+import model.interfaces.MazeTopology;
+import model.interfaces.QuestionHandler;
+
+/**
+ * Helpers for tests which generate square mazes and answer their doors.
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class TestMazes {
+
+    /**
+     * Question for test doors.
+     */
+    private static final TriviaQuestion TEST_QUESTION
+            = new TriviaQuestion("Test Question",
+            "Test Answer",
+            TriviaQuestion.QuestionType.SHORT_ANSWER);
+
+    /**
+     * Private constructor, since this class only has static helpers.
+     */
+    private TestMazes() {
+    }
+
+    /**
+     * Makes a square test maze with the start room in the bottom left
+     * corner and the exit room in the top right corner.
+     *
+     * @param theSize Width and height of the maze in rooms.
+     * @param theRoomSize Width and height of each room in tiles.
+     * @param theTopology Topology to lay out doors with.
+     * @param theSeed Seed to generate with.
+     * @return Test maze.
+     */
+    public static Maze makeMaze(final int theSize, final int theRoomSize,
+                                final MazeTopology theTopology, final long theSeed) {
+        final RectangleMazeGenerator generator = new RectangleMazeGenerator(theSize,
+                theSize, theRoomSize, theRoomSize, () -> TEST_QUESTION);
+        generator.setStartCoordinates(0, 0);
+        generator.setExitCoordinates(theSize - 1, theSize - 1);
+        generator.setTopology(theTopology);
+        return generator.generate(theSeed);
+    }
+
+    /**
+     * Answers a door's question.
+     *
+     * @param theDoor Door to answer.
+     * @param theResult Result of the answer.
+     */
+    public static void answer(final DoorController theDoor,
+                              final QuestionHandler.QuestionResult theResult) {
+        theDoor.setHandler((theQuestion, theCallback) -> theCallback.call(theResult));
+        theDoor.getDoors()[0].tryMoveTo();
+    }
+}
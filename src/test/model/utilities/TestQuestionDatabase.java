@@ -0,0 +1,162 @@
+package model.utilities;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import model.TriviaQuestion;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteDataSource;
+
+/**
+ * Questions database in a temporary SQLite file, with the same questions
+ * table as the real one, so loading can be tested against SQLite itself.
+ * <p>
+ * Rows are inserted in order, so each row's rowid is its index plus one
+ * until rows are deleted. Every connection opened is counted, and since
+ * the question loaders open one connection per query, so is every query.
+ * Closing the database deletes its file.
+ * </p>
+ *
+ * @author Shane Menzies
+ * @version 10/17/26
+ */
+public final class TestQuestionDatabase extends SQLiteDataSource implements AutoCloseable {
+
+    /**
+     * Statement making the questions table, matching resources/questions.db.
+     */
+    private static final String CREATE_TABLE = "CREATE TABLE questions ("
+            + "question_text TEXT, type TEXT, answer_text TEXT, PRIMARY KEY(question_text))";
+
+    /**
+     * Statement inserting a question.
+     */
+    private static final String INSERT_ROW
+            = "INSERT INTO questions (question_text, type, answer_text) VALUES (?, ?, ?)";
+
+    /**
+     * Statement deleting a question by rowid.
+     */
+    private static final String DELETE_ROW = "DELETE FROM questions WHERE rowid = ?";
+
+    /**
+     * The database's file.
+     */
+    private final Path myFile;
+
+    /**
+     * Number of connections opened.
+     */
+    private int myConnections;
+
+    /**
+     * Constructs a database holding some questions.
+     *
+     * @param theRows Rows of the questions table, in rowid order.
+     * @throws IOException If the database's file couldn't be made.
+     * @throws SQLException If the questions couldn't be written.
+     */
+    public TestQuestionDatabase(final List<TriviaQuestion> theRows)
+            throws IOException, SQLException {
+        this(CREATE_TABLE, theRows);
+    }
+
+    /**
+     * Constructs a database with its own questions table, for tests of
+     * tables laid out differently from the real one. The table must have
+     * question_text, type and answer_text columns.
+     *
+     * @param theCreateTable Statement making the questions table.
+     * @param theRows Rows of the questions table, in rowid order.
+     * @throws IOException If the database's file couldn't be made.
+     * @throws SQLException If the questions couldn't be written.
+     */
+    public TestQuestionDatabase(final String theCreateTable, final List<TriviaQuestion> theRows)
+            throws IOException, SQLException {
+        myFile = Files.createTempFile("questions", ".db");
+        setUrl("jdbc:sqlite:" + myFile);
+
+        try (Connection connection = super.getConnection(null, null)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(theCreateTable);
+            }
+
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_ROW)) {
+                for (final TriviaQuestion row : theRows) {
+                    insert.setString(1, row.getQuestion());
+                    insert.setString(2, row.getType().name());
+                    insert.setString(3, row.getAnswer());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    /**
+     * Makes some numbered short answer questions.
+     *
+     * @param theCount Number of questions.
+     * @return List of questions numbered from zero.
+     */
+    public static List<TriviaQuestion> makeQuestions(final int theCount) {
+        final List<TriviaQuestion> questions = new ArrayList<>();
+        for (int index = 0; index < theCount; index++) {
+            questions.add(new TriviaQuestion("Question " + index, "Answer " + index,
+                                             TriviaQuestion.QuestionType.SHORT_ANSWER));
+        }
+
+        return questions;
+    }
+
+    /**
+     * Deletes the questions with some rowids, leaving gaps in the rowids.
+     *
+     * @param theRowids Rowids of the questions to delete.
+     * @throws SQLException If the questions couldn't be deleted.
+     */
+    public void deleteRows(final long... theRowids) throws SQLException {
+        try (Connection connection = super.getConnection(null, null);
+             PreparedStatement delete = connection.prepareStatement(DELETE_ROW)) {
+            for (final long rowid : theRowids) {
+                delete.setLong(1, rowid);
+                delete.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of connections opened, not counting those made
+     * to set up the database.
+     *
+     * @return Number of connections.
+     */
+    public int getConnectionCount() {
+        return myConnections;
+    }
+
+    @Override
+    public SQLiteConnection getConnection(final String theUsername, final String thePassword)
+            throws SQLException {
+        myConnections++;
+        return super.getConnection(theUsername, thePassword);
+    }
+
+    /**
+     * Deletes the database's file.
+     *
+     * @throws IOException If the file couldn't be deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(myFile);
+    }
+}